@@ -18,6 +18,10 @@ import dz.mdn.raas.business.amendment.service.AmendmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -117,6 +121,26 @@ public class AmendmentController {
 				.orElse(ResponseEntity.notFound().build());
 	}
 
+	// ========== STATISTICS ==========
+
+	/**
+	 * Get amendment statistics for a year.
+	 */
+	@GetMapping("/statistics/year/{year}")
+	public ResponseEntity<AmendmentStatistics> getAmendmentStatistics(@PathVariable String year) {
+		log.debug("Getting amendment statistics for year={}", year);
+		return ResponseEntity.ok(amendmentService.getAmendmentStatistics(year));
+	}
+
+	/**
+	 * Get amendment statistics for several years at once (e.g. ?years=2024,2025).
+	 */
+	@GetMapping("/statistics/years")
+	public ResponseEntity<Map<String, AmendmentStatistics>> getAmendmentStatistics(@RequestParam List<String> years) {
+		log.debug("Getting amendment statistics for years={}", years);
+		return ResponseEntity.ok(amendmentService.getAmendmentStatistics(years));
+	}
+
 	// ========== UPDATE ==========
 
 	/**
@@ -160,4 +184,19 @@ public class AmendmentController {
 		log.error("AmendmentController error: {}", ex.getMessage());
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
 	}
+
+	@lombok.Data
+	@lombok.Builder
+	@lombok.NoArgsConstructor
+	@lombok.AllArgsConstructor
+	public static class AmendmentStatistics {
+		private String year;
+		private Long totalAmendments;
+		private Double totalAmount;
+		private Double totalTransferableAmount;
+		private Double averageAmendmentValue;
+		private Long approvedAmendments;
+		private Long amendedContracts;
+		private Date generatedAt;
+	}
 }
@@ -22,9 +22,10 @@ import dz.mdn.raas.business.core.model.Currency;
 import dz.mdn.raas.business.core.model.RealizationStatus;
 import dz.mdn.raas.common.communication.model.Mail;
 import dz.mdn.raas.common.document.model.Document;
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -33,6 +34,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -50,6 +54,23 @@ import lombok.ToString;
 @AllArgsConstructor
 @Entity(name="Amendment")
 @Table(name="T_02_06_04", uniqueConstraints = { @UniqueConstraint(name = "T_02_06_04_UK_01", columnNames = { "F_02" })})
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Amendment.list", attributeNodes = {
+			@NamedAttributeNode("contract"),
+			@NamedAttributeNode("amendmentType"),
+			@NamedAttributeNode("realizationStatus"),
+			@NamedAttributeNode("amendmentStep"),
+			@NamedAttributeNode("approvalStatus"),
+			@NamedAttributeNode("currency") }),
+	@NamedEntityGraph(name = "Amendment.detail", attributeNodes = {
+			@NamedAttributeNode("contract"),
+			@NamedAttributeNode("amendmentType"),
+			@NamedAttributeNode("realizationStatus"),
+			@NamedAttributeNode("amendmentStep"),
+			@NamedAttributeNode("approvalStatus"),
+			@NamedAttributeNode("currency"),
+			@NamedAttributeNode("documents") })
+})
 public class Amendment {
 	
 	@Id
@@ -114,7 +135,10 @@ public class Amendment {
     @JoinColumn(name="F_17", foreignKey=@ForeignKey(name="T_02_06_04_FK_06"), nullable=false)
     private Currency currency;
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020604_T010302", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey=@ForeignKey(name="R_T020604_T010302_FK_01")), 
@@ -122,7 +146,10 @@ public class Amendment {
 			uniqueConstraints = @UniqueConstraint(name = "R_T020604_T010302_UK_01", columnNames = {"F_01", "F_02"}))
 	private List<Document> documents;
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020604_T010203", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey = @ForeignKey(name = "R_T020604_T010203_FK_01")), 
@@ -13,11 +13,14 @@
 
 package dz.mdn.raas.business.amendment.repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,6 +38,16 @@ import dz.mdn.raas.business.amendment.model.Amendment;
 @Repository
 public interface AmendmentRepository extends JpaRepository<Amendment, Long> {
 
+    /** Find all amendments with the list fetch plan (many-to-one references joined) */
+    @Override
+    @EntityGraph("Amendment.list")
+    Page<Amendment> findAll(Pageable pageable);
+
+    /** Find amendment by ID with the detail fetch plan (remaining collections are batch fetched) */
+    @EntityGraph("Amendment.detail")
+    @Query("SELECT a FROM Amendment a WHERE a.id = :id")
+    Optional<Amendment> findDetailById(@Param("id") Long id);
+
     /** Find Amendment by internal ID (F_01) */
     @Query("SELECT a FROM Amendment a WHERE a.internalId = :internalId")
     Optional<Amendment> findByInternalId(@Param("internalId") int internalId);
@@ -44,6 +57,7 @@ public interface AmendmentRepository extends JpaRepository<Amendment, Long> {
     Optional<Amendment> findByReference(@Param("reference") String reference);
 
     /** Search Amendments by designation (FR, EN, AR) */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE " +
            "LOWER(a.designationFr) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(a.designationEn) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -51,6 +65,7 @@ public interface AmendmentRepository extends JpaRepository<Amendment, Long> {
     Page<Amendment> searchByDesignation(@Param("search") String search, Pageable pageable);
 
     /** Search Amendments by any textual field */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE " +
            "LOWER(a.reference) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(a.designationFr) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -60,66 +75,82 @@ public interface AmendmentRepository extends JpaRepository<Amendment, Long> {
     Page<Amendment> searchByAnyField(@Param("search") String search, Pageable pageable);
 
     /** Find Amendments by Contract (F_12) */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.contract.id = :contractId")
     Page<Amendment> findByContract(@Param("contractId") Long contractId, Pageable pageable);
 
     /** Find Amendments by Amendment Type (F_13) */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.amendmentType.id = :typeId")
     Page<Amendment> findByAmendmentType(@Param("typeId") Long typeId, Pageable pageable);
 
     /** Find Amendments by Realization Status (F_14) */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.realizationStatus.id = :statusId")
     Page<Amendment> findByRealizationStatus(@Param("statusId") Long statusId, Pageable pageable);
 
     /** Find Amendments by Approval Status (F_16) */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.approvalStatus.id = :approvalStatusId")
     Page<Amendment> findByApprovalStatus(@Param("approvalStatusId") Long approvalStatusId, Pageable pageable);
 
     /** Find Amendments by Currency (F_17) */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.currency.id = :currencyId")
     Page<Amendment> findByCurrency(@Param("currencyId") Long currencyId, Pageable pageable);
 
     /** Find Amendments by start date range */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.startDate BETWEEN :startDate AND :endDate")
     Page<Amendment> findByStartDateBetween(@Param("startDate") Date startDate, @Param("endDate") Date endDate, Pageable pageable);
 
     /** Find Amendments approved after a given date */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.approvalDate >= :date")
     Page<Amendment> findApprovedAfter(@Param("date") Date date, Pageable pageable);
 
     /** Find Amendments notified after a given date */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.notifyDate >= :date")
     Page<Amendment> findNotifiedAfter(@Param("date") Date date, Pageable pageable);
 
     /** Find Amendments by amount range */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.amount BETWEEN :minAmount AND :maxAmount ORDER BY a.amount DESC")
     Page<Amendment> findByAmountRange(@Param("minAmount") double minAmount, @Param("maxAmount") double maxAmount, Pageable pageable);
 
     /** Find Amendments exceeding given amount */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.amount >= :amount ORDER BY a.amount DESC")
     Page<Amendment> findHighValueAmendments(@Param("amount") double amount, Pageable pageable);
 
     /** Find Amendments with transferable amount > 0 */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.transferableAmount > 0")
     Page<Amendment> findWithTransferableAmount(Pageable pageable);
 
     /** Find Amendments without approval date */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.approvalDate IS NULL")
     Page<Amendment> findWithoutApprovalDate(Pageable pageable);
 
     /** Find pending approval Amendments */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE LOWER(a.approvalStatus.designationFr) LIKE '%en attente%'")
     Page<Amendment> findPendingApprovalAmendments(Pageable pageable);
 
     /** Find approved Amendments */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE LOWER(a.approvalStatus.designationFr) LIKE '%approuvé%'")
     Page<Amendment> findApprovedAmendments(Pageable pageable);
 
     /** Find active Amendments */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE LOWER(a.realizationStatus.designationFr) LIKE '%en cours%'")
     Page<Amendment> findActiveAmendments(Pageable pageable);
 
     /** Find completed Amendments */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE LOWER(a.realizationStatus.designationFr) LIKE '%achevé%'")
     Page<Amendment> findCompletedAmendments(Pageable pageable);
 
@@ -152,6 +183,7 @@ public interface AmendmentRepository extends JpaRepository<Amendment, Long> {
     boolean existsByReferenceAndIdNot(@Param("reference") String reference, @Param("id") Long id);
 
     /** Find Amendments with missing required information */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE " +
            "a.reference IS NULL OR a.reference = '' OR " +
            "a.designationFr IS NULL OR a.designationFr = '' OR " +
@@ -159,6 +191,18 @@ public interface AmendmentRepository extends JpaRepository<Amendment, Long> {
     Page<Amendment> findWithIncompleteInformation(Pageable pageable);
 
     /** Find recently approved Amendments */
+    @EntityGraph("Amendment.list")
     @Query("SELECT a FROM Amendment a WHERE a.approvalDate >= :recentDate")
     Page<Amendment> findRecentlyApproved(@Param("recentDate") Date recentDate, Pageable pageable);
+
+    /**
+     * Yearly statistics of several contract years in one grouped scan (amendments belong to the year of their contract)
+     * Each row: [year, total, sumAmount, sumTransferableAmount, approved, amendedContracts]
+     */
+    @Query(value = "SELECT c.F_02, COUNT(*), COALESCE(SUM(a.F_06), 0), COALESCE(SUM(a.F_07), 0), " +
+                   "SUM(CASE WHEN a.F_09 IS NOT NULL THEN 1 ELSE 0 END), COUNT(DISTINCT a.F_12) " +
+                   "FROM T_02_06_04 a JOIN T_02_05_04 c ON c.F_00 = a.F_12 " +
+                   "WHERE c.F_02 IN (:years) GROUP BY c.F_02",
+           nativeQuery = true)
+    List<Object[]> getYearlyStatistics(@Param("years") Collection<String> years);
 }
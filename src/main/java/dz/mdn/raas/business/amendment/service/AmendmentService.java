@@ -13,6 +13,8 @@
 
 package dz.mdn.raas.business.amendment.service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -20,15 +22,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dz.mdn.raas.business.amendment.controller.AmendmentController;
 import dz.mdn.raas.business.amendment.dto.AmendmentDTO;
 import dz.mdn.raas.business.amendment.model.Amendment;
 import dz.mdn.raas.business.amendment.repository.AmendmentRepository;
 import dz.mdn.raas.business.amendment.repository.AmendmentTypeRepository;
 import dz.mdn.raas.business.amendment.repository.AmendmentPhaseRepository;
 import dz.mdn.raas.business.contract.repository.ContractRepository;
+import dz.mdn.raas.business.contract.service.ContractPositionService;
 import dz.mdn.raas.business.core.repository.ApprovalStatusRepository;
 import dz.mdn.raas.business.core.repository.CurrencyRepository;
 import dz.mdn.raas.business.core.repository.RealizationStatusRepository;
+import dz.mdn.raas.business.statistics.service.YearlyStatisticsService;
 import dz.mdn.raas.common.communication.repository.MailRepository;
 import dz.mdn.raas.common.document.repository.DocumentRepository;
 import lombok.RequiredArgsConstructor;
@@ -52,6 +57,9 @@ public class AmendmentService {
 	private final DocumentRepository documentRepository;
 	private final MailRepository mailRepository;
 
+	private final YearlyStatisticsService yearlyStatisticsService;
+	private final ContractPositionService contractPositionService;
+
 	// ========== CREATE ==========
 
 	public AmendmentDTO createAmendment(AmendmentDTO dto) {
@@ -66,6 +74,8 @@ public class AmendmentService {
 
 		Amendment saved = amendmentRepository.save(entity);
 		handleManyToManyRelationships(dto, saved);
+		evictStatistics(saved.getContract().getContractYear());
+		contractPositionService.evictContracts(saved.getContract().getId());
 
 		log.info("Successfully created amendment ID: {}", saved.getId());
 		return AmendmentDTO.fromEntityWithRelations(saved);
@@ -76,7 +86,7 @@ public class AmendmentService {
 	@Transactional(readOnly = true)
 	public AmendmentDTO getAmendmentById(Long id) {
 		log.debug("Fetching amendment with ID: {}", id);
-		Amendment amendment = amendmentRepository.findById(id)
+		Amendment amendment = amendmentRepository.findDetailById(id)
 				.orElseThrow(() -> new RuntimeException("Amendment not found with ID: " + id));
 		return AmendmentDTO.fromEntityWithRelations(amendment);
 	}
@@ -101,6 +111,26 @@ public class AmendmentService {
 				.map(AmendmentDTO::fromEntity);
 	}
 
+	// ========== STATISTICS ==========
+
+	/**
+	 * Get amendment statistics for a contract year (single grouped query, cached per year)
+	 */
+	@Transactional(readOnly = true)
+	public AmendmentController.AmendmentStatistics getAmendmentStatistics(String year) {
+		log.debug("Getting amendment statistics for year: {}", year);
+		return yearlyStatisticsService.getAmendmentStatistics(List.of(year)).get(year.trim());
+	}
+
+	/**
+	 * Get amendment statistics for several contract years at once, keyed by year in request order
+	 */
+	@Transactional(readOnly = true)
+	public Map<String, AmendmentController.AmendmentStatistics> getAmendmentStatistics(List<String> years) {
+		log.debug("Getting amendment statistics for years: {}", years);
+		return yearlyStatisticsService.getAmendmentStatistics(years);
+	}
+
 	// ========== UPDATE ==========
 
 	public AmendmentDTO updateAmendment(Long id, AmendmentDTO dto) {
@@ -112,11 +142,15 @@ public class AmendmentService {
 		validateRequiredFields(dto, "update");
 		validateUniqueConstraints(dto, id);
 
+		String previousYear = existing.getContract().getContractYear();
+		Long previousContractId = existing.getContract().getId();
 		mapDtoToEntity(dto, existing);
 		setEntityRelationships(dto, existing);
 
 		Amendment updated = amendmentRepository.save(existing);
 		handleManyToManyRelationships(dto, updated);
+		evictStatistics(previousYear, updated.getContract().getContractYear());
+		contractPositionService.evictContracts(previousContractId, updated.getContract().getId());
 
 		log.info("Successfully updated amendment ID: {}", id);
 		return AmendmentDTO.fromEntityWithRelations(updated);
@@ -126,13 +160,24 @@ public class AmendmentService {
 
 	public void deleteAmendment(Long id) {
 		log.info("Deleting amendment ID: {}", id);
-		if (!amendmentRepository.existsById(id))
-			throw new RuntimeException("Amendment not found with ID: " + id);
-		amendmentRepository.deleteById(id);
+		Amendment existing = amendmentRepository.findById(id)
+				.orElseThrow(() -> new RuntimeException("Amendment not found with ID: " + id));
+		amendmentRepository.delete(existing);
+		yearlyStatisticsService.evictAllAmendmentYears();
+		yearlyStatisticsService.evictAllContractYears();
+		contractPositionService.evictContracts(existing.getContract().getId());
 	}
 
 	// ========== HELPERS ==========
 
+	/**
+	 * Amendments are counted in the year of their contract, which also counts its amended contracts
+	 */
+	private void evictStatistics(String... contractYears) {
+		yearlyStatisticsService.evictAmendmentYears(contractYears);
+		yearlyStatisticsService.evictContractYears(contractYears);
+	}
+
 	private void mapDtoToEntity(AmendmentDTO dto, Amendment entity) {
 		entity.setInternalId(dto.getInternalId());
 		entity.setReference(dto.getReference());
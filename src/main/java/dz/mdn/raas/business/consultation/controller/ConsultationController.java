@@ -14,6 +14,8 @@
 package dz.mdn.raas.business.consultation.controller;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,7 +34,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import dz.mdn.raas.business.consultation.dto.ConsultationDTO;
+import dz.mdn.raas.business.consultation.dto.ConsultationListDTO;
 import dz.mdn.raas.business.consultation.service.ConsultationService;
+import dz.mdn.raas.configuration.annotation.QueryLimit;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -162,6 +166,24 @@ public class ConsultationController {
         return ResponseEntity.ok(consultations);
     }
 
+    /**
+     * Get all consultations as lightweight list rows
+     * Same paging and sorting as the full listing, selecting only the columns of the list view
+     */
+    @GetMapping("/list")
+    @QueryLimit(maxStatements = 2, repeatThreshold = 2)
+    public ResponseEntity<Page<ConsultationListDTO>> getConsultationListView(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "startDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        return ResponseEntity.ok(consultationService.getConsultationListView(pageable));
+    }
+
     /**
      * Get consultations by year
      */
@@ -365,6 +387,16 @@ public class ConsultationController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * Get consultations statistics for several years at once (e.g. ?years=2024,2025)
+     */
+    @GetMapping("/statistics/years")
+    public ResponseEntity<Map<String, ConsultationStatistics>> getConsultationStatistics(@RequestParam List<String> years) {
+        log.debug("Getting consultation statistics for years: {}", years);
+
+        return ResponseEntity.ok(consultationService.getConsultationStatistics(years));
+    }
+
     /**
      * Get consultation info with comprehensive details
      */
@@ -13,8 +13,10 @@
 
 package dz.mdn.raas.business.consultation.controller;
 
+import java.util.Date;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 import dz.mdn.raas.business.consultation.dto.SubmissionDTO;
 import dz.mdn.raas.business.consultation.service.SubmissionService;
 import dz.mdn.raas.business.consultation.service.SubmissionService.FinancialStatistics;
+import dz.mdn.raas.business.consultation.service.SubmissionService.SubmissionScreening;
 import dz.mdn.raas.business.consultation.service.SubmissionService.SubmissionSummary;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
@@ -202,6 +205,22 @@ public class SubmissionController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * Screen the submissions of a consultation
+     * Eligibility of each tender on a date (consultation deadline by default)
+     */
+    @GetMapping("/screening")
+    public ResponseEntity<List<SubmissionScreening>> screenSubmissions(
+            @RequestParam Long consultationId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date date) {
+
+        log.debug("Screening submissions for consultation ID: {}", consultationId);
+
+        List<SubmissionScreening> screening = submissionService.screenSubmissions(consultationId, date);
+
+        return ResponseEntity.ok(screening);
+    }
+
     // ========================================
     // Specialized Query Endpoints
     // ========================================
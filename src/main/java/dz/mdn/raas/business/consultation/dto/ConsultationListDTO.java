@@ -0,0 +1,50 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ConsultationListDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Consultation
+ *
+ **/
+
+package dz.mdn.raas.business.consultation.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Consultation list view projection
+ * Built by a JPQL constructor expression in ConsultationRepository.findListView: only the columns shown
+ * in list pages are selected and no Consultation entity is loaded. Field order is the constructor order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConsultationListDTO {
+
+    private Long id; // F_00
+    private String internalId; // F_01
+    private String consultationYear; // F_02
+    private String reference; // F_03
+    private String designationAr; // F_04
+    private String designationEn; // F_05
+    private String designationFr; // F_06
+    private double allocatedAmount; // F_07
+    private double financialEstimation; // F_08
+    private Date startDate; // F_09
+    private Date deadline; // F_13
+    private String awardMethodDesignation; // AwardMethod designationFr
+    private String realizationStatusDesignation; // RealizationStatus designationFr
+    private String approvalStatusDesignation; // ApprovalStatus designationFr
+    private String consultationStepDesignation; // ConsultationStep designationFr
+}
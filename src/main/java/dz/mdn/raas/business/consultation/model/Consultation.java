@@ -24,9 +24,10 @@ import dz.mdn.raas.business.plan.model.BudgetType;
 import dz.mdn.raas.business.plan.model.PlannedItem;
 import dz.mdn.raas.common.communication.model.Mail;
 import dz.mdn.raas.common.document.model.Document;
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -35,6 +36,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -53,6 +57,25 @@ import lombok.ToString;
 @AllArgsConstructor
 @Entity(name="Consultation")
 @Table(name="T_02_04_04", uniqueConstraints = { @UniqueConstraint(name = "T_02_04_04_UK_01", columnNames = { "F_01", "F_02" })})
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Consultation.list", attributeNodes = {
+			@NamedAttributeNode("awardMethod"),
+			@NamedAttributeNode("realizationNature"),
+			@NamedAttributeNode("budgetType"),
+			@NamedAttributeNode("realizationStatus"),
+			@NamedAttributeNode("approvalStatus"),
+			@NamedAttributeNode("realizationDirector"),
+			@NamedAttributeNode("consultationStep") }),
+	@NamedEntityGraph(name = "Consultation.detail", attributeNodes = {
+			@NamedAttributeNode("awardMethod"),
+			@NamedAttributeNode("realizationNature"),
+			@NamedAttributeNode("budgetType"),
+			@NamedAttributeNode("realizationStatus"),
+			@NamedAttributeNode("approvalStatus"),
+			@NamedAttributeNode("realizationDirector"),
+			@NamedAttributeNode("consultationStep"),
+			@NamedAttributeNode("submissions") })
+})
 public class Consultation {
 	
 	@Id
@@ -142,7 +165,10 @@ public class Consultation {
 			uniqueConstraints = @UniqueConstraint(name = "R_22_04_02_03_UK_01", columnNames = {"F_01", "F_02"}))
 	private List<Structure> beneficiaries;*/
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020404_T010302", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey=@ForeignKey(name="R_T020404_T010302_FK_01")), 
@@ -150,7 +176,10 @@ public class Consultation {
 			uniqueConstraints = @UniqueConstraint(name = "R_T020404_T010302_UK_01", columnNames = {"F_01", "F_02"}))
 	private List<Document> documents;
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020404_T010203", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey = @ForeignKey(name = "R_T020404_T010203_FK_01")), 
@@ -158,7 +187,10 @@ public class Consultation {
 			uniqueConstraints = @UniqueConstraint(name = "R_T020404_T010203_UK_01", columnNames = {"F_01", "F_02"}))
 	private List<Mail> referencedMails;
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020404_T020208", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey=@ForeignKey(name="R_T020404_T020208_FK_01")), 
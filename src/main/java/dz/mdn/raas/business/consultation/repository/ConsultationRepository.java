@@ -13,16 +13,25 @@
 
 package dz.mdn.raas.business.consultation.repository;
 
+import dz.mdn.raas.business.consultation.dto.ConsultationListDTO;
 import dz.mdn.raas.business.consultation.model.Consultation;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
 * Consultation Repository with essential CRUD operations
@@ -49,29 +58,30 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
    /**
     * Find consultations by year (F_02)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.consultationYear = :consultationYear ORDER BY c.internalId ASC")
    Page<Consultation> findByConsultationYear(@Param("consultationYear") String consultationYear, Pageable pageable);
 
    /**
-    * Find consultation by ID with all relationships loaded
-    */
-   @Query("SELECT c FROM Consultation c " +
-          "LEFT JOIN FETCH c.awardMethod " +
-          "LEFT JOIN FETCH c.realizationNature " +
-          "LEFT JOIN FETCH c.budgetType " +
-          "LEFT JOIN FETCH c.realizationStatus " +
-          "LEFT JOIN FETCH c.approvalStatus " +
-          "LEFT JOIN FETCH c.realizationDirector " +
-          "LEFT JOIN FETCH c.consultationStep " +
-          "LEFT JOIN FETCH c.documents " +
-          "LEFT JOIN FETCH c.referencedMails " +
-          "LEFT JOIN FETCH c.plannedItems " +
-          "WHERE c.id = :id")
+    * Find all consultations with the list fetch plan (many-to-one references joined)
+    */
+   @Override
+   @EntityGraph("Consultation.list")
+   Page<Consultation> findAll(Pageable pageable);
+
+   /**
+    * Find consultation by ID with the detail fetch plan
+    * Many-to-one references and submissions are joined, documents, referenced mails
+    * and planned items are initialized by batch fetching (one query each)
+    */
+   @EntityGraph("Consultation.detail")
+   @Query("SELECT c FROM Consultation c WHERE c.id = :id")
    Optional<Consultation> findByIdWithDetails(@Param("id") Long id);
 
    /**
     * Search consultations by designation (F_04, F_05, F_06)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE " +
           "LOWER(c.designationAr) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
           "LOWER(c.designationEn) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -84,54 +94,63 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
    /**
     * Find consultations by realization status (F_18)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.realizationStatus.id = :statusId ORDER BY c.startDate DESC")
    Page<Consultation> findByRealizationStatusId(@Param("statusId") Long statusId, Pageable pageable);
 
    /**
     * Find consultations by approval status (F_19)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.approvalStatus.id = :statusId ORDER BY c.approvalDate DESC")
    Page<Consultation> findByApprovalStatusId(@Param("statusId") Long statusId, Pageable pageable);
 
    /**
     * Find consultations by award method (F_15)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.awardMethod.id = :awardMethodId ORDER BY c.publishDate DESC")
    Page<Consultation> findByAwardMethodId(@Param("awardMethodId") Long awardMethodId, Pageable pageable);
 
    /**
     * Find consultations by consultation step (F_21)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.consultationStep.id = :stepId ORDER BY c.publishDate DESC")
    Page<Consultation> findByConsultationStepId(@Param("stepId") Long stepId, Pageable pageable);
 
    /**
     * Find consultations by date range (F_09 - startDate)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.startDate BETWEEN :startDate AND :endDate ORDER BY c.startDate ASC")
    Page<Consultation> findByStartDateBetween(@Param("startDate") Date startDate, @Param("endDate") Date endDate, Pageable pageable);
 
    /**
     * Find consultations by deadline range (F_13)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.deadline BETWEEN :fromDate AND :toDate ORDER BY c.deadline ASC")
    Page<Consultation> findByDeadlineBetween(@Param("fromDate") Date fromDate, @Param("toDate") Date toDate, Pageable pageable);
 
    /**
     * Find consultations by allocated amount range (F_07)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.allocatedAmount BETWEEN :minAmount AND :maxAmount ORDER BY c.allocatedAmount DESC")
    Page<Consultation> findByAllocatedAmountBetween(@Param("minAmount") double minAmount, @Param("maxAmount") double maxAmount, Pageable pageable);
 
    /**
     * Find expired consultations (deadline passed)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.deadline < :currentDate ORDER BY c.deadline ASC")
    Page<Consultation> findExpiredConsultations(@Param("currentDate") Date currentDate, Pageable pageable);
 
    /**
     * Find consultations expiring soon
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.deadline BETWEEN :currentDate AND :futureDate ORDER BY c.deadline ASC")
    Page<Consultation> findConsultationsExpiringSoon(@Param("currentDate") Date currentDate, 
                                                    @Param("futureDate") Date futureDate, Pageable pageable);
@@ -139,6 +158,7 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
    /**
     * Find active consultations (published and not expired)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.publishDate <= :currentDate AND " +
           "(c.deadline IS NULL OR c.deadline > :currentDate) ORDER BY c.publishDate DESC")
    Page<Consultation> findActiveConsultations(@Param("currentDate") Date currentDate, Pageable pageable);
@@ -170,42 +190,49 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
    /**
     * Find consultations with most submissions
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c ORDER BY SIZE(c.submissions) DESC")
    Page<Consultation> findConsultationsWithMostSubmissions(Pageable pageable);
 
    /**
     * Find consultations without submissions
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE SIZE(c.submissions) = 0 ORDER BY c.publishDate DESC")
    Page<Consultation> findConsultationsWithoutSubmissions(Pageable pageable);
 
    /**
     * Find high-value consultations (above threshold)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.allocatedAmount > :threshold ORDER BY c.allocatedAmount DESC")
    Page<Consultation> findHighValueConsultations(@Param("threshold") double threshold, Pageable pageable);
 
    /**
     * Find consultations with budget overrun
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.financialEstimation > c.allocatedAmount ORDER BY (c.financialEstimation - c.allocatedAmount) DESC")
    Page<Consultation> findConsultationsWithBudgetOverrun(Pageable pageable);
 
    /**
     * Find consultations by realization director (F_20)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.realizationDirector.id = :directorId ORDER BY c.startDate DESC")
    Page<Consultation> findByRealizationDirectorId(@Param("directorId") Long directorId, Pageable pageable);
 
    /**
     * Find consultations by budget type (F_17)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.budgetType.id = :budgetTypeId ORDER BY c.allocatedAmount DESC")
    Page<Consultation> findByBudgetTypeId(@Param("budgetTypeId") Long budgetTypeId, Pageable pageable);
 
    /**
     * Find consultations by realization nature (F_16)
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.realizationNature.id = :natureId ORDER BY c.startDate DESC")
    Page<Consultation> findByRealizationNatureId(@Param("natureId") Long natureId, Pageable pageable);
 
@@ -247,12 +274,14 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
    /**
     * Find consultations with missing required dates
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.startDate IS NULL OR c.publishDate IS NULL OR c.deadline IS NULL")
    Page<Consultation> findConsultationsWithMissingDates(Pageable pageable);
 
    /**
     * Find consultations by French designation pattern
     */
+   @EntityGraph("Consultation.list")
    @Query("SELECT c FROM Consultation c WHERE c.designationFr LIKE %:pattern% ORDER BY c.designationFr ASC")
    Page<Consultation> findByDesignationFrContaining(@Param("pattern") String pattern, Pageable pageable);
    
@@ -374,6 +403,7 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
 	/**
 	 * Find consultations with longest duration
 	 */
+	@EntityGraph("Consultation.list")
 	@Query("SELECT c FROM Consultation c WHERE c.startDate IS NOT NULL AND c.deadline IS NOT NULL " +
 	       "ORDER BY DATEDIFF(c.deadline, c.startDate) DESC")
 	Page<Consultation> findConsultationsWithLongestDuration(Pageable pageable);
@@ -381,6 +411,7 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
 	/**
 	 * Find consultations with shortest duration
 	 */
+	@EntityGraph("Consultation.list")
 	@Query("SELECT c FROM Consultation c WHERE c.startDate IS NOT NULL AND c.deadline IS NOT NULL " +
 	       "ORDER BY DATEDIFF(c.deadline, c.startDate) ASC")
 	Page<Consultation> findConsultationsWithShortestDuration(Pageable pageable);
@@ -425,6 +456,7 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
 	/**
 	 * Find consultations requiring urgent attention (expiring within days and no submissions)
 	 */
+	@EntityGraph("Consultation.list")
 	@Query("SELECT c FROM Consultation c WHERE c.deadline BETWEEN :currentDate AND :futureDate " +
 	       "AND SIZE(c.submissions) = 0 ORDER BY c.deadline ASC")
 	Page<Consultation> findUrgentConsultationsWithoutSubmissions(@Param("currentDate") Date currentDate,
@@ -444,4 +476,44 @@ public interface ConsultationRepository extends JpaRepository<Consultation, Long
 	       "GROUP BY c.realizationDirector.designationFr " +
 	       "ORDER BY totalAmount DESC")
 	java.util.List<Object[]> getPerformanceMetricsByDirector();
-}
\ No newline at end of file
+
+    /**
+     * List view projection: only the list columns through explicit joins, no entity loading
+     */
+    @Query(value = "SELECT new dz.mdn.raas.business.consultation.dto.ConsultationListDTO(c.id, c.internalId, c.consultationYear, c.reference, c.designationAr, c.designationEn, c.designationFr, c.allocatedAmount, c.financialEstimation, c.startDate, c.deadline, am.designationFr, rs.designationFr, aps.designationFr, cs.designationFr) " +
+                   "FROM Consultation c LEFT JOIN c.awardMethod am LEFT JOIN c.realizationStatus rs LEFT JOIN c.approvalStatus aps LEFT JOIN c.consultationStep cs",
+           countQuery = "SELECT COUNT(c) FROM Consultation c")
+    Page<ConsultationListDTO> findListView(Pageable pageable);
+
+    /**
+     * Yearly statistics of several years in one grouped scan
+     * Each row: [year, total, sumAllocatedAmount, sumFinancialEstimation, active, expired, withSubmissions, highValue]
+     * Consultations with submissions are found by joining the distinct consulted ids of T_02_04_05 once
+     * instead of a correlated count per consultation
+     */
+    @Query(value = "SELECT c.F_02, COUNT(*), COALESCE(SUM(c.F_07), 0), COALESCE(SUM(c.F_08), 0), " +
+                   "SUM(CASE WHEN c.F_12 <= :currentDate AND (c.F_13 IS NULL OR c.F_13 > :currentDate) THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN c.F_13 < :currentDate THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN s.F_03 IS NOT NULL THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN c.F_07 > :threshold THEN 1 ELSE 0 END) " +
+                   "FROM T_02_04_04 c LEFT JOIN (SELECT DISTINCT F_03 FROM T_02_04_05) s ON s.F_03 = c.F_00 " +
+                   "WHERE c.F_02 IN (:years) GROUP BY c.F_02",
+           nativeQuery = true)
+    List<Object[]> getYearlyStatistics(@Param("years") Collection<String> years, @Param("currentDate") Date currentDate, @Param("threshold") double threshold);
+
+   /**
+    * Searchable fields of every consultation (full-text search index), read through a forward-only streaming cursor
+    * Each row: [id, designationFr, designationEn, designationAr, reference, approvalReference, internalId, observation]; must be consumed inside a transaction and closed
+    */
+   @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+   @Query("SELECT c.id, c.designationFr, c.designationEn, c.designationAr, c.reference, c.approvalReference, c.internalId, c.observation FROM Consultation c")
+   Stream<Object[]> streamSearchRows();
+
+   /**
+    * Searchable fields of the given consultations (full-text search index)
+    * Each row: [id, designationFr, designationEn, designationAr, reference, approvalReference, internalId, observation]
+    */
+   @Query("SELECT c.id, c.designationFr, c.designationEn, c.designationAr, c.reference, c.approvalReference, c.internalId, c.observation FROM Consultation c WHERE c.id IN :ids")
+   List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
+}
@@ -37,6 +37,13 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
      */
     List<Submission> findByConsultationId(Long consultationId);
 
+    /**
+     * Get the submissions of a consultation for eligibility screening
+     * Each row: [submissionId, tenderId, financialOffer]
+     */
+    @Query("SELECT s.id, s.tender.id, s.financialOffer FROM Submission s WHERE s.consultation.id = :consultationId ORDER BY s.id")
+    List<Object[]> findScreeningRows(@Param("consultationId") Long consultationId);
+
     /**
      * Find submissions by tender (provider) ID
      * Maps to F_04 foreign key
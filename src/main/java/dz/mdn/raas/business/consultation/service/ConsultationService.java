@@ -17,6 +17,8 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -26,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import dz.mdn.raas.business.consultation.controller.ConsultationController;
 import dz.mdn.raas.business.consultation.dto.ConsultationDTO;
+import dz.mdn.raas.business.consultation.dto.ConsultationListDTO;
 import dz.mdn.raas.business.consultation.model.AwardMethod;
 import dz.mdn.raas.business.consultation.model.Consultation;
 import dz.mdn.raas.business.consultation.model.ConsultationStep;
@@ -42,6 +45,7 @@ import dz.mdn.raas.business.core.repository.RealizationNatureRepository;
 import dz.mdn.raas.business.core.repository.RealizationStatusRepository;
 import dz.mdn.raas.business.plan.model.BudgetType;
 import dz.mdn.raas.business.plan.repository.BudgetTypeRepository;
+import dz.mdn.raas.business.statistics.service.YearlyStatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -66,6 +70,7 @@ public class ConsultationService {
    private final ApprovalStatusRepository approvalStatusRepository;
    private final RealizationDirectorRepository realizationDirectorRepository;
    private final ConsultationStepRepository consultationStepRepository;
+   private final YearlyStatisticsService yearlyStatisticsService;
 
    // ========== CREATE OPERATIONS ==========
 
@@ -122,6 +127,7 @@ public class ConsultationService {
        generateConsultationMetadata(consultation);
 
        Consultation savedConsultation = consultationRepository.save(consultation);
+       yearlyStatisticsService.evictConsultationYears(savedConsultation.getConsultationYear());
        log.info("Successfully created consultation with ID: {}", savedConsultation.getId());
        
        return mapToDTO(savedConsultation);
@@ -192,6 +198,16 @@ public class ConsultationService {
        return consultations.map(this::mapToDTO);
    }
 
+   /**
+    * Get consultations list view (projection, no entity loading or dirty checking)
+    */
+   @Transactional(readOnly = true)
+   public Page<ConsultationListDTO> getConsultationListView(Pageable pageable) {
+      log.debug("Getting consultation list view with pagination");
+
+      return consultationRepository.findListView(pageable);
+   }
+
    /**
     * Find one consultation by ID
     */
@@ -282,47 +298,23 @@ public class ConsultationService {
    // ========== STATISTICS OPERATIONS ==========
 
    /**
-    * Get consultation statistics for a specific year
+    * Get consultation statistics for a year (single grouped query, cached per year)
     */
    @Transactional(readOnly = true)
    public ConsultationController.ConsultationStatistics getConsultationStatistics(String year) {
        log.debug("Getting consultation statistics for year: {}", year);
-       
-       Long totalConsultations = consultationRepository.countByConsultationYear(year);
-       Double totalAllocatedAmount = consultationRepository.sumAllocatedAmountByYear(year);
-       Double totalFinancialEstimation = consultationRepository.sumFinancialEstimationByYear(year);
-       
-       Double averageConsultationValue = totalConsultations > 0 && totalAllocatedAmount != null ? 
-               totalAllocatedAmount / totalConsultations : 0.0;
-       
-       // Count active and expired consultations for the year
-       Date currentDate = new Date();
-       Long activeConsultations = consultationRepository.countActiveConsultationsByYear(year, currentDate);
-       Long expiredConsultations = consultationRepository.countExpiredConsultationsByYear(year, currentDate);
-       
-       // Count consultations with submissions
-       Long consultationsWithSubmissions = consultationRepository.countConsultationsWithSubmissionsByYear(year);
-       
-       // Count high-value consultations (above 1M threshold)
-       Long highValueConsultations = consultationRepository.countHighValueConsultationsByYear(year, 1000000.0);
-       
-       // Calculate average competitive ratio (submissions per consultation)
-       Double averageCompetitiveRatio = totalConsultations > 0 && consultationsWithSubmissions > 0 ?
-               consultationsWithSubmissions.doubleValue() / totalConsultations.doubleValue() : 0.0;
-       
-       return ConsultationController.ConsultationStatistics.builder()
-               .year(year)
-               .totalConsultations(totalConsultations)
-               .totalAllocatedAmount(totalAllocatedAmount != null ? totalAllocatedAmount : 0.0)
-               .totalFinancialEstimation(totalFinancialEstimation != null ? totalFinancialEstimation : 0.0)
-               .averageConsultationValue(averageConsultationValue)
-               .averageCompetitiveRatio(averageCompetitiveRatio)
-               .activeConsultations(activeConsultations)
-               .expiredConsultations(expiredConsultations)
-               .consultationsWithSubmissions(consultationsWithSubmissions)
-               .highValueConsultations(highValueConsultations)
-               .generatedAt(new Date())
-               .build();
+
+       return yearlyStatisticsService.getConsultationStatistics(List.of(year)).get(year.trim());
+   }
+
+   /**
+    * Get consultation statistics for several years at once, keyed by year in request order
+    */
+   @Transactional(readOnly = true)
+   public Map<String, ConsultationController.ConsultationStatistics> getConsultationStatistics(List<String> years) {
+       log.debug("Getting consultation statistics for years: {}", years);
+
+       return yearlyStatisticsService.getConsultationStatistics(years);
    }
 
    // ========== UPDATE OPERATIONS ==========
@@ -333,6 +325,7 @@ public class ConsultationService {
    public ConsultationDTO updateConsultation(Long id, ConsultationDTO consultationDTO) {
        log.info("Updating consultation with ID: {}", id);
        Consultation existingConsultation = getConsultationEntityById(id);
+       String previousYear = existingConsultation.getConsultationYear();
 
        // Validate required fields
        validateRequiredFields(consultationDTO, "update");
@@ -424,6 +417,7 @@ public class ConsultationService {
        }
 
        Consultation updatedConsultation = consultationRepository.save(existingConsultation);
+       yearlyStatisticsService.evictConsultationYears(previousYear, updatedConsultation.getConsultationYear());
        log.info("Successfully updated consultation with ID: {}", id);
        
        return mapToDTO(updatedConsultation);
@@ -439,6 +433,7 @@ public class ConsultationService {
        Consultation consultation = getConsultationEntityById(id);
        
        consultationRepository.delete(consultation);
+       yearlyStatisticsService.evictConsultationYears(consultation.getConsultationYear());
        log.info("Successfully deleted consultation with ID: {}", id);
    }
 
@@ -452,6 +447,7 @@ public class ConsultationService {
        }
        
        consultationRepository.deleteById(id);
+       yearlyStatisticsService.evictAllConsultationYears();
        log.info("Successfully deleted consultation with ID: {}", id);
    }
 
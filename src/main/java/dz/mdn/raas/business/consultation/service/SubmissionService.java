@@ -15,6 +15,7 @@ package dz.mdn.raas.business.consultation.service;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -25,8 +26,11 @@ import dz.mdn.raas.business.consultation.model.Consultation;
 import dz.mdn.raas.business.consultation.model.Submission;
 import dz.mdn.raas.business.consultation.repository.ConsultationRepository;
 import dz.mdn.raas.business.consultation.repository.SubmissionRepository;
+import dz.mdn.raas.business.provider.dto.ProviderEligibilityDTO;
 import dz.mdn.raas.business.provider.model.Provider;
 import dz.mdn.raas.business.provider.repository.ProviderRepository;
+import dz.mdn.raas.business.provider.service.ProviderEligibilityService;
+import dz.mdn.raas.business.statistics.service.YearlyStatisticsService;
 import dz.mdn.raas.configuration.annotation.Auditable;
 import dz.mdn.raas.exception.BusinessValidationException;
 import dz.mdn.raas.exception.ResourceNotFoundException;
@@ -50,6 +54,8 @@ public class SubmissionService {
     private final ConsultationRepository consultationRepository;
     private final ProviderRepository providerRepository;
     private final FileRepository fileRepository;
+    private final YearlyStatisticsService yearlyStatisticsService;
+    private final ProviderEligibilityService providerEligibilityService;
 
     // ========================================
     // CRUD Operations
@@ -81,6 +87,7 @@ public class SubmissionService {
         }
 
         Submission savedSubmission = submissionRepository.save(submission);
+        yearlyStatisticsService.evictConsultationYears(savedSubmission.getConsultation().getConsultationYear());
         log.info("Created submission with ID: {}", savedSubmission.getId());
 
         return SubmissionDTO.fromEntityWithRelations(savedSubmission);
@@ -110,8 +117,10 @@ public class SubmissionService {
         // Validate business rules
         validateSubmissionRules(submissionDTO);
 
+        String previousYear = existingSubmission.getConsultation().getConsultationYear();
         updateEntityFromDTO(existingSubmission, submissionDTO);
         Submission updatedSubmission = submissionRepository.save(existingSubmission);
+        yearlyStatisticsService.evictConsultationYears(previousYear, updatedSubmission.getConsultation().getConsultationYear());
 
         log.info("Updated submission with ID: {}", updatedSubmission.getId());
         return SubmissionDTO.fromEntityWithRelations(updatedSubmission);
@@ -154,6 +163,7 @@ public class SubmissionService {
         }
 
         submissionRepository.deleteById(id);
+        yearlyStatisticsService.evictAllConsultationYears();
         log.info("Deleted submission with ID: {}", id);
     }
 
@@ -325,6 +335,38 @@ public class SubmissionService {
                 .build();
     }
 
+    /**
+     * Screen the submissions of a consultation: eligibility of each tender (not excluded and cleared) on a date,
+     * the consultation deadline by default, checked in one batch
+     */
+    @Transactional(readOnly = true)
+    public List<SubmissionScreening> screenSubmissions(Long consultationId, Date date) {
+        log.debug("Screening submissions for consultation ID: {}", consultationId);
+
+        Consultation consultation = consultationRepository.findById(consultationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Consultation not found with ID: " + consultationId));
+        Date screeningDate = date != null ? date : consultation.getDeadline();
+
+        List<Object[]> rows = submissionRepository.findScreeningRows(consultationId);
+        Map<Long, ProviderEligibilityDTO> eligibilities = providerEligibilityService.check(
+                rows.stream().map(row -> (Long) row[1]).toList(), screeningDate);
+
+        return rows.stream()
+                .map(row -> {
+                    ProviderEligibilityDTO eligibility = eligibilities.get((Long) row[1]);
+                    return SubmissionScreening.builder()
+                            .submissionId((Long) row[0])
+                            .tenderId((Long) row[1])
+                            .financialOffer((Double) row[2])
+                            .date(eligibility.getDate())
+                            .excluded(eligibility.getExcluded())
+                            .cleared(eligibility.getCleared())
+                            .eligible(eligibility.getEligible())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
     // ========================================
     // Business Rule Validation
     // ========================================
@@ -474,6 +516,7 @@ public class SubmissionService {
     public void deleteByConsultationId(Long consultationId) {
         log.info("Deleting all submissions for consultation ID: {}", consultationId);
         submissionRepository.deleteByConsultationId(consultationId);
+        yearlyStatisticsService.evictAllConsultationYears();
     }
 
     /**
@@ -482,6 +525,7 @@ public class SubmissionService {
     public void deleteByTenderId(Long tenderId) {
         log.info("Deleting all submissions for tender ID: {}", tenderId);
         submissionRepository.deleteByTenderId(tenderId);
+        yearlyStatisticsService.evictAllConsultationYears();
     }
 
     // ========================================
@@ -511,4 +555,18 @@ public class SubmissionService {
         private long partialSubmissions;
         private FinancialStatistics financialStatistics;
     }
+
+    @lombok.Data
+    @lombok.Builder
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class SubmissionScreening {
+        private Long submissionId;
+        private Long tenderId;
+        private Double financialOffer;
+        private Date date;
+        private Boolean excluded;
+        private Boolean cleared;
+        private Boolean eligible;
+    }
 }
@@ -14,10 +14,19 @@
 package dz.mdn.raas.business.contract.controller;
 
 import dz.mdn.raas.business.contract.dto.ContractDTO;
+import dz.mdn.raas.business.contract.dto.ContractListDTO;
+import dz.mdn.raas.business.contract.dto.ContractPositionDTO;
+import dz.mdn.raas.business.contract.service.ContractPositionService;
 import dz.mdn.raas.business.contract.service.ContractService;
+import dz.mdn.raas.configuration.annotation.QueryLimit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +48,7 @@ import org.springframework.web.bind.annotation.*;
 public class ContractController {
 
 	private final ContractService contractService;
+	private final ContractPositionService contractPositionService;
 
 	// ========== CREATE ==========
 
@@ -90,6 +100,24 @@ public class ContractController {
 		return ResponseEntity.ok(contracts);
 	}
 
+	/**
+	 * Get all contracts as lightweight list rows
+	 * Same paging and sorting as the full listing, selecting only the columns of the list view
+	 */
+	@GetMapping("/list")
+	@QueryLimit(maxStatements = 2, repeatThreshold = 2)
+	public ResponseEntity<Page<ContractListDTO>> getContractListView(
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size,
+			@RequestParam(defaultValue = "contractDate") String sortBy,
+			@RequestParam(defaultValue = "desc") String sortDir) {
+
+		Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+		Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+		return ResponseEntity.ok(contractService.getContractListView(pageable));
+	}
+
 	/**
 	 * Search contracts by reference or designation.
 	 */
@@ -117,6 +145,56 @@ public class ContractController {
 				.orElse(ResponseEntity.notFound().build());
 	}
 
+	// ========== STATISTICS ==========
+
+	/**
+	 * Get contract statistics for a year.
+	 */
+	@GetMapping("/statistics/year/{year}")
+	public ResponseEntity<ContractStatistics> getContractStatistics(@PathVariable String year) {
+		log.debug("Getting contract statistics for year={}", year);
+		return ResponseEntity.ok(contractService.getContractStatistics(year));
+	}
+
+	/**
+	 * Get contract statistics for several years at once (e.g. ?years=2024,2025).
+	 */
+	@GetMapping("/statistics/years")
+	public ResponseEntity<Map<String, ContractStatistics>> getContractStatistics(@RequestParam List<String> years) {
+		log.debug("Getting contract statistics for years={}", years);
+		return ResponseEntity.ok(contractService.getContractStatistics(years));
+	}
+
+	// ========== FINANCIAL POSITION ==========
+
+	/**
+	 * Get the financial position of a contract: its commitment with amendments, over its child contracts
+	 * and over its whole contract tree, per currency.
+	 */
+	@GetMapping("/{id}/position")
+	public ResponseEntity<ContractPositionDTO> getContractPosition(@PathVariable Long id) {
+		log.debug("Getting financial position of contract ID={}", id);
+		return ResponseEntity.ok(contractPositionService.getPosition(id));
+	}
+
+	/**
+	 * Get the financial positions of every contract of the tree of a contract, root first.
+	 */
+	@GetMapping("/{id}/position/tree")
+	public ResponseEntity<List<ContractPositionDTO>> getContractPositionTree(@PathVariable Long id) {
+		log.debug("Getting financial position tree of contract ID={}", id);
+		return ResponseEntity.ok(contractPositionService.getTree(id));
+	}
+
+	/**
+	 * Get the financial positions of several contracts at once, e.g. the rows of a list page (?ids=1,2,3).
+	 */
+	@GetMapping("/position")
+	public ResponseEntity<Collection<ContractPositionDTO>> getContractPositions(@RequestParam List<Long> ids) {
+		log.debug("Getting financial positions of {} contracts", ids.size());
+		return ResponseEntity.ok(contractPositionService.getPositions(ids).values());
+	}
+
 	// ========== UPDATE ==========
 
 	/**
@@ -160,4 +238,21 @@ public class ContractController {
 		log.error("ContractController error: {}", ex.getMessage());
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
 	}
+
+	@lombok.Data
+	@lombok.Builder
+	@lombok.NoArgsConstructor
+	@lombok.AllArgsConstructor
+	public static class ContractStatistics {
+		private String year;
+		private Long totalContracts;
+		private Double totalAmount;
+		private Double totalTransferableAmount;
+		private Double averageContractValue;
+		private Long approvedContracts;
+		private Long notifiedContracts;
+		private Long highValueContracts;
+		private Long contractsWithAmendments;
+		private Date generatedAt;
+	}
 }
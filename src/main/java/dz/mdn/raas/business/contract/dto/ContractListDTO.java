@@ -0,0 +1,49 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ContractListDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Contract
+ *
+ **/
+
+package dz.mdn.raas.business.contract.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contract list view projection
+ * Built by a JPQL constructor expression in ContractRepository.findListView: only the columns shown
+ * in list pages are selected and no Contract entity is loaded. Field order is the constructor order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContractListDTO {
+
+    private Long id; // F_00
+    private String internalId; // F_01
+    private String contractYear; // F_02
+    private String reference; // F_03
+    private String designationAr; // F_04
+    private String designationEn; // F_05
+    private String designationFr; // F_06
+    private double amount; // F_07
+    private Date contractDate; // F_12
+    private Long providerId; // Provider id
+    private String providerDesignation; // Provider designationLt
+    private String contractTypeDesignation; // ContractType designationFr
+    private String realizationStatusDesignation; // RealizationStatus designationFr
+    private String currencyCode; // Currency code
+}
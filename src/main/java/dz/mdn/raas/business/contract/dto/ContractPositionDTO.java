@@ -0,0 +1,55 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ContractPositionDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Contract
+ *
+ **/
+
+package dz.mdn.raas.business.contract.dto;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contract financial position
+ * Commitment of a contract (amount + transferable amount + amounts and transferable amounts of its amendments),
+ * of its contractUp subtree and of its whole contract tree. Commitments are keyed by currency code: contracts
+ * and amendments of a tree may be signed in different currencies, and currencies carry no exchange rate
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ContractPositionDTO {
+
+    private Long contractId; // F_00
+    private String internalId; // F_01
+    private String reference; // F_03
+    private Long parentId; // F_23 (contractUp)
+    private Long rootId; // Top contract of the tree
+    private Integer depth; // 0 for the root
+    private Integer childCount; // Direct child contracts
+    private Integer descendantCount; // Child contracts at any depth
+
+    private String currencyCode; // Currency code of the contract
+    private Double amount; // F_07
+    private Double transferableAmount; // F_08
+    private Long amendmentCount;
+
+    private Map<String, Double> commitment; // Contract and its amendments
+    private Map<String, Double> cumulativeCommitment; // Contract, its descendants and all their amendments
+    private Map<String, Double> treeCommitment; // Whole tree, from its root
+}
@@ -24,9 +24,10 @@ import dz.mdn.raas.business.plan.model.PlannedItem;
 import dz.mdn.raas.business.provider.model.Provider;
 import dz.mdn.raas.common.communication.model.Mail;
 import dz.mdn.raas.common.document.model.Document;
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -35,6 +36,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -53,6 +57,23 @@ import lombok.ToString;
 @AllArgsConstructor
 @Entity(name="Contract")
 @Table(name="T_02_05_04", uniqueConstraints = { @UniqueConstraint(name = "T_02_05_04_UK_01", columnNames = { "F_01" })})
+@NamedEntityGraphs({
+	@NamedEntityGraph(name = "Contract.list", attributeNodes = {
+			@NamedAttributeNode("contractType"),
+			@NamedAttributeNode("provider"),
+			@NamedAttributeNode("realizationStatus"),
+			@NamedAttributeNode("contractStep"),
+			@NamedAttributeNode("approvalStatus"),
+			@NamedAttributeNode("currency") }),
+	@NamedEntityGraph(name = "Contract.detail", attributeNodes = {
+			@NamedAttributeNode("contractType"),
+			@NamedAttributeNode("provider"),
+			@NamedAttributeNode("realizationStatus"),
+			@NamedAttributeNode("contractStep"),
+			@NamedAttributeNode("approvalStatus"),
+			@NamedAttributeNode("currency"),
+			@NamedAttributeNode("documents") })
+})
 public class Contract {
 	
 	@Id
@@ -140,7 +161,10 @@ public class Contract {
 	@OneToMany(mappedBy="contract")
 	private List<ContractItem> contractItems;
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020504_T010302", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey=@ForeignKey(name="R_T020504_T010302_FK_01")), 
@@ -148,7 +172,10 @@ public class Contract {
 			uniqueConstraints = @UniqueConstraint(name = "R_T020504_T010302_UK_01", columnNames = {"F_01", "F_02"}))
 	private List<Document> documents;
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020504_T010203", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey = @ForeignKey(name = "R_T020504_T010203_FK_01")), 
@@ -156,7 +183,10 @@ public class Contract {
 			uniqueConstraints = @UniqueConstraint(name = "R_T020504_T010203_UK_01", columnNames = {"F_01", "F_02"}))
 	private List<Mail> referencedMails;
 	
-	@ManyToMany(fetch = FetchType.EAGER)
+	@ManyToMany
+	@BatchSize(size = 50)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
 	@JoinTable(
 			name = "R_T020504_T020208", 
 			joinColumns = @JoinColumn(name = "F_01", foreignKey=@ForeignKey(name="R_T020504_T020208_FK_01")), 
@@ -22,6 +22,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -42,7 +43,8 @@ public class ContractItem {
 	
 	@Id
 	@Column(name="F_00")
-  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+  	@GeneratedValue(strategy=GenerationType.TABLE, generator="T_02_05_05_ID")
+	@TableGenerator(name="T_02_05_05_ID", table="T_00_00_00", pkColumnName="F_01", valueColumnName="F_02", pkColumnValue="T_02_05_05", allocationSize=50)
 	private Long id;
 	
 	@Column(name="F_01", nullable=false)
@@ -13,16 +13,20 @@
 
 package dz.mdn.raas.business.contract.repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dz.mdn.raas.business.contract.dto.ContractListDTO;
 import dz.mdn.raas.business.contract.model.Contract;
 
 /**
@@ -37,6 +41,16 @@ import dz.mdn.raas.business.contract.model.Contract;
 @Repository
 public interface ContractRepository extends JpaRepository<Contract, Long> {
 
+    /** Find all contracts with the list fetch plan (many-to-one references joined) */
+    @Override
+    @EntityGraph("Contract.list")
+    Page<Contract> findAll(Pageable pageable);
+
+    /** Find contract by ID with the detail fetch plan (remaining collections are batch fetched) */
+    @EntityGraph("Contract.detail")
+    @Query("SELECT c FROM Contract c WHERE c.id = :id")
+    Optional<Contract> findDetailById(@Param("id") Long id);
+
     /** Find contract by internal ID (F_01) */
     @Query("SELECT c FROM Contract c WHERE c.internalId = :internalId")
     Optional<Contract> findByInternalId(@Param("internalId") String internalId);
@@ -46,6 +60,7 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     Optional<Contract> findByReference(@Param("reference") String reference);
 
     /** Search contracts by designation (FR, EN, AR) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE " +
            "LOWER(c.designationFr) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(c.designationEn) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -53,6 +68,7 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     Page<Contract> searchByDesignation(@Param("search") String search, Pageable pageable);
 
     /** Search by any text field */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE " +
            "LOWER(c.internalId) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(c.reference) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -63,78 +79,97 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     Page<Contract> searchByAnyField(@Param("search") String search, Pageable pageable);
 
     /** Find all contracts ordered by date descending */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c ORDER BY c.contractDate DESC")
     Page<Contract> findAllOrderByContractDate(Pageable pageable);
 
     /** Find contracts by year (F_02) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.contractYear = :year ORDER BY c.contractDate DESC")
     Page<Contract> findByYear(@Param("year") String year, Pageable pageable);
 
     /** Find contracts by provider (F_17) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.provider.id = :providerId")
     Page<Contract> findByProvider(@Param("providerId") Long providerId, Pageable pageable);
 
     /** Find contracts by contract type (F_16) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.contractType.id = :contractTypeId")
     Page<Contract> findByContractType(@Param("contractTypeId") Long contractTypeId, Pageable pageable);
 
     /** Find contracts by approval status (F_20) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.approvalStatus.id = :approvalStatusId")
     Page<Contract> findByApprovalStatus(@Param("approvalStatusId") Long approvalStatusId, Pageable pageable);
 
     /** Find contracts by realization status (F_18) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.realizationStatus.id = :realizationStatusId")
     Page<Contract> findByRealizationStatus(@Param("realizationStatusId") Long realizationStatusId, Pageable pageable);
 
     /** Find contracts by currency (F_21) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.currency.id = :currencyId")
     Page<Contract> findByCurrency(@Param("currencyId") Long currencyId, Pageable pageable);
 
     /** Find contracts by consultation (F_22) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.consultation.id = :consultationId")
     Page<Contract> findByConsultation(@Param("consultationId") Long consultationId, Pageable pageable);
 
     /** Find sub-contracts (F_23 = parent contract) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.contractUp.id = :contractUpId")
     Page<Contract> findSubContracts(@Param("contractUpId") Long contractUpId, Pageable pageable);
 
     /** Find contracts signed after a specific date */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.contractDate >= :date")
     Page<Contract> findSignedAfter(@Param("date") Date date, Pageable pageable);
 
     /** Find contracts between two dates */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.contractDate BETWEEN :startDate AND :endDate")
     Page<Contract> findBetweenDates(@Param("startDate") Date startDate, @Param("endDate") Date endDate, Pageable pageable);
 
     /** Find active contracts (based on realization status) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE LOWER(c.realizationStatus.designationFr) LIKE '%en cours%'")
     Page<Contract> findActiveContracts(Pageable pageable);
 
     /** Find completed contracts */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE LOWER(c.realizationStatus.designationFr) LIKE '%achevé%'")
     Page<Contract> findCompletedContracts(Pageable pageable);
 
     /** Find pending approval contracts */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE LOWER(c.approvalStatus.designationFr) LIKE '%en attente%'")
     Page<Contract> findPendingApprovalContracts(Pageable pageable);
 
     /** Find approved contracts */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE LOWER(c.approvalStatus.designationFr) LIKE '%approuvé%'")
     Page<Contract> findApprovedContracts(Pageable pageable);
 
     /** Find contracts exceeding given amount */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.amount >= :amount ORDER BY c.amount DESC")
     Page<Contract> findHighValueContracts(@Param("amount") double amount, Pageable pageable);
 
     /** Find contracts by amount range */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.amount BETWEEN :minAmount AND :maxAmount ORDER BY c.amount DESC")
     Page<Contract> findByAmountRange(@Param("minAmount") double minAmount, @Param("maxAmount") double maxAmount, Pageable pageable);
 
     /** Find contracts with transferable amount > 0 */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.transferableAmount > 0")
     Page<Contract> findWithTransferableAmount(Pageable pageable);
 
     /** Find contracts without approval date */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.approvalDate IS NULL")
     Page<Contract> findWithoutApprovalDate(Pageable pageable);
 
@@ -171,6 +206,7 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     boolean existsByReferenceAndIdNot(@Param("reference") String reference, @Param("id") Long id);
 
     /** Find contracts with missing required information */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE " +
            "c.internalId IS NULL OR c.internalId = '' OR " +
            "c.reference IS NULL OR c.reference = '' OR " +
@@ -179,10 +215,67 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
     Page<Contract> findWithIncompleteInformation(Pageable pageable);
 
     /** Find expiring contracts (based on duration and start date) */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE FUNCTION('DATEDIFF', CURRENT_DATE, c.startDate) >= (c.contractDuration * 30)")
     Page<Contract> findExpiringContracts(Pageable pageable);
 
     /** Find recently approved contracts */
+    @EntityGraph("Contract.list")
     @Query("SELECT c FROM Contract c WHERE c.approvalDate >= :recentDate")
     Page<Contract> findRecentlyApproved(@Param("recentDate") Date recentDate, Pageable pageable);
+
+    /**
+     * List view projection: only the list columns through explicit joins, no entity loading
+     */
+    @Query(value = "SELECT new dz.mdn.raas.business.contract.dto.ContractListDTO(c.id, c.internalId, c.contractYear, c.reference, c.designationAr, c.designationEn, c.designationFr, c.amount, c.contractDate, p.id, p.designationLt, ct.designationFr, rs.designationFr, cu.code) " +
+                   "FROM Contract c LEFT JOIN c.provider p LEFT JOIN c.contractType ct LEFT JOIN c.realizationStatus rs LEFT JOIN c.currency cu",
+           countQuery = "SELECT COUNT(c) FROM Contract c")
+    Page<ContractListDTO> findListView(Pageable pageable);
+
+    /**
+     * Yearly statistics of several years in one grouped scan
+     * Each row: [year, total, sumAmount, sumTransferableAmount, approved, notified, highValue, withAmendments]
+     */
+    @Query(value = "SELECT c.F_02, COUNT(*), COALESCE(SUM(c.F_07), 0), COALESCE(SUM(c.F_08), 0), " +
+                   "SUM(CASE WHEN c.F_11 IS NOT NULL THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN c.F_13 IS NOT NULL THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN c.F_07 > :threshold THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN a.F_12 IS NOT NULL THEN 1 ELSE 0 END) " +
+                   "FROM T_02_05_04 c LEFT JOIN (SELECT DISTINCT F_12 FROM T_02_06_04) a ON a.F_12 = c.F_00 " +
+                   "WHERE c.F_02 IN (:years) GROUP BY c.F_02",
+           nativeQuery = true)
+    List<Object[]> getYearlyStatistics(@Param("years") Collection<String> years, @Param("threshold") double threshold);
+
+    // ========== FINANCIAL POSITION ==========
+
+    /**
+     * Root of the contractUp chain of each contract, walking up at most 64 levels (a cycle has no root)
+     * Each row: [contractId, rootId]
+     */
+    @Query(value = "WITH RECURSIVE chain (contract_id, id, parent_id, depth) AS (" +
+                   "SELECT c.F_00, c.F_00, c.F_23, 0 FROM T_02_05_04 c WHERE c.F_00 IN (:ids) " +
+                   "UNION ALL SELECT ch.contract_id, c.F_00, c.F_23, ch.depth + 1 FROM chain ch " +
+                   "JOIN T_02_05_04 c ON c.F_00 = ch.parent_id WHERE ch.depth < 64) " +
+                   "SELECT contract_id, id FROM chain WHERE parent_id IS NULL",
+           nativeQuery = true)
+    List<Object[]> findPositionRoots(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Every contract of the trees under the given roots with its amendment sums per amendment currency,
+     * in one recursive query (at most 64 levels)
+     * Each row: [rootId, id, parentId, depth, internalId, reference, amount, transferableAmount, currencyCode,
+     * amendmentCurrencyCode, amendmentAmount, amendmentTransferableAmount, amendmentCount]; amendment columns
+     * are null / 0 for a contract without amendments
+     */
+    @Query(value = "WITH RECURSIVE tree (root_id, id, depth) AS (" +
+                   "SELECT c.F_00, c.F_00, 0 FROM T_02_05_04 c WHERE c.F_00 IN (:rootIds) " +
+                   "UNION ALL SELECT t.root_id, c.F_00, t.depth + 1 FROM tree t " +
+                   "JOIN T_02_05_04 c ON c.F_23 = t.id WHERE t.depth < 64) " +
+                   "SELECT t.root_id, t.id, c.F_23, t.depth, c.F_01, c.F_03, c.F_07, c.F_08, cu.F_01, acu.F_01, " +
+                   "COALESCE(SUM(a.F_06), 0), COALESCE(SUM(a.F_07), 0), COUNT(a.F_00) " +
+                   "FROM tree t JOIN T_02_05_04 c ON c.F_00 = t.id JOIN T_02_01_01 cu ON cu.F_00 = c.F_21 " +
+                   "LEFT JOIN T_02_06_04 a ON a.F_12 = t.id LEFT JOIN T_02_01_01 acu ON acu.F_00 = a.F_17 " +
+                   "GROUP BY t.root_id, t.id, t.depth, c.F_00, cu.F_01, acu.F_01",
+           nativeQuery = true)
+    List<Object[]> findPositionTreeRows(@Param("rootIds") Collection<Long> rootIds);
 }
@@ -0,0 +1,283 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ContractPositionService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Contract
+ *
+ **/
+
+package dz.mdn.raas.business.contract.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.contract.dto.ContractPositionDTO;
+import dz.mdn.raas.business.contract.repository.ContractRepository;
+import dz.mdn.raas.configuration.routing.ReadWriteRoutingDataSource;
+import dz.mdn.raas.configuration.transaction.AfterCommit;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contract Position Service
+ * Computes the financial position of contracts across their contractUp trees: each contract's commitment
+ * (amount + transferable amount + its amendments), summed over its descendants and over its whole tree.
+ * - a tree is read with one recursive query from its root (all the uncached roots of a batch in the same query)
+ *   instead of one query per level
+ * - positions are cached per tree; ContractService and AmendmentService evict the trees they touch once their
+ *   transaction commits, and a load started before an eviction is not stored
+ * - trees are loaded from the primary, so that a lagging replica cannot refill the cache with pre-commit amounts
+ * Amounts are kept per currency code: Currency has no exchange rate to convert them with.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContractPositionService {
+
+    public static final int MAX_CONTRACTS = 500;
+
+    private final ContractRepository contractRepository;
+
+    private final Map<Long, Tree> trees = new ConcurrentHashMap<>(); // By root ID
+    private final Map<Long, Long> roots = new ConcurrentHashMap<>(); // Root ID of each contract of a cached tree
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Tree(Long rootId, Map<Long, ContractPositionDTO> positions) {
+    }
+
+    // ========== POSITIONS ==========
+
+    /**
+     * Position of a contract
+     */
+    @Transactional(readOnly = true)
+    public ContractPositionDTO getPosition(Long contractId) {
+        Tree tree = resolve(List.of(contractId)).get(contractId);
+        if (tree == null) {
+            throw new ResourceNotFoundException("Contract", contractId);
+        }
+        return tree.positions().get(contractId);
+    }
+
+    /**
+     * Positions of several contracts (a list page), in request order; unknown IDs are left out
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ContractPositionDTO> getPositions(Collection<Long> contractIds) {
+        Map<Long, ContractPositionDTO> positions = new LinkedHashMap<>();
+        resolve(contractIds).forEach((contractId, tree) -> positions.put(contractId, tree.positions().get(contractId)));
+        return positions;
+    }
+
+    /**
+     * Positions of every contract of the tree of a contract, root first, then by depth and ID
+     */
+    @Transactional(readOnly = true)
+    public List<ContractPositionDTO> getTree(Long contractId) {
+        Tree tree = resolve(List.of(contractId)).get(contractId);
+        if (tree == null) {
+            throw new ResourceNotFoundException("Contract", contractId);
+        }
+        return tree.positions().values().stream()
+                .sorted(Comparator.comparing(ContractPositionDTO::getDepth).thenComparing(ContractPositionDTO::getContractId))
+                .toList();
+    }
+
+    // ========== EVICTION ==========
+
+    /**
+     * Evict the trees of the given contracts once the current transaction commits
+     * (a contract or amendment write, or a contract moved to or from a parent)
+     */
+    public void evictContracts(Long... contractIds) {
+        AfterCommit.run(() -> evict(contractIds));
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Tree of each known contract, from the cache or loaded with the uncached trees in one recursive query
+     * (on the primary: the cache has no expiry, a tree read from a lagging replica would stay stale)
+     */
+    private Map<Long, Tree> resolve(Collection<Long> contractIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        contractIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        if (ids.size() > MAX_CONTRACTS) {
+            throw new BusinessValidationException("Too many contracts requested, maximum is " + MAX_CONTRACTS, "ids", ids.size());
+        }
+
+        Map<Long, Tree> resolved = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            Long rootId = roots.get(id);
+            Tree tree = rootId != null ? trees.get(rootId) : null;
+            if (tree != null && tree.positions().containsKey(id)) {
+                resolved.put(id, tree);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long loadGeneration = generation.get();
+            Map<Long, Long> rootIds = new HashMap<>();
+            List<Object[]> treeRows = ReadWriteRoutingDataSource.onPrimary(() -> {
+                for (Object[] row : contractRepository.findPositionRoots(missing)) {
+                    rootIds.put(asLong(row[0]), asLong(row[1]));
+                }
+                return rootIds.isEmpty() ? List.<Object[]>of() : contractRepository.findPositionTreeRows(new LinkedHashSet<>(rootIds.values()));
+            });
+            if (!rootIds.isEmpty()) {
+                log.debug("Computing contract positions of {} trees", new LinkedHashSet<>(rootIds.values()).size());
+                Map<Long, Tree> loaded = build(treeRows);
+                loaded.values().forEach(tree -> store(tree, loadGeneration));
+                rootIds.forEach((id, rootId) -> resolved.put(id, loaded.get(rootId)));
+            }
+        }
+
+        Map<Long, Tree> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Tree tree = resolved.get(id);
+            if (tree != null && tree.positions().containsKey(id)) {
+                ordered.put(id, tree);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Build the trees from their rows: own commitments first, then summed bottom-up into the ancestors
+     */
+    private static Map<Long, Tree> build(List<Object[]> rows) {
+        Map<Long, Node> nodes = new HashMap<>();
+        for (Object[] row : rows) {
+            Node node = nodes.computeIfAbsent(asLong(row[1]), id -> new Node(id, row));
+            if (row[9] != null) {
+                node.commitment.merge((String) row[9], asDouble(row[10]) + asDouble(row[11]), Double::sum);
+                node.amendmentCount += asLong(row[12]);
+            }
+        }
+
+        List<Node> deepestFirst = new ArrayList<>(nodes.values());
+        deepestFirst.sort(Comparator.comparingInt((Node node) -> node.depth).reversed());
+        for (Node node : deepestFirst) {
+            node.cumulative.putAll(node.commitment);
+        }
+        for (Node node : deepestFirst) {
+            Node parent = node.depth > 0 ? nodes.get(node.parentId) : null;
+            if (parent != null) {
+                node.cumulative.forEach((currency, amount) -> parent.cumulative.merge(currency, amount, Double::sum));
+                parent.childCount++;
+                parent.descendantCount += node.descendantCount + 1;
+            }
+        }
+
+        Map<Long, Map<Long, ContractPositionDTO>> positions = new HashMap<>();
+        for (Node node : nodes.values()) {
+            Node root = nodes.get(node.rootId);
+            positions.computeIfAbsent(node.rootId, rootId -> new HashMap<>()).put(node.id, ContractPositionDTO.builder()
+                    .contractId(node.id)
+                    .internalId(node.internalId)
+                    .reference(node.reference)
+                    .parentId(node.parentId)
+                    .rootId(node.rootId)
+                    .depth(node.depth)
+                    .childCount(node.childCount)
+                    .descendantCount(node.descendantCount)
+                    .currencyCode(node.currencyCode)
+                    .amount(node.amount)
+                    .transferableAmount(node.transferableAmount)
+                    .amendmentCount(node.amendmentCount)
+                    .commitment(new TreeMap<>(node.commitment))
+                    .cumulativeCommitment(new TreeMap<>(node.cumulative))
+                    .treeCommitment(new TreeMap<>(root.cumulative))
+                    .build());
+        }
+
+        Map<Long, Tree> built = new HashMap<>();
+        positions.forEach((rootId, treePositions) -> built.put(rootId, new Tree(rootId, Map.copyOf(treePositions))));
+        return built;
+    }
+
+    private synchronized void store(Tree tree, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return; // Evicted while loading, may predate the write
+        }
+        trees.put(tree.rootId(), tree);
+        tree.positions().keySet().forEach(id -> roots.put(id, tree.rootId()));
+    }
+
+    private synchronized void evict(Long... contractIds) {
+        generation.incrementAndGet();
+        for (Long contractId : contractIds) {
+            Long rootId = contractId != null ? roots.get(contractId) : null;
+            Tree tree = rootId != null ? trees.remove(rootId) : null;
+            if (tree != null) {
+                tree.positions().keySet().forEach(id -> roots.remove(id, rootId));
+            }
+        }
+    }
+
+    private static long asLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static double asDouble(Object value) {
+        return value == null ? 0.0 : ((Number) value).doubleValue();
+    }
+
+    /**
+     * Contract of a tree being built
+     */
+    private static final class Node {
+
+        private final long id;
+        private final long rootId;
+        private final Long parentId;
+        private final int depth;
+        private final String internalId;
+        private final String reference;
+        private final double amount;
+        private final double transferableAmount;
+        private final String currencyCode;
+        private final Map<String, Double> commitment = new TreeMap<>();
+        private final Map<String, Double> cumulative = new TreeMap<>();
+        private long amendmentCount;
+        private int childCount;
+        private int descendantCount;
+
+        Node(long id, Object[] row) {
+            this.id = id;
+            this.rootId = asLong(row[0]);
+            this.parentId = row[2] != null ? asLong(row[2]) : null;
+            this.depth = (int) asLong(row[3]);
+            this.internalId = (String) row[4];
+            this.reference = (String) row[5];
+            this.amount = asDouble(row[6]);
+            this.transferableAmount = asDouble(row[7]);
+            this.currencyCode = (String) row[8];
+            commitment.put(currencyCode, amount + transferableAmount);
+        }
+    }
+}
@@ -13,6 +13,8 @@
 
 package dz.mdn.raas.business.contract.service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -21,7 +23,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dz.mdn.raas.business.consultation.repository.ConsultationRepository;
+import dz.mdn.raas.business.contract.controller.ContractController;
 import dz.mdn.raas.business.contract.dto.ContractDTO;
+import dz.mdn.raas.business.contract.dto.ContractListDTO;
 import dz.mdn.raas.business.contract.model.Contract;
 import dz.mdn.raas.business.contract.repository.ContractRepository;
 import dz.mdn.raas.business.contract.repository.ContractStepRepository;
@@ -31,6 +35,7 @@ import dz.mdn.raas.business.core.repository.CurrencyRepository;
 import dz.mdn.raas.business.core.repository.RealizationStatusRepository;
 import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
 import dz.mdn.raas.business.provider.repository.ProviderRepository;
+import dz.mdn.raas.business.statistics.service.YearlyStatisticsService;
 import dz.mdn.raas.common.communication.repository.MailRepository;
 import dz.mdn.raas.common.document.repository.DocumentRepository;
 import lombok.RequiredArgsConstructor;
@@ -56,6 +61,9 @@ public class ContractService {
 	private final MailRepository mailRepository;
 	private final PlannedItemRepository plannedItemRepository;
 
+	private final YearlyStatisticsService yearlyStatisticsService;
+	private final ContractPositionService contractPositionService;
+
 	// ========== CREATE ==========
 
 	public ContractDTO createContract(ContractDTO dto) {
@@ -70,6 +78,9 @@ public class ContractService {
 
 		Contract saved = contractRepository.save(entity);
 		handleManyToManyRelationships(dto, saved);
+		yearlyStatisticsService.evictContractYears(saved.getContractYear());
+		// A new child contract changes the position of its parent tree
+		contractPositionService.evictContracts(parentId(saved));
 
 		log.info("Successfully created contract ID: {}", saved.getId());
 		return ContractDTO.fromEntityWithRelations(saved);
@@ -80,7 +91,7 @@ public class ContractService {
 	@Transactional(readOnly = true)
 	public ContractDTO getContractById(Long id) {
 		log.debug("Fetching contract with ID: {}", id);
-		Contract contract = contractRepository.findById(id)
+		Contract contract = contractRepository.findDetailById(id)
 				.orElseThrow(() -> new RuntimeException("Contract not found with ID: " + id));
 		return ContractDTO.fromEntityWithRelations(contract);
 	}
@@ -97,6 +108,16 @@ public class ContractService {
 				.map(ContractDTO::fromEntity);
 	}
 
+	/**
+	 * Get contracts list view (projection, no entity loading or dirty checking)
+	 */
+	@Transactional(readOnly = true)
+	public Page<ContractListDTO> getContractListView(Pageable pageable) {
+		log.debug("Getting contract list view with pagination");
+
+		return contractRepository.findListView(pageable);
+	}
+
 	@Transactional(readOnly = true)
 	public Page<ContractDTO> searchContracts(String searchTerm, Pageable pageable) {
 		if (searchTerm == null || searchTerm.isBlank())
@@ -105,6 +126,26 @@ public class ContractService {
 				.map(ContractDTO::fromEntity);
 	}
 
+	// ========== STATISTICS ==========
+
+	/**
+	 * Get contract statistics for a year (single grouped query, cached per year)
+	 */
+	@Transactional(readOnly = true)
+	public ContractController.ContractStatistics getContractStatistics(String year) {
+		log.debug("Getting contract statistics for year: {}", year);
+		return yearlyStatisticsService.getContractStatistics(List.of(year)).get(year.trim());
+	}
+
+	/**
+	 * Get contract statistics for several years at once, keyed by year in request order
+	 */
+	@Transactional(readOnly = true)
+	public Map<String, ContractController.ContractStatistics> getContractStatistics(List<String> years) {
+		log.debug("Getting contract statistics for years: {}", years);
+		return yearlyStatisticsService.getContractStatistics(years);
+	}
+
 	// ========== UPDATE ==========
 
 	public ContractDTO updateContract(Long id, ContractDTO dto) {
@@ -116,11 +157,18 @@ public class ContractService {
 		validateRequiredFields(dto, "update");
 		validateUniqueConstraints(dto, id);
 
+		String previousYear = existing.getContractYear();
+		Long previousParentId = parentId(existing);
 		mapDtoToEntity(dto, existing);
 		setEntityRelationships(dto, existing);
 
 		Contract updated = contractRepository.save(existing);
 		handleManyToManyRelationships(dto, updated);
+		// Amendments are counted in the year of their contract
+		yearlyStatisticsService.evictContractYears(previousYear, updated.getContractYear());
+		yearlyStatisticsService.evictAmendmentYears(previousYear, updated.getContractYear());
+		// Amounts or parent changed: the tree it leaves and the tree it joins
+		contractPositionService.evictContracts(id, previousParentId, parentId(updated));
 
 		log.info("Successfully updated contract ID: {}", id);
 		return ContractDTO.fromEntityWithRelations(updated);
@@ -133,10 +181,17 @@ public class ContractService {
 		if (!contractRepository.existsById(id))
 			throw new RuntimeException("Contract not found with ID: " + id);
 		contractRepository.deleteById(id);
+		yearlyStatisticsService.evictAllContractYears();
+		yearlyStatisticsService.evictAllAmendmentYears();
+		contractPositionService.evictContracts(id);
 	}
 
 	// ========== HELPERS ==========
 
+	private static Long parentId(Contract contract) {
+		return contract.getContractUp() != null ? contract.getContractUp().getId() : null;
+	}
+
 	private void mapDtoToEntity(ContractDTO dto, Contract entity) {
 		entity.setInternalId(dto.getInternalId());
 		entity.setContractYear(dto.getContractYear());
@@ -14,7 +14,10 @@
 package dz.mdn.raas.business.plan.controller;
 
 import dz.mdn.raas.business.plan.service.BudgetModificationService;
+import dz.mdn.raas.business.plan.service.BudgetScenarioService;
 import dz.mdn.raas.business.plan.dto.BudgetModificationDTO;
+import dz.mdn.raas.business.plan.dto.BudgetScenarioDTO;
+import dz.mdn.raas.business.plan.dto.BudgetSimulationDTO;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +48,7 @@ import java.util.Date;
 public class BudgetModificationController {
 
     private final BudgetModificationService budgetModificationService;
+    private final BudgetScenarioService budgetScenarioService;
 
     // ========== POST ONE BUDGET MODIFICATION ==========
 
@@ -62,6 +66,29 @@ public class BudgetModificationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdBudgetModification);
     }
 
+    // ========== SCENARIOS ==========
+
+    /**
+     * Simulate a budget modification proposal on the planned items of a financial operation
+     * Returns totals before and after and the changed planned items, nothing is written
+     */
+    @PostMapping("/scenario/simulate")
+    public ResponseEntity<BudgetSimulationDTO> simulateScenario(@Valid @RequestBody BudgetScenarioDTO scenarioDTO) {
+        log.debug("Simulating budget scenario on financial operation ID: {}", scenarioDTO.getFinancialOperationId());
+
+        return ResponseEntity.ok(budgetScenarioService.simulate(scenarioDTO));
+    }
+
+    /**
+     * Apply an approved budget modification proposal: every change or none
+     */
+    @PostMapping("/scenario/commit")
+    public ResponseEntity<BudgetSimulationDTO> commitScenario(@Valid @RequestBody BudgetScenarioDTO scenarioDTO) {
+        log.info("Committing budget scenario on financial operation ID: {}", scenarioDTO.getFinancialOperationId());
+
+        return ResponseEntity.ok(budgetScenarioService.commit(scenarioDTO));
+    }
+
     // ========== GET METADATA ==========
 
     /**
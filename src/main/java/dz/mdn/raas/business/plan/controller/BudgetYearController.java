@@ -0,0 +1,154 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetYearController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.controller;
+
+import java.util.List;
+
+import dz.mdn.raas.business.plan.dto.BudgetModificationSnapshotDTO;
+import dz.mdn.raas.business.plan.dto.ClosedBudgetYearDTO;
+import dz.mdn.raas.business.plan.dto.ItemDistributionSnapshotDTO;
+import dz.mdn.raas.business.plan.dto.PlanRollupDTO;
+import dz.mdn.raas.business.plan.dto.PlannedItemSnapshotDTO;
+import dz.mdn.raas.business.plan.service.BudgetYearService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Budget Year REST Controller
+ * Closes past budget years and serves their frozen history from the snapshot tables,
+ * e.g. /budgetYear/2024/itemDistributions?structureId=12 or /budgetYear/2024/aggregates/rubric
+ * Aggregate levels: domain, rubric, item, financialOperation, budgetType, structure, total
+ */
+@RestController
+@RequestMapping("/budgetYear")
+@RequiredArgsConstructor
+@Slf4j
+public class BudgetYearController {
+
+    private final BudgetYearService budgetYearService;
+
+    // ========== CLOSE ==========
+
+    /**
+     * Close a past budget year: snapshot it and remove it from the live tables
+     */
+    @PostMapping("/{budgetYear}/close")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ClosedBudgetYearDTO> close(@PathVariable String budgetYear) {
+        log.info("Closing budget year {}", budgetYear);
+
+        return ResponseEntity.ok(budgetYearService.close(budgetYear));
+    }
+
+    // ========== HISTORY ==========
+
+    /**
+     * Get every closed budget year, most recent first
+     */
+    @GetMapping("/closed")
+    public ResponseEntity<List<ClosedBudgetYearDTO>> getClosedBudgetYears() {
+        log.debug("Getting closed budget years");
+
+        return ResponseEntity.ok(budgetYearService.getClosedBudgetYears());
+    }
+
+    /**
+     * Get a closed budget year with its totals
+     */
+    @GetMapping("/{budgetYear}")
+    public ResponseEntity<ClosedBudgetYearDTO> getClosedBudgetYear(@PathVariable String budgetYear) {
+        log.debug("Getting closed budget year {}", budgetYear);
+
+        return ResponseEntity.ok(budgetYearService.getClosedBudgetYear(budgetYear));
+    }
+
+    /**
+     * Get the planned items of a closed budget year
+     */
+    @GetMapping("/{budgetYear}/plannedItems")
+    public ResponseEntity<Page<PlannedItemSnapshotDTO>> getPlannedItems(
+            @PathVariable String budgetYear,
+            @RequestParam(required = false) Long domainId,
+            @RequestParam(required = false) Long rubricId,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) Long financialOperationId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "designation") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        log.debug("Getting planned items of closed budget year {}", budgetYear);
+
+        return ResponseEntity.ok(budgetYearService.getPlannedItems(budgetYear, domainId, rubricId, itemId, financialOperationId,
+                pageable(page, size, sortBy, sortDir)));
+    }
+
+    /**
+     * Get the item distributions of a closed budget year
+     */
+    @GetMapping("/{budgetYear}/itemDistributions")
+    public ResponseEntity<Page<ItemDistributionSnapshotDTO>> getItemDistributions(
+            @PathVariable String budgetYear,
+            @RequestParam(required = false) Long structureId,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) Long plannedItemId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "structureDesignationFr") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        log.debug("Getting item distributions of closed budget year {}", budgetYear);
+
+        return ResponseEntity.ok(budgetYearService.getItemDistributions(budgetYear, structureId, itemId, plannedItemId,
+                pageable(page, size, sortBy, sortDir)));
+    }
+
+    /**
+     * Get the budget modifications of a closed budget year
+     */
+    @GetMapping("/{budgetYear}/budgetModifications")
+    public ResponseEntity<Page<BudgetModificationSnapshotDTO>> getBudgetModifications(
+            @PathVariable String budgetYear,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("Getting budget modifications of closed budget year {}", budgetYear);
+
+        return ResponseEntity.ok(budgetYearService.getBudgetModifications(budgetYear, PageRequest.of(page, size)));
+    }
+
+    /**
+     * Get the prebuilt aggregates of a closed budget year at one level
+     */
+    @GetMapping("/{budgetYear}/aggregates/{level}")
+    public ResponseEntity<List<PlanRollupDTO>> getAggregates(@PathVariable String budgetYear, @PathVariable String level) {
+        log.debug("Getting {} aggregates of closed budget year {}", level, budgetYear);
+
+        return ResponseEntity.ok(budgetYearService.getAggregates(budgetYear, level));
+    }
+
+    private static Pageable pageable(int page, int size, String sortBy, String sortDir) {
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return PageRequest.of(page, size, Sort.by(direction, sortBy));
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: CatalogController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.controller;
+
+import dz.mdn.raas.business.plan.service.CatalogService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Catalog REST Controller
+ * Serves the whole Domain → Rubric → Item tree in one request, as pre-encoded bytes behind an ETag per encoding:
+ * clients revalidate with If-None-Match and get a 304 without a body while the catalog is unchanged.
+ */
+@RestController
+@RequestMapping("/catalog")
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    // ========== GET TREE ==========
+
+    /**
+     * Get the catalog tree (gzip encoded when the client accepts it)
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<byte[]> getCatalogTree(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.debug("Getting catalog tree");
+
+        CatalogService.EncodedTree tree = catalogService.getTree();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? tree.gzipEtag() : tree.etag();
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? tree.gzip() : tree.json());
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Weak comparison of If-None-Match, as used for GET requests
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClassificationRuleController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import dz.mdn.raas.business.plan.dto.ClassificationRuleDTO;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+import dz.mdn.raas.business.plan.service.ClassificationRuleService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * ClassificationRule REST Controller
+ * Manages the rules classifying items, planned items and item distributions by priority and category.
+ * Rule changes reclassify the affected rows before returning.
+ */
+@RestController
+@RequestMapping("/classificationRule")
+@RequiredArgsConstructor
+@Slf4j
+public class ClassificationRuleController {
+
+    private final ClassificationRuleService classificationRuleService;
+
+    // ========== CREATE ONE ==========
+
+    /**
+     * Create a classification rule
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ClassificationRuleDTO> createRule(@Valid @RequestBody ClassificationRuleDTO ruleDTO) {
+        log.info("Creating {} classification rule: {}", ruleDTO.getTarget(), ruleDTO.getDesignation());
+
+        ClassificationRuleDTO createdRule = classificationRuleService.createRule(ruleDTO);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdRule);
+    }
+
+    // ========== GET ==========
+
+    /**
+     * Get every classification rule in evaluation order
+     */
+    @GetMapping
+    public ResponseEntity<List<ClassificationRuleDTO>> getAllRules() {
+        log.debug("Getting all classification rules");
+
+        return ResponseEntity.ok(classificationRuleService.getAllRules());
+    }
+
+    /**
+     * Get classification rule by ID
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ClassificationRuleDTO> getRuleById(@PathVariable Long id) {
+        log.debug("Getting classification rule with ID: {}", id);
+
+        return ResponseEntity.ok(classificationRuleService.getRuleById(id));
+    }
+
+    // ========== UPDATE ==========
+
+    /**
+     * Update a classification rule
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ClassificationRuleDTO> updateRule(
+            @PathVariable Long id,
+            @Valid @RequestBody ClassificationRuleDTO ruleDTO) {
+
+        log.info("Updating classification rule with ID: {}", id);
+
+        return ResponseEntity.ok(classificationRuleService.updateRule(id, ruleDTO));
+    }
+
+    // ========== DELETE ONE ==========
+
+    /**
+     * Delete a classification rule
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteRule(@PathVariable Long id) {
+        log.info("Deleting classification rule with ID: {}", id);
+
+        classificationRuleService.deleteRule(id);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Reclassify every item, planned item and item distribution (drift repair)
+     */
+    @PostMapping("/reclassify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<ClassificationRule.Target, Integer>> reclassifyAll() {
+        log.info("Reclassifying every item, planned item and item distribution");
+
+        return ResponseEntity.ok(classificationRuleService.reclassifyAll());
+    }
+}
@@ -486,6 +486,23 @@ public class ItemController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * Get items of a classification category
+     */
+    @GetMapping("/classification/{category}")
+    public ResponseEntity<Page<ItemDTO>> getItemsByClassificationCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting items of classification category: {}", category);
+        
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ItemDTO> items = itemService.getItemsByClassificationCategory(category, pageable);
+        
+        return ResponseEntity.ok(items);
+    }
+
     // ========== LANGUAGE SPECIFIC ENDPOINTS ==========
 
     /**
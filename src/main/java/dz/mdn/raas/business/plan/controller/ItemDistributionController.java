@@ -13,10 +13,23 @@
 
 package dz.mdn.raas.business.plan.controller;
 
+import dz.mdn.raas.business.plan.dto.ItemDistributionListDTO;
 import dz.mdn.raas.business.plan.service.ItemDistributionService;
 import dz.mdn.raas.business.plan.dto.ItemDistributionDTO;
+import dz.mdn.raas.business.plan.dto.DistributionMatrixDTO;
+import dz.mdn.raas.business.plan.service.DistributionMatrixService;
+import dz.mdn.raas.configuration.pagination.CursorSlice;
+import dz.mdn.raas.configuration.export.ExportFormat;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import dz.mdn.raas.configuration.annotation.QueryLimit;
 
 import jakarta.validation.Valid;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,9 +37,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * ItemDistribution REST Controller
@@ -41,6 +57,8 @@ import org.springframework.web.bind.annotation.*;
 public class ItemDistributionController {
 
     private final ItemDistributionService itemDistributionService;
+    private final StreamingExporter streamingExporter;
+    private final DistributionMatrixService distributionMatrixService;
 
     // ========== POST ONE ITEM DISTRIBUTION ==========
 
@@ -114,6 +132,66 @@ public class ItemDistributionController {
         return ResponseEntity.ok(itemDistributions);
     }
 
+    /**
+     * Get all item distributions as lightweight list rows
+     * Same paging and sorting as the full listing, selecting only the columns of the list view
+     */
+    @GetMapping("/list")
+    @QueryLimit(maxStatements = 2, repeatThreshold = 2)
+    public ResponseEntity<Page<ItemDistributionListDTO>> getItemDistributionListView(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "structure.designationFr") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        return ResponseEntity.ok(itemDistributionService.getItemDistributionListView(pageable));
+    }
+
+    /**
+     * Export all item distributions as NDJSON (one JSON object per line) or CSV
+     * Rows are streamed from the database as they are written, in constant memory
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportItemDistributions(@RequestParam(defaultValue = "ndjson") String format) {
+        log.debug("Exporting item distributions as {}", format);
+
+        return streamingExporter.export("itemDistributions", ExportFormat.of(format), ItemDistributionListDTO.class, itemDistributionService::streamItemDistributionListView);
+    }
+
+    // ========== GET ALL (CURSOR) ==========
+
+    /**
+     * Get all item distributions with keyset pagination
+     * Pass the returned nextCursor to read the following page; no total count is computed,
+     * withCount adds an approximate count header from the table statistics
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorSlice<ItemDistributionDTO>> scrollItemDistributions(
+            @RequestParam(required = false) Long plannedItemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "structure.designationFr,plannedItem.designation") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean withCount) {
+        
+        log.debug("Scrolling item distributions - cursor: {}, size: {}, sortBy: {}, sortDir: {}", 
+                  cursor, size, sortBy, sortDir);
+        
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+        
+        CursorSlice<ItemDistributionDTO> slice = itemDistributionService.getItemDistributionSlice(plannedItemId, cursor, size, Sort.by(direction, sortBy.split(",")));
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withCount) {
+            response.header(CursorSlice.APPROXIMATE_COUNT_HEADER, String.valueOf(itemDistributionService.estimateItemDistributionCount()));
+        }
+        return response.body(slice);
+    }
+
     // ========== RELATIONSHIP ENDPOINTS ==========
 
     /**
@@ -385,7 +463,7 @@ public class ItemDistributionController {
         
         log.debug("Getting item distributions for parent structure ID: {}", parentStructureId);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "structure.designation"));
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "structure.designationFr"));
         Page<ItemDistributionDTO> itemDistributions = itemDistributionService.getItemDistributionsByParentStructure(parentStructureId, pageable);
         
         return ResponseEntity.ok(itemDistributions);
@@ -425,6 +503,23 @@ public class ItemDistributionController {
         return ResponseEntity.ok(itemDistributions);
     }
 
+    /**
+     * Get distributions of a classification category
+     */
+    @GetMapping("/classification/{category}")
+    public ResponseEntity<Page<ItemDistributionDTO>> getDistributionsByClassificationCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting item distributions of classification category: {}", category);
+        
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ItemDistributionDTO> itemDistributions = itemDistributionService.getDistributionsByClassificationCategory(category, pageable);
+        
+        return ResponseEntity.ok(itemDistributions);
+    }
+
     /**
      * Get over-distributions
      */
@@ -748,6 +843,18 @@ public class ItemDistributionController {
         return ResponseEntity.ok(sum != null ? sum : 0.0f);
     }
 
+    /**
+     * Get remaining distributable quantity of a planned item (empty when its planned quantity is not enforced)
+     */
+    @GetMapping("/planned-item/{plannedItemId}/remaining-quota")
+    public ResponseEntity<Double> getRemainingQuota(@PathVariable Long plannedItemId) {
+        log.debug("Getting remaining quota for planned item ID: {}", plannedItemId);
+
+        Double remaining = itemDistributionService.getRemainingQuota(plannedItemId);
+
+        return ResponseEntity.ok(remaining);
+    }
+
     /**
      * Get sum of quantities by structure
      */
@@ -772,6 +879,66 @@ public class ItemDistributionController {
         return ResponseEntity.ok(sum != null ? sum : 0.0);
     }
 
+    /**
+     * Get distribution totals of a structure and all its sub-structures
+     */
+    @GetMapping("/structure/{structureId}/subtree/totals")
+    public ResponseEntity<Map<String, Object>> getSubtreeTotals(@PathVariable Long structureId) {
+        log.debug("Getting subtree distribution totals for structure ID: {}", structureId);
+        
+        return ResponseEntity.ok(itemDistributionService.getSubtreeTotals(structureId));
+    }
+
+    /**
+     * Get subtree distribution totals of each direct child of a structure
+     */
+    @GetMapping("/structure/{structureId}/subtree/children-totals")
+    public ResponseEntity<List<Map<String, Object>>> getChildSubtreeTotals(@PathVariable Long structureId) {
+        log.debug("Getting child subtree distribution totals for structure ID: {}", structureId);
+        
+        return ResponseEntity.ok(itemDistributionService.getChildSubtreeTotals(structureId));
+    }
+
+    // ========== DISTRIBUTION MATRIX ==========
+
+    /**
+     * Get the structure by planned item distribution matrix of a financial operation (columnar encoding)
+     * With parentStructureId, each row totals the subtree of one direct child of that structure
+     */
+    @GetMapping("/financial-operation/{financialOperationId}/matrix")
+    public ResponseEntity<DistributionMatrixDTO> getDistributionMatrix(
+            @PathVariable Long financialOperationId,
+            @RequestParam(required = false) Long parentStructureId) {
+
+        log.debug("Getting distribution matrix of financial operation ID: {}", financialOperationId);
+
+        return ResponseEntity.ok(distributionMatrixService.getMatrix(financialOperationId, parentStructureId));
+    }
+
+    /**
+     * Export the distribution matrix of a financial operation as a wide CSV table of quantities or costs
+     */
+    @GetMapping("/financial-operation/{financialOperationId}/matrix/csv")
+    public ResponseEntity<StreamingResponseBody> exportDistributionMatrix(
+            @PathVariable Long financialOperationId,
+            @RequestParam(required = false) Long parentStructureId,
+            @RequestParam(defaultValue = "quantity") String measure) {
+
+        log.debug("Exporting distribution {} matrix of financial operation ID: {}", measure, financialOperationId);
+
+        DistributionMatrixService.Measure matrixMeasure = DistributionMatrixService.measureOf(measure);
+        DistributionMatrixDTO matrix = distributionMatrixService.getMatrix(financialOperationId, parentStructureId);
+        StreamingResponseBody body = output -> distributionMatrixService.writeCsv(matrix, matrixMeasure,
+                new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+
+        return ResponseEntity.ok()
+                .contentType(ExportFormat.CSV.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("distributionMatrix-" + financialOperationId + "-" + LocalDate.now() + "." + ExportFormat.CSV.getExtension())
+                        .build().toString())
+                .body(body);
+    }
+
     /**
      * Get average quantity
      */
@@ -0,0 +1,85 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanImportController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.controller;
+
+import dz.mdn.raas.business.plan.dto.PlanImportJobDTO;
+import dz.mdn.raas.business.plan.service.PlanImportService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Plan Import REST Controller
+ * Handles bulk CSV imports of planned items and item distributions as background jobs
+ * Imports are started with a multipart upload and followed by polling the returned job
+ */
+@RestController
+@RequestMapping("/planImport")
+@RequiredArgsConstructor
+@Slf4j
+public class PlanImportController {
+
+    private final PlanImportService planImportService;
+
+    // ========== START IMPORTS ==========
+
+    /**
+     * Start import of planned items
+     * Columns: designation, unitairCost, planedQuantity, allocatedAmount, itemStatusId, itemId,
+     * financialOperationId, budgetModificationId
+     */
+    @PostMapping(value = "/plannedItems", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PlanImportJobDTO> importPlannedItems(
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = ",") char separator) {
+        log.info("Starting planned item import from file: {}", file.getOriginalFilename());
+
+        PlanImportJobDTO job = planImportService.startPlannedItemImport(file, separator);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Start import of item distributions
+     * Columns: plannedItemId, structureId, quantity
+     */
+    @PostMapping(value = "/itemDistributions", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PlanImportJobDTO> importItemDistributions(
+            @RequestParam MultipartFile file,
+            @RequestParam(defaultValue = ",") char separator) {
+        log.info("Starting item distribution import from file: {}", file.getOriginalFilename());
+
+        PlanImportJobDTO job = planImportService.startItemDistributionImport(file, separator);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    // ========== JOB PROGRESS ==========
+
+    /**
+     * Get import job progress and rejected rows
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<PlanImportJobDTO> getImportJob(@PathVariable String jobId) {
+        log.debug("Getting import job: {}", jobId);
+
+        return ResponseEntity.ok(planImportService.getJob(jobId));
+    }
+}
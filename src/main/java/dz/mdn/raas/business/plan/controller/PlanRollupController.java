@@ -0,0 +1,75 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanRollupController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import dz.mdn.raas.business.plan.dto.PlanRollupDTO;
+import dz.mdn.raas.business.plan.service.PlanRollupService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Plan Rollup REST Controller
+ * Serves precomputed plan totals for drill-down dashboards: each level can be restricted to
+ * a domain, rubric, budget type or budget year, e.g. /planRollup/rubric?domainId=3&budgetYear=2026
+ * Levels: domain, rubric, item, financialOperation, budgetType, budgetYear, total
+ * Closed budget years are served from their snapshots (see BudgetYearController)
+ */
+@RestController
+@RequestMapping("/planRollup")
+@RequiredArgsConstructor
+@Slf4j
+public class PlanRollupController {
+
+    private final PlanRollupService planRollupService;
+
+    // ========== ROLLUPS ==========
+
+    /**
+     * Get the rollups of a hierarchy level
+     */
+    @GetMapping("/{level}")
+    public ResponseEntity<List<PlanRollupDTO>> getRollups(
+            @PathVariable String level,
+            @RequestParam(required = false) Long domainId,
+            @RequestParam(required = false) Long rubricId,
+            @RequestParam(required = false) Long budgetTypeId,
+            @RequestParam(required = false) String budgetYear) {
+        log.debug("Getting {} plan rollups", level);
+
+        return ResponseEntity.ok(planRollupService.getRollups(level, domainId, rubricId, budgetTypeId, budgetYear));
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Recompute every rollup and distribution counter from planned items and item distributions (drift repair)
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        log.info("Rebuilding plan rollups");
+
+        int cells = planRollupService.rebuild();
+
+        return ResponseEntity.ok(Map.of("cells", cells));
+    }
+}
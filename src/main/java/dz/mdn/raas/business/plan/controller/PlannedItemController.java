@@ -13,8 +13,15 @@
 
 package dz.mdn.raas.business.plan.controller;
 
+import dz.mdn.raas.business.plan.dto.BulkDistributionDTO;
+import dz.mdn.raas.business.plan.dto.BulkDistributionResultDTO;
+import dz.mdn.raas.business.plan.dto.PlannedItemListDTO;
+import dz.mdn.raas.business.plan.service.ItemDistributionService;
 import dz.mdn.raas.business.plan.service.PlannedItemService;
 import dz.mdn.raas.business.plan.dto.PlannedItemDTO;
+import dz.mdn.raas.configuration.export.ExportFormat;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import dz.mdn.raas.configuration.annotation.QueryLimit;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +34,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * PlannedItem REST Controller
@@ -42,6 +50,8 @@ import org.springframework.web.bind.annotation.*;
 public class PlannedItemController {
 
     private final PlannedItemService plannedItemService;
+    private final ItemDistributionService itemDistributionService;
+    private final StreamingExporter streamingExporter;
 
     // ========== POST ONE PLANNED ITEM ==========
 
@@ -59,6 +69,21 @@ public class PlannedItemController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdPlannedItem);
     }
 
+    /**
+     * Distribute a planned item across many structures in one call
+     * Quantities are explicit per structure, or computed from a total by weights or evenly
+     */
+    @PostMapping("/{id}/distributions/bulk")
+    public ResponseEntity<BulkDistributionResultDTO> createBulkDistributions(
+            @PathVariable Long id,
+            @Valid @RequestBody BulkDistributionDTO bulkDistributionDTO) {
+        log.info("Creating {} distributions for planned item ID: {}", bulkDistributionDTO.getMode(), id);
+
+        BulkDistributionResultDTO result = itemDistributionService.createBulkDistributions(id, bulkDistributionDTO);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     // ========== GET METADATA ==========
 
     /**
@@ -116,6 +141,35 @@ public class PlannedItemController {
         return ResponseEntity.ok(plannedItems);
     }
 
+    /**
+     * Get all planned items as lightweight list rows
+     * Same paging and sorting as the full listing, selecting only the columns of the list view
+     */
+    @GetMapping("/list")
+    @QueryLimit(maxStatements = 2, repeatThreshold = 2)
+    public ResponseEntity<Page<PlannedItemListDTO>> getPlannedItemListView(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "designation") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        return ResponseEntity.ok(plannedItemService.getPlannedItemListView(pageable));
+    }
+
+    /**
+     * Export all planned items as NDJSON (one JSON object per line) or CSV
+     * Rows are streamed from the database as they are written, in constant memory
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPlannedItems(@RequestParam(defaultValue = "ndjson") String format) {
+        log.debug("Exporting planned items as {}", format);
+
+        return streamingExporter.export("plannedItems", ExportFormat.of(format), PlannedItemListDTO.class, plannedItemService::streamPlannedItemListView);
+    }
+
     // ========== SEARCH ENDPOINTS ==========
 
     /**
@@ -478,6 +532,23 @@ public class PlannedItemController {
         return ResponseEntity.ok(plannedItems);
     }
 
+    /**
+     * Get planned items of a classification category
+     */
+    @GetMapping("/classification/{category}")
+    public ResponseEntity<Page<PlannedItemDTO>> getPlannedItemsByClassificationCategory(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting planned items of classification category: {}", category);
+        
+        Pageable pageable = PageRequest.of(page, size);
+        Page<PlannedItemDTO> plannedItems = plannedItemService.getPlannedItemsByClassificationCategory(category, pageable);
+        
+        return ResponseEntity.ok(plannedItems);
+    }
+
     // ========== BUDGET MODIFICATION STATUS ENDPOINTS ==========
 
     /**
@@ -0,0 +1,66 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetModificationSnapshotDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.business.plan.model.BudgetModificationSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * BudgetModificationSnapshot Data Transfer Object (read-only)
+ * Maps exactly to BudgetModificationSnapshot model fields: F_01=budgetYear, F_02=budgetModificationId, F_03=object,
+ * F_04=description, F_05=approvalDate, F_06=demandeId, F_07=responseId, F_08=plannedItemCount, F_09=allocatedAmount,
+ * F_10=totalPlannedCost
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BudgetModificationSnapshotDTO {
+
+    private String budgetYear; // F_01
+    private Long budgetModificationId; // F_02
+    private String object; // F_03
+    private String description; // F_04
+    private Date approvalDate; // F_05
+    private Long demandeId; // F_06
+    private Long responseId; // F_07
+    private Long plannedItemCount; // F_08 - planned items of the year under this modification
+    private Double allocatedAmount; // F_09
+    private Double totalPlannedCost; // F_10
+
+    public static BudgetModificationSnapshotDTO fromEntity(BudgetModificationSnapshot snapshot) {
+        if (snapshot == null) return null;
+
+        return BudgetModificationSnapshotDTO.builder()
+                .budgetYear(snapshot.getBudgetYear())
+                .budgetModificationId(snapshot.getBudgetModificationId())
+                .object(snapshot.getObject())
+                .description(snapshot.getDescription())
+                .approvalDate(snapshot.getApprovalDate())
+                .demandeId(snapshot.getDemandeId())
+                .responseId(snapshot.getResponseId())
+                .plannedItemCount(snapshot.getPlannedItemCount())
+                .allocatedAmount(snapshot.getAllocatedAmount())
+                .totalPlannedCost(snapshot.getTotalPlannedCost())
+                .build();
+    }
+}
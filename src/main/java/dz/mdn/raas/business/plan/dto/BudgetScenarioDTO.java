@@ -0,0 +1,65 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetScenarioDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Budget Scenario Data Transfer Object
+ * Proposed changes to the planned items of one financial operation, simulated or committed as a whole.
+ * Unset values are left unchanged; on commit the changed planned items are linked to the budget modification, if given.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BudgetScenarioDTO {
+
+    @NotNull(message = "Financial operation is required")
+    private Long financialOperationId;
+
+    private Long budgetModificationId; // Optional
+
+    @Valid
+    @NotEmpty(message = "At least one change is required")
+    @Size(max = 10000, message = "A scenario cannot change more than 10000 planned items")
+    private List<Change> changes;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Change {
+
+        @NotNull(message = "Planned item is required")
+        private Long plannedItemId;
+
+        private Double unitairCost;
+        private Double planedQuantity;
+        private Double allocatedAmount;
+    }
+}
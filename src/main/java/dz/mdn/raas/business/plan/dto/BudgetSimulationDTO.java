@@ -0,0 +1,88 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetSimulationDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Budget Simulation Data Transfer Object
+ * Effect of a budget scenario on a financial operation: totals before and after, and the before/after values
+ * of every changed planned item. Over/under budget and well-budgeted (within 10%) follow the planned item views;
+ * a quota violation is a planned quantity below the quantity already distributed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BudgetSimulationDTO {
+
+    private Long financialOperationId;
+    private Long budgetModificationId;
+    private Boolean valid; // No quota violation after the changes
+    private Boolean committed;
+
+    private Totals before;
+    private Totals after;
+    private List<Diff> changes;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Totals {
+        private Integer plannedItemCount;
+        private Double totalPlannedCost;
+        private Double allocatedAmount;
+        private Double allocationBalance; // Allocated amount minus planned cost
+        private Integer overBudgetCount;
+        private Integer underBudgetCount;
+        private Integer wellBudgetedCount;
+        private Integer quotaViolationCount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Diff {
+        private Long plannedItemId;
+        private String designation;
+        private Double distributedQuantity;
+        private Values before;
+        private Values after;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Values {
+        private Double unitairCost;
+        private Double planedQuantity;
+        private Double allocatedAmount;
+        private Double totalCost;
+        private Boolean overBudget;
+        private Boolean underBudget;
+        private Boolean wellBudgeted;
+        private Boolean quotaViolation;
+    }
+}
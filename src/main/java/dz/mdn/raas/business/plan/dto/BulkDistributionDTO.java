@@ -0,0 +1,90 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BulkDistributionDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Distribution Data Transfer Object
+ * Split of one planned item across many structures in a single request:
+ * - EXPLICIT: each line carries its quantity
+ * - WEIGHTED: totalQuantity is shared in proportion to the line weights
+ * - EVEN: totalQuantity is shared equally between the lines
+ * Computed shares are rounded to {@code precision} decimals (whole units by default) and the rounding
+ * remainder is assigned according to {@code remainderPolicy}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkDistributionDTO {
+
+    public enum Mode { EXPLICIT, WEIGHTED, EVEN }
+
+    public enum RemainderPolicy {
+        LARGEST_REMAINDER, // Units go to the lines with the largest rounded-off fractions (default)
+        FIRST, // Units go to the first lines
+        LAST, // Units go to the last lines
+        REJECT // The total must split exactly
+    }
+
+    @NotNull(message = "Mode is required")
+    private Mode mode;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Total quantity must be positive")
+    private Float totalQuantity; // WEIGHTED and EVEN only, defaults to the remaining quota of the planned item
+
+    private RemainderPolicy remainderPolicy;
+
+    @Min(value = 0, message = "Precision cannot be negative")
+    @Max(value = 3, message = "Precision cannot exceed 3 decimals")
+    private Integer precision;
+
+    @Valid
+    @NotEmpty(message = "At least one structure is required")
+    @Size(max = 1000, message = "Cannot distribute to more than 1000 structures at once")
+    private List<Line> lines;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Line {
+
+        @NotNull(message = "Structure is required")
+        private Long structureId;
+
+        @DecimalMin(value = "0.0", inclusive = false, message = "Quantity must be positive")
+        private Float quantity; // EXPLICIT only
+
+        @DecimalMin(value = "0.0", inclusive = false, message = "Weight must be positive")
+        private Double weight; // WEIGHTED only
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BulkDistributionResultDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk Distribution Result Data Transfer Object
+ * Compact summary of a bulk distribution: totals and one [structureId, quantity, distributionId] entry per line
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkDistributionResultDTO {
+
+    private Long plannedItemId;
+    private Integer distributionCount;
+    private Double totalQuantity;
+    private Double remainingQuota; // Null when the planned quantity is not enforced
+
+    private List<Allocation> allocations;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Allocation {
+        private Long structureId;
+        private Float quantity;
+        private Long distributionId;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: CatalogTreeDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Catalog Tree Data Transfer Object
+ * The whole Domain → Rubric → Item catalog, for item pickers: domains hold their rubrics, rubrics their items.
+ * Only the ids and designations are sent, missing designations and empty children are left out.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogTreeDTO {
+
+    private Integer domainCount;
+    private Integer rubricCount;
+    private Integer itemCount;
+
+    private List<Node> domains;
+
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class Node {
+        private Long id;
+        private String designationFr;
+        private String designationEn;
+        private String designationAr;
+        private List<Node> children = new ArrayList<>();
+
+        public Node(Long id, String designationFr, String designationEn, String designationAr) {
+            this.id = id;
+            this.designationFr = designationFr;
+            this.designationEn = designationEn;
+            this.designationAr = designationAr;
+        }
+    }
+}
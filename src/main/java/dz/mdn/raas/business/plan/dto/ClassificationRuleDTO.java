@@ -0,0 +1,111 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClassificationRuleDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.business.plan.model.ClassificationCondition;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ClassificationRule Data Transfer Object
+ * Maps exactly to ClassificationRule model fields: F_00=id, F_01=target, F_02=evaluationOrder, F_03=designation,
+ * F_04=priority, F_05=category, F_06=active, with its conditions (all must match)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClassificationRuleDTO {
+
+    private Long id; // F_00
+
+    @NotNull(message = "Target is required")
+    private ClassificationRule.Target target; // F_01
+
+    private Integer evaluationOrder; // F_02 - defaults to 0
+
+    @NotBlank(message = "Designation is required")
+    @Size(max = 200, message = "Designation must not exceed 200 characters")
+    private String designation; // F_03
+
+    private ClassificationRule.Priority priority; // F_04 - optional, priority or category is required
+
+    @Size(max = 50, message = "Category must not exceed 50 characters")
+    private String category; // F_05 - optional
+
+    private Boolean active; // F_06 - defaults to true
+
+    @Valid
+    @NotEmpty(message = "At least one condition is required")
+    @Size(max = 20, message = "A rule cannot have more than 20 conditions")
+    private List<Condition> conditions;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Condition {
+
+        @NotNull(message = "Condition type is required")
+        private ClassificationCondition.Type type;
+
+        private ClassificationCondition.Measure measure; // AMOUNT and RATIO only
+
+        @Size(max = 200, message = "Keyword must not exceed 200 characters")
+        private String keyword; // KEYWORD only, alternatives separated by '|'
+
+        private Double threshold; // AMOUNT and RATIO only, exclusive
+
+        public static Condition fromEntity(ClassificationCondition condition) {
+            return Condition.builder()
+                    .type(condition.getType())
+                    .measure(condition.getMeasure())
+                    .keyword(condition.getKeyword())
+                    .threshold(condition.getThreshold())
+                    .build();
+        }
+    }
+
+    /**
+     * Create DTO from entity
+     */
+    public static ClassificationRuleDTO fromEntity(ClassificationRule rule) {
+        if (rule == null) return null;
+
+        return ClassificationRuleDTO.builder()
+                .id(rule.getId())
+                .target(rule.getTarget())
+                .evaluationOrder(rule.getEvaluationOrder())
+                .designation(rule.getDesignation())
+                .priority(rule.getPriority())
+                .category(rule.getCategory())
+                .active(rule.isActive())
+                .conditions(rule.getConditions().stream().map(Condition::fromEntity).toList())
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClosedBudgetYearDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.business.plan.model.ClosedBudgetYear;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ClosedBudgetYear Data Transfer Object (read-only)
+ * Maps exactly to ClosedBudgetYear model fields: F_00=id, F_01=budgetYear, F_02=closedAt, F_03=plannedItemCount,
+ * F_04=distributionCount, F_05=budgetModificationCount, F_06=retainedPlannedItemCount, F_07=allocatedAmount, F_08=totalPlannedCost
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClosedBudgetYearDTO {
+
+    private Long id; // F_00
+    private String budgetYear; // F_01
+    private Date closedAt; // F_02
+    private Long plannedItemCount; // F_03
+    private Long distributionCount; // F_04
+    private Long budgetModificationCount; // F_05
+    private Long retainedPlannedItemCount; // F_06 - still live, linked to a contract or consultation
+    private Double allocatedAmount; // F_07
+    private Double totalPlannedCost; // F_08
+
+    public static ClosedBudgetYearDTO fromEntity(ClosedBudgetYear closedBudgetYear) {
+        if (closedBudgetYear == null) return null;
+
+        return ClosedBudgetYearDTO.builder()
+                .id(closedBudgetYear.getId())
+                .budgetYear(closedBudgetYear.getBudgetYear())
+                .closedAt(closedBudgetYear.getClosedAt())
+                .plannedItemCount(closedBudgetYear.getPlannedItemCount())
+                .distributionCount(closedBudgetYear.getDistributionCount())
+                .budgetModificationCount(closedBudgetYear.getBudgetModificationCount())
+                .retainedPlannedItemCount(closedBudgetYear.getRetainedPlannedItemCount())
+                .allocatedAmount(closedBudgetYear.getAllocatedAmount())
+                .totalPlannedCost(closedBudgetYear.getTotalPlannedCost())
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: DistributionMatrixDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Distribution Matrix Data Transfer Object
+ * Structures (rows) by planned items (columns) of a financial operation, in a columnar encoding:
+ * each axis is a set of parallel arrays, and only the non-empty cells are listed, as parallel arrays of
+ * row index, column index, quantity and cost, ordered by row then column.
+ * Rows are ordered by structure designation, columns by planned item id; every planned item of the operation
+ * has a column, distributed or not.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DistributionMatrixDTO {
+
+    private Long financialOperationId;
+    private Long parentStructureId; // Rows rolled up to the direct children of this structure
+
+    private Axis rows;
+    private Axis columns;
+    private Cells cells;
+
+    private Double totalQuantity;
+    private Double totalCost;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Axis {
+        private long[] ids;
+        private String[] designations;
+        private String[] acronyms; // Rows only
+        private double[] unitCosts; // Columns only
+        private double[] quantities; // Totals of the row or column
+        private double[] costs;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cells {
+        private int[] rows;
+        private int[] columns;
+        private double[] quantities;
+        private double[] costs;
+    }
+}
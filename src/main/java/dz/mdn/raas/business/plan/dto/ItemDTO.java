@@ -18,6 +18,9 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+import dz.mdn.raas.configuration.annotation.FieldView;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -36,6 +39,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@FieldView(name = "summary", fields = { "id", "designationAr", "designationEn", "designationFr", "rubricId", "plannedItemsCount", "displayText" })
+@FieldView(name = "reference", fields = { "id", "displayText" })
 public class ItemDTO {
 
     private Long id; // F_00
@@ -53,6 +58,9 @@ public class ItemDTO {
     @NotNull(message = "Rubric is required")
     private Long rubricId; // F_04 - Rubric foreign key (required)
 
+    private String classificationPriority; // F_05 - written by the classification rules (read-only)
+    private String classificationCategory; // F_06 - written by the classification rules (read-only)
+
     // Related entities (populated when needed)
     private RubricDTO rubric; // Many-to-one relationship
     private List<PlannedItemDTO> plannedItems; // One-to-many relationship
@@ -70,7 +78,9 @@ public class ItemDTO {
                 .id(item.getId())
                 .designationAr(item.getDesignationAr())
                 .designationEn(item.getDesignationEn())
-                .designationFr(item.getDesignationFr());
+                .designationFr(item.getDesignationFr())
+                .classificationPriority(ClassificationRule.Priority.of(item.getClassificationPriority()).name())
+                .classificationCategory(item.getClassificationCategory());
 
         // Handle foreign key relationship
         if (item.getRubric() != null) {
@@ -20,6 +20,7 @@ import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import dz.mdn.raas.business.plan.model.ClassificationRule;
 import dz.mdn.raas.common.administration.dto.StructureDTO;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
@@ -51,6 +52,11 @@ public class ItemDistributionDTO {
     @NotNull(message = "Structure is required")
     private Long structureId; // F_03 - Structure foreign key (required)
 
+    private String classificationPriority; // F_04 - written by the classification rules (read-only)
+    private String classificationCategory; // F_05 - written by the classification rules (read-only)
+
+    private Double remainingQuota; // Undistributed planned quantity after a write, null when not enforced (read-only)
+
     // Related entities (populated when needed)
     private PlannedItemDTO plannedItem; // Many-to-one relationship
     private StructureDTO structure; // Many-to-one relationship
@@ -63,7 +69,9 @@ public class ItemDistributionDTO {
         
         ItemDistributionDTO.ItemDistributionDTOBuilder builder = ItemDistributionDTO.builder()
                 .id(itemDistribution.getId())
-                .quantity(itemDistribution.getQuantity());
+                .quantity(itemDistribution.getQuantity())
+                .classificationPriority(ClassificationRule.Priority.of(itemDistribution.getClassificationPriority()).name())
+                .classificationCategory(itemDistribution.getClassificationCategory());
 
         // Handle foreign key relationships
         if (itemDistribution.getPlannedItem() != null) {
@@ -0,0 +1,41 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ItemDistributionListDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ItemDistribution list view projection
+ * Built by a JPQL constructor expression in ItemDistributionRepository.findListView: only the columns shown
+ * in list pages are selected and no ItemDistribution entity is loaded. Field order is the constructor order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemDistributionListDTO {
+
+    private Long id; // F_00
+    private float quantity; // F_01
+    private Long plannedItemId; // F_02
+    private String plannedItemDesignation; // PlannedItem designation
+    private double unitairCost; // PlannedItem unitairCost
+    private Long structureId; // F_03
+    private String structureDesignation; // Structure designationFr
+    private String structureAcronym; // Structure acronymFr
+}
@@ -0,0 +1,77 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ItemDistributionSnapshotDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+import dz.mdn.raas.business.plan.model.ItemDistributionSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ItemDistributionSnapshot Data Transfer Object (read-only)
+ * Item distribution of a closed budget year, as frozen by the year close (see ItemDistributionSnapshotRepository for the fields)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemDistributionSnapshotDTO {
+
+    private String budgetYear;
+    private Long itemDistributionId;
+    private Long plannedItemId;
+    private String plannedItemDesignation;
+    private Long itemId;
+    private String itemDesignationFr;
+    private Long rubricId;
+    private Long domainId;
+    private Long financialOperationId;
+    private Long structureId;
+    private String structureDesignationFr;
+    private String structureAcronymFr;
+    private Double quantity;
+    private Double unitairCost;
+    private Double totalCost;
+    private String classificationPriority;
+    private String classificationCategory;
+
+    public static ItemDistributionSnapshotDTO fromEntity(ItemDistributionSnapshot snapshot) {
+        if (snapshot == null) return null;
+
+        return ItemDistributionSnapshotDTO.builder()
+                .budgetYear(snapshot.getBudgetYear())
+                .itemDistributionId(snapshot.getItemDistributionId())
+                .plannedItemId(snapshot.getPlannedItemId())
+                .plannedItemDesignation(snapshot.getPlannedItemDesignation())
+                .itemId(snapshot.getItemId())
+                .itemDesignationFr(snapshot.getItemDesignationFr())
+                .rubricId(snapshot.getRubricId())
+                .domainId(snapshot.getDomainId())
+                .financialOperationId(snapshot.getFinancialOperationId())
+                .structureId(snapshot.getStructureId())
+                .structureDesignationFr(snapshot.getStructureDesignationFr())
+                .structureAcronymFr(snapshot.getStructureAcronymFr())
+                .quantity(snapshot.getQuantity())
+                .unitairCost(snapshot.getUnitairCost())
+                .totalCost(snapshot.getTotalCost())
+                .classificationPriority(ClassificationRule.Priority.of(snapshot.getClassificationPriority()).name())
+                .classificationCategory(snapshot.getClassificationCategory())
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanImportJobDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Plan Import Job Data Transfer Object
+ * Progress snapshot of a background CSV import of planned items or item distributions
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlanImportJobDTO {
+
+    private String jobId;
+    private String type; // PLANNED_ITEM or ITEM_DISTRIBUTION
+    private String fileName;
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private String message;
+
+    private Date startedAt;
+    private Date finishedAt;
+
+    private Long totalBytes;
+    private Long processedBytes;
+    private Long rowsRead;
+    private Long rowsImported;
+    private Long rowsRejected;
+
+    private List<RowError> errors; // First rejected rows, capped
+    private Boolean errorsTruncated;
+
+    /**
+     * Get progress percentage based on the bytes read from the file
+     */
+    public Double getProgressPercentage() {
+        if ("COMPLETED".equals(status)) {
+            return 100.0;
+        }
+        if (totalBytes == null || totalBytes == 0 || processedBytes == null) {
+            return 0.0;
+        }
+        return Math.min(100.0, Math.round(processedBytes * 1000.0 / totalBytes) / 10.0);
+    }
+
+    /**
+     * Check if job is finished
+     */
+    public boolean isFinished() {
+        return "COMPLETED".equals(status) || "FAILED".equals(status);
+    }
+
+    /**
+     * Rejected CSV row
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Long line;
+        private String message;
+    }
+}
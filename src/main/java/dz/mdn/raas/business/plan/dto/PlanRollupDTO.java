@@ -0,0 +1,88 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanRollupDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.business.plan.model.PlanYearAggregate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Plan Rollup Data Transfer Object
+ * Precomputed plan totals of one node of the plan hierarchy (domain, rubric, item, financial operation,
+ * budget type or budget year), or of the whole plan when level is TOTAL.
+ * Closed budget years are served from their snapshots, which also have STRUCTURE rows and the distributed cost.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlanRollupDTO {
+
+    private String level; // DOMAIN, RUBRIC, ITEM, FINANCIAL_OPERATION, BUDGET_TYPE, BUDGET_YEAR, STRUCTURE (closed years) or TOTAL
+    private Long id; // Null for budget years and the total
+    private String designation;
+
+    private Long plannedItemCount;
+    private Double plannedQuantity;
+    private Double allocatedAmount;
+    private Double totalPlannedCost;
+    private Double distributedQuantity;
+    private Long distributionCount;
+    private Double distributedCost; // Closed year aggregates only
+
+    /**
+     * Create DTO from a closed budget year aggregate
+     */
+    public static PlanRollupDTO fromAggregate(PlanYearAggregate aggregate) {
+        if (aggregate == null) return null;
+
+        return PlanRollupDTO.builder()
+                .level(aggregate.getLevel().name())
+                .id(aggregate.getKeyId())
+                .designation(aggregate.getDesignation())
+                .plannedItemCount(aggregate.getPlannedItemCount())
+                .plannedQuantity(aggregate.getPlannedQuantity())
+                .allocatedAmount(aggregate.getAllocatedAmount())
+                .totalPlannedCost(aggregate.getTotalPlannedCost())
+                .distributedQuantity(aggregate.getDistributedQuantity())
+                .distributionCount(aggregate.getDistributionCount())
+                .distributedCost(aggregate.getDistributedCost())
+                .build();
+    }
+
+    /**
+     * Get planned quantity not yet distributed
+     */
+    public Double getRemainingQuantity() {
+        if (plannedQuantity == null || distributedQuantity == null) {
+            return null;
+        }
+        return plannedQuantity - distributedQuantity;
+    }
+
+    /**
+     * Get allocated amount left once the planned cost is covered (negative when over budget)
+     */
+    public Double getAllocationBalance() {
+        if (allocatedAmount == null || totalPlannedCost == null) {
+            return null;
+        }
+        return allocatedAmount - totalPlannedCost;
+    }
+}
@@ -14,6 +14,7 @@
 package dz.mdn.raas.business.plan.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -64,6 +65,11 @@ public class PlannedItemDTO {
 
     private Long budgetModificationId; // F_08 - BudgetModification foreign key (optional)
 
+    private Double distributedQuantity; // F_09 - maintained distribution counter (read-only)
+
+    private String classificationPriority; // F_10 - written by the classification rules (read-only)
+    private String classificationCategory; // F_11 - written by the classification rules (read-only)
+
     // Related entities (populated when needed)
     private ItemStatusDTO itemStatus; // Many-to-one relationship
     private ItemDTO item; // Many-to-one relationship
@@ -85,7 +91,10 @@ public class PlannedItemDTO {
                 .designation(plannedItem.getDesignation())
                 .unitairCost(plannedItem.getUnitairCost())
                 .planedQuantity(plannedItem.getPlanedQuantity())
-                .allocatedAmount(plannedItem.getAllocatedAmount());
+                .allocatedAmount(plannedItem.getAllocatedAmount())
+                .distributedQuantity(plannedItem.getDistributedQuantity())
+                .classificationPriority(ClassificationRule.Priority.of(plannedItem.getClassificationPriority()).name())
+                .classificationCategory(plannedItem.getClassificationCategory());
 
         // Handle foreign key relationships
         if (plannedItem.getItemStatus() != null) {
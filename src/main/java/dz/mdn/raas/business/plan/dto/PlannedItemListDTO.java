@@ -0,0 +1,46 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlannedItemListDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PlannedItem list view projection
+ * Built by a JPQL constructor expression in PlannedItemRepository.findListView: only the columns shown
+ * in list pages are selected and no PlannedItem entity is loaded. Field order is the constructor order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlannedItemListDTO {
+
+    private Long id; // F_00
+    private String designation; // F_01
+    private double unitairCost; // F_02
+    private double planedQuantity; // F_03
+    private double allocatedAmount; // F_04
+    private Long itemStatusId; // F_05
+    private String itemStatusDesignation; // ItemStatus designationFr
+    private Long itemId; // F_06
+    private String itemDesignation; // Item designationFr
+    private Long financialOperationId; // F_07
+    private String financialOperation; // FinancialOperation operation
+    private String budgetYear; // FinancialOperation budgetYear
+    private Long itemDistributionsCount; // Number of distributions
+}
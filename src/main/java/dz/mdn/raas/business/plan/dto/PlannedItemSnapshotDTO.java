@@ -0,0 +1,93 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlannedItemSnapshotDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+import dz.mdn.raas.business.plan.model.PlannedItemSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * PlannedItemSnapshot Data Transfer Object (read-only)
+ * Planned item of a closed budget year, as frozen by the year close (see PlannedItemSnapshotRepository for the fields)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlannedItemSnapshotDTO {
+
+    private String budgetYear;
+    private Long plannedItemId;
+    private String designation;
+    private Double unitairCost;
+    private Double planedQuantity;
+    private Double allocatedAmount;
+    private Double totalPlannedCost;
+    private Double distributedQuantity;
+    private Long distributionCount;
+
+    private Long itemId;
+    private String itemDesignationFr;
+    private Long rubricId;
+    private String rubricDesignationFr;
+    private Long domainId;
+    private String domainDesignationFr;
+    private Long financialOperationId;
+    private String financialOperation;
+    private Long budgetTypeId;
+    private String budgetTypeDesignationFr;
+    private Long itemStatusId;
+    private String itemStatusDesignationFr;
+    private Long budgetModificationId;
+
+    private String classificationPriority;
+    private String classificationCategory;
+
+    public static PlannedItemSnapshotDTO fromEntity(PlannedItemSnapshot snapshot) {
+        if (snapshot == null) return null;
+
+        return PlannedItemSnapshotDTO.builder()
+                .budgetYear(snapshot.getBudgetYear())
+                .plannedItemId(snapshot.getPlannedItemId())
+                .designation(snapshot.getDesignation())
+                .unitairCost(snapshot.getUnitairCost())
+                .planedQuantity(snapshot.getPlanedQuantity())
+                .allocatedAmount(snapshot.getAllocatedAmount())
+                .totalPlannedCost(snapshot.getTotalPlannedCost())
+                .distributedQuantity(snapshot.getDistributedQuantity())
+                .distributionCount(snapshot.getDistributionCount())
+                .itemId(snapshot.getItemId())
+                .itemDesignationFr(snapshot.getItemDesignationFr())
+                .rubricId(snapshot.getRubricId())
+                .rubricDesignationFr(snapshot.getRubricDesignationFr())
+                .domainId(snapshot.getDomainId())
+                .domainDesignationFr(snapshot.getDomainDesignationFr())
+                .financialOperationId(snapshot.getFinancialOperationId())
+                .financialOperation(snapshot.getFinancialOperation())
+                .budgetTypeId(snapshot.getBudgetTypeId())
+                .budgetTypeDesignationFr(snapshot.getBudgetTypeDesignationFr())
+                .itemStatusId(snapshot.getItemStatusId())
+                .itemStatusDesignationFr(snapshot.getItemStatusDesignationFr())
+                .budgetModificationId(snapshot.getBudgetModificationId())
+                .classificationPriority(ClassificationRule.Priority.of(snapshot.getClassificationPriority()).name())
+                .classificationCategory(snapshot.getClassificationCategory())
+                .build();
+    }
+}
@@ -14,6 +14,7 @@
 package dz.mdn.raas.business.plan.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import dz.mdn.raas.configuration.annotation.FieldView;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,6 +34,8 @@ import java.util.ArrayList;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@FieldView(name = "summary", fields = { "id", "designationAr", "designationEn", "designationFr", "domainId", "itemsCount", "displayText" })
+@FieldView(name = "reference", fields = { "id", "displayText" })
 public class RubricDTO {
 
     private Long id; // F_00
@@ -0,0 +1,74 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetModificationSnapshot
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Read-only copy of a budget modification referenced by the planned items of a closed budget year, with the totals
+ * of those planned items. Budget modifications carry no year: one spanning several years has one snapshot per year.
+ * Documents are plain ids, they are not removed when the live modification is.
+ */
+@Setter
+@Getter
+@Entity(name="BudgetModificationSnapshot")
+@Table(name="T_02_02_16", uniqueConstraints = { @UniqueConstraint(name="T_02_02_16_UK_01", columnNames={"F_01", "F_02"}) })
+public class BudgetModificationSnapshot {
+
+	@Id
+	@Column(name="F_00")
+	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name="F_01", length=4, nullable=false)
+	private String budgetYear;
+
+	@Column(name="F_02", nullable=false)
+	private Long budgetModificationId;
+
+	@Column(name="F_03", length=200)
+	private String object;
+
+	@Column(name="F_04", length=500)
+	private String description;
+
+	@Column(name="F_05")
+	private Date approvalDate;
+
+	@Column(name="F_06")
+	private Long demandeId;
+
+	@Column(name="F_07")
+	private Long responseId;
+
+	@Column(name="F_08", nullable=false)
+	private long plannedItemCount;
+
+	@Column(name="F_09", nullable=false)
+	private double allocatedAmount;
+
+	@Column(name="F_10", nullable=false)
+	private double totalPlannedCost;
+
+}
@@ -0,0 +1,70 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClassificationCondition
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Condition of a classification rule:
+ * - KEYWORD: one of the '|' separated keywords appears in the designations (case insensitive)
+ * - AMOUNT: the measure is greater than the threshold
+ * - RATIO: the measure ratio is greater than the threshold (OVERRUN: (total cost - allocated amount) / allocated amount,
+ *   SHARE: distributed quantity / planned quantity)
+ */
+@Setter
+@Getter
+@Entity(name="ClassificationCondition")
+@Table(name="T_02_02_12")
+public class ClassificationCondition {
+
+	public enum Type { KEYWORD, AMOUNT, RATIO }
+
+	public enum Measure { QUANTITY, UNIT_COST, TOTAL_COST, ALLOCATED_AMOUNT, OVERRUN, SHARE }
+	
+	@Id
+	@Column(name="F_00")
+  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name="F_01", length=20, nullable=false)
+	private Type type;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name="F_02", length=30)
+	private Measure measure;
+	
+	@Column(name="F_03", length=200)
+	private String keyword;
+	
+	@Column(name="F_04")
+	private Double threshold;
+	
+	@ManyToOne
+    @JoinColumn(name="F_05", foreignKey=@ForeignKey(name="T_02_02_12_FK_01"), nullable=false)
+    private ClassificationRule rule;
+
+}
@@ -0,0 +1,85 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClassificationRule
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Classification rule of items, planned items or item distributions, evaluated by ClassificationService
+ * when they are written. A rule matches when all its conditions match; the classified row gets the highest
+ * priority of its matching rules and the category of the first matching rule (evaluation order) that sets one.
+ */
+@Setter
+@Getter
+@Entity(name="ClassificationRule")
+@Table(name="T_02_02_11")
+public class ClassificationRule {
+
+	public enum Target { ITEM, PLANNED_ITEM, ITEM_DISTRIBUTION }
+
+	// Stored by ordinal in the classified tables, new levels are appended in increasing order
+	public enum Priority {
+		NORMAL, HIGH, URGENT, CRITICAL;
+
+		public static Priority of(int level) {
+			Priority[] levels = values();
+			return levels[Math.max(0, Math.min(level, levels.length - 1))];
+		}
+	}
+	
+	@Id
+	@Column(name="F_00")
+  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name="F_01", length=30, nullable=false)
+	private Target target;
+	
+	@Column(name="F_02", nullable=false)
+	private int evaluationOrder;
+	
+	@Column(name="F_03", length=200, nullable=false)
+	private String designation;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name="F_04", length=20)
+	private Priority priority;
+	
+	@Column(name="F_05", length=50)
+	private String category;
+	
+	@Column(name="F_06", nullable=false)
+	private boolean active;
+	
+	@OneToMany(mappedBy="rule", cascade=CascadeType.ALL, orphanRemoval=true)
+	@OrderBy("id")
+    private List<ClassificationCondition> conditions = new ArrayList<ClassificationCondition>();
+
+}
@@ -0,0 +1,69 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClosedBudgetYear
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Budget year frozen by BudgetYearService.close(): its planned items, item distributions and budget modifications
+ * were copied to the snapshot tables (T_02_02_14 to T_02_02_17) and removed from the live tables, except the planned
+ * items still linked to a contract or consultation, which stay live and read-only.
+ */
+@Setter
+@Getter
+@Entity(name="ClosedBudgetYear")
+@Table(name="T_02_02_13", uniqueConstraints = { @UniqueConstraint(name="T_02_02_13_UK_01", columnNames={"F_01"}) })
+public class ClosedBudgetYear {
+
+	@Id
+	@Column(name="F_00")
+	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name="F_01", length=4, nullable=false)
+	private String budgetYear;
+
+	@Column(name="F_02", nullable=false)
+	private Date closedAt;
+
+	@Column(name="F_03", nullable=false)
+	private long plannedItemCount;
+
+	@Column(name="F_04", nullable=false)
+	private long distributionCount;
+
+	@Column(name="F_05", nullable=false)
+	private long budgetModificationCount;
+
+	// Planned items kept in the live tables because a contract or consultation still references them
+	@Column(name="F_06", nullable=false)
+	private long retainedPlannedItemCount;
+
+	@Column(name="F_07", nullable=false)
+	private double allocatedAmount;
+
+	@Column(name="F_08", nullable=false)
+	private double totalPlannedCost;
+
+}
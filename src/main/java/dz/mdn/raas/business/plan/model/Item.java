@@ -22,6 +22,7 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -32,7 +33,7 @@ import lombok.Setter;
 @Setter
 @Getter
 @Entity(name="Item")
-@Table(name="T_02_02_06")
+@Table(name="T_02_02_06", indexes = { @Index(name = "T_02_02_06_IX_01", columnList = "F_05"), @Index(name = "T_02_02_06_IX_02", columnList = "F_06") })
 public class Item {
 	
 	@Id
@@ -53,6 +54,13 @@ public class Item {
     @JoinColumn(name="F_04", foreignKey=@ForeignKey(name="T_02_02_06_FK_01"), nullable=false)
     private Rubric rubric;
 	
+	// Written by ClassificationService (ClassificationRule.Priority ordinal and category)
+	@Column(name="F_05", nullable=false)
+	private int classificationPriority;
+	
+	@Column(name="F_06", length=50)
+	private String classificationCategory;
+	
 	@OneToMany(mappedBy="item")
     private Set<PlannedItem> plannedItems = new HashSet<PlannedItem>();
 
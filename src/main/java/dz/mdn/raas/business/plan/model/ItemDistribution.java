@@ -20,21 +20,24 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.Setter;
 
 @Setter
 @Getter
 @Entity(name="ItemDistribution")
-@Table(name="T_02_02_09")
+@Table(name="T_02_02_09", indexes = { @Index(name = "T_02_02_09_IX_01", columnList = "F_04"), @Index(name = "T_02_02_09_IX_02", columnList = "F_05") })
 public class ItemDistribution {
 	
 	@Id
 	@Column(name="F_00")
-  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+  	@GeneratedValue(strategy=GenerationType.TABLE, generator="T_02_02_09_ID")
+	@TableGenerator(name="T_02_02_09_ID", table="T_00_00_00", pkColumnName="F_01", valueColumnName="F_02", pkColumnValue="T_02_02_09", allocationSize=50)
 	private Long id;
 	
 	@Column(name="F_01")
@@ -47,5 +50,12 @@ public class ItemDistribution {
 	@ManyToOne
     @JoinColumn(name="F_03", foreignKey=@ForeignKey(name="T_02_02_09_FK_02"), nullable=false)
     private Structure structure;
+	
+	// Written by ClassificationService (ClassificationRule.Priority ordinal and category)
+	@Column(name="F_04", nullable=false)
+	private int classificationPriority;
+	
+	@Column(name="F_05", length=50)
+	private String classificationCategory;
 
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ItemDistributionSnapshot
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Read-only copy of an item distribution of a closed budget year, written once by BudgetYearService.close(),
+ * with its planned item, item hierarchy and structure flattened in. References are plain ids.
+ */
+@Setter
+@Getter
+@Entity(name="ItemDistributionSnapshot")
+@Table(name="T_02_02_15", uniqueConstraints = { @UniqueConstraint(name="T_02_02_15_UK_01", columnNames={"F_02"}) },
+	indexes = { @Index(name = "T_02_02_15_IX_01", columnList = "F_01, F_10"), @Index(name = "T_02_02_15_IX_02", columnList = "F_01, F_03"),
+				@Index(name = "T_02_02_15_IX_03", columnList = "F_01, F_05") })
+public class ItemDistributionSnapshot {
+
+	@Id
+	@Column(name="F_00")
+	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name="F_01", length=4, nullable=false)
+	private String budgetYear;
+
+	@Column(name="F_02", nullable=false)
+	private Long itemDistributionId;
+
+	@Column(name="F_03", nullable=false)
+	private Long plannedItemId;
+
+	@Column(name="F_04", length=200, nullable=false)
+	private String plannedItemDesignation;
+
+	@Column(name="F_05", nullable=false)
+	private Long itemId;
+
+	@Column(name="F_06", length=200, nullable=false)
+	private String itemDesignationFr;
+
+	@Column(name="F_07", nullable=false)
+	private Long rubricId;
+
+	@Column(name="F_08", nullable=false)
+	private Long domainId;
+
+	@Column(name="F_09", nullable=false)
+	private Long financialOperationId;
+
+	@Column(name="F_10", nullable=false)
+	private Long structureId;
+
+	@Column(name="F_11", length=200, nullable=false)
+	private String structureDesignationFr;
+
+	@Column(name="F_12", length=20, nullable=false)
+	private String structureAcronymFr;
+
+	@Column(name="F_13", nullable=false)
+	private double quantity;
+
+	@Column(name="F_14", nullable=false)
+	private double unitairCost;
+
+	@Column(name="F_15", nullable=false)
+	private double totalCost;
+
+	@Column(name="F_16", nullable=false)
+	private int classificationPriority;
+
+	@Column(name="F_17", length=50)
+	private String classificationCategory;
+
+}
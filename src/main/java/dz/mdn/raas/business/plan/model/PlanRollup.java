@@ -0,0 +1,67 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanRollup
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Precomputed plan totals of one (item, financial operation) cell, maintained by PlanRollupService
+ * on planned item and item distribution writes. Upper levels (rubric, domain, budget type, budget year)
+ * are summed from these cells, which are far fewer than planned items and distributions.
+ * Item and financial operation are plain ids: the table is derived data and can be rebuilt at any time.
+ */
+@Setter
+@Getter
+@Entity(name="PlanRollup")
+@Table(name="T_02_02_10", uniqueConstraints = { @UniqueConstraint(name="T_02_02_10_UK_01", columnNames={"F_01", "F_02"}) })
+public class PlanRollup {
+
+	@Id
+	@Column(name="F_00")
+	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name="F_01", nullable=false)
+	private Long itemId;
+
+	@Column(name="F_02", nullable=false)
+	private Long financialOperationId;
+
+	@Column(name="F_03", nullable=false)
+	private long plannedItemCount;
+
+	@Column(name="F_04", nullable=false)
+	private double plannedQuantity;
+
+	@Column(name="F_05", nullable=false)
+	private double allocatedAmount;
+
+	@Column(name="F_06", nullable=false)
+	private double totalPlannedCost;
+
+	@Column(name="F_07", nullable=false)
+	private double distributedQuantity;
+
+	@Column(name="F_08", nullable=false)
+	private long distributionCount;
+
+}
@@ -0,0 +1,80 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanYearAggregate
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Plan totals of a closed budget year per domain, rubric, item, financial operation, budget type and structure,
+ * plus the year total, computed once from the snapshots when the year is closed. Key is null for the total.
+ * Structure rows only carry distribution sums (plannedItemCount = distinct planned items distributed to it).
+ */
+@Setter
+@Getter
+@Entity(name="PlanYearAggregate")
+@Table(name="T_02_02_17", indexes = { @Index(name = "T_02_02_17_IX_01", columnList = "F_01, F_02") })
+public class PlanYearAggregate {
+
+	public enum Level { DOMAIN, RUBRIC, ITEM, FINANCIAL_OPERATION, BUDGET_TYPE, STRUCTURE, TOTAL }
+
+	@Id
+	@Column(name="F_00")
+	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name="F_01", length=4, nullable=false)
+	private String budgetYear;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name="F_02", length=30, nullable=false)
+	private Level level;
+
+	@Column(name="F_03")
+	private Long keyId;
+
+	@Column(name="F_04", length=200)
+	private String designation;
+
+	@Column(name="F_05", nullable=false)
+	private long plannedItemCount;
+
+	@Column(name="F_06", nullable=false)
+	private double plannedQuantity;
+
+	@Column(name="F_07", nullable=false)
+	private double allocatedAmount;
+
+	@Column(name="F_08", nullable=false)
+	private double totalPlannedCost;
+
+	@Column(name="F_09", nullable=false)
+	private double distributedQuantity;
+
+	@Column(name="F_10", nullable=false)
+	private long distributionCount;
+
+	@Column(name="F_11", nullable=false)
+	private double distributedCost;
+
+}
@@ -21,22 +21,25 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.Setter;
 
 @Setter
 @Getter
 @Entity(name="PlannedItem")
-@Table(name="T_02_02_08")
+@Table(name="T_02_02_08", indexes = { @Index(name = "T_02_02_08_IX_01", columnList = "F_10"), @Index(name = "T_02_02_08_IX_02", columnList = "F_11") })
 public class PlannedItem {
 	
 	@Id
 	@Column(name="F_00")
-  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+  	@GeneratedValue(strategy=GenerationType.TABLE, generator="T_02_02_08_ID")
+	@TableGenerator(name="T_02_02_08_ID", table="T_00_00_00", pkColumnName="F_01", valueColumnName="F_02", pkColumnValue="T_02_02_08", allocationSize=50)
 	private Long id;
 	
 	@Column(name="F_01", length=200, nullable=false)
@@ -67,6 +70,17 @@ public class PlannedItem {
     @JoinColumn(name="F_08", foreignKey=@ForeignKey(name="T_02_02_08_FK_04_"), nullable=true)
     private BudgetModification budgetModification;
 	
+	// Maintained by atomic conditional updates (PlannedItemRepository.reserveDistributionQuota), never written from the entity
+	@Column(name="F_09", nullable=false, updatable=false)
+	private double distributedQuantity;
+	
+	// Written by ClassificationService (ClassificationRule.Priority ordinal and category)
+	@Column(name="F_10", nullable=false)
+	private int classificationPriority;
+	
+	@Column(name="F_11", length=50)
+	private String classificationCategory;
+	
 	@OneToMany(mappedBy="plannedItem")
     private List<ItemDistribution> itemDistribution;
 
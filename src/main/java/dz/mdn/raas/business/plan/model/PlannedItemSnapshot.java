@@ -0,0 +1,117 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlannedItemSnapshot
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Read-only copy of a planned item of a closed budget year, written once by BudgetYearService.close().
+ * Item, rubric, domain, financial operation, budget type and status are flattened in (ids and French designations),
+ * so historical queries read this table alone. References are plain ids: the live rows may be gone.
+ */
+@Setter
+@Getter
+@Entity(name="PlannedItemSnapshot")
+@Table(name="T_02_02_14", uniqueConstraints = { @UniqueConstraint(name="T_02_02_14_UK_01", columnNames={"F_02"}) },
+	indexes = { @Index(name = "T_02_02_14_IX_01", columnList = "F_01, F_13"), @Index(name = "T_02_02_14_IX_02", columnList = "F_01, F_09"),
+				@Index(name = "T_02_02_14_IX_03", columnList = "F_01, F_15") })
+public class PlannedItemSnapshot {
+
+	@Id
+	@Column(name="F_00")
+	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name="F_01", length=4, nullable=false)
+	private String budgetYear;
+
+	@Column(name="F_02", nullable=false)
+	private Long plannedItemId;
+
+	@Column(name="F_03", length=200, nullable=false)
+	private String designation;
+
+	@Column(name="F_04", nullable=false)
+	private double unitairCost;
+
+	@Column(name="F_05", nullable=false)
+	private double planedQuantity;
+
+	@Column(name="F_06", nullable=false)
+	private double allocatedAmount;
+
+	@Column(name="F_07", nullable=false)
+	private double totalPlannedCost;
+
+	@Column(name="F_08", nullable=false)
+	private double distributedQuantity;
+
+	@Column(name="F_09", nullable=false)
+	private Long itemId;
+
+	@Column(name="F_10", length=200, nullable=false)
+	private String itemDesignationFr;
+
+	@Column(name="F_11", nullable=false)
+	private Long rubricId;
+
+	@Column(name="F_12", length=200, nullable=false)
+	private String rubricDesignationFr;
+
+	@Column(name="F_13", nullable=false)
+	private Long domainId;
+
+	@Column(name="F_14", length=200, nullable=false)
+	private String domainDesignationFr;
+
+	@Column(name="F_15", nullable=false)
+	private Long financialOperationId;
+
+	@Column(name="F_16", length=200, nullable=false)
+	private String financialOperation;
+
+	@Column(name="F_17", nullable=false)
+	private Long budgetTypeId;
+
+	@Column(name="F_18", length=200, nullable=false)
+	private String budgetTypeDesignationFr;
+
+	@Column(name="F_19", nullable=false)
+	private Long itemStatusId;
+
+	@Column(name="F_20", length=200, nullable=false)
+	private String itemStatusDesignationFr;
+
+	@Column(name="F_21")
+	private Long budgetModificationId;
+
+	@Column(name="F_22", nullable=false)
+	private int classificationPriority;
+
+	@Column(name="F_23", length=50)
+	private String classificationCategory;
+
+	@Column(name="F_24", nullable=false)
+	private long distributionCount;
+
+}
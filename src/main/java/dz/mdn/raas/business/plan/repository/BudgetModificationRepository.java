@@ -15,10 +15,12 @@ package dz.mdn.raas.business.plan.repository;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -346,4 +348,19 @@ public interface BudgetModificationRepository extends JpaRepository<BudgetModifi
            "(b.description IS NULL OR b.description = '') " +
            "ORDER BY b.id DESC")
     Page<BudgetModification> findWithMissingInformation(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Get the IDs of all budget modifications (foreign key lookup for bulk imports)
+     */
+    @Query("SELECT b.id FROM BudgetModification b")
+    Set<Long> findAllIds();
+
+    /**
+     * Delete the budget modifications snapshotted with a budget year that no live planned item references anymore
+     */
+    @Modifying
+    @Query(value = "DELETE m FROM T_02_02_07 m JOIN T_02_02_16 s ON s.F_02 = m.F_00 AND s.F_01 = :budgetYear " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM T_02_02_08 p WHERE p.F_08 = m.F_00)",
+           nativeQuery = true)
+    int deleteUnreferencedOfBudgetYear(@Param("budgetYear") String budgetYear);
+}
@@ -0,0 +1,48 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetModificationSnapshotRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.plan.model.BudgetModificationSnapshot;
+
+/**
+ * BudgetModificationSnapshot Repository
+ * Based on exact field names: F_00=id, F_01=budgetYear, F_02=budgetModificationId, F_03=object, F_04=description,
+ * F_05=approvalDate, F_06=demandeId, F_07=responseId, F_08=plannedItemCount, F_09=allocatedAmount, F_10=totalPlannedCost
+ */
+@Repository
+public interface BudgetModificationSnapshotRepository extends JpaRepository<BudgetModificationSnapshot, Long> {
+
+    /**
+     * Copy the budget modifications referenced by the planned item snapshots of a budget year, with their totals.
+     * Runs after PlannedItemSnapshotRepository.insertBudgetYear.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_02_02_16 (F_01, F_02, F_03, F_04, F_05, F_06, F_07, F_08, F_09, F_10) " +
+                   "SELECT :budgetYear, m.F_00, m.F_01, m.F_02, m.F_03, m.F_04, m.F_05, COUNT(*), SUM(p.F_06), SUM(p.F_07) " +
+                   "FROM T_02_02_14 p JOIN T_02_02_07 m ON m.F_00 = p.F_21 WHERE p.F_01 = :budgetYear " +
+                   "GROUP BY m.F_00, m.F_01, m.F_02, m.F_03, m.F_04, m.F_05",
+           nativeQuery = true)
+    int insertBudgetYear(@Param("budgetYear") String budgetYear);
+
+    @Query("SELECT m FROM BudgetModificationSnapshot m WHERE m.budgetYear = :budgetYear ORDER BY m.approvalDate DESC, m.budgetModificationId DESC")
+    Page<BudgetModificationSnapshot> findByBudgetYear(@Param("budgetYear") String budgetYear, Pageable pageable);
+}
@@ -0,0 +1,43 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClassificationRuleRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+
+/**
+ * ClassificationRule Repository
+ * Based on exact field names: F_00=id, F_01=target, F_02=evaluationOrder, F_03=designation,
+ * F_04=priority, F_05=category, F_06=active; conditions in T_02_02_12
+ */
+@Repository
+public interface ClassificationRuleRepository extends JpaRepository<ClassificationRule, Long> {
+
+    /**
+     * Find every rule in evaluation order
+     */
+    @Query("SELECT r FROM ClassificationRule r ORDER BY r.target, r.evaluationOrder, r.id")
+    List<ClassificationRule> findAllInEvaluationOrder();
+
+    /**
+     * Find the active rules with their conditions in evaluation order
+     */
+    @Query("SELECT DISTINCT r FROM ClassificationRule r LEFT JOIN FETCH r.conditions WHERE r.active = true ORDER BY r.target, r.evaluationOrder, r.id")
+    List<ClassificationRule> findActiveWithConditions();
+}
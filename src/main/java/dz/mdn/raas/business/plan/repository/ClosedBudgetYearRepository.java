@@ -0,0 +1,52 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClosedBudgetYearRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.plan.model.ClosedBudgetYear;
+
+/**
+ * ClosedBudgetYear Repository
+ * Based on exact field names: F_00=id, F_01=budgetYear (unique), F_02=closedAt, F_03=plannedItemCount,
+ * F_04=distributionCount, F_05=budgetModificationCount, F_06=retainedPlannedItemCount, F_07=allocatedAmount, F_08=totalPlannedCost
+ */
+@Repository
+public interface ClosedBudgetYearRepository extends JpaRepository<ClosedBudgetYear, Long> {
+
+    boolean existsByBudgetYear(String budgetYear);
+
+    Optional<ClosedBudgetYear> findByBudgetYear(String budgetYear);
+
+    @Query("SELECT c FROM ClosedBudgetYear c ORDER BY c.budgetYear DESC")
+    List<ClosedBudgetYear> findAllOrderByBudgetYear();
+
+    /**
+     * Check whether the financial operation belongs to a closed budget year
+     */
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM ClosedBudgetYear c, FinancialOperation o WHERE o.id = :financialOperationId AND c.budgetYear = o.budgetYear")
+    boolean isFinancialOperationClosed(@Param("financialOperationId") Long financialOperationId);
+
+    /**
+     * Check whether the planned item belongs to a closed budget year (retained planned items)
+     */
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM ClosedBudgetYear c, PlannedItem p WHERE p.id = :plannedItemId AND c.budgetYear = p.financialOperation.budgetYear")
+    boolean isPlannedItemClosed(@Param("plannedItemId") Long plannedItemId);
+}
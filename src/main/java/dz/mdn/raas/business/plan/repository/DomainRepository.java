@@ -393,4 +393,19 @@ public interface DomainRepository extends JpaRepository<Domain, Long> {
      */
     @Query("SELECT MIN(SIZE(d.rubrics)) FROM Domain d WHERE SIZE(d.rubrics) > 0")
     Integer getMinRubricsCountExcludingZero();
-}
\ No newline at end of file
+
+    /**
+     * Get every domain for the catalog tree, in designation order
+     * Each row: [id, designationFr, designationEn, designationAr]
+     */
+    @Query("SELECT d.id, d.designationFr, d.designationEn, d.designationAr FROM Domain d ORDER BY d.designationFr, d.id")
+    List<Object[]> findCatalogRows();
+
+    /**
+     * Get every domain for the autocomplete index, with its usage count (rubrics)
+     * Each row: [id, designationFr, designationEn, designationAr, usageCount]
+     */
+    @Query("SELECT d.id, d.designationFr, d.designationEn, d.designationAr, COUNT(r) FROM Domain d LEFT JOIN Rubric r ON r.domain = d " +
+           "GROUP BY d.id, d.designationFr, d.designationEn, d.designationAr")
+    List<Object[]> findAutocompleteRows();
+}
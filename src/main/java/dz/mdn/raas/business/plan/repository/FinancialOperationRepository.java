@@ -23,6 +23,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Financial Operation Repository with essential CRUD operations
@@ -333,4 +334,16 @@ public interface FinancialOperationRepository extends JpaRepository<FinancialOpe
            "(:period = 'PAST' AND fo.budgetYear < :currentYear) " +
            "ORDER BY fo.budgetYear DESC, fo.operation ASC")
     Page<FinancialOperation> findByFiscalPeriod(@Param("period") String period, @Param("currentYear") String currentYear, Pageable pageable);
+
+    /**
+     * Get the IDs of all financial operations (foreign key lookup for bulk imports)
+     */
+    @Query("SELECT f.id FROM FinancialOperation f")
+    Set<Long> findAllIds();
+
+    /**
+     * Get the IDs of the financial operations of open budget years (foreign key lookup for bulk imports)
+     */
+    @Query("SELECT f.id FROM FinancialOperation f WHERE f.budgetYear NOT IN (SELECT c.budgetYear FROM ClosedBudgetYear c)")
+    Set<Long> findOpenIds();
 }
@@ -13,16 +13,25 @@
 
 package dz.mdn.raas.business.plan.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dz.mdn.raas.business.plan.dto.ItemDistributionListDTO;
 import dz.mdn.raas.business.plan.model.ItemDistribution;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import dz.mdn.raas.configuration.pagination.KeysetRepository;
+import jakarta.persistence.QueryHint;
 
 /**
  * ItemDistribution Repository with essential CRUD operations
@@ -30,7 +39,7 @@ import dz.mdn.raas.business.plan.model.ItemDistribution;
  * Includes many-to-one relationships with PlannedItem and Structure
  */
 @Repository
-public interface ItemDistributionRepository extends JpaRepository<ItemDistribution, Long> {
+public interface ItemDistributionRepository extends JpaRepository<ItemDistribution, Long>, KeysetRepository<ItemDistribution> {
 
     /**
      * Find all item distributions ordered by structure, then by planned item
@@ -129,34 +138,45 @@ public interface ItemDistributionRepository extends JpaRepository<ItemDistributi
     //Page<ItemDistribution> findByStructureLevel(@Param("level") int level, Pageable pageable);
 
     /**
-     * Find distributions by parent structure (including sub-structures)
+     * Find distributions by parent structure (including all sub-structures, through the structure closure table)
      */
-    @Query("SELECT i FROM ItemDistribution i WHERE i.structure.structureUp.id = :parentStructureId OR i.structure.id = :parentStructureId ORDER BY i.structure.designationFr ASC")
+    @Query(value = "SELECT i FROM ItemDistribution i JOIN StructureClosure c ON c.descendantId = i.structure.id WHERE c.ancestorId = :parentStructureId",
+           countQuery = "SELECT COUNT(i) FROM ItemDistribution i JOIN StructureClosure c ON c.descendantId = i.structure.id WHERE c.ancestorId = :parentStructureId")
     Page<ItemDistribution> findByParentStructure(@Param("parentStructureId") Long parentStructureId, Pageable pageable);
 
     /**
-     * Find high priority distributions (based on planned item priority)
+     * Get totals of a structure and all its sub-structures
+     * Row: [distributionCount, sumQuantity, sumTotalCost]
      */
-    @Query("SELECT i FROM ItemDistribution i WHERE " +
-           "(LOWER(i.plannedItem.item.designationFr) LIKE '%équipement%' OR " +
-           "LOWER(i.plannedItem.item.designationFr) LIKE '%infrastructure%' OR " +
-           "LOWER(i.plannedItem.item.designationEn) LIKE '%equipment%' OR " +
-           "LOWER(i.plannedItem.item.designationEn) LIKE '%infrastructure%') OR " +
-           "i.quantity > 50 " +
-           "ORDER BY i.quantity DESC")
-    Page<ItemDistribution> findHighPriorityDistributions(Pageable pageable);
+    @Query("SELECT COUNT(i), COALESCE(SUM(i.quantity), 0), COALESCE(SUM(i.quantity * p.unitairCost), 0) " +
+           "FROM ItemDistribution i JOIN i.plannedItem p JOIN StructureClosure c ON c.descendantId = i.structure.id " +
+           "WHERE c.ancestorId = :structureId")
+    List<Object[]> getSubtreeTotals(@Param("structureId") Long structureId);
 
     /**
-     * Find urgent distributions (high priority + large quantity)
+     * Get subtree totals of each direct child of a structure (children without distributions are omitted)
+     * Each row: [childStructureId, childDesignationFr, distributionCount, sumQuantity, sumTotalCost]
      */
-    @Query("SELECT i FROM ItemDistribution i WHERE " +
-           "i.quantity > 100 AND " +
-           "(LOWER(i.plannedItem.item.designationFr) LIKE '%équipement%' OR " +
-           "LOWER(i.plannedItem.item.designationFr) LIKE '%infrastructure%' OR " +
-           "LOWER(i.plannedItem.item.designationEn) LIKE '%equipment%' OR " +
-           "LOWER(i.plannedItem.item.designationEn) LIKE '%infrastructure%') " +
-           "ORDER BY i.quantity DESC")
-    Page<ItemDistribution> findUrgentDistributions(Pageable pageable);
+    @Query("SELECT child.id, child.designationFr, COUNT(i), SUM(i.quantity), SUM(i.quantity * p.unitairCost) " +
+           "FROM StructureClosure top JOIN Structure child ON child.id = top.descendantId " +
+           "JOIN StructureClosure c ON c.ancestorId = top.descendantId " +
+           "JOIN ItemDistribution i ON i.structure.id = c.descendantId JOIN i.plannedItem p " +
+           "WHERE top.ancestorId = :structureId AND top.depth = 1 " +
+           "GROUP BY child.id, child.designationFr ORDER BY child.designationFr")
+    List<Object[]> getChildSubtreeTotals(@Param("structureId") Long structureId);
+
+    /**
+     * Find distributions classified at or above a priority (ClassificationRule.Priority ordinal), largest first
+     * Serves the high priority and urgent views
+     */
+    @Query("SELECT i FROM ItemDistribution i WHERE i.classificationPriority >= :priority ORDER BY i.quantity DESC")
+    Page<ItemDistribution> findByMinimumClassificationPriority(@Param("priority") int priority, Pageable pageable);
+
+    /**
+     * Find distributions of a classification category, largest first
+     */
+    @Query("SELECT i FROM ItemDistribution i WHERE i.classificationCategory = :category ORDER BY i.quantity DESC")
+    Page<ItemDistribution> findByClassificationCategory(@Param("category") String category, Pageable pageable);
 
     /**
      * Find distributions exceeding planned quantity (potential over-distribution)
@@ -363,4 +383,101 @@ public interface ItemDistributionRepository extends JpaRepository<ItemDistributi
      */
     @Query("SELECT i.plannedItem, COUNT(i) as distributionCount FROM ItemDistribution i GROUP BY i.plannedItem ORDER BY COUNT(i) DESC")
     Page<Object[]> findTopPlannedItemsByDistributionCount(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * List view projection: only the list columns through explicit joins, no entity loading
+     */
+    @Query(value = "SELECT new dz.mdn.raas.business.plan.dto.ItemDistributionListDTO(d.id, d.quantity, p.id, p.designation, p.unitairCost, s.id, s.designationFr, s.acronymFr) " +
+                   "FROM ItemDistribution d LEFT JOIN d.plannedItem p LEFT JOIN d.structure s",
+           countQuery = "SELECT COUNT(d) FROM ItemDistribution d")
+    Page<ItemDistributionListDTO> findListView(Pageable pageable);
+
+    /**
+     * List view projection of every row for exports, read through a forward-only streaming cursor
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new dz.mdn.raas.business.plan.dto.ItemDistributionListDTO(d.id, d.quantity, p.id, p.designation, p.unitairCost, s.id, s.designationFr, s.acronymFr) " +
+           "FROM ItemDistribution d LEFT JOIN d.plannedItem p LEFT JOIN d.structure s ORDER BY d.id")
+    Stream<ItemDistributionListDTO> streamListView();
+
+    // ========== DISTRIBUTION MATRIX ==========
+
+    /**
+     * Cells of the distribution matrix of a financial operation, read through a forward-only streaming cursor
+     * Each row: [structureId, plannedItemId, quantity, unitairCost]
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT d.structure.id, p.id, d.quantity, p.unitairCost " +
+           "FROM ItemDistribution d JOIN d.plannedItem p WHERE p.financialOperation.id = :financialOperationId")
+    Stream<Object[]> streamMatrixCells(@Param("financialOperationId") Long financialOperationId);
+
+    /**
+     * Cells of the distribution matrix of a financial operation, each structure replaced by the direct child of the
+     * parent structure whose subtree holds it (through the structure closure table); distributions of the parent
+     * itself and outside its subtree are left out
+     * Each row: [childStructureId, plannedItemId, quantity, unitairCost]
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT top.descendantId, p.id, d.quantity, p.unitairCost " +
+           "FROM StructureClosure top JOIN StructureClosure c ON c.ancestorId = top.descendantId " +
+           "JOIN ItemDistribution d ON d.structure.id = c.descendantId JOIN d.plannedItem p " +
+           "WHERE top.ancestorId = :parentStructureId AND top.depth = 1 AND p.financialOperation.id = :financialOperationId")
+    Stream<Object[]> streamMatrixCellsByChildStructure(@Param("financialOperationId") Long financialOperationId,
+                                                       @Param("parentStructureId") Long parentStructureId);
+
+    // ========== CLASSIFICATION ==========
+
+    /**
+     * Classification facts of the distributions following afterId, in id order (keyset batches of a full reclassification)
+     * Row: [id, plannedItemDesignation, itemDesignationFr, itemDesignationEn, itemDesignationAr, quantity, unitairCost, allocatedAmount, planedQuantity,
+     *      classificationPriority, classificationCategory]
+     */
+    @Query("SELECT d.id, p.designation, i.designationFr, i.designationEn, i.designationAr, d.quantity, p.unitairCost, p.allocatedAmount, p.planedQuantity, " +
+           "d.classificationPriority, d.classificationCategory " +
+           "FROM ItemDistribution d JOIN d.plannedItem p JOIN p.item i WHERE d.id > :afterId ORDER BY d.id")
+    List<Object[]> findClassificationFacts(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Classification facts of the distributions of a planned item following afterId, same row as findClassificationFacts
+     */
+    @Query("SELECT d.id, p.designation, i.designationFr, i.designationEn, i.designationAr, d.quantity, p.unitairCost, p.allocatedAmount, p.planedQuantity, " +
+           "d.classificationPriority, d.classificationCategory " +
+           "FROM ItemDistribution d JOIN d.plannedItem p JOIN p.item i WHERE p.id = :plannedItemId AND d.id > :afterId ORDER BY d.id")
+    List<Object[]> findClassificationFactsByPlannedItem(@Param("plannedItemId") Long plannedItemId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Classification facts of the distributions of an item following afterId, same row as findClassificationFacts
+     */
+    @Query("SELECT d.id, p.designation, i.designationFr, i.designationEn, i.designationAr, d.quantity, p.unitairCost, p.allocatedAmount, p.planedQuantity, " +
+           "d.classificationPriority, d.classificationCategory " +
+           "FROM ItemDistribution d JOIN d.plannedItem p JOIN p.item i WHERE i.id = :itemId AND d.id > :afterId ORDER BY d.id")
+    List<Object[]> findClassificationFactsByItem(@Param("itemId") Long itemId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Classification facts of the given distributions, same row as findClassificationFacts
+     */
+    @Query("SELECT d.id, p.designation, i.designationFr, i.designationEn, i.designationAr, d.quantity, p.unitairCost, p.allocatedAmount, p.planedQuantity, " +
+           "d.classificationPriority, d.classificationCategory " +
+           "FROM ItemDistribution d JOIN d.plannedItem p JOIN p.item i WHERE d.id IN :ids")
+    List<Object[]> findClassificationFactsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Write the classification of several distributions
+     */
+    @Modifying
+    @Query("UPDATE ItemDistribution d SET d.classificationPriority = :priority, d.classificationCategory = :category WHERE d.id IN :ids")
+    int updateClassification(@Param("ids") Collection<Long> ids, @Param("priority") int priority, @Param("category") String category);
+
+    /**
+     * Delete the distributions of the planned items of a budget year that no contract or consultation references, once snapshotted
+     */
+    @Modifying
+    @Query(value = "DELETE d FROM T_02_02_09 d JOIN T_02_02_08 p ON p.F_00 = d.F_02 JOIN T_02_02_03 o ON o.F_00 = p.F_07 " +
+                   "WHERE o.F_02 = :budgetYear AND NOT " + PlannedItemRepository.LINKED,
+           nativeQuery = true)
+    int deleteBudgetYear(@Param("budgetYear") String budgetYear);
+}
@@ -0,0 +1,55 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ItemDistributionSnapshotRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.plan.model.ItemDistributionSnapshot;
+
+/**
+ * ItemDistributionSnapshot Repository
+ * Based on exact field names: F_00=id, F_01=budgetYear, F_02=itemDistributionId, F_03=plannedItemId,
+ * F_04=plannedItemDesignation, F_05=itemId, F_06=itemDesignationFr, F_07=rubricId, F_08=domainId,
+ * F_09=financialOperationId, F_10=structureId, F_11=structureDesignationFr, F_12=structureAcronymFr,
+ * F_13=quantity, F_14=unitairCost, F_15=totalCost, F_16=classificationPriority, F_17=classificationCategory
+ */
+@Repository
+public interface ItemDistributionSnapshotRepository extends JpaRepository<ItemDistributionSnapshot, Long> {
+
+    /**
+     * Copy the item distributions of a budget year with their planned item, item hierarchy and structure flattened in
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_02_02_15 (F_01, F_02, F_03, F_04, F_05, F_06, F_07, F_08, F_09, F_10, F_11, F_12, F_13, F_14, F_15, F_16, F_17) " +
+                   "SELECT o.F_02, x.F_00, p.F_00, p.F_01, i.F_00, i.F_03, r.F_00, r.F_04, o.F_00, s.F_00, s.F_03, s.F_06, " +
+                   "x.F_01, p.F_02, x.F_01 * p.F_02, x.F_04, x.F_05 " +
+                   "FROM T_02_02_09 x JOIN T_02_02_08 p ON p.F_00 = x.F_02 JOIN T_02_02_03 o ON o.F_00 = p.F_07 " +
+                   "JOIN T_02_02_06 i ON i.F_00 = p.F_06 JOIN T_02_02_05 r ON r.F_00 = i.F_04 JOIN T_01_04_07 s ON s.F_00 = x.F_03 " +
+                   "WHERE o.F_02 = :budgetYear",
+           nativeQuery = true)
+    int insertBudgetYear(@Param("budgetYear") String budgetYear);
+
+    @Query("SELECT d FROM ItemDistributionSnapshot d WHERE d.budgetYear = :budgetYear " +
+           "AND (:structureId IS NULL OR d.structureId = :structureId) AND (:itemId IS NULL OR d.itemId = :itemId) " +
+           "AND (:plannedItemId IS NULL OR d.plannedItemId = :plannedItemId)")
+    Page<ItemDistributionSnapshot> findByBudgetYear(@Param("budgetYear") String budgetYear, @Param("structureId") Long structureId,
+                                                    @Param("itemId") Long itemId, @Param("plannedItemId") Long plannedItemId,
+                                                    Pageable pageable);
+}
@@ -13,11 +13,14 @@
 
 package dz.mdn.raas.business.plan.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -364,14 +367,16 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     Page<Item> findByPriorityLevel(@Param("priority") String priority, Pageable pageable);
 
     /**
-     * Find high priority items (equipment, infrastructure)
+     * Find items classified at or above a priority (ClassificationRule.Priority ordinal)
      */
-    @Query("SELECT i FROM Item i WHERE " +
-           "LOWER(i.designationFr) LIKE '%équipement%' OR LOWER(i.designationFr) LIKE '%infrastructure%' OR " +
-           "LOWER(i.designationFr) LIKE '%ressource%' OR " +
-           "LOWER(i.designationEn) LIKE '%equipment%' OR LOWER(i.designationEn) LIKE '%infrastructure%' OR " +
-           "LOWER(i.designationEn) LIKE '%resource%'")
-    Page<Item> findHighPriorityItems(Pageable pageable);
+    @Query("SELECT i FROM Item i WHERE i.classificationPriority >= :priority")
+    Page<Item> findHighPriorityItems(@Param("priority") int priority, Pageable pageable);
+
+    /**
+     * Find items of a classification category
+     */
+    @Query("SELECT i FROM Item i WHERE i.classificationCategory = :category ORDER BY i.designationFr ASC")
+    Page<Item> findByClassificationCategory(@Param("category") String category, Pageable pageable);
 
     /**
      * Get average planned items count per item
@@ -413,11 +418,45 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     Long countByDomain(@Param("domainId") Long domainId);
 
     /**
-     * Find items requiring immediate planning (no planned items but high priority)
+     * Find items requiring immediate planning (no planned items, classified at or above a priority)
      */
-    @Query("SELECT i FROM Item i WHERE SIZE(i.plannedItems) = 0 AND " +
-           "(LOWER(i.designationFr) LIKE '%équipement%' OR LOWER(i.designationFr) LIKE '%infrastructure%' OR " +
-           "LOWER(i.designationEn) LIKE '%equipment%' OR LOWER(i.designationEn) LIKE '%infrastructure%') " +
-           "ORDER BY i.designationFr ASC")
-    Page<Item> findRequiringImmediatePlanning(Pageable pageable);
+    @Query("SELECT i FROM Item i WHERE i.classificationPriority >= :priority AND SIZE(i.plannedItems) = 0 ORDER BY i.designationFr ASC")
+    Page<Item> findRequiringImmediatePlanning(@Param("priority") int priority, Pageable pageable);
+
+    /**
+     * Get the IDs of all items (foreign key lookup for bulk imports)
+     */
+    @Query("SELECT i.id FROM Item i")
+    Set<Long> findAllIds();
+
+    // ========== CLASSIFICATION ==========
+
+    /**
+     * Classification facts of the items following afterId, in id order (keyset batches)
+     * Row: [id, designationFr, designationEn, designationAr, classificationPriority, classificationCategory]
+     */
+    @Query("SELECT i.id, i.designationFr, i.designationEn, i.designationAr, i.classificationPriority, i.classificationCategory FROM Item i WHERE i.id > :afterId ORDER BY i.id")
+    List<Object[]> findClassificationFacts(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Write the classification of several items
+     */
+    @Modifying
+    @Query("UPDATE Item i SET i.classificationPriority = :priority, i.classificationCategory = :category WHERE i.id IN :ids")
+    int updateClassification(@Param("ids") Collection<Long> ids, @Param("priority") int priority, @Param("category") String category);
+
+    /**
+     * Get every item for the catalog tree, in designation order
+     * Each row: [id, rubricId, designationFr, designationEn, designationAr]
+     */
+    @Query("SELECT i.id, i.rubric.id, i.designationFr, i.designationEn, i.designationAr FROM Item i ORDER BY i.designationFr, i.id")
+    List<Object[]> findCatalogRows();
+
+    /**
+     * Get every item for the autocomplete index, with its usage count (planned items)
+     * Each row: [id, designationFr, designationEn, designationAr, usageCount]
+     */
+    @Query("SELECT i.id, i.designationFr, i.designationEn, i.designationAr, COUNT(p) FROM Item i LEFT JOIN PlannedItem p ON p.item = i " +
+           "GROUP BY i.id, i.designationFr, i.designationEn, i.designationAr")
+    List<Object[]> findAutocompleteRows();
 }
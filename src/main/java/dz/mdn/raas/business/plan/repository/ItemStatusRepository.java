@@ -23,6 +23,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Item Status Repository with essential CRUD operations
@@ -353,4 +354,10 @@ public interface ItemStatusRepository extends JpaRepository<ItemStatus, Long> {
            "(LOWER(its.designationFr) LIKE '%actif%' OR LOWER(its.designationFr) LIKE '%disponible%' OR " +
            "LOWER(its.designationEn) LIKE '%active%' OR LOWER(its.designationEn) LIKE '%available%'))")
     Page<ItemStatus> findByPriorityLevel(@Param("priority") String priority, Pageable pageable);
+
+    /**
+     * Get the IDs of all item statuses (foreign key lookup for bulk imports)
+     */
+    @Query("SELECT i.id FROM ItemStatus i")
+    Set<Long> findAllIds();
 }
@@ -0,0 +1,137 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanRollupRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.plan.model.PlanRollup;
+
+/**
+ * PlanRollup Repository
+ * Based on exact field names: F_00=id, F_01=itemId, F_02=financialOperationId, F_03=plannedItemCount,
+ * F_04=plannedQuantity, F_05=allocatedAmount, F_06=totalPlannedCost, F_07=distributedQuantity, F_08=distributionCount
+ * (F_01, F_02) is unique: deltas are applied with a single upsert per cell.
+ *
+ * Every rollup query returns rows of
+ * [id, designation, plannedItemCount, plannedQuantity, allocatedAmount, totalPlannedCost, distributedQuantity, distributionCount]
+ * restricted by the optional domain, rubric, budget type and budget year filters (null = no restriction).
+ * Budget year rows have no id ([budgetYear, sums...]) and the total row only carries the sums.
+ */
+@Repository
+public interface PlanRollupRepository extends JpaRepository<PlanRollup, Long> {
+
+    String SUMS = "SUM(r.plannedItemCount), SUM(r.plannedQuantity), SUM(r.allocatedAmount), SUM(r.totalPlannedCost), " +
+                  "SUM(r.distributedQuantity), SUM(r.distributionCount) ";
+
+    String HIERARCHY = "FROM PlanRollup r JOIN Item i ON i.id = r.itemId JOIN i.rubric ru JOIN ru.domain d " +
+                       "JOIN FinancialOperation o ON o.id = r.financialOperationId JOIN o.budgetType bt " +
+                       "WHERE (:domainId IS NULL OR d.id = :domainId) AND (:rubricId IS NULL OR ru.id = :rubricId) " +
+                       "AND (:budgetTypeId IS NULL OR bt.id = :budgetTypeId) AND (:budgetYear IS NULL OR o.budgetYear = :budgetYear) ";
+
+    // ========== INCREMENTAL MAINTENANCE ==========
+
+    /**
+     * Add a delta to the cell of (item, financial operation), creating the cell when missing
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_02_02_10 (F_01, F_02, F_03, F_04, F_05, F_06, F_07, F_08) " +
+                   "VALUES (:itemId, :financialOperationId, :plannedItemCount, :plannedQuantity, :allocatedAmount, :totalPlannedCost, :distributedQuantity, :distributionCount) " +
+                   "ON DUPLICATE KEY UPDATE F_03 = F_03 + :plannedItemCount, F_04 = F_04 + :plannedQuantity, F_05 = F_05 + :allocatedAmount, " +
+                   "F_06 = F_06 + :totalPlannedCost, F_07 = F_07 + :distributedQuantity, F_08 = F_08 + :distributionCount",
+           nativeQuery = true)
+    int addToCell(@Param("itemId") Long itemId, @Param("financialOperationId") Long financialOperationId,
+                  @Param("plannedItemCount") long plannedItemCount, @Param("plannedQuantity") double plannedQuantity,
+                  @Param("allocatedAmount") double allocatedAmount, @Param("totalPlannedCost") double totalPlannedCost,
+                  @Param("distributedQuantity") double distributedQuantity, @Param("distributionCount") long distributionCount);
+
+    /**
+     * Add a distribution delta to the cell of a planned item, resolving its item and financial operation in the same statement
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_02_02_10 (F_01, F_02, F_03, F_04, F_05, F_06, F_07, F_08) " +
+                   "SELECT p.F_06, p.F_07, 0, 0, 0, 0, :distributedQuantity, :distributionCount FROM T_02_02_08 p WHERE p.F_00 = :plannedItemId " +
+                   "ON DUPLICATE KEY UPDATE F_07 = F_07 + :distributedQuantity, F_08 = F_08 + :distributionCount",
+           nativeQuery = true)
+    int addDistributionsToCell(@Param("plannedItemId") Long plannedItemId,
+                               @Param("distributedQuantity") double distributedQuantity, @Param("distributionCount") long distributionCount);
+
+    /**
+     * Drop a cell left without planned items (its amounts are only rounding residue)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM T_02_02_10 WHERE F_01 = :itemId AND F_02 = :financialOperationId AND F_03 <= 0", nativeQuery = true)
+    int deleteEmptyCell(@Param("itemId") Long itemId, @Param("financialOperationId") Long financialOperationId);
+
+    // ========== REBUILD ==========
+
+    @Modifying
+    @Query(value = "DELETE FROM T_02_02_10", nativeQuery = true)
+    int deleteAllCells();
+
+    /**
+     * Recompute every cell from the planned items and item distributions of open budget years
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_02_02_10 (F_01, F_02, F_03, F_04, F_05, F_06, F_07, F_08) " +
+                   "SELECT p.F_06, p.F_07, COUNT(*), SUM(p.F_03), SUM(p.F_04), SUM(p.F_02 * p.F_03), " +
+                   "COALESCE(SUM(d.quantity), 0), COALESCE(SUM(d.distributions), 0) " +
+                   "FROM T_02_02_08 p LEFT JOIN (SELECT F_02, SUM(F_01) AS quantity, COUNT(*) AS distributions FROM T_02_02_09 GROUP BY F_02) d " +
+                   "ON d.F_02 = p.F_00 JOIN T_02_02_03 o ON o.F_00 = p.F_07 WHERE o.F_02 NOT IN (SELECT F_01 FROM T_02_02_13) " +
+                   "GROUP BY p.F_06, p.F_07",
+           nativeQuery = true)
+    int insertAllCells();
+
+    /**
+     * Delete the cells of a budget year (closed years are served from their snapshots)
+     */
+    @Modifying
+    @Query(value = "DELETE r FROM T_02_02_10 r JOIN T_02_02_03 o ON o.F_00 = r.F_02 WHERE o.F_02 = :budgetYear", nativeQuery = true)
+    int deleteBudgetYear(@Param("budgetYear") String budgetYear);
+
+    // ========== ROLLUPS ==========
+
+    @Query("SELECT d.id, d.designationFr, " + SUMS + HIERARCHY + "GROUP BY d.id, d.designationFr ORDER BY d.designationFr")
+    List<Object[]> rollupByDomain(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                  @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT ru.id, ru.designationFr, " + SUMS + HIERARCHY + "GROUP BY ru.id, ru.designationFr ORDER BY ru.designationFr")
+    List<Object[]> rollupByRubric(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                  @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT i.id, i.designationFr, " + SUMS + HIERARCHY + "GROUP BY i.id, i.designationFr ORDER BY i.designationFr")
+    List<Object[]> rollupByItem(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT o.id, o.operation, " + SUMS + HIERARCHY + "GROUP BY o.id, o.operation ORDER BY o.operation")
+    List<Object[]> rollupByFinancialOperation(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                              @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT bt.id, bt.designationFr, " + SUMS + HIERARCHY + "GROUP BY bt.id, bt.designationFr ORDER BY bt.designationFr")
+    List<Object[]> rollupByBudgetType(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                      @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT o.budgetYear, " + SUMS + HIERARCHY + "GROUP BY o.budgetYear ORDER BY o.budgetYear")
+    List<Object[]> rollupByBudgetYear(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                      @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT " + SUMS + HIERARCHY)
+    List<Object[]> rollupTotal(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                               @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+}
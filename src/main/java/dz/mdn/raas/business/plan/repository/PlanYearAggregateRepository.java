@@ -0,0 +1,74 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanYearAggregateRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.plan.model.PlanYearAggregate;
+
+/**
+ * PlanYearAggregate Repository
+ * Based on exact field names: F_00=id, F_01=budgetYear, F_02=level, F_03=keyId, F_04=designation, F_05=plannedItemCount,
+ * F_06=plannedQuantity, F_07=allocatedAmount, F_08=totalPlannedCost, F_09=distributedQuantity, F_10=distributionCount,
+ * F_11=distributedCost
+ * Aggregates are inserted per level from the snapshots of the year (T_02_02_14 and T_02_02_15), after they are written.
+ */
+@Repository
+public interface PlanYearAggregateRepository extends JpaRepository<PlanYearAggregate, Long> {
+
+    String INSERT = "INSERT INTO T_02_02_17 (F_01, F_02, F_03, F_04, F_05, F_06, F_07, F_08, F_09, F_10, F_11) ";
+
+    String SUMS = "COUNT(*), COALESCE(SUM(p.F_05), 0), COALESCE(SUM(p.F_06), 0), COALESCE(SUM(p.F_07), 0), " +
+                  "COALESCE(SUM(p.F_08), 0), COALESCE(SUM(p.F_24), 0), COALESCE(SUM(p.F_08 * p.F_04), 0) " +
+                  "FROM T_02_02_14 p WHERE p.F_01 = :budgetYear ";
+
+    @Modifying
+    @Query(value = INSERT + "SELECT :budgetYear, 'DOMAIN', p.F_13, p.F_14, " + SUMS + "GROUP BY p.F_13, p.F_14", nativeQuery = true)
+    int insertDomains(@Param("budgetYear") String budgetYear);
+
+    @Modifying
+    @Query(value = INSERT + "SELECT :budgetYear, 'RUBRIC', p.F_11, p.F_12, " + SUMS + "GROUP BY p.F_11, p.F_12", nativeQuery = true)
+    int insertRubrics(@Param("budgetYear") String budgetYear);
+
+    @Modifying
+    @Query(value = INSERT + "SELECT :budgetYear, 'ITEM', p.F_09, p.F_10, " + SUMS + "GROUP BY p.F_09, p.F_10", nativeQuery = true)
+    int insertItems(@Param("budgetYear") String budgetYear);
+
+    @Modifying
+    @Query(value = INSERT + "SELECT :budgetYear, 'FINANCIAL_OPERATION', p.F_15, p.F_16, " + SUMS + "GROUP BY p.F_15, p.F_16", nativeQuery = true)
+    int insertFinancialOperations(@Param("budgetYear") String budgetYear);
+
+    @Modifying
+    @Query(value = INSERT + "SELECT :budgetYear, 'BUDGET_TYPE', p.F_17, p.F_18, " + SUMS + "GROUP BY p.F_17, p.F_18", nativeQuery = true)
+    int insertBudgetTypes(@Param("budgetYear") String budgetYear);
+
+    @Modifying
+    @Query(value = INSERT + "SELECT :budgetYear, 'TOTAL', NULL, NULL, " + SUMS, nativeQuery = true)
+    int insertTotal(@Param("budgetYear") String budgetYear);
+
+    @Modifying
+    @Query(value = INSERT + "SELECT :budgetYear, 'STRUCTURE', d.F_10, d.F_11, COUNT(DISTINCT d.F_03), 0, 0, 0, SUM(d.F_13), COUNT(*), SUM(d.F_15) " +
+                   "FROM T_02_02_15 d WHERE d.F_01 = :budgetYear GROUP BY d.F_10, d.F_11",
+           nativeQuery = true)
+    int insertStructures(@Param("budgetYear") String budgetYear);
+
+    @Query("SELECT a FROM PlanYearAggregate a WHERE a.budgetYear = :budgetYear AND a.level = :level ORDER BY a.designation")
+    List<PlanYearAggregate> findByBudgetYearAndLevel(@Param("budgetYear") String budgetYear, @Param("level") PlanYearAggregate.Level level);
+}
@@ -13,26 +13,43 @@
 
 package dz.mdn.raas.business.plan.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dz.mdn.raas.business.plan.dto.PlannedItemListDTO;
 import dz.mdn.raas.business.plan.model.PlannedItem;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
  * PlannedItem Repository with essential CRUD operations
  * Based on exact field names: F_00=id, F_01=designation, F_02=unitairCost, F_03=planedQuantity, 
- * F_04=allocatedAmount, F_05=itemStatus, F_06=item, F_07=financialOperation, F_08=budgetModification
+ * F_04=allocatedAmount, F_05=itemStatus, F_06=item, F_07=financialOperation, F_08=budgetModification,
+ * F_09=distributedQuantity (counter maintained by the quota updates below)
  * Includes multiple many-to-one relationships and one-to-many relationship with ItemDistributions
  */
 @Repository
 public interface PlannedItemRepository extends JpaRepository<PlannedItem, Long> {
 
+    /**
+     * Native condition: planned item p is linked to a contract or consultation (kept live when its budget year is closed)
+     */
+    String LINKED = "(EXISTS (SELECT 1 FROM R_T020504_T020208 c WHERE c.F_02 = p.F_00) OR EXISTS (SELECT 1 FROM R_T020404_T020208 c WHERE c.F_02 = p.F_00))";
+
     /**
      * Find all planned items ordered by designation
      */
@@ -178,10 +195,16 @@ public interface PlannedItemRepository extends JpaRepository<PlannedItem, Long>
     Page<PlannedItem> findMostExpensiveItems(Pageable pageable);
 
     /**
-     * Find items requiring immediate attention (over budget by more than 20%)
+     * Find items requiring immediate attention (classified at or above a priority), largest overrun first
+     */
+    @Query("SELECT p FROM PlannedItem p WHERE p.classificationPriority >= :priority ORDER BY ((p.unitairCost * p.planedQuantity) - p.allocatedAmount) DESC")
+    Page<PlannedItem> findRequiringImmediateAttention(@Param("priority") int priority, Pageable pageable);
+
+    /**
+     * Find planned items of a classification category
      */
-    @Query("SELECT p FROM PlannedItem p WHERE ((p.unitairCost * p.planedQuantity) - p.allocatedAmount) > (p.allocatedAmount * 0.2) ORDER BY ((p.unitairCost * p.planedQuantity) - p.allocatedAmount) DESC")
-    Page<PlannedItem> findRequiringImmediateAttention(Pageable pageable);
+    @Query("SELECT p FROM PlannedItem p WHERE p.classificationCategory = :category ORDER BY p.designation ASC")
+    Page<PlannedItem> findByClassificationCategory(@Param("category") String category, Pageable pageable);
 
     /**
      * Count planned items by item
@@ -361,8 +384,159 @@ public interface PlannedItemRepository extends JpaRepository<PlannedItem, Long>
     Page<PlannedItem> findCurrentYearPlannedItems(Pageable pageable);
 
     /**
-     * Find critical planned items (high cost and large quantity)
+     * Find critical planned items (classified at or above a priority), most expensive first
+     */
+    @Query("SELECT p FROM PlannedItem p WHERE p.classificationPriority >= :priority ORDER BY (p.unitairCost * p.planedQuantity) DESC")
+    Page<PlannedItem> findCriticalPlannedItems(@Param("priority") int priority, Pageable pageable);
+
+    /**
+     * Get planned and already distributed quantity of every planned item of an open budget year (quota checks for bulk imports)
+     * Each row: [plannedItemId, planedQuantity, distributedQuantity]
+     */
+    @Query("SELECT p.id, p.planedQuantity, p.distributedQuantity FROM PlannedItem p " +
+           "WHERE p.financialOperation.budgetYear NOT IN (SELECT c.budgetYear FROM ClosedBudgetYear c)")
+    List<Object[]> getDistributionQuotas();
+
+    /**
+     * Add to the distributed quantity if it stays within the planned quantity (not enforced when planned quantity is 0).
+     * The check and the increment are one statement holding the row lock, concurrent reservations cannot both pass.
+     *
+     * @return 1 when reserved, 0 when the quota is exceeded or the planned item does not exist
+     */
+    @Modifying
+    @Query("UPDATE PlannedItem p SET p.distributedQuantity = p.distributedQuantity + :quantity " +
+           "WHERE p.id = :plannedItemId AND (p.planedQuantity = 0 OR p.distributedQuantity + :quantity <= p.planedQuantity)")
+    int reserveDistributionQuota(@Param("plannedItemId") Long plannedItemId, @Param("quantity") double quantity);
+
+    /**
+     * Lock a planned item before changing its planned quantity: a locking read sees the latest distributed quantity,
+     * and quota reservations on the row wait until the update ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PlannedItem p WHERE p.id = :id")
+    Optional<PlannedItem> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Give back distributed quantity (distribution removed or reduced)
+     */
+    @Modifying
+    @Query("UPDATE PlannedItem p SET p.distributedQuantity = p.distributedQuantity - :quantity WHERE p.id = :plannedItemId")
+    int releaseDistributionQuota(@Param("plannedItemId") Long plannedItemId, @Param("quantity") double quantity);
+
+    /**
+     * Get planned and distributed quantity of a planned item, reflecting the reservations of the current transaction
+     * Row: [planedQuantity, distributedQuantity]
+     */
+    @Query("SELECT p.planedQuantity, p.distributedQuantity FROM PlannedItem p WHERE p.id = :plannedItemId")
+    List<Object[]> getDistributionQuota(@Param("plannedItemId") Long plannedItemId);
+
+    /**
+     * Everything a new distribution needs from its planned item and structure, without loading either
+     * Row: [designation, item designationFr, designationEn, designationAr, unitairCost, allocatedAmount,
+     * planedQuantity, distributedQuantity, closed budget years of the planned item (0 or 1), structures with the ID (0 or 1)]
+     */
+    @Query("SELECT p.designation, i.designationFr, i.designationEn, i.designationAr, p.unitairCost, p.allocatedAmount, " +
+           "p.planedQuantity, p.distributedQuantity, " +
+           "(SELECT COUNT(c) FROM ClosedBudgetYear c WHERE c.budgetYear = p.financialOperation.budgetYear), " +
+           "(SELECT COUNT(s) FROM Structure s WHERE s.id = :structureId) " +
+           "FROM PlannedItem p JOIN p.item i WHERE p.id = :plannedItemId")
+    List<Object[]> findDistributionTarget(@Param("plannedItemId") Long plannedItemId, @Param("structureId") Long structureId);
+
+    /**
+     * Recompute every distributed quantity counter from the item distributions (drift repair)
+     */
+    @Modifying
+    @Query(value = "UPDATE T_02_02_08 p LEFT JOIN (SELECT F_02, SUM(F_01) AS quantity FROM T_02_02_09 GROUP BY F_02) d ON d.F_02 = p.F_00 " +
+                   "SET p.F_09 = COALESCE(d.quantity, 0)",
+           nativeQuery = true)
+    int resyncDistributedQuantities();
+
+    // ========== BUDGET SCENARIOS ==========
+
+    /**
+     * Get the budget facts of every planned item of a financial operation, in id order (scenario simulation, distribution matrix columns)
+     * Each row: [id, designation, unitairCost, planedQuantity, allocatedAmount, distributedQuantity]
+     */
+    @Query("SELECT p.id, p.designation, p.unitairCost, p.planedQuantity, p.allocatedAmount, p.distributedQuantity " +
+           "FROM PlannedItem p WHERE p.financialOperation.id = :financialOperationId ORDER BY p.id")
+    List<Object[]> findScenarioFacts(@Param("financialOperationId") Long financialOperationId);
+
+    /**
+     * Lock planned items for a scenario commit, in id order so that concurrent commits cannot deadlock.
+     * Distribution reservations on these rows wait until the commit ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PlannedItem p WHERE p.id IN :ids ORDER BY p.id")
+    List<PlannedItem> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // ========== YEAR CLOSE ==========
+
+    /**
+     * Count the planned items of a budget year linked to a contract or consultation
+     */
+    @Query(value = "SELECT COUNT(*) FROM T_02_02_08 p JOIN T_02_02_03 o ON o.F_00 = p.F_07 WHERE o.F_02 = :budgetYear AND " + LINKED,
+           nativeQuery = true)
+    long countLinkedInBudgetYear(@Param("budgetYear") String budgetYear);
+
+    /**
+     * Delete the planned items of a budget year that no contract or consultation references, once snapshotted.
+     * Their distributions must be deleted first (ItemDistributionRepository.deleteBudgetYear).
+     */
+    @Modifying
+    @Query(value = "DELETE p FROM T_02_02_08 p JOIN T_02_02_03 o ON o.F_00 = p.F_07 WHERE o.F_02 = :budgetYear AND NOT " + LINKED,
+           nativeQuery = true)
+    int deleteBudgetYear(@Param("budgetYear") String budgetYear);
+
+    /**
+     * List view projection: only the list columns through explicit joins, no entity loading
+     */
+    @Query(value = "SELECT new dz.mdn.raas.business.plan.dto.PlannedItemListDTO(p.id, p.designation, p.unitairCost, p.planedQuantity, p.allocatedAmount, s.id, s.designationFr, i.id, i.designationFr, f.id, f.operation, f.budgetYear, (SELECT COUNT(d) FROM ItemDistribution d WHERE d.plannedItem = p)) " +
+                   "FROM PlannedItem p LEFT JOIN p.itemStatus s LEFT JOIN p.item i LEFT JOIN p.financialOperation f",
+           countQuery = "SELECT COUNT(p) FROM PlannedItem p")
+    Page<PlannedItemListDTO> findListView(Pageable pageable);
+
+    /**
+     * List view projection of every row for exports, read through a forward-only streaming cursor
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new dz.mdn.raas.business.plan.dto.PlannedItemListDTO(p.id, p.designation, p.unitairCost, p.planedQuantity, p.allocatedAmount, s.id, s.designationFr, i.id, i.designationFr, f.id, f.operation, f.budgetYear, (SELECT COUNT(d) FROM ItemDistribution d WHERE d.plannedItem = p)) " +
+           "FROM PlannedItem p LEFT JOIN p.itemStatus s LEFT JOIN p.item i LEFT JOIN p.financialOperation f ORDER BY p.id")
+    Stream<PlannedItemListDTO> streamListView();
+
+    // ========== CLASSIFICATION ==========
+
+    /**
+     * Classification facts of the planned items following afterId, in id order (keyset batches of a full reclassification)
+     * Row: [id, designation, itemDesignationFr, itemDesignationEn, itemDesignationAr, planedQuantity, unitairCost, allocatedAmount,
+     *      classificationPriority, classificationCategory]
+     */
+    @Query("SELECT p.id, p.designation, i.designationFr, i.designationEn, i.designationAr, p.planedQuantity, p.unitairCost, p.allocatedAmount, " +
+           "p.classificationPriority, p.classificationCategory " +
+           "FROM PlannedItem p JOIN p.item i WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findClassificationFacts(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Classification facts of the planned items of an item following afterId, same row as findClassificationFacts
+     */
+    @Query("SELECT p.id, p.designation, i.designationFr, i.designationEn, i.designationAr, p.planedQuantity, p.unitairCost, p.allocatedAmount, " +
+           "p.classificationPriority, p.classificationCategory " +
+           "FROM PlannedItem p JOIN p.item i WHERE i.id = :itemId AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findClassificationFactsByItem(@Param("itemId") Long itemId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Classification facts of the given planned items, same row as findClassificationFacts
+     */
+    @Query("SELECT p.id, p.designation, i.designationFr, i.designationEn, i.designationAr, p.planedQuantity, p.unitairCost, p.allocatedAmount, " +
+           "p.classificationPriority, p.classificationCategory " +
+           "FROM PlannedItem p JOIN p.item i WHERE p.id IN :ids")
+    List<Object[]> findClassificationFactsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Write the classification of several planned items
      */
-    @Query("SELECT p FROM PlannedItem p WHERE p.unitairCost > 1000 AND p.planedQuantity > 50 ORDER BY (p.unitairCost * p.planedQuantity) DESC")
-    Page<PlannedItem> findCriticalPlannedItems(Pageable pageable);
-}
\ No newline at end of file
+    @Modifying
+    @Query("UPDATE PlannedItem p SET p.classificationPriority = :priority, p.classificationCategory = :category WHERE p.id IN :ids")
+    int updateClassification(@Param("ids") Collection<Long> ids, @Param("priority") int priority, @Param("category") String category);
+}
@@ -0,0 +1,110 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlannedItemSnapshotRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.plan.model.PlannedItemSnapshot;
+
+/**
+ * PlannedItemSnapshot Repository
+ * Based on exact field names: F_00=id, F_01=budgetYear, F_02=plannedItemId, F_03=designation, F_04=unitairCost,
+ * F_05=planedQuantity, F_06=allocatedAmount, F_07=totalPlannedCost, F_08=distributedQuantity, F_09=itemId,
+ * F_10=itemDesignationFr, F_11=rubricId, F_12=rubricDesignationFr, F_13=domainId, F_14=domainDesignationFr,
+ * F_15=financialOperationId, F_16=financialOperation, F_17=budgetTypeId, F_18=budgetTypeDesignationFr,
+ * F_19=itemStatusId, F_20=itemStatusDesignationFr, F_21=budgetModificationId, F_22=classificationPriority,
+ * F_23=classificationCategory, F_24=distributionCount
+ *
+ * Rollup queries return the rows of PlanRollupRepository over closed years (budgetYear null = every closed year).
+ */
+@Repository
+public interface PlannedItemSnapshotRepository extends JpaRepository<PlannedItemSnapshot, Long> {
+
+    String SUMS = "COUNT(p), SUM(p.planedQuantity), SUM(p.allocatedAmount), SUM(p.totalPlannedCost), " +
+                  "SUM(p.distributedQuantity), SUM(p.distributionCount) ";
+
+    String FILTER = "FROM PlannedItemSnapshot p " +
+                    "WHERE (:domainId IS NULL OR p.domainId = :domainId) AND (:rubricId IS NULL OR p.rubricId = :rubricId) " +
+                    "AND (:budgetTypeId IS NULL OR p.budgetTypeId = :budgetTypeId) AND (:budgetYear IS NULL OR p.budgetYear = :budgetYear) ";
+
+    // ========== YEAR CLOSE ==========
+
+    /**
+     * Copy the planned items of a budget year with their hierarchy flattened in
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_02_02_14 (F_01, F_02, F_03, F_04, F_05, F_06, F_07, F_08, F_09, F_10, F_11, F_12, F_13, F_14, F_15, F_16, " +
+                   "F_17, F_18, F_19, F_20, F_21, F_22, F_23, F_24) " +
+                   "SELECT o.F_02, p.F_00, p.F_01, p.F_02, p.F_03, p.F_04, p.F_02 * p.F_03, p.F_09, i.F_00, i.F_03, r.F_00, r.F_03, " +
+                   "d.F_00, d.F_03, o.F_00, o.F_01, bt.F_00, bt.F_03, s.F_00, s.F_03, p.F_08, p.F_10, p.F_11, " +
+                   "(SELECT COUNT(*) FROM T_02_02_09 x WHERE x.F_02 = p.F_00) " +
+                   "FROM T_02_02_08 p JOIN T_02_02_03 o ON o.F_00 = p.F_07 JOIN T_02_02_01 bt ON bt.F_00 = o.F_03 " +
+                   "JOIN T_02_02_06 i ON i.F_00 = p.F_06 JOIN T_02_02_05 r ON r.F_00 = i.F_04 JOIN T_02_02_04 d ON d.F_00 = r.F_04 " +
+                   "JOIN T_02_02_02 s ON s.F_00 = p.F_05 WHERE o.F_02 = :budgetYear",
+           nativeQuery = true)
+    int insertBudgetYear(@Param("budgetYear") String budgetYear);
+
+    /**
+     * Get [plannedItemCount, allocatedAmount, totalPlannedCost] of a budget year
+     */
+    @Query("SELECT COUNT(p), COALESCE(SUM(p.allocatedAmount), 0), COALESCE(SUM(p.totalPlannedCost), 0) FROM PlannedItemSnapshot p WHERE p.budgetYear = :budgetYear")
+    List<Object[]> getBudgetYearTotals(@Param("budgetYear") String budgetYear);
+
+    // ========== HISTORY ==========
+
+    @Query("SELECT p FROM PlannedItemSnapshot p WHERE p.budgetYear = :budgetYear " +
+           "AND (:domainId IS NULL OR p.domainId = :domainId) AND (:rubricId IS NULL OR p.rubricId = :rubricId) " +
+           "AND (:itemId IS NULL OR p.itemId = :itemId) AND (:financialOperationId IS NULL OR p.financialOperationId = :financialOperationId)")
+    Page<PlannedItemSnapshot> findByBudgetYear(@Param("budgetYear") String budgetYear, @Param("domainId") Long domainId,
+                                               @Param("rubricId") Long rubricId, @Param("itemId") Long itemId,
+                                               @Param("financialOperationId") Long financialOperationId, Pageable pageable);
+
+    // ========== ROLLUPS ==========
+
+    @Query("SELECT p.domainId, p.domainDesignationFr, " + SUMS + FILTER + "GROUP BY p.domainId, p.domainDesignationFr ORDER BY p.domainDesignationFr")
+    List<Object[]> rollupByDomain(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                  @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT p.rubricId, p.rubricDesignationFr, " + SUMS + FILTER + "GROUP BY p.rubricId, p.rubricDesignationFr ORDER BY p.rubricDesignationFr")
+    List<Object[]> rollupByRubric(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                  @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT p.itemId, p.itemDesignationFr, " + SUMS + FILTER + "GROUP BY p.itemId, p.itemDesignationFr ORDER BY p.itemDesignationFr")
+    List<Object[]> rollupByItem(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT p.financialOperationId, p.financialOperation, " + SUMS + FILTER + "GROUP BY p.financialOperationId, p.financialOperation ORDER BY p.financialOperation")
+    List<Object[]> rollupByFinancialOperation(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                              @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT p.budgetTypeId, p.budgetTypeDesignationFr, " + SUMS + FILTER + "GROUP BY p.budgetTypeId, p.budgetTypeDesignationFr ORDER BY p.budgetTypeDesignationFr")
+    List<Object[]> rollupByBudgetType(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                      @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT p.budgetYear, " + SUMS + FILTER + "GROUP BY p.budgetYear ORDER BY p.budgetYear")
+    List<Object[]> rollupByBudgetYear(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                                      @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+
+    @Query("SELECT " + SUMS + FILTER)
+    List<Object[]> rollupTotal(@Param("domainId") Long domainId, @Param("rubricId") Long rubricId,
+                               @Param("budgetTypeId") Long budgetTypeId, @Param("budgetYear") String budgetYear);
+}
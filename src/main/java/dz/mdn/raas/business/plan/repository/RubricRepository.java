@@ -421,4 +421,19 @@ public interface RubricRepository extends JpaRepository<Rubric, Long> {
            "LOWER(r.domain.designationEn) LIKE LOWER(CONCAT('%', :category, '%')) " +
            "ORDER BY r.domain.designationFr ASC, r.designationFr ASC")
     Page<Rubric> findByDomainCategory(@Param("category") String category, Pageable pageable);
+
+    /**
+     * Get every rubric for the catalog tree, in designation order
+     * Each row: [id, domainId, designationFr, designationEn, designationAr]
+     */
+    @Query("SELECT r.id, r.domain.id, r.designationFr, r.designationEn, r.designationAr FROM Rubric r ORDER BY r.designationFr, r.id")
+    List<Object[]> findCatalogRows();
+
+    /**
+     * Get every rubric for the autocomplete index, with its usage count (items)
+     * Each row: [id, designationFr, designationEn, designationAr, usageCount]
+     */
+    @Query("SELECT r.id, r.designationFr, r.designationEn, r.designationAr, COUNT(i) FROM Rubric r LEFT JOIN Item i ON i.rubric = r " +
+           "GROUP BY r.id, r.designationFr, r.designationEn, r.designationAr")
+    List<Object[]> findAutocompleteRows();
 }
@@ -0,0 +1,208 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetScenarioModel
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import dz.mdn.raas.business.plan.dto.BudgetScenarioDTO;
+import dz.mdn.raas.business.plan.dto.BudgetSimulationDTO;
+import dz.mdn.raas.exception.BusinessValidationException;
+
+/**
+ * BudgetScenarioModel
+ *
+ * The planned items of one financial operation as parallel primitive arrays (one slot per planned item, in id order),
+ * evaluated without touching the database. apply() returns a copy with a scenario's changes, the base model is never
+ * modified. Totals are computed in one pass, split across the common pool when the operation has many planned items.
+ */
+final class BudgetScenarioModel {
+
+    private static final double WELL_BUDGETED_MARGIN = 0.1;
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final long[] ids;
+    private final String[] designations;
+    private final double[] distributedQuantities;
+    private final Map<Long, Integer> slots;
+
+    private final double[] unitairCosts;
+    private final double[] planedQuantities;
+    private final double[] allocatedAmounts;
+
+    private BudgetScenarioModel(long[] ids, String[] designations, double[] distributedQuantities, Map<Long, Integer> slots,
+                                double[] unitairCosts, double[] planedQuantities, double[] allocatedAmounts) {
+        this.ids = ids;
+        this.designations = designations;
+        this.distributedQuantities = distributedQuantities;
+        this.slots = slots;
+        this.unitairCosts = unitairCosts;
+        this.planedQuantities = planedQuantities;
+        this.allocatedAmounts = allocatedAmounts;
+    }
+
+    /**
+     * Build the model from rows of [id, designation, unitairCost, planedQuantity, allocatedAmount, distributedQuantity]
+     */
+    static BudgetScenarioModel of(List<Object[]> rows) {
+        int size = rows.size();
+        long[] ids = new long[size];
+        String[] designations = new String[size];
+        double[] distributedQuantities = new double[size];
+        double[] unitairCosts = new double[size];
+        double[] planedQuantities = new double[size];
+        double[] allocatedAmounts = new double[size];
+        Map<Long, Integer> slots = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (Long) row[0];
+            designations[i] = (String) row[1];
+            unitairCosts[i] = ((Number) row[2]).doubleValue();
+            planedQuantities[i] = ((Number) row[3]).doubleValue();
+            allocatedAmounts[i] = ((Number) row[4]).doubleValue();
+            distributedQuantities[i] = ((Number) row[5]).doubleValue();
+            slots.put(ids[i], i);
+        }
+        return new BudgetScenarioModel(ids, designations, distributedQuantities, slots, unitairCosts, planedQuantities, allocatedAmounts);
+    }
+
+    /**
+     * Copy of the model with the changes applied
+     *
+     * @throws BusinessValidationException when a change targets a planned item of another operation, is listed twice
+     *         or sets an invalid value
+     */
+    BudgetScenarioModel apply(List<BudgetScenarioDTO.Change> changes) {
+        double[] unitairCosts = this.unitairCosts.clone();
+        double[] planedQuantities = this.planedQuantities.clone();
+        double[] allocatedAmounts = this.allocatedAmounts.clone();
+        boolean[] changed = new boolean[ids.length];
+
+        for (BudgetScenarioDTO.Change change : changes) {
+            int slot = slotOf(change.getPlannedItemId());
+            if (changed[slot]) {
+                throw new BusinessValidationException("Planned item listed more than once", "plannedItemId", change.getPlannedItemId());
+            }
+            changed[slot] = true;
+            if (change.getUnitairCost() != null) {
+                if (change.getUnitairCost() <= 0) {
+                    throw new BusinessValidationException("Unit cost must be positive", "unitairCost", change.getUnitairCost());
+                }
+                unitairCosts[slot] = change.getUnitairCost();
+            }
+            if (change.getPlanedQuantity() != null) {
+                if (change.getPlanedQuantity() <= 0) {
+                    throw new BusinessValidationException("Planned quantity must be positive", "planedQuantity", change.getPlanedQuantity());
+                }
+                planedQuantities[slot] = change.getPlanedQuantity();
+            }
+            if (change.getAllocatedAmount() != null) {
+                if (change.getAllocatedAmount() < 0) {
+                    throw new BusinessValidationException("Allocated amount must be non-negative", "allocatedAmount", change.getAllocatedAmount());
+                }
+                allocatedAmounts[slot] = change.getAllocatedAmount();
+            }
+        }
+        return new BudgetScenarioModel(ids, designations, distributedQuantities, slots, unitairCosts, planedQuantities, allocatedAmounts);
+    }
+
+    int slotOf(Long plannedItemId) {
+        Integer slot = slots.get(plannedItemId);
+        if (slot == null) {
+            throw new BusinessValidationException("Planned item does not belong to the financial operation", "plannedItemId", plannedItemId);
+        }
+        return slot;
+    }
+
+    // ========== EVALUATION ==========
+
+    /**
+     * Totals of the operation: [cost, allocated, overBudget, underBudget, wellBudgeted, quotaViolations] accumulated per slot
+     */
+    BudgetSimulationDTO.Totals totals() {
+        IntStream slotStream = IntStream.range(0, ids.length);
+        if (ids.length >= PARALLEL_THRESHOLD) {
+            slotStream = slotStream.parallel();
+        }
+        double[] sums = slotStream.collect(() -> new double[6], (acc, slot) -> {
+            acc[0] += totalCost(slot);
+            acc[1] += allocatedAmounts[slot];
+            acc[2] += overBudget(slot) ? 1 : 0;
+            acc[3] += underBudget(slot) ? 1 : 0;
+            acc[4] += wellBudgeted(slot) ? 1 : 0;
+            acc[5] += quotaViolation(slot) ? 1 : 0;
+        }, (left, right) -> {
+            for (int i = 0; i < left.length; i++) {
+                left[i] += right[i];
+            }
+        });
+        return BudgetSimulationDTO.Totals.builder()
+                .plannedItemCount(ids.length)
+                .totalPlannedCost(sums[0])
+                .allocatedAmount(sums[1])
+                .allocationBalance(sums[1] - sums[0])
+                .overBudgetCount((int) sums[2])
+                .underBudgetCount((int) sums[3])
+                .wellBudgetedCount((int) sums[4])
+                .quotaViolationCount((int) sums[5])
+                .build();
+    }
+
+    BudgetSimulationDTO.Values values(int slot) {
+        return BudgetSimulationDTO.Values.builder()
+                .unitairCost(unitairCosts[slot])
+                .planedQuantity(planedQuantities[slot])
+                .allocatedAmount(allocatedAmounts[slot])
+                .totalCost(totalCost(slot))
+                .overBudget(overBudget(slot))
+                .underBudget(underBudget(slot))
+                .wellBudgeted(wellBudgeted(slot))
+                .quotaViolation(quotaViolation(slot))
+                .build();
+    }
+
+    long id(int slot) {
+        return ids[slot];
+    }
+
+    String designation(int slot) {
+        return designations[slot];
+    }
+
+    double distributedQuantity(int slot) {
+        return distributedQuantities[slot];
+    }
+
+    boolean quotaViolation(int slot) {
+        return planedQuantities[slot] != 0 && planedQuantities[slot] < distributedQuantities[slot];
+    }
+
+    private double totalCost(int slot) {
+        return unitairCosts[slot] * planedQuantities[slot];
+    }
+
+    private boolean overBudget(int slot) {
+        return totalCost(slot) > allocatedAmounts[slot];
+    }
+
+    private boolean underBudget(int slot) {
+        return totalCost(slot) < allocatedAmounts[slot];
+    }
+
+    private boolean wellBudgeted(int slot) {
+        return Math.abs(totalCost(slot) - allocatedAmounts[slot]) <= allocatedAmounts[slot] * WELL_BUDGETED_MARGIN;
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetScenarioService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.plan.dto.BudgetScenarioDTO;
+import dz.mdn.raas.business.plan.dto.BudgetSimulationDTO;
+import dz.mdn.raas.business.plan.model.BudgetModification;
+import dz.mdn.raas.business.plan.model.PlannedItem;
+import dz.mdn.raas.business.plan.repository.BudgetModificationRepository;
+import dz.mdn.raas.business.plan.repository.FinancialOperationRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.business.plan.service.PlanRollupService.Contribution;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Budget Scenario Service
+ * What-if evaluation of budget modification proposals on the planned items of a financial operation:
+ * - simulate() loads the operation's planned items with one projection query (a consistent read, no row lock),
+ *   applies the proposed changes in memory (BudgetScenarioModel) and returns the diff, nothing is written
+ * - commit() locks the changed planned items, re-evaluates the scenario against their current values, and applies
+ *   every change in one transaction (rollups and classification included), or none when a quota would be violated
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BudgetScenarioService {
+
+    private final PlannedItemRepository plannedItemRepository;
+    private final FinancialOperationRepository financialOperationRepository;
+    private final BudgetModificationRepository budgetModificationRepository;
+
+    private final PlanRollupService planRollupService;
+    private final ClassificationService classificationService;
+    private final BudgetYearService budgetYearService;
+
+    // ========== SIMULATION ==========
+
+    /**
+     * Evaluate a scenario without writing anything
+     */
+    @Transactional(readOnly = true)
+    public BudgetSimulationDTO simulate(BudgetScenarioDTO scenario) {
+        log.debug("Simulating {} planned item changes on financial operation ID: {}",
+                scenario.getChanges().size(), scenario.getFinancialOperationId());
+
+        validateScenario(scenario);
+        BudgetScenarioModel base = BudgetScenarioModel.of(plannedItemRepository.findScenarioFacts(scenario.getFinancialOperationId()));
+        return evaluate(scenario, base, base.apply(scenario.getChanges()));
+    }
+
+    // ========== COMMIT ==========
+
+    /**
+     * Apply a scenario atomically. Fails without any change when a changed planned item would end below its
+     * distributed quantity.
+     */
+    public BudgetSimulationDTO commit(BudgetScenarioDTO scenario) {
+        log.info("Committing {} planned item changes on financial operation ID: {}",
+                scenario.getChanges().size(), scenario.getFinancialOperationId());
+
+        // Locked by the first statement of the transaction: a locking read does not fix the REPEATABLE READ snapshot,
+        // which is taken by the next plain read, so the facts read below see the latest distributed quantities
+        List<Long> ids = scenario.getChanges().stream().map(BudgetScenarioDTO.Change::getPlannedItemId).distinct().toList();
+        List<PlannedItem> plannedItems = plannedItemRepository.findAllByIdForUpdate(ids);
+
+        validateScenario(scenario);
+        BudgetModification budgetModification = scenario.getBudgetModificationId() == null ? null
+                : budgetModificationRepository.findById(scenario.getBudgetModificationId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Budget modification", scenario.getBudgetModificationId()));
+
+        BudgetScenarioModel base = BudgetScenarioModel.of(plannedItemRepository.findScenarioFacts(scenario.getFinancialOperationId()));
+        BudgetScenarioModel proposed = base.apply(scenario.getChanges()); // Rejects duplicates and planned items of other operations
+        Map<Long, BudgetScenarioDTO.Change> changes = scenario.getChanges().stream()
+                .collect(Collectors.toMap(BudgetScenarioDTO.Change::getPlannedItemId, Function.identity()));
+        for (BudgetScenarioDTO.Change change : scenario.getChanges()) {
+            if (proposed.quotaViolation(proposed.slotOf(change.getPlannedItemId()))) {
+                throw new BusinessValidationException("Planned quantity cannot be lower than the already distributed quantity",
+                        "plannedItemId", change.getPlannedItemId());
+            }
+        }
+
+        for (PlannedItem plannedItem : plannedItems) {
+            BudgetScenarioDTO.Change change = changes.get(plannedItem.getId());
+            Contribution before = Contribution.of(plannedItem);
+            if (change.getUnitairCost() != null) {
+                plannedItem.setUnitairCost(change.getUnitairCost());
+            }
+            if (change.getPlanedQuantity() != null) {
+                plannedItem.setPlanedQuantity(change.getPlanedQuantity());
+            }
+            if (change.getAllocatedAmount() != null) {
+                plannedItem.setAllocatedAmount(change.getAllocatedAmount());
+            }
+            if (budgetModification != null) {
+                plannedItem.setBudgetModification(budgetModification);
+            }
+            classificationService.classify(plannedItem);
+            plannedItemRepository.save(plannedItem);
+            planRollupService.plannedItemChanged(plannedItem.getId(), before, Contribution.of(plannedItem));
+            classificationService.plannedItemChanged(plannedItem.getId());
+        }
+        log.info("Committed {} planned item changes on financial operation ID: {}", plannedItems.size(), scenario.getFinancialOperationId());
+
+        BudgetSimulationDTO result = evaluate(scenario, base, proposed);
+        result.setCommitted(true);
+        return result;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void validateScenario(BudgetScenarioDTO scenario) {
+        if (!financialOperationRepository.existsById(scenario.getFinancialOperationId())) {
+            throw new ResourceNotFoundException("Financial operation", scenario.getFinancialOperationId());
+        }
+        budgetYearService.requireOpenFinancialOperation(scenario.getFinancialOperationId());
+    }
+
+    private BudgetSimulationDTO evaluate(BudgetScenarioDTO scenario, BudgetScenarioModel base, BudgetScenarioModel proposed) {
+        List<BudgetSimulationDTO.Diff> diffs = new ArrayList<>(scenario.getChanges().size());
+        for (BudgetScenarioDTO.Change change : scenario.getChanges()) {
+            int slot = base.slotOf(change.getPlannedItemId());
+            diffs.add(BudgetSimulationDTO.Diff.builder()
+                    .plannedItemId(base.id(slot))
+                    .designation(base.designation(slot))
+                    .distributedQuantity(base.distributedQuantity(slot))
+                    .before(base.values(slot))
+                    .after(proposed.values(slot))
+                    .build());
+        }
+        return BudgetSimulationDTO.builder()
+                .financialOperationId(scenario.getFinancialOperationId())
+                .budgetModificationId(scenario.getBudgetModificationId())
+                .valid(diffs.stream().noneMatch(diff -> diff.getAfter().getQuotaViolation()))
+                .committed(false)
+                .before(base.totals())
+                .after(proposed.totals())
+                .changes(diffs)
+                .build();
+    }
+}
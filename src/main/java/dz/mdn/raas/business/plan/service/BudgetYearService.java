@@ -0,0 +1,247 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: BudgetYearService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.time.Year;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.plan.dto.BudgetModificationSnapshotDTO;
+import dz.mdn.raas.business.plan.dto.ClosedBudgetYearDTO;
+import dz.mdn.raas.business.plan.dto.ItemDistributionSnapshotDTO;
+import dz.mdn.raas.business.plan.dto.PlanRollupDTO;
+import dz.mdn.raas.business.plan.dto.PlannedItemSnapshotDTO;
+import dz.mdn.raas.business.plan.model.ClosedBudgetYear;
+import dz.mdn.raas.business.plan.model.PlanYearAggregate;
+import dz.mdn.raas.business.plan.repository.BudgetModificationRepository;
+import dz.mdn.raas.business.plan.repository.BudgetModificationSnapshotRepository;
+import dz.mdn.raas.business.plan.repository.ClosedBudgetYearRepository;
+import dz.mdn.raas.business.plan.repository.ItemDistributionRepository;
+import dz.mdn.raas.business.plan.repository.ItemDistributionSnapshotRepository;
+import dz.mdn.raas.business.plan.repository.PlanRollupRepository;
+import dz.mdn.raas.business.plan.repository.PlanYearAggregateRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemSnapshotRepository;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Budget Year Service
+ * Closes past budget years: their planned items, item distributions and budget modifications are copied to
+ * denormalized snapshot tables with prebuilt aggregates, then removed from the live tables, which keep open years only.
+ * Planned items still linked to a contract or consultation stay live (with their distributions) but are read-only.
+ * Historical reads of a closed year only touch its snapshots.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BudgetYearService {
+
+    private final ClosedBudgetYearRepository closedBudgetYearRepository;
+    private final PlannedItemSnapshotRepository plannedItemSnapshotRepository;
+    private final ItemDistributionSnapshotRepository itemDistributionSnapshotRepository;
+    private final BudgetModificationSnapshotRepository budgetModificationSnapshotRepository;
+    private final PlanYearAggregateRepository planYearAggregateRepository;
+
+    private final PlannedItemRepository plannedItemRepository;
+    private final ItemDistributionRepository itemDistributionRepository;
+    private final BudgetModificationRepository budgetModificationRepository;
+    private final PlanRollupRepository planRollupRepository;
+
+    // ========== CLOSE ==========
+
+    /**
+     * Freeze a past budget year into the snapshot tables and remove it from the live tables, in one transaction.
+     * The closed year row is written first: a concurrent close of the same year fails on its unique constraint.
+     */
+    public ClosedBudgetYearDTO close(String budgetYear) {
+        log.info("Closing budget year {}", budgetYear);
+
+        validateClosable(budgetYear);
+        ClosedBudgetYear closedBudgetYear = new ClosedBudgetYear();
+        closedBudgetYear.setBudgetYear(budgetYear);
+        closedBudgetYear.setClosedAt(new Date());
+        closedBudgetYearRepository.saveAndFlush(closedBudgetYear);
+
+        // Snapshots, then aggregates computed from the snapshots
+        int plannedItems = plannedItemSnapshotRepository.insertBudgetYear(budgetYear);
+        int distributions = itemDistributionSnapshotRepository.insertBudgetYear(budgetYear);
+        int budgetModifications = budgetModificationSnapshotRepository.insertBudgetYear(budgetYear);
+        int aggregates = planYearAggregateRepository.insertDomains(budgetYear)
+                + planYearAggregateRepository.insertRubrics(budgetYear)
+                + planYearAggregateRepository.insertItems(budgetYear)
+                + planYearAggregateRepository.insertFinancialOperations(budgetYear)
+                + planYearAggregateRepository.insertBudgetTypes(budgetYear)
+                + planYearAggregateRepository.insertStructures(budgetYear)
+                + planYearAggregateRepository.insertTotal(budgetYear);
+        log.info("Budget year {} snapshotted: {} planned items, {} distributions, {} budget modifications, {} aggregates",
+                budgetYear, plannedItems, distributions, budgetModifications, aggregates);
+
+        // Live rows, children first
+        long retained = plannedItemRepository.countLinkedInBudgetYear(budgetYear);
+        int removedDistributions = itemDistributionRepository.deleteBudgetYear(budgetYear);
+        int removedPlannedItems = plannedItemRepository.deleteBudgetYear(budgetYear);
+        int removedCells = planRollupRepository.deleteBudgetYear(budgetYear);
+        int removedBudgetModifications = budgetModificationRepository.deleteUnreferencedOfBudgetYear(budgetYear);
+        log.info("Budget year {} removed from live tables: {} planned items ({} retained by contracts or consultations), "
+                + "{} distributions, {} rollup cells, {} budget modifications",
+                budgetYear, removedPlannedItems, retained, removedDistributions, removedCells, removedBudgetModifications);
+
+        Object[] totals = plannedItemSnapshotRepository.getBudgetYearTotals(budgetYear).get(0);
+        closedBudgetYear.setPlannedItemCount(plannedItems);
+        closedBudgetYear.setDistributionCount(distributions);
+        closedBudgetYear.setBudgetModificationCount(budgetModifications);
+        closedBudgetYear.setRetainedPlannedItemCount(retained);
+        closedBudgetYear.setAllocatedAmount(((Number) totals[1]).doubleValue());
+        closedBudgetYear.setTotalPlannedCost(((Number) totals[2]).doubleValue());
+        return ClosedBudgetYearDTO.fromEntity(closedBudgetYearRepository.save(closedBudgetYear));
+    }
+
+    // ========== WRITE GUARDS ==========
+
+    /**
+     * Reject writes to a financial operation of a closed budget year
+     */
+    @Transactional(readOnly = true)
+    public void requireOpenFinancialOperation(Long financialOperationId) {
+        if (financialOperationId != null && closedBudgetYearRepository.isFinancialOperationClosed(financialOperationId)) {
+            throw new BusinessValidationException("Financial operation belongs to a closed budget year", "financialOperationId", financialOperationId);
+        }
+    }
+
+    /**
+     * Reject writes to a planned item (or its distributions) of a closed budget year
+     */
+    @Transactional(readOnly = true)
+    public void requireOpenPlannedItem(Long plannedItemId) {
+        if (plannedItemId != null && closedBudgetYearRepository.isPlannedItemClosed(plannedItemId)) {
+            throw new BusinessValidationException("Planned item belongs to a closed budget year", "plannedItemId", plannedItemId);
+        }
+    }
+
+    /**
+     * Reject moving a financial operation into a closed budget year
+     */
+    @Transactional(readOnly = true)
+    public void requireOpenBudgetYear(String budgetYear) {
+        if (budgetYear != null && closedBudgetYearRepository.existsByBudgetYear(budgetYear)) {
+            throw new BusinessValidationException("Budget year " + budgetYear + " is closed", "budgetYear", budgetYear);
+        }
+    }
+
+    // ========== HISTORY ==========
+
+    @Transactional(readOnly = true)
+    public List<ClosedBudgetYearDTO> getClosedBudgetYears() {
+        log.debug("Getting closed budget years");
+
+        return closedBudgetYearRepository.findAllOrderByBudgetYear().stream()
+                .map(ClosedBudgetYearDTO::fromEntity)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public ClosedBudgetYearDTO getClosedBudgetYear(String budgetYear) {
+        log.debug("Getting closed budget year {}", budgetYear);
+
+        return closedBudgetYearRepository.findByBudgetYear(budgetYear)
+                .map(ClosedBudgetYearDTO::fromEntity)
+                .orElseThrow(() -> new ResourceNotFoundException("Closed budget year", budgetYear));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PlannedItemSnapshotDTO> getPlannedItems(String budgetYear, Long domainId, Long rubricId, Long itemId,
+                                                        Long financialOperationId, Pageable pageable) {
+        log.debug("Getting planned items of closed budget year {}", budgetYear);
+
+        requireClosed(budgetYear);
+        return plannedItemSnapshotRepository.findByBudgetYear(budgetYear, domainId, rubricId, itemId, financialOperationId, pageable)
+                .map(PlannedItemSnapshotDTO::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ItemDistributionSnapshotDTO> getItemDistributions(String budgetYear, Long structureId, Long itemId,
+                                                                  Long plannedItemId, Pageable pageable) {
+        log.debug("Getting item distributions of closed budget year {}", budgetYear);
+
+        requireClosed(budgetYear);
+        return itemDistributionSnapshotRepository.findByBudgetYear(budgetYear, structureId, itemId, plannedItemId, pageable)
+                .map(ItemDistributionSnapshotDTO::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<BudgetModificationSnapshotDTO> getBudgetModifications(String budgetYear, Pageable pageable) {
+        log.debug("Getting budget modifications of closed budget year {}", budgetYear);
+
+        requireClosed(budgetYear);
+        return budgetModificationSnapshotRepository.findByBudgetYear(budgetYear, pageable)
+                .map(BudgetModificationSnapshotDTO::fromEntity);
+    }
+
+    /**
+     * Get the prebuilt aggregates of a closed budget year at one level
+     * (domain, rubric, item, financialOperation, budgetType, structure or total)
+     */
+    @Transactional(readOnly = true)
+    public List<PlanRollupDTO> getAggregates(String budgetYear, String level) {
+        PlanYearAggregate.Level resolved = parseLevel(level);
+        log.debug("Getting {} aggregates of closed budget year {}", resolved, budgetYear);
+
+        requireClosed(budgetYear);
+        return planYearAggregateRepository.findByBudgetYearAndLevel(budgetYear, resolved).stream()
+                .map(PlanRollupDTO::fromAggregate)
+                .toList();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void requireClosed(String budgetYear) {
+        if (!closedBudgetYearRepository.existsByBudgetYear(budgetYear)) {
+            throw new ResourceNotFoundException("Closed budget year", budgetYear);
+        }
+    }
+
+    /**
+     * Only past years can be closed, and only once
+     */
+    private void validateClosable(String budgetYear) {
+        if (budgetYear == null || !budgetYear.matches("^[0-9]{4}$")) {
+            throw new BusinessValidationException("Budget year must be a valid 4-digit year", "budgetYear", budgetYear);
+        }
+        if (Integer.parseInt(budgetYear) >= Year.now().getValue()) {
+            throw new BusinessValidationException("Only past budget years can be closed", "budgetYear", budgetYear);
+        }
+        if (closedBudgetYearRepository.existsByBudgetYear(budgetYear)) {
+            throw new BusinessValidationException("Budget year " + budgetYear + " is already closed", "budgetYear", budgetYear);
+        }
+    }
+
+    private static PlanYearAggregate.Level parseLevel(String value) {
+        String normalized = value.replaceAll("([a-z])([A-Z])", "$1_$2").replace('-', '_').toUpperCase(Locale.ROOT);
+        try {
+            return PlanYearAggregate.Level.valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Unknown aggregate level", "level", value);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: CatalogService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import dz.mdn.raas.business.plan.dto.CatalogTreeDTO;
+import dz.mdn.raas.business.plan.repository.DomainRepository;
+import dz.mdn.raas.business.plan.repository.ItemRepository;
+import dz.mdn.raas.business.plan.repository.RubricRepository;
+import dz.mdn.raas.configuration.routing.ReadWriteRoutingDataSource;
+import dz.mdn.raas.configuration.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Catalog Service
+ * Builds the Domain → Rubric → Item tree with one query per level, assembles it in memory and serializes it once
+ * to compact JSON, kept with its gzip form and an ETag per form (MD5 of the JSON, suffixed with -gz for gzip).
+ * The encoded tree is cached until a domain, rubric or item write commits; a build started before such a commit
+ * is served but not cached. Builds read the primary, so that a lagging replica cannot refill the cache with
+ * the tree before the commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CatalogService {
+
+    private final DomainRepository domainRepository;
+    private final RubricRepository rubricRepository;
+    private final ItemRepository itemRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile EncodedTree cachedTree;
+
+    /**
+     * Pre-encoded catalog tree
+     *
+     * @param json compact JSON of the CatalogTreeDTO
+     * @param gzip the same bytes gzip compressed
+     * @param etag strong entity tag of the JSON, quoted
+     * @param gzipEtag strong entity tag of the gzip bytes, quoted
+     */
+    public record EncodedTree(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+    }
+
+    // ========== TREE ==========
+
+    /**
+     * Get the encoded catalog tree, built on first use after a change
+     */
+    public EncodedTree getTree() {
+        EncodedTree tree = cachedTree;
+        if (tree == null) {
+            long loadGeneration = generation.get();
+            tree = encode(ReadWriteRoutingDataSource.onPrimary(this::buildTree));
+            if (generation.get() == loadGeneration) {
+                cachedTree = tree;
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * Drop the cached tree once the current transaction commits (domain, rubric and item writes)
+     */
+    public void catalogChanged() {
+        AfterCommit.run(() -> evictTree());
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private CatalogTreeDTO buildTree() {
+        long started = System.currentTimeMillis();
+
+        List<CatalogTreeDTO.Node> domains = new ArrayList<>();
+        Map<Long, CatalogTreeDTO.Node> domainsById = new HashMap<>();
+        for (Object[] row : domainRepository.findCatalogRows()) {
+            CatalogTreeDTO.Node domain = new CatalogTreeDTO.Node((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+            domains.add(domain);
+            domainsById.put(domain.getId(), domain);
+        }
+
+        List<Object[]> rubricRows = rubricRepository.findCatalogRows();
+        Map<Long, CatalogTreeDTO.Node> rubricsById = new HashMap<>(rubricRows.size() * 2);
+        for (Object[] row : rubricRows) {
+            CatalogTreeDTO.Node rubric = new CatalogTreeDTO.Node((Long) row[0], (String) row[2], (String) row[3], (String) row[4]);
+            domainsById.get((Long) row[1]).getChildren().add(rubric);
+            rubricsById.put(rubric.getId(), rubric);
+        }
+
+        List<Object[]> itemRows = itemRepository.findCatalogRows();
+        for (Object[] row : itemRows) {
+            CatalogTreeDTO.Node item = new CatalogTreeDTO.Node((Long) row[0], (String) row[2], (String) row[3], (String) row[4]);
+            rubricsById.get((Long) row[1]).getChildren().add(item);
+        }
+
+        log.info("Built catalog tree of {} domains, {} rubrics and {} items in {} ms",
+                domains.size(), rubricRows.size(), itemRows.size(), System.currentTimeMillis() - started);
+        return CatalogTreeDTO.builder()
+                .domainCount(domains.size())
+                .rubricCount(rubricRows.size())
+                .itemCount(itemRows.size())
+                .domains(domains)
+                .build();
+    }
+
+    private EncodedTree encode(CatalogTreeDTO tree) {
+        try {
+            byte[] json = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(tree);
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream output = new GZIPOutputStream(gzip)) {
+                output.write(json);
+            }
+            String digest = DigestUtils.md5DigestAsHex(json);
+            return new EncodedTree(json, gzip.toByteArray(), "\"" + digest + "\"", "\"" + digest + "-gz\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize the catalog tree", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void evictTree() {
+        generation.incrementAndGet();
+        cachedTree = null;
+    }
+}
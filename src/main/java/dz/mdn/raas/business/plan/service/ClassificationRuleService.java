@@ -0,0 +1,278 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClassificationRuleService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.plan.dto.ClassificationRuleDTO;
+import dz.mdn.raas.business.plan.model.ClassificationCondition;
+import dz.mdn.raas.business.plan.model.ClassificationCondition.Measure;
+import dz.mdn.raas.business.plan.model.ClassificationCondition.Type;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+import dz.mdn.raas.business.plan.model.ClassificationRule.Priority;
+import dz.mdn.raas.business.plan.model.ClassificationRule.Target;
+import dz.mdn.raas.business.plan.repository.ClassificationRuleRepository;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ClassificationRule Service with CRUD operations
+ * Every rule change reclassifies the rows of the targets it affects in the same transaction.
+ * When no rule exists at startup, the default rules (the keyword, quantity and cost criteria the priority
+ * views used to evaluate with LIKE queries) are created and every row is classified.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ClassificationRuleService {
+
+    private static final Set<Measure> AMOUNT_MEASURES = EnumSet.of(Measure.QUANTITY, Measure.UNIT_COST, Measure.TOTAL_COST, Measure.ALLOCATED_AMOUNT);
+    private static final Set<Measure> RATIO_MEASURES = EnumSet.of(Measure.OVERRUN, Measure.SHARE);
+
+    private final ClassificationRuleRepository classificationRuleRepository;
+    private final ClassificationService classificationService;
+
+    // ========== CREATE OPERATIONS ==========
+
+    /**
+     * Create a rule and reclassify its target
+     */
+    public ClassificationRuleDTO createRule(ClassificationRuleDTO ruleDTO) {
+        log.info("Creating {} classification rule: {}", ruleDTO.getTarget(), ruleDTO.getDesignation());
+
+        validateRule(ruleDTO);
+        ClassificationRule rule = new ClassificationRule();
+        mapDtoToEntity(ruleDTO, rule);
+        ClassificationRule savedRule = classificationRuleRepository.save(rule);
+
+        classificationService.reclassify(savedRule.getTarget());
+        classificationService.rulesChanged();
+        log.info("Successfully created classification rule with ID: {}", savedRule.getId());
+
+        return ClassificationRuleDTO.fromEntity(savedRule);
+    }
+
+    // ========== READ OPERATIONS ==========
+
+    /**
+     * Get every rule in evaluation order
+     */
+    @Transactional(readOnly = true)
+    public List<ClassificationRuleDTO> getAllRules() {
+        log.debug("Getting all classification rules");
+
+        return classificationRuleRepository.findAllInEvaluationOrder().stream()
+                .map(ClassificationRuleDTO::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Get rule by ID
+     */
+    @Transactional(readOnly = true)
+    public ClassificationRuleDTO getRuleById(Long id) {
+        log.debug("Getting classification rule with ID: {}", id);
+
+        return ClassificationRuleDTO.fromEntity(getRuleEntityById(id));
+    }
+
+    // ========== UPDATE OPERATIONS ==========
+
+    /**
+     * Update a rule and reclassify its previous and new targets
+     */
+    public ClassificationRuleDTO updateRule(Long id, ClassificationRuleDTO ruleDTO) {
+        log.info("Updating classification rule with ID: {}", id);
+
+        ClassificationRule existingRule = getRuleEntityById(id);
+        validateRule(ruleDTO);
+        Target previousTarget = existingRule.getTarget();
+
+        mapDtoToEntity(ruleDTO, existingRule);
+        ClassificationRule updatedRule = classificationRuleRepository.saveAndFlush(existingRule);
+
+        classificationService.reclassify(updatedRule.getTarget());
+        if (previousTarget != updatedRule.getTarget()) {
+            classificationService.reclassify(previousTarget);
+        }
+        classificationService.rulesChanged();
+        log.info("Successfully updated classification rule with ID: {}", id);
+
+        return ClassificationRuleDTO.fromEntity(updatedRule);
+    }
+
+    // ========== DELETE OPERATIONS ==========
+
+    /**
+     * Delete a rule and reclassify its target
+     */
+    public void deleteRule(Long id) {
+        log.info("Deleting classification rule with ID: {}", id);
+
+        ClassificationRule rule = getRuleEntityById(id);
+        classificationRuleRepository.delete(rule);
+        classificationRuleRepository.flush();
+
+        classificationService.reclassify(rule.getTarget());
+        classificationService.rulesChanged();
+        log.info("Successfully deleted classification rule with ID: {}", id);
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Reclassify every item, planned item and item distribution (drift repair)
+     */
+    public Map<Target, Integer> reclassifyAll() {
+        log.info("Reclassifying every item, planned item and item distribution");
+
+        return classificationService.reclassifyAll();
+    }
+
+    /**
+     * Create the default rules and classify every row when no rule exists (first start)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createDefaultRulesIfEmpty() {
+        if (classificationRuleRepository.count() > 0) {
+            return;
+        }
+        log.info("No classification rule found, creating the default rules");
+
+        int order = 0;
+        // Items: high priority designations
+        save(Target.ITEM, order++, "Equipment", Priority.HIGH, "EQUIPMENT", keyword("équipement|equipment"));
+        save(Target.ITEM, order++, "Infrastructure", Priority.HIGH, "INFRASTRUCTURE", keyword("infrastructure"));
+        save(Target.ITEM, order++, "Resource", Priority.HIGH, "RESOURCE", keyword("ressource|resource"));
+
+        // Planned items: over budget by more than 20%, high cost and large quantity
+        save(Target.PLANNED_ITEM, order++, "Over budget", Priority.URGENT, "OVER_BUDGET", condition(Type.RATIO, Measure.OVERRUN, 0.2));
+        save(Target.PLANNED_ITEM, order++, "High cost and large quantity", Priority.CRITICAL, null,
+                condition(Type.AMOUNT, Measure.UNIT_COST, 1000), condition(Type.AMOUNT, Measure.QUANTITY, 50));
+
+        // Item distributions: large quantities of equipment or infrastructure are urgent, any of them or a quantity above 50 is high
+        save(Target.ITEM_DISTRIBUTION, order++, "Large equipment distribution", Priority.URGENT, "EQUIPMENT",
+                keyword("équipement|equipment"), condition(Type.AMOUNT, Measure.QUANTITY, 100));
+        save(Target.ITEM_DISTRIBUTION, order++, "Large infrastructure distribution", Priority.URGENT, "INFRASTRUCTURE",
+                keyword("infrastructure"), condition(Type.AMOUNT, Measure.QUANTITY, 100));
+        save(Target.ITEM_DISTRIBUTION, order++, "Equipment distribution", Priority.HIGH, "EQUIPMENT", keyword("équipement|equipment"));
+        save(Target.ITEM_DISTRIBUTION, order++, "Infrastructure distribution", Priority.HIGH, "INFRASTRUCTURE", keyword("infrastructure"));
+        save(Target.ITEM_DISTRIBUTION, order++, "Large distribution", Priority.HIGH, null, condition(Type.AMOUNT, Measure.QUANTITY, 50));
+        classificationRuleRepository.flush();
+
+        log.info("Created {} default classification rules, classified rows: {}", order, classificationService.reclassifyAll());
+        classificationService.rulesChanged();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private ClassificationRule getRuleEntityById(Long id) {
+        return classificationRuleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Classification rule", id));
+    }
+
+    private void mapDtoToEntity(ClassificationRuleDTO dto, ClassificationRule entity) {
+        entity.setTarget(dto.getTarget());
+        entity.setEvaluationOrder(dto.getEvaluationOrder() != null ? dto.getEvaluationOrder() : 0);
+        entity.setDesignation(dto.getDesignation().trim());
+        entity.setPriority(dto.getPriority());
+        entity.setCategory(dto.getCategory() != null && !dto.getCategory().isBlank() ? dto.getCategory().trim() : null);
+        entity.setActive(dto.getActive() == null || dto.getActive());
+
+        entity.getConditions().clear();
+        for (ClassificationRuleDTO.Condition conditionDTO : dto.getConditions()) {
+            ClassificationCondition condition = new ClassificationCondition();
+            condition.setType(conditionDTO.getType());
+            condition.setMeasure(conditionDTO.getType() != Type.KEYWORD ? conditionDTO.getMeasure() : null);
+            condition.setKeyword(conditionDTO.getType() == Type.KEYWORD ? conditionDTO.getKeyword().trim() : null);
+            condition.setThreshold(conditionDTO.getType() != Type.KEYWORD ? conditionDTO.getThreshold() : null);
+            condition.setRule(entity);
+            entity.getConditions().add(condition);
+        }
+    }
+
+    /**
+     * Validate that the rule sets a priority or category and that each condition is complete and applies to the target
+     */
+    private void validateRule(ClassificationRuleDTO dto) {
+        if (dto.getPriority() == null && (dto.getCategory() == null || dto.getCategory().isBlank())) {
+            throw new BusinessValidationException("A rule must set a priority or a category");
+        }
+        for (ClassificationRuleDTO.Condition condition : dto.getConditions()) {
+            switch (condition.getType()) {
+                case KEYWORD -> {
+                    if (condition.getKeyword() == null || condition.getKeyword().replace("|", "").isBlank()) {
+                        throw new BusinessValidationException("Keyword is required for keyword conditions", "keyword", condition.getKeyword());
+                    }
+                }
+                case AMOUNT, RATIO -> {
+                    Set<Measure> measures = condition.getType() == Type.AMOUNT ? AMOUNT_MEASURES : RATIO_MEASURES;
+                    if (condition.getMeasure() == null || !measures.contains(condition.getMeasure())) {
+                        throw new BusinessValidationException("Measure " + condition.getMeasure() + " is not a " + condition.getType() + " measure",
+                                "measure", condition.getMeasure());
+                    }
+                    if (condition.getThreshold() == null) {
+                        throw new BusinessValidationException("Threshold is required for " + condition.getType() + " conditions", "threshold", null);
+                    }
+                    if (dto.getTarget() == Target.ITEM
+                            || (dto.getTarget() == Target.PLANNED_ITEM && condition.getMeasure() == Measure.SHARE)) {
+                        throw new BusinessValidationException("Measure " + condition.getMeasure() + " does not apply to " + dto.getTarget(),
+                                "measure", condition.getMeasure());
+                    }
+                }
+            }
+        }
+    }
+
+    private void save(Target target, int order, String designation, Priority priority, String category, ClassificationCondition... conditions) {
+        ClassificationRule rule = new ClassificationRule();
+        rule.setTarget(target);
+        rule.setEvaluationOrder(order);
+        rule.setDesignation(designation);
+        rule.setPriority(priority);
+        rule.setCategory(category);
+        rule.setActive(true);
+        for (ClassificationCondition condition : conditions) {
+            condition.setRule(rule);
+            rule.getConditions().add(condition);
+        }
+        classificationRuleRepository.save(rule);
+    }
+
+    private static ClassificationCondition keyword(String keyword) {
+        ClassificationCondition condition = new ClassificationCondition();
+        condition.setType(Type.KEYWORD);
+        condition.setKeyword(keyword);
+        return condition;
+    }
+
+    private static ClassificationCondition condition(Type type, Measure measure, double threshold) {
+        ClassificationCondition condition = new ClassificationCondition();
+        condition.setType(type);
+        condition.setMeasure(measure);
+        condition.setThreshold(threshold);
+        return condition;
+    }
+}
@@ -0,0 +1,402 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ClassificationService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.plan.model.ClassificationCondition;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
+import dz.mdn.raas.business.plan.model.ClassificationRule.Target;
+import dz.mdn.raas.business.plan.model.Item;
+import dz.mdn.raas.business.plan.model.ItemDistribution;
+import dz.mdn.raas.business.plan.model.PlannedItem;
+import dz.mdn.raas.business.plan.repository.ClassificationRuleRepository;
+import dz.mdn.raas.business.plan.repository.ItemDistributionRepository;
+import dz.mdn.raas.business.plan.repository.ItemRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.configuration.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Classification Service
+ * Evaluates the classification rules when items, planned items and item distributions are written and stores
+ * the resulting priority and category in indexed columns, read by the priority views instead of LIKE '%...%' scans:
+ * - single writes classify the entity in memory before it is saved
+ * - a changed item or planned item reclassifies its dependent rows (keyword, cost and quantity facts come from them)
+ * - imports and rule changes reclassify in keyset batches, with one update per distinct outcome and batch,
+ *   and only rows whose classification changes are written
+ * Active rules are compiled once and cached until a rule change commits.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class ClassificationService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ClassificationRuleRepository classificationRuleRepository;
+    private final ItemRepository itemRepository;
+    private final PlannedItemRepository plannedItemRepository;
+    private final ItemDistributionRepository itemDistributionRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Map<Target, List<CompiledRule>> cachedRules;
+
+    // ========== SINGLE WRITES ==========
+
+    /**
+     * Classify an item about to be saved
+     */
+    public void classify(Item item) {
+        Outcome outcome = evaluate(rules(Target.ITEM), itemFacts(item));
+        item.setClassificationPriority(outcome.priority());
+        item.setClassificationCategory(outcome.category());
+    }
+
+    /**
+     * Classify a planned item about to be saved, its item must be set
+     */
+    public void classify(PlannedItem plannedItem) {
+        Outcome outcome = evaluate(rules(Target.PLANNED_ITEM), plannedItemFacts(plannedItem));
+        plannedItem.setClassificationPriority(outcome.priority());
+        plannedItem.setClassificationCategory(outcome.category());
+    }
+
+    /**
+     * Classify an item distribution about to be saved, its planned item must be set
+     */
+    public void classify(ItemDistribution itemDistribution) {
+        Outcome outcome = evaluate(rules(Target.ITEM_DISTRIBUTION), distributionFacts(itemDistribution));
+        itemDistribution.setClassificationPriority(outcome.priority());
+        itemDistribution.setClassificationCategory(outcome.category());
+    }
+
+    /**
+     * Classify a new distribution from the facts of its planned item read by a projection, without loading the planned item
+     * Row starts with: [designation, item designationFr, designationEn, designationAr, unitairCost, allocatedAmount, planedQuantity]
+     */
+    public void classify(ItemDistribution itemDistribution, Object[] plannedItemFacts) {
+        Facts facts = new Facts(text(plannedItemFacts[0], plannedItemFacts[1], plannedItemFacts[2], plannedItemFacts[3]),
+                itemDistribution.getQuantity(), number(plannedItemFacts[4]), number(plannedItemFacts[5]), number(plannedItemFacts[6]));
+        Outcome outcome = evaluate(rules(Target.ITEM_DISTRIBUTION), facts);
+        itemDistribution.setClassificationPriority(outcome.priority());
+        itemDistribution.setClassificationCategory(outcome.category());
+    }
+
+    /**
+     * Reclassify the planned items and distributions of an updated item (designations changed)
+     */
+    public void itemChanged(Long itemId) {
+        reclassifyPlannedItems(rules(Target.PLANNED_ITEM), itemId);
+        reclassifyDistributions(rules(Target.ITEM_DISTRIBUTION), itemId, null);
+    }
+
+    /**
+     * Reclassify the distributions of an updated planned item (costs, quantities or item changed)
+     */
+    public void plannedItemChanged(Long plannedItemId) {
+        reclassifyDistributions(rules(Target.ITEM_DISTRIBUTION), null, plannedItemId);
+    }
+
+    /**
+     * Classify planned items inserted without their facts loaded (bulk imports), after their inserts are flushed
+     */
+    public void plannedItemsImported(Collection<Long> plannedItemIds) {
+        if (!plannedItemIds.isEmpty()) {
+            write(rules(Target.PLANNED_ITEM), plannedItemRepository.findClassificationFactsByIds(plannedItemIds),
+                    ClassificationService::plannedItemFacts, plannedItemRepository::updateClassification);
+        }
+    }
+
+    /**
+     * Classify item distributions inserted without their facts loaded (bulk imports), after their inserts are flushed
+     */
+    public void distributionsImported(Collection<Long> itemDistributionIds) {
+        if (!itemDistributionIds.isEmpty()) {
+            write(rules(Target.ITEM_DISTRIBUTION), itemDistributionRepository.findClassificationFactsByIds(itemDistributionIds),
+                    ClassificationService::distributionFacts, itemDistributionRepository::updateClassification);
+        }
+    }
+
+    // ========== RULE CHANGES ==========
+
+    /**
+     * Reclassify every row of a target with the active rules as seen by the current transaction
+     *
+     * @return number of rows whose classification changed
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public int reclassify(Target target) {
+        List<CompiledRule> rules = compile(classificationRuleRepository.findActiveWithConditions())
+                .getOrDefault(target, List.of());
+        int changed = switch (target) {
+            case ITEM -> inBatches(afterId -> itemRepository.findClassificationFacts(afterId, batch()),
+                    rules, ClassificationService::itemFacts, itemRepository::updateClassification);
+            case PLANNED_ITEM -> reclassifyPlannedItems(rules, null);
+            case ITEM_DISTRIBUTION -> reclassifyDistributions(rules, null, null);
+        };
+        log.info("Reclassified {} rows: {} changed", target, changed);
+        return changed;
+    }
+
+    /**
+     * Reclassify every item, planned item and item distribution
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public Map<Target, Integer> reclassifyAll() {
+        Map<Target, Integer> changed = new EnumMap<>(Target.class);
+        for (Target target : Target.values()) {
+            changed.put(target, reclassify(target));
+        }
+        return changed;
+    }
+
+    /**
+     * Drop the compiled rules once the current transaction commits
+     */
+    public void rulesChanged() {
+        AfterCommit.run(() -> evictRules());
+    }
+
+    // ========== BATCHES ==========
+
+    /**
+     * Planned items of an item, or every planned item when itemId is null; each filter has its own query so that it uses its index
+     */
+    private int reclassifyPlannedItems(List<CompiledRule> rules, Long itemId) {
+        LongFunction<List<Object[]>> nextBatch = itemId != null
+                ? afterId -> plannedItemRepository.findClassificationFactsByItem(itemId, afterId, batch())
+                : afterId -> plannedItemRepository.findClassificationFacts(afterId, batch());
+        return inBatches(nextBatch, rules, ClassificationService::plannedItemFacts, plannedItemRepository::updateClassification);
+    }
+
+    /**
+     * Distributions of an item or of a planned item, or every distribution when both are null
+     */
+    private int reclassifyDistributions(List<CompiledRule> rules, Long itemId, Long plannedItemId) {
+        LongFunction<List<Object[]>> nextBatch;
+        if (plannedItemId != null) {
+            nextBatch = afterId -> itemDistributionRepository.findClassificationFactsByPlannedItem(plannedItemId, afterId, batch());
+        } else if (itemId != null) {
+            nextBatch = afterId -> itemDistributionRepository.findClassificationFactsByItem(itemId, afterId, batch());
+        } else {
+            nextBatch = afterId -> itemDistributionRepository.findClassificationFacts(afterId, batch());
+        }
+        return inBatches(nextBatch, rules, ClassificationService::distributionFacts, itemDistributionRepository::updateClassification);
+    }
+
+    private int inBatches(LongFunction<List<Object[]>> nextBatch, List<CompiledRule> rules, Function<Object[], Facts> facts, Updater updater) {
+        int changed = 0;
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = nextBatch.apply(afterId);
+            if (rows.isEmpty()) {
+                break;
+            }
+            changed += write(rules, rows, facts, updater);
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        } while (rows.size() == BATCH_SIZE);
+        return changed;
+    }
+
+    /**
+     * Write the outcome of each row whose stored classification (last two columns) differs, grouped by outcome
+     */
+    private int write(List<CompiledRule> rules, List<Object[]> rows, Function<Object[], Facts> facts, Updater updater) {
+        Map<Outcome, List<Long>> changes = new HashMap<>();
+        for (Object[] row : rows) {
+            Outcome outcome = evaluate(rules, facts.apply(row));
+            Outcome stored = new Outcome(((Number) row[row.length - 2]).intValue(), (String) row[row.length - 1]);
+            if (!outcome.equals(stored)) {
+                changes.computeIfAbsent(outcome, key -> new ArrayList<>()).add((Long) row[0]);
+            }
+        }
+        int changed = 0;
+        for (Map.Entry<Outcome, List<Long>> change : changes.entrySet()) {
+            changed += updater.update(change.getValue(), change.getKey().priority(), change.getKey().category());
+        }
+        return changed;
+    }
+
+    private static Pageable batch() {
+        return PageRequest.of(0, BATCH_SIZE);
+    }
+
+    // ========== EVALUATION ==========
+
+    private static Outcome evaluate(List<CompiledRule> rules, Facts facts) {
+        int priority = ClassificationRule.Priority.NORMAL.ordinal();
+        String category = null;
+        for (CompiledRule rule : rules) {
+            if (rule.matches(facts)) {
+                if (rule.priority() != null) {
+                    priority = Math.max(priority, rule.priority().ordinal());
+                }
+                if (category == null) {
+                    category = rule.category();
+                }
+            }
+        }
+        return new Outcome(priority, category);
+    }
+
+    private List<CompiledRule> rules(Target target) {
+        Map<Target, List<CompiledRule>> rules = cachedRules;
+        if (rules == null) {
+            long loadGeneration = generation.get();
+            rules = compile(classificationRuleRepository.findActiveWithConditions());
+            if (generation.get() == loadGeneration) {
+                cachedRules = rules;
+            }
+        }
+        return rules.getOrDefault(target, List.of());
+    }
+
+    private void evictRules() {
+        generation.incrementAndGet();
+        cachedRules = null;
+    }
+
+    private static Map<Target, List<CompiledRule>> compile(List<ClassificationRule> rules) {
+        Map<Target, List<CompiledRule>> compiled = new EnumMap<>(Target.class);
+        for (ClassificationRule rule : rules) {
+            List<Predicate<Facts>> conditions = rule.getConditions().stream().map(ClassificationService::compile).toList();
+            compiled.computeIfAbsent(rule.getTarget(), target -> new ArrayList<>())
+                    .add(new CompiledRule(rule.getPriority(), rule.getCategory(), conditions));
+        }
+        return compiled;
+    }
+
+    private static Predicate<Facts> compile(ClassificationCondition condition) {
+        double threshold = condition.getThreshold() != null ? condition.getThreshold() : 0;
+        return switch (condition.getType()) {
+            case KEYWORD -> {
+                List<String> keywords = Arrays.stream(condition.getKeyword().split("\\|"))
+                        .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                        .filter(keyword -> !keyword.isEmpty())
+                        .toList();
+                yield facts -> keywords.stream().anyMatch(facts.text()::contains);
+            }
+            case AMOUNT -> switch (condition.getMeasure()) {
+                case QUANTITY -> facts -> facts.quantity() > threshold;
+                case UNIT_COST -> facts -> facts.unitCost() > threshold;
+                case TOTAL_COST -> facts -> facts.quantity() * facts.unitCost() > threshold;
+                case ALLOCATED_AMOUNT -> facts -> facts.allocatedAmount() > threshold;
+                default -> throw new IllegalStateException("Not an amount measure: " + condition.getMeasure());
+            };
+            case RATIO -> switch (condition.getMeasure()) {
+                // Compared as products: an over-spent planned item without allocation is always over budget
+                case OVERRUN -> facts -> facts.unitCost() * facts.plannedQuantity() - facts.allocatedAmount() > threshold * facts.allocatedAmount();
+                case SHARE -> facts -> facts.plannedQuantity() > 0 && facts.quantity() > threshold * facts.plannedQuantity();
+                default -> throw new IllegalStateException("Not a ratio measure: " + condition.getMeasure());
+            };
+        };
+    }
+
+    // ========== FACTS ==========
+
+    private static Facts itemFacts(Item item) {
+        return new Facts(text(item.getDesignationFr(), item.getDesignationEn(), item.getDesignationAr()), 0, 0, 0, 0);
+    }
+
+    private static Facts itemFacts(Object[] row) {
+        return new Facts(text(row[1], row[2], row[3]), 0, 0, 0, 0);
+    }
+
+    private static Facts plannedItemFacts(PlannedItem plannedItem) {
+        Item item = plannedItem.getItem();
+        return new Facts(text(plannedItem.getDesignation(), item.getDesignationFr(), item.getDesignationEn(), item.getDesignationAr()),
+                plannedItem.getPlanedQuantity(), plannedItem.getUnitairCost(), plannedItem.getAllocatedAmount(), plannedItem.getPlanedQuantity());
+    }
+
+    private static Facts plannedItemFacts(Object[] row) {
+        return new Facts(text(row[1], row[2], row[3], row[4]),
+                number(row[5]), number(row[6]), number(row[7]), number(row[5]));
+    }
+
+    private static Facts distributionFacts(ItemDistribution itemDistribution) {
+        PlannedItem plannedItem = itemDistribution.getPlannedItem();
+        Item item = plannedItem.getItem();
+        return new Facts(text(plannedItem.getDesignation(), item.getDesignationFr(), item.getDesignationEn(), item.getDesignationAr()),
+                itemDistribution.getQuantity(), plannedItem.getUnitairCost(), plannedItem.getAllocatedAmount(), plannedItem.getPlanedQuantity());
+    }
+
+    private static Facts distributionFacts(Object[] row) {
+        return new Facts(text(row[1], row[2], row[3], row[4]),
+                number(row[5]), number(row[6]), number(row[7]), number(row[8]));
+    }
+
+    private static String text(Object... designations) {
+        StringBuilder text = new StringBuilder();
+        for (Object designation : designations) {
+            if (designation != null) {
+                text.append(designation.toString().toLowerCase(Locale.ROOT)).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static double number(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0;
+    }
+
+    // ========== TYPES ==========
+
+    /**
+     * Values the conditions are evaluated on. For a distribution, quantity is its own and the costs and
+     * planned quantity are those of its planned item; for a planned item, quantity is its planned quantity.
+     */
+    private record Facts(String text, double quantity, double unitCost, double allocatedAmount, double plannedQuantity) {
+    }
+
+    private record CompiledRule(ClassificationRule.Priority priority, String category, List<Predicate<Facts>> conditions) {
+
+        private boolean matches(Facts facts) {
+            for (Predicate<Facts> condition : conditions) {
+                if (!condition.test(facts)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Outcome(int priority, String category) {
+    }
+
+    @FunctionalInterface
+    private interface Updater {
+        int update(Collection<Long> ids, int priority, String category);
+    }
+}
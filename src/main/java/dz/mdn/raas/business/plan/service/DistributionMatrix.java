@@ -0,0 +1,226 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: DistributionMatrix
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.util.Arrays;
+
+/**
+ * DistributionMatrix
+ *
+ * Sparse structure by planned item matrix accumulated from streamed distribution rows, on primitive arrays only:
+ * rows, columns and cells are numbered in order of first appearance through open-addressing long keyed indexes
+ * (a cell is keyed by row and column packed in one long), and quantities, costs and row/column totals are kept in
+ * growable double arrays. Several distributions of the same structure and planned item add up in one cell.
+ */
+final class DistributionMatrix {
+
+    private final LongIndex rows = new LongIndex();
+    private final LongIndex columns = new LongIndex();
+    private final LongIndex cells = new LongIndex();
+
+    private double[] rowQuantities = new double[16];
+    private double[] rowCosts = new double[16];
+    private double[] columnQuantities = new double[16];
+    private double[] columnCosts = new double[16];
+
+    private int[] cellRows = new int[256];
+    private int[] cellColumns = new int[256];
+    private double[] cellQuantities = new double[256];
+    private double[] cellCosts = new double[256];
+
+    /**
+     * Register a column before any cell, so that columns without distributions are kept
+     */
+    int column(long plannedItemId) {
+        int column = columns.add(plannedItemId);
+        if (column == columnQuantities.length) {
+            columnQuantities = Arrays.copyOf(columnQuantities, column * 2);
+            columnCosts = Arrays.copyOf(columnCosts, column * 2);
+        }
+        return column;
+    }
+
+    void add(long structureId, long plannedItemId, double quantity, double unitCost) {
+        int row = rows.add(structureId);
+        if (row == rowQuantities.length) {
+            rowQuantities = Arrays.copyOf(rowQuantities, row * 2);
+            rowCosts = Arrays.copyOf(rowCosts, row * 2);
+        }
+        int column = column(plannedItemId);
+
+        int cell = cells.add(((long) row << 32) | column);
+        if (cell == cellRows.length) {
+            cellRows = Arrays.copyOf(cellRows, cell * 2);
+            cellColumns = Arrays.copyOf(cellColumns, cell * 2);
+            cellQuantities = Arrays.copyOf(cellQuantities, cell * 2);
+            cellCosts = Arrays.copyOf(cellCosts, cell * 2);
+        }
+        cellRows[cell] = row;
+        cellColumns[cell] = column;
+
+        double cost = quantity * unitCost;
+        cellQuantities[cell] += quantity;
+        cellCosts[cell] += cost;
+        rowQuantities[row] += quantity;
+        rowCosts[row] += cost;
+        columnQuantities[column] += quantity;
+        columnCosts[column] += cost;
+    }
+
+    // ========== READ ==========
+
+    int rowCount() {
+        return rows.size();
+    }
+
+    int columnCount() {
+        return columns.size();
+    }
+
+    int cellCount() {
+        return cells.size();
+    }
+
+    long rowId(int row) {
+        return rows.key(row);
+    }
+
+    long columnId(int column) {
+        return columns.key(column);
+    }
+
+    double rowQuantity(int row) {
+        return rowQuantities[row];
+    }
+
+    double rowCost(int row) {
+        return rowCosts[row];
+    }
+
+    double columnQuantity(int column) {
+        return columnQuantities[column];
+    }
+
+    double columnCost(int column) {
+        return columnCosts[column];
+    }
+
+    int cellRow(int cell) {
+        return cellRows[cell];
+    }
+
+    int cellColumn(int cell) {
+        return cellColumns[cell];
+    }
+
+    double cellQuantity(int cell) {
+        return cellQuantities[cell];
+    }
+
+    double cellCost(int cell) {
+        return cellCosts[cell];
+    }
+
+    /**
+     * Cells ordered by row rank then column rank, {@code rowRanks[row]} and {@code columnRanks[column]} being the
+     * display positions: cells are bucketed by row in one pass, then each row is sorted by column
+     */
+    int[] cellOrder(int[] rowRanks, int[] columnRanks) {
+        int count = cells.size();
+        int[] rowStarts = new int[rows.size() + 1];
+        for (int cell = 0; cell < count; cell++) {
+            rowStarts[rowRanks[cellRows[cell]] + 1]++;
+        }
+        for (int rank = 0; rank < rows.size(); rank++) {
+            rowStarts[rank + 1] += rowStarts[rank];
+        }
+
+        // Column rank in the high bits, cell number in the low bits: sorting a row's segment sorts it by column
+        long[] packed = new long[count];
+        int[] next = Arrays.copyOf(rowStarts, rows.size());
+        for (int cell = 0; cell < count; cell++) {
+            packed[next[rowRanks[cellRows[cell]]]++] = ((long) columnRanks[cellColumns[cell]] << 32) | cell;
+        }
+        int[] order = new int[count];
+        for (int rank = 0; rank < rows.size(); rank++) {
+            Arrays.sort(packed, rowStarts[rank], rowStarts[rank + 1]);
+        }
+        for (int i = 0; i < count; i++) {
+            order[i] = (int) packed[i];
+        }
+        return order;
+    }
+
+    /**
+     * Open-addressing index of long keys, numbering them 0, 1, 2... in insertion order
+     */
+    private static final class LongIndex {
+
+        private long[] slotKeys = new long[64];
+        private int[] slotNumbers = new int[64]; // Number + 1, 0 marks a free slot
+        private long[] keys = new long[32];
+        private int size;
+
+        /**
+         * Number of the key, added when absent
+         */
+        int add(long key) {
+            int mask = slotKeys.length - 1;
+            int slot = hash(key) & mask;
+            while (slotNumbers[slot] != 0) {
+                if (slotKeys[slot] == key) {
+                    return slotNumbers[slot] - 1;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            keys[size] = key;
+            slotKeys[slot] = key;
+            slotNumbers[slot] = ++size;
+            if (size * 2 > slotKeys.length) {
+                rehash();
+            }
+            return size - 1;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long key(int number) {
+            return keys[number];
+        }
+
+        private void rehash() {
+            slotKeys = new long[slotKeys.length * 2];
+            slotNumbers = new int[slotNumbers.length * 2];
+            int mask = slotKeys.length - 1;
+            for (int number = 0; number < size; number++) {
+                int slot = hash(keys[number]) & mask;
+                while (slotNumbers[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slotKeys[slot] = keys[number];
+                slotNumbers[slot] = number + 1;
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: DistributionMatrixService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.plan.dto.DistributionMatrixDTO;
+import dz.mdn.raas.business.plan.repository.FinancialOperationRepository;
+import dz.mdn.raas.business.plan.repository.ItemDistributionRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.common.administration.model.Structure;
+import dz.mdn.raas.common.administration.repository.StructureRepository;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.exception.ResourceNotFoundException;
+import dz.mdn.raas.system.utility.csv.CsvWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Distribution Matrix Service
+ * Pivot of the item distributions of a financial operation: structures as rows, planned items as columns.
+ * The (structure, planned item, quantity, unit cost) rows are read with one streaming query and accumulated into a
+ * sparse matrix (DistributionMatrix) with row and column totals; only the headers are loaded as entities.
+ * With a parent structure, each row is the whole subtree of one of its direct children (structure closure table).
+ * Budget years that are closed keep only their retained planned items live; their frozen distributions are served
+ * by the budget year history.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DistributionMatrixService {
+
+    public enum Measure { QUANTITY, COST }
+
+    private final ItemDistributionRepository itemDistributionRepository;
+    private final PlannedItemRepository plannedItemRepository;
+    private final FinancialOperationRepository financialOperationRepository;
+    private final StructureRepository structureRepository;
+
+    @Value("${raas.export.csv-separator:,}")
+    private char csvSeparator;
+
+    // ========== MATRIX ==========
+
+    /**
+     * Build the distribution matrix of a financial operation
+     *
+     * @param parentStructureId when set, roll the rows up to the direct children of this structure
+     */
+    public DistributionMatrixDTO getMatrix(Long financialOperationId, Long parentStructureId) {
+        log.debug("Building distribution matrix of financial operation ID: {} (parent structure ID: {})", financialOperationId, parentStructureId);
+
+        if (!financialOperationRepository.existsById(financialOperationId)) {
+            throw new ResourceNotFoundException("Financial operation", financialOperationId);
+        }
+        if (parentStructureId != null && !structureRepository.existsById(parentStructureId)) {
+            throw new ResourceNotFoundException("Structure", parentStructureId);
+        }
+
+        long started = System.currentTimeMillis();
+        DistributionMatrix matrix = new DistributionMatrix();
+        List<Object[]> plannedItems = plannedItemRepository.findScenarioFacts(financialOperationId);
+        for (Object[] plannedItem : plannedItems) {
+            matrix.column((Long) plannedItem[0]);
+        }
+        try (Stream<Object[]> cells = parentStructureId == null
+                ? itemDistributionRepository.streamMatrixCells(financialOperationId)
+                : itemDistributionRepository.streamMatrixCellsByChildStructure(financialOperationId, parentStructureId)) {
+            cells.forEach(cell -> matrix.add((Long) cell[0], (Long) cell[1],
+                    ((Number) cell[2]).doubleValue(), ((Number) cell[3]).doubleValue()));
+        }
+
+        DistributionMatrixDTO result = toDTO(financialOperationId, parentStructureId, matrix, plannedItems);
+        log.debug("Built {}x{} distribution matrix with {} cells in {} ms",
+                matrix.rowCount(), matrix.columnCount(), matrix.cellCount(), System.currentTimeMillis() - started);
+        return result;
+    }
+
+    /**
+     * Write the matrix as a wide CSV table: one line per structure, one column per planned item holding the
+     * quantities or costs (empty when nothing is distributed), row totals last and column totals on the last line
+     */
+    public void writeCsv(DistributionMatrixDTO matrix, Measure measure, Writer output) throws IOException {
+        CsvWriter csv = new CsvWriter(output, csvSeparator);
+        DistributionMatrixDTO.Axis rows = matrix.getRows();
+        DistributionMatrixDTO.Axis columns = matrix.getColumns();
+        DistributionMatrixDTO.Cells cells = matrix.getCells();
+        double[] values = measure == Measure.COST ? cells.getCosts() : cells.getQuantities();
+        int width = columns.getIds().length;
+
+        List<Object> record = new ArrayList<>(width + 4);
+        record.add("structureId");
+        record.add("structure");
+        record.add("acronym");
+        record.addAll(Arrays.asList(columns.getDesignations()));
+        record.add("total");
+        csv.writeRecord(record);
+
+        Object[] line = new Object[width];
+        int cell = 0;
+        for (int row = 0; row < rows.getIds().length; row++) {
+            Arrays.fill(line, null);
+            for (; cell < values.length && cells.getRows()[cell] == row; cell++) {
+                line[cells.getColumns()[cell]] = values[cell];
+            }
+            record.clear();
+            record.add(rows.getIds()[row]);
+            record.add(rows.getDesignations()[row]);
+            record.add(rows.getAcronyms()[row]);
+            record.addAll(Arrays.asList(line));
+            record.add(measure == Measure.COST ? rows.getCosts()[row] : rows.getQuantities()[row]);
+            csv.writeRecord(record);
+        }
+
+        record.clear();
+        record.add(null);
+        record.add("total");
+        record.add(null);
+        double[] totals = measure == Measure.COST ? columns.getCosts() : columns.getQuantities();
+        for (double total : totals) {
+            record.add(total);
+        }
+        record.add(measure == Measure.COST ? matrix.getTotalCost() : matrix.getTotalQuantity());
+        csv.writeRecord(record);
+        csv.flush();
+    }
+
+    /**
+     * Parse the {@code measure} request parameter (case-insensitive)
+     */
+    public static Measure measureOf(String measure) {
+        try {
+            return Measure.valueOf(measure.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Unsupported matrix measure", "measure", measure);
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private DistributionMatrixDTO toDTO(Long financialOperationId, Long parentStructureId, DistributionMatrix matrix, List<Object[]> plannedItems) {
+        // Rows by structure designation; columns stay in planned item id order (registration order)
+        int rowCount = matrix.rowCount();
+        Map<Long, Structure> structures = structureRepository.findAllById(
+                        IntStream.range(0, rowCount).mapToObj(matrix::rowId).toList()).stream()
+                .collect(Collectors.toMap(Structure::getId, Function.identity()));
+        Integer[] rowOrder = IntStream.range(0, rowCount).boxed()
+                .sorted(Comparator.comparing((Integer row) -> designationOf(structures.get(matrix.rowId(row))))
+                        .thenComparingLong(matrix::rowId))
+                .toArray(Integer[]::new);
+        int[] rowRanks = new int[rowCount];
+        for (int rank = 0; rank < rowCount; rank++) {
+            rowRanks[rowOrder[rank]] = rank;
+        }
+        int columnCount = matrix.columnCount();
+        int[] columnRanks = IntStream.range(0, columnCount).toArray();
+
+        long[] rowIds = new long[rowCount];
+        String[] rowDesignations = new String[rowCount];
+        String[] rowAcronyms = new String[rowCount];
+        double[] rowQuantities = new double[rowCount];
+        double[] rowCosts = new double[rowCount];
+        for (int rank = 0; rank < rowCount; rank++) {
+            int row = rowOrder[rank];
+            Structure structure = structures.get(matrix.rowId(row));
+            rowIds[rank] = matrix.rowId(row);
+            rowDesignations[rank] = structure != null ? structure.getDesignationFr() : null;
+            rowAcronyms[rank] = structure != null ? structure.getAcronymFr() : null;
+            rowQuantities[rank] = matrix.rowQuantity(row);
+            rowCosts[rank] = matrix.rowCost(row);
+        }
+
+        long[] columnIds = new long[columnCount];
+        String[] columnDesignations = new String[columnCount];
+        double[] columnUnitCosts = new double[columnCount];
+        double[] columnQuantities = new double[columnCount];
+        double[] columnCosts = new double[columnCount];
+        for (int column = 0; column < columnCount; column++) {
+            columnIds[column] = matrix.columnId(column);
+            if (column < plannedItems.size()) {
+                columnDesignations[column] = (String) plannedItems.get(column)[1];
+                columnUnitCosts[column] = ((Number) plannedItems.get(column)[2]).doubleValue();
+            }
+            columnQuantities[column] = matrix.columnQuantity(column);
+            columnCosts[column] = matrix.columnCost(column);
+        }
+
+        int[] order = matrix.cellOrder(rowRanks, columnRanks);
+        int[] cellRows = new int[order.length];
+        int[] cellColumns = new int[order.length];
+        double[] cellQuantities = new double[order.length];
+        double[] cellCosts = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            cellRows[i] = rowRanks[matrix.cellRow(order[i])];
+            cellColumns[i] = columnRanks[matrix.cellColumn(order[i])];
+            cellQuantities[i] = matrix.cellQuantity(order[i]);
+            cellCosts[i] = matrix.cellCost(order[i]);
+        }
+
+        return DistributionMatrixDTO.builder()
+                .financialOperationId(financialOperationId)
+                .parentStructureId(parentStructureId)
+                .rows(DistributionMatrixDTO.Axis.builder()
+                        .ids(rowIds).designations(rowDesignations).acronyms(rowAcronyms)
+                        .quantities(rowQuantities).costs(rowCosts)
+                        .build())
+                .columns(DistributionMatrixDTO.Axis.builder()
+                        .ids(columnIds).designations(columnDesignations).unitCosts(columnUnitCosts)
+                        .quantities(columnQuantities).costs(columnCosts)
+                        .build())
+                .cells(DistributionMatrixDTO.Cells.builder()
+                        .rows(cellRows).columns(cellColumns).quantities(cellQuantities).costs(cellCosts)
+                        .build())
+                .totalQuantity(Arrays.stream(columnQuantities).sum())
+                .totalCost(Arrays.stream(columnCosts).sum())
+                .build();
+    }
+
+    private static String designationOf(Structure structure) {
+        return structure != null && structure.getDesignationFr() != null ? structure.getDesignationFr() : "";
+    }
+}
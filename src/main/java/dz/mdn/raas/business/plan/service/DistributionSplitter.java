@@ -0,0 +1,135 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: DistributionSplitter
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import dz.mdn.raas.business.plan.dto.BulkDistributionDTO;
+import dz.mdn.raas.business.plan.dto.BulkDistributionDTO.RemainderPolicy;
+import dz.mdn.raas.exception.BusinessValidationException;
+
+/**
+ * DistributionSplitter
+ *
+ * Computes the quantity of every line of a bulk distribution in memory. Shares are computed in whole units of
+ * 10^-precision: each line gets the floor of its exact share, then the units left by rounding (fewer than the
+ * number of lines) are handed out according to the remainder policy, so the shares always add up to the total.
+ * The total to reserve is the integer sum of the units converted back once, never an accumulation of float shares.
+ */
+final class DistributionSplitter {
+
+    // Tolerance of the floor of an upper bound, in units: 33.3 * 10 may compute as 332.99999999
+    private static final double UNIT_TOLERANCE = 1e-6;
+
+    /**
+     * Quantity of every line, in line order, and their total
+     */
+    record Split(List<Float> quantities, double total) {
+    }
+
+    private DistributionSplitter() {
+    }
+
+    /**
+     * Split a bulk distribution
+     *
+     * @param totalQuantity total to share for WEIGHTED and EVEN, ignored for EXPLICIT
+     * @param upperBound true when the total is a bound not to exceed (the remaining quota by default): it is floored
+     *                   to the precision instead of rounded, 999.9 at precision 0 shares 999
+     */
+    static Split split(BulkDistributionDTO request, Double totalQuantity, boolean upperBound) {
+        List<BulkDistributionDTO.Line> lines = request.getLines();
+        if (request.getMode() == BulkDistributionDTO.Mode.EXPLICIT) {
+            List<Float> quantities = new ArrayList<>(lines.size());
+            double total = 0;
+            for (BulkDistributionDTO.Line line : lines) {
+                if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                    throw new BusinessValidationException("Quantity must be positive", "structureId", line.getStructureId());
+                }
+                quantities.add(line.getQuantity());
+                total += line.getQuantity();
+            }
+            return new Split(quantities, total);
+        }
+
+        if (totalQuantity == null || totalQuantity <= 0) {
+            throw new BusinessValidationException("Total quantity must be positive", "totalQuantity", totalQuantity);
+        }
+        int precision = request.getPrecision() != null ? request.getPrecision() : 0;
+        RemainderPolicy policy = request.getRemainderPolicy() != null ? request.getRemainderPolicy() : RemainderPolicy.LARGEST_REMAINDER;
+        double scale = Math.pow(10, precision);
+        long totalUnits = upperBound
+                ? (long) Math.floor(totalQuantity * scale + UNIT_TOLERANCE)
+                : Math.round(totalQuantity * scale);
+        if (totalUnits <= 0) {
+            throw new BusinessValidationException("Total quantity is below the requested precision", "totalQuantity", totalQuantity);
+        }
+
+        double[] weights = new double[lines.size()];
+        double weightSum = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            BulkDistributionDTO.Line line = lines.get(i);
+            if (request.getMode() == BulkDistributionDTO.Mode.EVEN) {
+                weights[i] = 1;
+            } else if (line.getWeight() == null || line.getWeight() <= 0 || line.getWeight().isInfinite()) {
+                throw new BusinessValidationException("Weight must be positive", "structureId", line.getStructureId());
+            } else {
+                weights[i] = line.getWeight();
+            }
+            weightSum += weights[i];
+        }
+
+        long[] units = new long[lines.size()];
+        double[] fractions = new double[lines.size()];
+        long assigned = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            double exact = totalUnits * (weights[i] / weightSum);
+            units[i] = (long) Math.floor(exact);
+            fractions[i] = exact - units[i];
+            assigned += units[i];
+        }
+
+        long remainder = totalUnits - assigned;
+        if (remainder > 0) {
+            if (policy == RemainderPolicy.REJECT) {
+                throw new BusinessValidationException("Total quantity " + totalQuantity + " cannot be split exactly, "
+                        + remainder + " unit(s) left", "remainderPolicy", policy);
+            }
+            List<Integer> order = new ArrayList<>(lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                order.add(i);
+            }
+            if (policy == RemainderPolicy.LAST) {
+                order.sort(Comparator.reverseOrder());
+            } else if (policy == RemainderPolicy.LARGEST_REMAINDER) {
+                order.sort(Comparator.comparingDouble((Integer i) -> fractions[i]).reversed());
+            }
+            for (int i = 0; i < remainder; i++) {
+                units[order.get(i % order.size())]++;
+            }
+        }
+
+        List<Float> quantities = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            if (units[i] == 0) {
+                throw new BusinessValidationException("Share of structure " + lines.get(i).getStructureId()
+                        + " rounds to zero, increase the total quantity or the precision", "structureId", lines.get(i).getStructureId());
+            }
+            quantities.add((float) (units[i] / scale));
+        }
+        return new Split(quantities, totalUnits / scale);
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import dz.mdn.raas.business.plan.dto.DomainDTO;
 import dz.mdn.raas.business.plan.model.Domain;
 import dz.mdn.raas.business.plan.repository.DomainRepository;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,6 +39,8 @@ import lombok.extern.slf4j.Slf4j;
 public class DomainService {
 
     private final DomainRepository domainRepository;
+    private final CatalogService catalogService;
+    private final AutocompleteService autocompleteService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -60,6 +63,9 @@ public class DomainService {
         mapDtoToEntity(domainDTO, domain);
 
         Domain savedDomain = domainRepository.save(domain);
+        autocompleteService.indexed(AutocompleteService.Type.DOMAIN, savedDomain.getId(), savedDomain.getDesignationFr(),
+                savedDomain.getDesignationEn(), savedDomain.getDesignationAr(), null);
+        catalogService.catalogChanged();
         log.info("Successfully created domain with ID: {}", savedDomain.getId());
 
         return DomainDTO.fromEntity(savedDomain);
@@ -326,6 +332,9 @@ public class DomainService {
         mapDtoToEntity(domainDTO, existingDomain);
 
         Domain updatedDomain = domainRepository.save(existingDomain);
+        autocompleteService.indexed(AutocompleteService.Type.DOMAIN, updatedDomain.getId(), updatedDomain.getDesignationFr(),
+                updatedDomain.getDesignationEn(), updatedDomain.getDesignationAr(), null);
+        catalogService.catalogChanged();
         log.info("Successfully updated domain with ID: {}", id);
 
         return DomainDTO.fromEntityWithRelations(updatedDomain);
@@ -348,6 +357,8 @@ public class DomainService {
         }
         
         domainRepository.delete(domain);
+        autocompleteService.removed(AutocompleteService.Type.DOMAIN, id);
+        catalogService.catalogChanged();
 
         log.info("Successfully deleted domain with ID: {}", id);
     }
@@ -370,6 +381,8 @@ public class DomainService {
         }
 
         domainRepository.deleteById(id);
+        autocompleteService.removed(AutocompleteService.Type.DOMAIN, id);
+        catalogService.catalogChanged();
         log.info("Successfully deleted domain with ID: {}", id);
     }
 
@@ -45,6 +45,8 @@ public class FinancialOperationService {
     // Repository bean for related entity (injected as needed)
     private final BudgetTypeRepository budgetTypeRepository;
 
+    private final BudgetYearService budgetYearService;
+
     // ========== CREATE OPERATIONS ==========
 
     /**
@@ -57,6 +59,7 @@ public class FinancialOperationService {
         // Validate required fields and business rules
         validateRequiredFields(financialOperationDTO, "create");
         validateBusinessRules(financialOperationDTO, "create");
+        budgetYearService.requireOpenBudgetYear(financialOperationDTO.getBudgetYear());
 
         // Check for unique constraints
         validateUniqueConstraints(financialOperationDTO, null);
@@ -340,6 +343,8 @@ public class FinancialOperationService {
         // Validate required fields and business rules
         validateRequiredFields(financialOperationDTO, "update");
         validateBusinessRules(financialOperationDTO, "update");
+        budgetYearService.requireOpenBudgetYear(existingFinancialOperation.getBudgetYear());
+        budgetYearService.requireOpenBudgetYear(financialOperationDTO.getBudgetYear());
 
         // Check for unique constraints (excluding current record)
         validateUniqueConstraints(financialOperationDTO, id);
@@ -13,18 +13,38 @@
 
 package dz.mdn.raas.business.plan.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import dz.mdn.raas.business.plan.dto.BulkDistributionDTO;
+import dz.mdn.raas.business.plan.dto.BulkDistributionResultDTO;
 import dz.mdn.raas.business.plan.dto.ItemDistributionDTO;
+import dz.mdn.raas.business.plan.dto.ItemDistributionListDTO;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
 import dz.mdn.raas.business.plan.model.ItemDistribution;
+import dz.mdn.raas.business.plan.model.PlannedItem;
 import dz.mdn.raas.business.plan.repository.ItemDistributionRepository;
 import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.common.administration.model.Structure;
 import dz.mdn.raas.common.administration.repository.StructureRepository;
+import dz.mdn.raas.configuration.pagination.CursorSlice;
+import dz.mdn.raas.exception.BusinessValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +52,8 @@ import lombok.extern.slf4j.Slf4j;
  * ItemDistribution Service with CRUD operations
  * Handles item distribution operations with logistics management and structure relationships
  * Based on exact field names and business rules for item distribution management
+ * Distributed quantities are reserved on the planned item counter with an atomic conditional update,
+ * so concurrent distributions cannot exceed the planned quantity
  */
 @Service
 @RequiredArgsConstructor
@@ -45,6 +67,10 @@ public class ItemDistributionService {
     private final PlannedItemRepository plannedItemRepository;
     private final StructureRepository structureRepository;
 
+    private final PlanRollupService planRollupService;
+    private final ClassificationService classificationService;
+    private final BudgetYearService budgetYearService;
+
     // ========== CREATE OPERATIONS ==========
 
     /**
@@ -57,18 +83,108 @@ public class ItemDistributionService {
         // Validate required fields and business rules
         validateRequiredFields(itemDistributionDTO, "create");
         validateBusinessRules(itemDistributionDTO, "create");
+        Long plannedItemId = itemDistributionDTO.getPlannedItemId();
+        Long structureId = itemDistributionDTO.getStructureId();
 
         // Create entity with exact field mapping
         ItemDistribution itemDistribution = new ItemDistribution();
         mapDtoToEntity(itemDistributionDTO, itemDistribution);
 
-        // Handle foreign key relationships
-        setEntityRelationships(itemDistributionDTO, itemDistribution);
+        // Reserved before the target is read, so that the read counter includes this distribution
+        reserveQuota(plannedItemId, itemDistribution.getQuantity());
+
+        // Open budget year, structure and classification facts in one projection: neither side is loaded
+        Object[] target = plannedItemRepository.findDistributionTarget(plannedItemId, structureId).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("Planned item not found with ID: " + plannedItemId));
+        if (((Number) target[8]).longValue() > 0) {
+            throw new BusinessValidationException("Planned item belongs to a closed budget year", "plannedItemId", plannedItemId);
+        }
+        if (((Number) target[9]).longValue() == 0) {
+            throw new RuntimeException("Structure not found with ID: " + structureId);
+        }
+
+        // F_02 - PlannedItem, F_03 - Structure
+        itemDistribution.setPlannedItem(plannedItemRepository.getReferenceById(plannedItemId));
+        itemDistribution.setStructure(structureRepository.getReferenceById(structureId));
 
+        classificationService.classify(itemDistribution, target);
         ItemDistribution savedItemDistribution = itemDistributionRepository.save(itemDistribution);
+        planRollupService.distributionAdded(plannedItemId, savedItemDistribution.getQuantity());
         log.info("Successfully created item distribution with ID: {}", savedItemDistribution.getId());
 
-        return ItemDistributionDTO.fromEntityWithRelations(savedItemDistribution);
+        ItemDistributionDTO result = ItemDistributionDTO.fromEntity(savedItemDistribution);
+        result.setRemainingQuota(remainingQuota(((Number) target[6]).doubleValue(), ((Number) target[7]).doubleValue()));
+        return result;
+    }
+
+    /**
+     * Distribute one planned item across many structures in one call.
+     * The total is reserved on the quota once, the structures are resolved with one IN query
+     * and the distributions are inserted as JDBC batches.
+     */
+    public BulkDistributionResultDTO createBulkDistributions(Long plannedItemId, BulkDistributionDTO bulkDistributionDTO) {
+        List<BulkDistributionDTO.Line> lines = bulkDistributionDTO.getLines();
+        log.info("Creating {} bulk distributions for planned item ID: {}", lines.size(), plannedItemId);
+        budgetYearService.requireOpenPlannedItem(plannedItemId);
+
+        Set<Long> structureIds = new HashSet<>();
+        for (BulkDistributionDTO.Line line : lines) {
+            if (!structureIds.add(line.getStructureId())) {
+                throw new BusinessValidationException("Structure listed more than once", "structureId", line.getStructureId());
+            }
+        }
+
+        // Shares are computed before any write, the default total of proportional splits is the remaining quota
+        Double totalQuantity = bulkDistributionDTO.getTotalQuantity() != null ? bulkDistributionDTO.getTotalQuantity().doubleValue() : null;
+        boolean remainingQuota = totalQuantity == null && bulkDistributionDTO.getMode() != BulkDistributionDTO.Mode.EXPLICIT;
+        if (remainingQuota) {
+            totalQuantity = getRemainingQuota(plannedItemId);
+            if (totalQuantity == null) {
+                throw new BusinessValidationException("Total quantity is required when the planned quantity is not set", "totalQuantity", null);
+            }
+        }
+        DistributionSplitter.Split split = DistributionSplitter.split(bulkDistributionDTO, totalQuantity, remainingQuota);
+        List<Float> quantities = split.quantities();
+        double total = split.total();
+
+        reserveQuota(plannedItemId, total);
+
+        Map<Long, Structure> structures = structureRepository.findAllById(structureIds).stream()
+                .collect(Collectors.toMap(Structure::getId, Function.identity()));
+        if (structures.size() != structureIds.size()) {
+            structureIds.removeAll(structures.keySet());
+            throw new BusinessValidationException("Structures not found with IDs: " + structureIds, "structureId", structureIds);
+        }
+
+        PlannedItem plannedItem = plannedItemRepository.getReferenceById(plannedItemId);
+        List<ItemDistribution> itemDistributions = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            ItemDistribution itemDistribution = new ItemDistribution();
+            itemDistribution.setQuantity(quantities.get(i));
+            itemDistribution.setPlannedItem(plannedItem);
+            itemDistribution.setStructure(structures.get(lines.get(i).getStructureId()));
+            classificationService.classify(itemDistribution);
+            itemDistributions.add(itemDistribution);
+        }
+        itemDistributionRepository.saveAll(itemDistributions);
+        planRollupService.distributionsAdded(plannedItemId, total, itemDistributions.size());
+        log.info("Successfully created {} distributions ({} units) for planned item ID: {}", itemDistributions.size(), total, plannedItemId);
+
+        List<BulkDistributionResultDTO.Allocation> allocations = new ArrayList<>(itemDistributions.size());
+        for (ItemDistribution itemDistribution : itemDistributions) {
+            allocations.add(BulkDistributionResultDTO.Allocation.builder()
+                    .structureId(itemDistribution.getStructure().getId())
+                    .quantity(itemDistribution.getQuantity())
+                    .distributionId(itemDistribution.getId())
+                    .build());
+        }
+        return BulkDistributionResultDTO.builder()
+                .plannedItemId(plannedItemId)
+                .distributionCount(itemDistributions.size())
+                .totalQuantity(total)
+                .remainingQuota(getRemainingQuota(plannedItemId))
+                .allocations(allocations)
+                .build();
     }
 
     // ========== READ OPERATIONS ==========
@@ -106,6 +222,48 @@ public class ItemDistributionService {
         return itemDistributions.map(ItemDistributionDTO::fromEntity);
     }
 
+    /**
+     * Get item distributions list view (projection, no entity loading or dirty checking)
+     */
+    @Transactional(readOnly = true)
+    public Page<ItemDistributionListDTO> getItemDistributionListView(Pageable pageable) {
+        log.debug("Getting item distribution list view with pagination");
+
+        return itemDistributionRepository.findListView(pageable);
+    }
+
+    /**
+     * Stream item distributions list view rows for exports
+     * Joins the transaction opened by the exporter, the stream must be closed by the caller
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<ItemDistributionListDTO> streamItemDistributionListView() {
+        log.debug("Streaming item distributions list view for export");
+
+        return itemDistributionRepository.streamListView();
+    }
+
+    /**
+     * Get item distributions with keyset pagination (no count query, constant cost per page)
+     * Optionally restricted to one planned item
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<ItemDistributionDTO> getItemDistributionSlice(Long plannedItemId, String cursor, int size, Sort sort) {
+        log.debug("Getting item distribution slice for planned item {} after cursor: {}", plannedItemId, cursor);
+
+        Specification<ItemDistribution> filter = plannedItemId == null ? null
+                : (root, query, cb) -> cb.equal(root.get("plannedItem").get("id"), plannedItemId);
+        return itemDistributionRepository.findSlice(filter, sort, cursor, size).map(ItemDistributionDTO::fromEntity);
+    }
+
+    /**
+     * Get estimated number of item distributions
+     */
+    @Transactional(readOnly = true)
+    public long estimateItemDistributionCount() {
+        return itemDistributionRepository.estimateCount();
+    }
+
     /**
      * Find one item distribution by ID
      */
@@ -264,7 +422,7 @@ public class ItemDistributionService {
     public Page<ItemDistributionDTO> getHighPriorityDistributions(Pageable pageable) {
         log.debug("Getting high priority item distributions");
 
-        Page<ItemDistribution> itemDistributions = itemDistributionRepository.findHighPriorityDistributions(pageable);
+        Page<ItemDistribution> itemDistributions = itemDistributionRepository.findByMinimumClassificationPriority(ClassificationRule.Priority.HIGH.ordinal(), pageable);
         return itemDistributions.map(ItemDistributionDTO::fromEntity);
     }
 
@@ -272,7 +430,15 @@ public class ItemDistributionService {
     public Page<ItemDistributionDTO> getUrgentDistributions(Pageable pageable) {
         log.debug("Getting urgent item distributions");
 
-        Page<ItemDistribution> itemDistributions = itemDistributionRepository.findUrgentDistributions(pageable);
+        Page<ItemDistribution> itemDistributions = itemDistributionRepository.findByMinimumClassificationPriority(ClassificationRule.Priority.URGENT.ordinal(), pageable);
+        return itemDistributions.map(ItemDistributionDTO::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ItemDistributionDTO> getDistributionsByClassificationCategory(String category, Pageable pageable) {
+        log.debug("Getting item distributions of classification category: {}", category);
+
+        Page<ItemDistribution> itemDistributions = itemDistributionRepository.findByClassificationCategory(category, pageable);
         return itemDistributions.map(ItemDistributionDTO::fromEntity);
     }
 
@@ -400,16 +566,40 @@ public class ItemDistributionService {
         validateRequiredFields(itemDistributionDTO, "update");
         validateBusinessRules(itemDistributionDTO, "update");
 
+        Long previousPlannedItemId = existingItemDistribution.getPlannedItem().getId();
+        float previousQuantity = existingItemDistribution.getQuantity();
+        budgetYearService.requireOpenPlannedItem(previousPlannedItemId);
+        budgetYearService.requireOpenPlannedItem(itemDistributionDTO.getPlannedItemId());
+
         // Update fields with exact field mapping
         mapDtoToEntity(itemDistributionDTO, existingItemDistribution);
 
+        // Move the reserved quantity: only the difference when the planned item is unchanged
+        Long plannedItemId = itemDistributionDTO.getPlannedItemId();
+        float quantity = existingItemDistribution.getQuantity();
+        if (plannedItemId.equals(previousPlannedItemId)) {
+            if (quantity > previousQuantity) {
+                reserveQuota(plannedItemId, quantity - previousQuantity);
+            } else if (quantity < previousQuantity) {
+                plannedItemRepository.releaseDistributionQuota(plannedItemId, previousQuantity - quantity);
+            }
+        } else {
+            plannedItemRepository.releaseDistributionQuota(previousPlannedItemId, previousQuantity);
+            reserveQuota(plannedItemId, quantity);
+        }
+
         // Handle foreign key relationships
         setEntityRelationships(itemDistributionDTO, existingItemDistribution);
 
+        classificationService.classify(existingItemDistribution);
         ItemDistribution updatedItemDistribution = itemDistributionRepository.save(existingItemDistribution);
+        planRollupService.distributionChanged(previousPlannedItemId, previousQuantity,
+                updatedItemDistribution.getPlannedItem().getId(), updatedItemDistribution.getQuantity());
         log.info("Successfully updated item distribution with ID: {}", id);
 
-        return ItemDistributionDTO.fromEntityWithRelations(updatedItemDistribution);
+        ItemDistributionDTO result = ItemDistributionDTO.fromEntityWithRelations(updatedItemDistribution);
+        result.setRemainingQuota(getRemainingQuota(plannedItemId));
+        return result;
     }
 
     // ========== DELETE OPERATIONS ==========
@@ -421,8 +611,11 @@ public class ItemDistributionService {
         log.info("Deleting item distribution with ID: {}", id);
 
         ItemDistribution itemDistribution = getItemDistributionEntityById(id);
+        budgetYearService.requireOpenPlannedItem(itemDistribution.getPlannedItem().getId());
         
         itemDistributionRepository.delete(itemDistribution);
+        plannedItemRepository.releaseDistributionQuota(itemDistribution.getPlannedItem().getId(), itemDistribution.getQuantity());
+        planRollupService.distributionRemoved(itemDistribution.getPlannedItem().getId(), itemDistribution.getQuantity());
 
         log.info("Successfully deleted item distribution with ID: {}", id);
     }
@@ -433,11 +626,13 @@ public class ItemDistributionService {
     public void deleteItemDistributionById(Long id) {
         log.info("Deleting item distribution by ID: {}", id);
 
-        if (!itemDistributionRepository.existsById(id)) {
-            throw new RuntimeException("Item distribution not found with ID: " + id);
-        }
+        ItemDistribution itemDistribution = itemDistributionRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Item distribution not found with ID: " + id));
+        budgetYearService.requireOpenPlannedItem(itemDistribution.getPlannedItem().getId());
 
-        itemDistributionRepository.deleteById(id);
+        itemDistributionRepository.delete(itemDistribution);
+        plannedItemRepository.releaseDistributionQuota(itemDistribution.getPlannedItem().getId(), itemDistribution.getQuantity());
+        planRollupService.distributionRemoved(itemDistribution.getPlannedItem().getId(), itemDistribution.getQuantity());
         log.info("Successfully deleted item distribution with ID: {}", id);
     }
 
@@ -487,6 +682,16 @@ public class ItemDistributionService {
         return itemDistributionRepository.getSumQuantityByPlannedItem(plannedItemId);
     }
 
+    /**
+     * Get planned quantity of a planned item not yet distributed, null when its planned quantity is not set (not enforced)
+     */
+    @Transactional(readOnly = true)
+    public Double getRemainingQuota(Long plannedItemId) {
+        Object[] quota = plannedItemRepository.getDistributionQuota(plannedItemId).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("Planned item not found with ID: " + plannedItemId));
+        return remainingQuota(((Number) quota[0]).doubleValue(), ((Number) quota[1]).doubleValue());
+    }
+
     @Transactional(readOnly = true)
     public Float getSumQuantityByStructure(Long structureId) {
         return itemDistributionRepository.getSumQuantityByStructure(structureId);
@@ -497,6 +702,43 @@ public class ItemDistributionService {
         return itemDistributionRepository.getSumTotalCostByStructure(structureId);
     }
 
+    /**
+     * Get distribution count, quantity and cost of a structure and all its sub-structures
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getSubtreeTotals(Long structureId) {
+        log.debug("Getting subtree distribution totals for structure ID: {}", structureId);
+
+        validateStructureExists(structureId);
+        Object[] row = itemDistributionRepository.getSubtreeTotals(structureId).get(0);
+        return subtreeTotals(structureId, null, row, 0);
+    }
+
+    /**
+     * Get subtree distribution totals of each direct child of a structure
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getChildSubtreeTotals(Long structureId) {
+        log.debug("Getting child subtree distribution totals for structure ID: {}", structureId);
+
+        validateStructureExists(structureId);
+        return itemDistributionRepository.getChildSubtreeTotals(structureId).stream()
+                .map(row -> subtreeTotals((Long) row[0], (String) row[1], row, 2))
+                .toList();
+    }
+
+    private Map<String, Object> subtreeTotals(Long structureId, String designationFr, Object[] row, int offset) {
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("structureId", structureId);
+        if (designationFr != null) {
+            totals.put("designationFr", designationFr);
+        }
+        totals.put("distributionCount", ((Number) row[offset]).longValue());
+        totals.put("totalQuantity", ((Number) row[offset + 1]).doubleValue());
+        totals.put("totalCost", ((Number) row[offset + 2]).doubleValue());
+        return totals;
+    }
+
     @Transactional(readOnly = true)
     public Float getAverageQuantity() {
         return itemDistributionRepository.getAverageQuantity();
@@ -538,6 +780,12 @@ public class ItemDistributionService {
         }
     }
 
+    private void validateStructureExists(Long structureId) {
+        if (!structureRepository.existsById(structureId)) {
+            throw new RuntimeException("Structure not found with ID: " + structureId);
+        }
+    }
+
     /**
      * Validate required fields
      */
@@ -562,36 +810,30 @@ public class ItemDistributionService {
             throw new RuntimeException("Quantity must be positive for " + operation);
         }
 
-        // Business validation: Check if total distributed quantity would exceed planned quantity
-        if (dto.getPlannedItemId() != null && dto.getQuantity() != null) {
-            Float currentTotal = getSumQuantityByPlannedItem(dto.getPlannedItemId());
-            if (currentTotal == null) currentTotal = 0.0f;
-            
-            // For updates, subtract the existing quantity
-            if ("update".equals(operation) && dto.getId() != null) {
-                ItemDistribution existing = itemDistributionRepository.findById(dto.getId()).orElse(null);
-                if (existing != null && existing.getQuantity() != 0) {
-                    currentTotal -= existing.getQuantity();
-                }
-            }
-            
-            float newTotal = currentTotal + dto.getQuantity();
-            
-            // Get planned quantity
-            var plannedItem = plannedItemRepository.findById(dto.getPlannedItemId()).orElse(null);
-            if (plannedItem != null && plannedItem.getPlanedQuantity() != 0) {
-                double plannedQuantity = plannedItem.getPlanedQuantity();
-                
-                if (newTotal > plannedQuantity) {
-                    throw new RuntimeException("Total distribution quantity (" + newTotal + 
-                        ") cannot exceed planned quantity (" + plannedQuantity + ") for " + operation);
-                }
-            }
-        }
+        // The planned quantity limit is enforced by reserveQuota, atomically with the counter update
 
         // Validate quantity precision (float precision issues)
         if (dto.getQuantity() != null && dto.getQuantity() > 1000000) {
             log.warn("Very large quantity detected for {}: {}", operation, dto.getQuantity());
         }
     }
+
+    /**
+     * Reserve quantity on the planned item counter, rejecting it when the planned quantity would be exceeded
+     */
+    private void reserveQuota(Long plannedItemId, double quantity) {
+        if (plannedItemRepository.reserveDistributionQuota(plannedItemId, quantity) == 0) {
+            // Nothing updated: unknown planned item or quota exceeded
+            Object[] quota = plannedItemRepository.getDistributionQuota(plannedItemId).stream().findFirst()
+                    .orElseThrow(() -> new RuntimeException("Planned item not found with ID: " + plannedItemId));
+            double plannedQuantity = ((Number) quota[0]).doubleValue();
+            double distributedQuantity = ((Number) quota[1]).doubleValue();
+            throw new BusinessValidationException("Total distribution quantity (" + (distributedQuantity + quantity)
+                    + ") cannot exceed planned quantity (" + plannedQuantity + ")", "quantity", quantity);
+        }
+    }
+
+    private static Double remainingQuota(double plannedQuantity, double distributedQuantity) {
+        return plannedQuantity != 0 ? plannedQuantity - distributedQuantity : null;
+    }
 }
@@ -13,6 +13,7 @@
 
 package dz.mdn.raas.business.plan.service;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -21,9 +22,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dz.mdn.raas.business.plan.dto.ItemDTO;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
 import dz.mdn.raas.business.plan.model.Item;
 import dz.mdn.raas.business.plan.repository.ItemRepository;
 import dz.mdn.raas.business.plan.repository.RubricRepository;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +46,10 @@ public class ItemService {
     // Repository bean for related entity (injected as needed)
     private final RubricRepository rubricRepository;
 
+    private final ClassificationService classificationService;
+    private final CatalogService catalogService;
+    private final AutocompleteService autocompleteService;
+
     // ========== CREATE OPERATIONS ==========
 
     /**
@@ -63,7 +70,11 @@ public class ItemService {
         // Handle foreign key relationships
         setEntityRelationships(itemDTO, item);
 
+        classificationService.classify(item);
         Item savedItem = itemRepository.save(item);
+        autocompleteService.indexed(AutocompleteService.Type.ITEM, savedItem.getId(), savedItem.getDesignationFr(),
+                savedItem.getDesignationEn(), savedItem.getDesignationAr(), null);
+        catalogService.catalogChanged();
         log.info("Successfully created item with ID: {}", savedItem.getId());
 
         return ItemDTO.fromEntityWithRelations(savedItem);
@@ -305,7 +316,7 @@ public class ItemService {
     public Page<ItemDTO> getHighPriorityItems(Pageable pageable) {
         log.debug("Getting high priority items");
 
-        Page<Item> items = itemRepository.findHighPriorityItems(pageable);
+        Page<Item> items = itemRepository.findHighPriorityItems(ClassificationRule.Priority.HIGH.ordinal(), pageable);
         return items.map(ItemDTO::fromEntity);
     }
 
@@ -316,7 +327,18 @@ public class ItemService {
     public Page<ItemDTO> getItemsRequiringImmediatePlanning(Pageable pageable) {
         log.debug("Getting items requiring immediate planning");
 
-        Page<Item> items = itemRepository.findRequiringImmediatePlanning(pageable);
+        Page<Item> items = itemRepository.findRequiringImmediatePlanning(ClassificationRule.Priority.HIGH.ordinal(), pageable);
+        return items.map(ItemDTO::fromEntity);
+    }
+
+    /**
+     * Get items of a classification category
+     */
+    @Transactional(readOnly = true)
+    public Page<ItemDTO> getItemsByClassificationCategory(String category, Pageable pageable) {
+        log.debug("Getting items of classification category: {}", category);
+
+        Page<Item> items = itemRepository.findByClassificationCategory(category, pageable);
         return items.map(ItemDTO::fromEntity);
     }
 
@@ -356,13 +378,25 @@ public class ItemService {
         validateRequiredFields(itemDTO, "update");
         validateBusinessRules(itemDTO, "update");
 
+        // Planned items and distributions are classified on the item designations
+        boolean renamed = !Objects.equals(existingItem.getDesignationFr(), itemDTO.getDesignationFr())
+                || !Objects.equals(existingItem.getDesignationEn(), itemDTO.getDesignationEn())
+                || !Objects.equals(existingItem.getDesignationAr(), itemDTO.getDesignationAr());
+
         // Update fields with exact field mapping
         mapDtoToEntity(itemDTO, existingItem);
 
         // Handle foreign key relationships
         setEntityRelationships(itemDTO, existingItem);
 
+        classificationService.classify(existingItem);
         Item updatedItem = itemRepository.save(existingItem);
+        autocompleteService.indexed(AutocompleteService.Type.ITEM, updatedItem.getId(), updatedItem.getDesignationFr(),
+                updatedItem.getDesignationEn(), updatedItem.getDesignationAr(), null);
+        catalogService.catalogChanged();
+        if (renamed) {
+            classificationService.itemChanged(id);
+        }
         log.info("Successfully updated item with ID: {}", id);
 
         return ItemDTO.fromEntityWithRelations(updatedItem);
@@ -385,6 +419,8 @@ public class ItemService {
         }
         
         itemRepository.delete(item);
+        autocompleteService.removed(AutocompleteService.Type.ITEM, id);
+        catalogService.catalogChanged();
 
         log.info("Successfully deleted item with ID: {}", id);
     }
@@ -407,6 +443,8 @@ public class ItemService {
         }
 
         itemRepository.deleteById(id);
+        autocompleteService.removed(AutocompleteService.Type.ITEM, id);
+        catalogService.catalogChanged();
         log.info("Successfully deleted item with ID: {}", id);
     }
 
@@ -0,0 +1,550 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanImportService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import dz.mdn.raas.business.plan.dto.PlanImportJobDTO;
+import dz.mdn.raas.business.plan.model.BudgetModification;
+import dz.mdn.raas.business.plan.model.FinancialOperation;
+import dz.mdn.raas.business.plan.model.Item;
+import dz.mdn.raas.business.plan.model.ItemDistribution;
+import dz.mdn.raas.business.plan.model.ItemStatus;
+import dz.mdn.raas.business.plan.model.PlannedItem;
+import dz.mdn.raas.business.plan.repository.BudgetModificationRepository;
+import dz.mdn.raas.business.plan.repository.FinancialOperationRepository;
+import dz.mdn.raas.business.plan.repository.ItemRepository;
+import dz.mdn.raas.business.plan.repository.ItemStatusRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.business.plan.service.PlanRollupService.Contribution;
+import dz.mdn.raas.common.administration.model.Structure;
+import dz.mdn.raas.common.administration.repository.StructureRepository;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.exception.ResourceNotFoundException;
+import dz.mdn.raas.system.utility.csv.CsvReader;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plan Import Service
+ * Bulk import of planned items and item distributions from CSV files, run as background jobs:
+ * - rows are streamed, the file is never loaded in memory
+ * - foreign keys are checked against ID sets loaded once per job instead of one findById per row
+ * - distribution quotas are tracked in memory per planned item, then reserved on the planned item counters
+ *   once per chunk with the same conditional update as single writes
+ * - valid rows are written in chunks, one transaction per chunk, with JDBC batching
+ * - plan rollups are updated once per touched cell and chunk, in the chunk transaction
+ * - imported rows are classified once per chunk, from one query over the inserted ids
+ * - invalid rows are reported with their line number and do not stop the import
+ * - a failed chunk is retried in halves until its failing rows are isolated, the other rows are still imported
+ * - financial operations and planned items of closed budget years are not accepted (not found)
+ *
+ * Planned item columns: designation, unitairCost, planedQuantity, allocatedAmount,
+ * itemStatusId, itemId, financialOperationId, budgetModificationId (optional)
+ * Item distribution columns: plannedItemId, structureId, quantity
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlanImportService {
+
+    private static final String TYPE_PLANNED_ITEM = "PLANNED_ITEM";
+    private static final String TYPE_ITEM_DISTRIBUTION = "ITEM_DISTRIBUTION";
+
+    private final PlannedItemRepository plannedItemRepository;
+    private final ItemRepository itemRepository;
+    private final ItemStatusRepository itemStatusRepository;
+    private final FinancialOperationRepository financialOperationRepository;
+    private final BudgetModificationRepository budgetModificationRepository;
+    private final StructureRepository structureRepository;
+    private final PlanRollupService planRollupService;
+    private final ClassificationService classificationService;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskExecutor backgroundTaskExecutor;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${raas.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${raas.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${raas.import.job-retention:3600000}")
+    private long jobRetentionMillis;
+
+    // ========== JOB OPERATIONS ==========
+
+    /**
+     * Start a background import of planned items
+     */
+    public PlanImportJobDTO startPlannedItemImport(MultipartFile file, char separator) {
+        return startJob(TYPE_PLANNED_ITEM, file, separator);
+    }
+
+    /**
+     * Start a background import of item distributions
+     */
+    public PlanImportJobDTO startItemDistributionImport(MultipartFile file, char separator) {
+        return startJob(TYPE_ITEM_DISTRIBUTION, file, separator);
+    }
+
+    /**
+     * Get the progress of an import job
+     */
+    public PlanImportJobDTO getJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job", jobId);
+        }
+        return job.toDTO();
+    }
+
+    private PlanImportJobDTO startJob(String type, MultipartFile file, char separator) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessValidationException("CSV file is required");
+        }
+        purgeExpiredJobs();
+
+        // The upload is spooled to a temporary file because the multipart is discarded with the request
+        Path path;
+        try {
+            path = Files.createTempFile("raas-import-", ".csv");
+            file.transferTo(path);
+        } catch (IOException e) {
+            throw new BusinessValidationException("Unable to read uploaded file: " + e.getMessage());
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), type, file.getOriginalFilename(), file.getSize());
+        jobs.put(job.id, job);
+        log.info("Queued {} import job {} for file {} ({} bytes)", type, job.id, job.fileName, job.totalBytes);
+
+        try {
+            backgroundTaskExecutor.execute(() -> runJob(job, path, separator));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            path.toFile().delete();
+            throw new BusinessValidationException("Too many background jobs are running, retry later");
+        }
+        return job.toDTO();
+    }
+
+    private void runJob(ImportJob job, Path path, char separator) {
+        job.status = "RUNNING";
+        job.startedAt = new Date();
+        try (CountingInputStream input = new CountingInputStream(Files.newInputStream(path), job.processedBytes);
+             CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8), separator)) {
+
+            if (TYPE_PLANNED_ITEM.equals(job.type)) {
+                importPlannedItems(job, reader);
+            } else {
+                importItemDistributions(job, reader);
+            }
+            job.status = "COMPLETED";
+            log.info("Import job {} completed: {} imported, {} rejected", job.id, job.rowsImported.get(), job.rowsRejected.get());
+        } catch (Exception e) {
+            job.status = "FAILED";
+            job.message = e.getMessage();
+            log.error("Import job {} failed: {}", job.id, e.getMessage(), e);
+        } finally {
+            job.finishedAt = new Date();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Unable to delete import file {}", path);
+            }
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        long limit = System.currentTimeMillis() - jobRetentionMillis;
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.getTime() < limit);
+    }
+
+    // ========== PLANNED ITEMS ==========
+
+    private void importPlannedItems(ImportJob job, CsvReader reader) throws IOException {
+        requireColumns(reader.readHeader(), "designation", "itemstatusid", "itemid", "financialoperationid");
+
+        Set<Long> itemIds = itemRepository.findAllIds();
+        Set<Long> itemStatusIds = itemStatusRepository.findAllIds();
+        Set<Long> financialOperationIds = financialOperationRepository.findOpenIds();
+        Set<Long> budgetModificationIds = budgetModificationRepository.findAllIds();
+
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        Map<String, String> row;
+        while ((row = reader.readRow()) != null) {
+            long line = reader.getRecordLineNumber();
+            job.rowsRead.incrementAndGet();
+            try {
+                String designation = row.get("designation");
+                if (designation == null) {
+                    throw new BusinessValidationException("Designation is required");
+                }
+                if (designation.length() > 200) {
+                    throw new BusinessValidationException("Designation cannot exceed 200 characters");
+                }
+                Double unitairCost = parseDouble(row, "unitaircost");
+                Double planedQuantity = parseDouble(row, "planedquantity");
+                Double allocatedAmount = parseDouble(row, "allocatedamount");
+                if (unitairCost != null && unitairCost <= 0) {
+                    throw new BusinessValidationException("Unit cost must be positive");
+                }
+                if (planedQuantity != null && planedQuantity <= 0) {
+                    throw new BusinessValidationException("Planned quantity must be positive");
+                }
+                if (allocatedAmount != null && allocatedAmount < 0) {
+                    throw new BusinessValidationException("Allocated amount must be non-negative");
+                }
+
+                Long itemStatusId = requireReference(row, "itemstatusid", itemStatusIds, "Item status");
+                Long itemId = requireReference(row, "itemid", itemIds, "Item");
+                Long financialOperationId = requireReference(row, "financialoperationid", financialOperationIds, "Financial operation");
+                Long budgetModificationId = parseLong(row, "budgetmodificationid");
+                if (budgetModificationId != null && !budgetModificationIds.contains(budgetModificationId)) {
+                    throw new BusinessValidationException("Budget modification not found with ID: " + budgetModificationId);
+                }
+
+                chunk.add(new PendingRow(line, (em, write) -> {
+                    PlannedItem plannedItem = new PlannedItem();
+                    plannedItem.setDesignation(designation);
+                    plannedItem.setUnitairCost(unitairCost != null ? unitairCost : 0.0);
+                    plannedItem.setPlanedQuantity(planedQuantity != null ? planedQuantity : 0.0);
+                    plannedItem.setAllocatedAmount(allocatedAmount != null ? allocatedAmount : 0.0);
+                    plannedItem.setItemStatus(em.getReference(ItemStatus.class, itemStatusId));
+                    plannedItem.setItem(em.getReference(Item.class, itemId));
+                    plannedItem.setFinancialOperation(em.getReference(FinancialOperation.class, financialOperationId));
+                    plannedItem.setBudgetModification(budgetModificationId != null
+                            ? em.getReference(BudgetModification.class, budgetModificationId) : null);
+                    em.persist(plannedItem);
+                    write.plannedItemIds.add(plannedItem.getId());
+                    write.rollups.plannedItemAdded(new Contribution(itemId, financialOperationId, plannedItem.getPlanedQuantity(),
+                            plannedItem.getAllocatedAmount(), plannedItem.getUnitairCost() * plannedItem.getPlanedQuantity()));
+                }, null));
+            } catch (BusinessValidationException e) {
+                job.reject(line, e.getMessage(), maxReportedErrors);
+            }
+
+            if (chunk.size() >= chunkSize) {
+                writeChunk(job, chunk);
+            }
+        }
+        writeChunk(job, chunk);
+    }
+
+    // ========== ITEM DISTRIBUTIONS ==========
+
+    private void importItemDistributions(ImportJob job, CsvReader reader) throws IOException {
+        requireColumns(reader.readHeader(), "planneditemid", "structureid", "quantity");
+
+        Set<Long> structureIds = structureRepository.findAllIds();
+
+        // Remaining quota per planned item, null when the planned item has no planned quantity (not enforced)
+        Map<Long, Double> remainingQuotas = new HashMap<>();
+        for (Object[] quota : plannedItemRepository.getDistributionQuotas()) {
+            double planned = ((Number) quota[1]).doubleValue();
+            double distributed = ((Number) quota[2]).doubleValue();
+            remainingQuotas.put((Long) quota[0], planned != 0 ? planned - distributed : null);
+        }
+
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+        Map<String, String> row;
+        while ((row = reader.readRow()) != null) {
+            long line = reader.getRecordLineNumber();
+            job.rowsRead.incrementAndGet();
+            try {
+                Long plannedItemId = parseLong(row, "planneditemid");
+                if (plannedItemId == null) {
+                    throw new BusinessValidationException("Planned item is required");
+                }
+                if (!remainingQuotas.containsKey(plannedItemId)) {
+                    throw new BusinessValidationException("Planned item not found with ID: " + plannedItemId);
+                }
+                Long structureId = requireReference(row, "structureid", structureIds, "Structure");
+                Double parsedQuantity = parseDouble(row, "quantity");
+                if (parsedQuantity == null || parsedQuantity <= 0) {
+                    throw new BusinessValidationException("Quantity must be positive");
+                }
+                float quantity = parsedQuantity.floatValue();
+
+                Double remaining = remainingQuotas.get(plannedItemId);
+                if (remaining != null) {
+                    if (quantity > remaining) {
+                        throw new BusinessValidationException("Quantity " + quantity + " exceeds remaining planned quantity ("
+                                + remaining + ") of planned item " + plannedItemId);
+                    }
+                    remainingQuotas.put(plannedItemId, remaining - quantity);
+                }
+
+                chunk.add(new PendingRow(line, (em, write) -> {
+                    ItemDistribution itemDistribution = new ItemDistribution();
+                    itemDistribution.setQuantity(quantity);
+                    itemDistribution.setPlannedItem(em.getReference(PlannedItem.class, plannedItemId));
+                    itemDistribution.setStructure(em.getReference(Structure.class, structureId));
+                    em.persist(itemDistribution);
+                    write.itemDistributionIds.add(itemDistribution.getId());
+                    write.reserve(plannedItemId, quantity);
+                    write.rollups.distributionAdded(plannedItemId, quantity);
+                }, () -> remainingQuotas.computeIfPresent(plannedItemId, (id, value) -> value + quantity)));
+            } catch (BusinessValidationException e) {
+                job.reject(line, e.getMessage(), maxReportedErrors);
+            }
+
+            if (chunk.size() >= chunkSize) {
+                writeChunk(job, chunk);
+            }
+        }
+        writeChunk(job, chunk);
+    }
+
+    // ========== CHUNK WRITING ==========
+
+    private void writeChunk(ImportJob job, List<PendingRow> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        writeRows(job, chunk);
+        chunk.clear();
+    }
+
+    /**
+     * Write the pending rows in one transaction, inserts are sent as JDBC batches.
+     * Quota reservations, rollup deltas and classification are applied after the flush so that their statements do not split
+     * the insert batches; a reservation exceeding the quota (concurrent writes) fails the transaction.
+     * When the transaction fails, each half of the rows is retried in its own transaction until the failing rows are isolated:
+     * only they are reported, with their own error, and their quota released.
+     */
+    private void writeRows(ImportJob job, List<PendingRow> rows) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                ChunkWrite write = new ChunkWrite(planRollupService.batch());
+                for (PendingRow pending : rows) {
+                    pending.writer.accept(entityManager, write);
+                }
+                entityManager.flush();
+                write.reservations.forEach((plannedItemId, quantity) -> {
+                    if (plannedItemRepository.reserveDistributionQuota(plannedItemId, quantity) == 0) {
+                        throw new BusinessValidationException("Distributions exceed the remaining planned quantity of planned item " + plannedItemId);
+                    }
+                });
+                write.rollups.apply();
+                classificationService.plannedItemsImported(write.plannedItemIds);
+                classificationService.distributionsImported(write.itemDistributionIds);
+                entityManager.clear();
+            });
+            job.rowsImported.addAndGet(rows.size());
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                PendingRow pending = rows.get(0);
+                if (pending.onFailure != null) {
+                    pending.onFailure.run();
+                }
+                job.reject(pending.line, NestedExceptionUtils.getMostSpecificCause(e).getMessage(), maxReportedErrors);
+                return;
+            }
+            log.warn("Import job {} write of {} rows failed, retrying it in halves: {}", job.id, rows.size(), e.getMessage());
+            int middle = rows.size() / 2;
+            writeRows(job, rows.subList(0, middle));
+            writeRows(job, rows.subList(middle, rows.size()));
+        }
+    }
+
+    // ========== PARSING ==========
+
+    private void requireColumns(Map<String, Integer> header, String... columns) {
+        for (String column : columns) {
+            if (!header.containsKey(column)) {
+                throw new BusinessValidationException("Missing CSV column: " + column);
+            }
+        }
+    }
+
+    private Long requireReference(Map<String, String> row, String column, Set<Long> ids, String label) {
+        Long id = parseLong(row, column);
+        if (id == null) {
+            throw new BusinessValidationException(label + " is required");
+        }
+        if (!ids.contains(id)) {
+            throw new BusinessValidationException(label + " not found with ID: " + id);
+        }
+        return id;
+    }
+
+    private Long parseLong(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessValidationException("Invalid number", column, value);
+        }
+    }
+
+    private Double parseDouble(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new BusinessValidationException("Invalid number", column, value);
+        }
+    }
+
+    // ========== JOB STATE ==========
+
+    private static class PendingRow {
+        private final long line;
+        private final BiConsumer<EntityManager, ChunkWrite> writer;
+        private final Runnable onFailure;
+
+        private PendingRow(long line, BiConsumer<EntityManager, ChunkWrite> writer, Runnable onFailure) {
+            this.line = line;
+            this.writer = writer;
+            this.onFailure = onFailure;
+        }
+    }
+
+    /**
+     * Side effects of a chunk applied once its rows are flushed: quota reservations, rollup deltas and classification
+     */
+    private static class ChunkWrite {
+        private final PlanRollupService.Batch rollups;
+        private final Map<Long, Double> reservations = new HashMap<>();
+        private final List<Long> plannedItemIds = new ArrayList<>();
+        private final List<Long> itemDistributionIds = new ArrayList<>();
+
+        private ChunkWrite(PlanRollupService.Batch rollups) {
+            this.rollups = rollups;
+        }
+
+        private void reserve(Long plannedItemId, double quantity) {
+            reservations.merge(plannedItemId, quantity, Double::sum);
+        }
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final String type;
+        private final String fileName;
+        private final long totalBytes;
+        private final AtomicLong processedBytes = new AtomicLong();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rowsImported = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final List<PlanImportJobDTO.RowError> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile String status = "QUEUED";
+        private volatile String message;
+        private volatile Date startedAt;
+        private volatile Date finishedAt;
+
+        private ImportJob(String id, String type, String fileName, long totalBytes) {
+            this.id = id;
+            this.type = type;
+            this.fileName = fileName;
+            this.totalBytes = totalBytes;
+        }
+
+        private void reject(long line, String message, int maxReportedErrors) {
+            rowsRejected.incrementAndGet();
+            if (errors.size() < maxReportedErrors) {
+                errors.add(PlanImportJobDTO.RowError.builder().line(line).message(message).build());
+            }
+        }
+
+        private PlanImportJobDTO toDTO() {
+            List<PlanImportJobDTO.RowError> reported;
+            synchronized (errors) {
+                reported = new ArrayList<>(errors);
+            }
+            return PlanImportJobDTO.builder()
+                    .jobId(id)
+                    .type(type)
+                    .fileName(fileName)
+                    .status(status)
+                    .message(message)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .totalBytes(totalBytes)
+                    .processedBytes(processedBytes.get())
+                    .rowsRead(rowsRead.get())
+                    .rowsImported(rowsImported.get())
+                    .rowsRejected(rowsRejected.get())
+                    .errors(reported)
+                    .errorsTruncated(rowsRejected.get() > reported.size())
+                    .build();
+        }
+    }
+
+    /**
+     * Input stream publishing the number of bytes read, used for progress reporting
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        private CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count.addAndGet(read);
+            }
+            return read;
+        }
+    }
+}
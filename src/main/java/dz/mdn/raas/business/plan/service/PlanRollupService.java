@@ -0,0 +1,338 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PlanRollupService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Plan
+ *
+ **/
+
+package dz.mdn.raas.business.plan.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.plan.dto.PlanRollupDTO;
+import dz.mdn.raas.business.plan.model.PlanYearAggregate;
+import dz.mdn.raas.business.plan.model.PlannedItem;
+import dz.mdn.raas.business.plan.repository.ClosedBudgetYearRepository;
+import dz.mdn.raas.business.plan.repository.ItemDistributionRepository;
+import dz.mdn.raas.business.plan.repository.PlanRollupRepository;
+import dz.mdn.raas.business.plan.repository.PlanYearAggregateRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.business.plan.repository.PlannedItemSnapshotRepository;
+import dz.mdn.raas.exception.BusinessValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plan Rollup Service
+ * Maintains the plan totals of every (item, financial operation) cell incrementally:
+ * - planned item and item distribution writes apply their delta with one upsert, in the writer's transaction
+ *   (maintenance methods are MANDATORY, a rolled back write rolls back its delta)
+ * - bulk imports accumulate deltas per chunk and apply one upsert per touched cell
+ * - domain, rubric, item, financial operation, budget type and budget year rollups are summed from the cells
+ * - rebuild() recomputes every cell and the planned item distribution counters from the source tables to repair drift;
+ *   it also runs at startup while the table is empty
+ * Cells only cover open budget years: closed years are served from their prebuilt aggregates, or from their
+ * planned item snapshots when filtered, and the budget year level lists open and closed years together.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class PlanRollupService {
+
+    private final PlanRollupRepository planRollupRepository;
+    private final ItemDistributionRepository itemDistributionRepository;
+    private final PlannedItemRepository plannedItemRepository;
+    private final ClosedBudgetYearRepository closedBudgetYearRepository;
+    private final PlannedItemSnapshotRepository plannedItemSnapshotRepository;
+    private final PlanYearAggregateRepository planYearAggregateRepository;
+
+    // ========== PLANNED ITEM WRITES ==========
+
+    /**
+     * Record a created planned item
+     */
+    public void plannedItemAdded(Contribution contribution) {
+        addToCell(contribution, 1, 0, 0);
+    }
+
+    /**
+     * Record a deleted planned item, which has no distributions left
+     */
+    public void plannedItemRemoved(Contribution contribution) {
+        addToCell(contribution, -1, 0, 0);
+        planRollupRepository.deleteEmptyCell(contribution.itemId(), contribution.financialOperationId());
+    }
+
+    /**
+     * Record an updated planned item. When its item or financial operation changed, its distributions move with it.
+     */
+    public void plannedItemChanged(Long plannedItemId, Contribution before, Contribution after) {
+        if (before.sameCell(after)) {
+            planRollupRepository.addToCell(after.itemId(), after.financialOperationId(), 0,
+                    after.plannedQuantity() - before.plannedQuantity(),
+                    after.allocatedAmount() - before.allocatedAmount(),
+                    after.totalPlannedCost() - before.totalPlannedCost(), 0, 0);
+            return;
+        }
+        double quantity = ((Number) plannedItemRepository.getDistributionQuota(plannedItemId).get(0)[1]).doubleValue();
+        long distributions = itemDistributionRepository.countByPlannedItem(plannedItemId);
+
+        addToCell(before, -1, -quantity, -distributions);
+        addToCell(after, 1, quantity, distributions);
+        planRollupRepository.deleteEmptyCell(before.itemId(), before.financialOperationId());
+    }
+
+    // ========== ITEM DISTRIBUTION WRITES ==========
+
+    /**
+     * Record a created item distribution
+     */
+    public void distributionAdded(Long plannedItemId, double quantity) {
+        planRollupRepository.addDistributionsToCell(plannedItemId, quantity, 1);
+    }
+
+    /**
+     * Record several item distributions created for the same planned item
+     */
+    public void distributionsAdded(Long plannedItemId, double quantity, long count) {
+        planRollupRepository.addDistributionsToCell(plannedItemId, quantity, count);
+    }
+
+    /**
+     * Record a deleted item distribution
+     */
+    public void distributionRemoved(Long plannedItemId, double quantity) {
+        planRollupRepository.addDistributionsToCell(plannedItemId, -quantity, -1);
+    }
+
+    /**
+     * Record an updated item distribution, possibly moved to another planned item
+     */
+    public void distributionChanged(Long previousPlannedItemId, double previousQuantity, Long plannedItemId, double quantity) {
+        if (previousPlannedItemId.equals(plannedItemId)) {
+            if (quantity != previousQuantity) {
+                planRollupRepository.addDistributionsToCell(plannedItemId, quantity - previousQuantity, 0);
+            }
+            return;
+        }
+        distributionRemoved(previousPlannedItemId, previousQuantity);
+        distributionAdded(plannedItemId, quantity);
+    }
+
+    /**
+     * Start a batch of deltas, applied with one upsert per touched cell (bulk imports)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Batch batch() {
+        return new Batch();
+    }
+
+    // ========== REBUILD ==========
+
+    /**
+     * Recompute every cell and planned item distributed quantity from planned items and item distributions.
+     * Runs in one transaction: concurrent writers wait on its locks instead of applying deltas to a half-built table.
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public int rebuild() {
+        log.info("Rebuilding plan rollups");
+        return rebuildCells();
+    }
+
+    /**
+     * Fill the cells at startup when the table is empty (first deployment, or a wiped table): incremental deltas
+     * only adjust existing totals, so they must start from a full build
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void buildOnStartupIfEmpty() {
+        if (planRollupRepository.count() > 0 || plannedItemRepository.count() == 0) {
+            return;
+        }
+        log.info("No plan rollup cell found, building the plan rollups");
+        rebuildCells();
+    }
+
+    private int rebuildCells() {
+        int counters = plannedItemRepository.resyncDistributedQuantities();
+        log.info("Resynchronized distributed quantity of {} planned items", counters);
+        int removed = planRollupRepository.deleteAllCells();
+        int cells = planRollupRepository.insertAllCells();
+        log.info("Rebuilt plan rollups: {} cells replaced by {}", removed, cells);
+        return cells;
+    }
+
+    // ========== ROLLUPS ==========
+
+    /**
+     * Get the rollups of a hierarchy level, optionally restricted to a domain, rubric, budget type or budget year
+     */
+    @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+    public List<PlanRollupDTO> getRollups(String level, Long domainId, Long rubricId, Long budgetTypeId, String budgetYear) {
+        Level resolved = Level.of(level);
+        log.debug("Getting {} plan rollups (domain: {}, rubric: {}, budget type: {}, budget year: {})",
+                resolved, domainId, rubricId, budgetTypeId, budgetYear);
+
+        boolean closed = budgetYear != null && closedBudgetYearRepository.existsByBudgetYear(budgetYear);
+        if (closed && domainId == null && rubricId == null && budgetTypeId == null && resolved != Level.BUDGET_YEAR) {
+            return planYearAggregateRepository.findByBudgetYearAndLevel(budgetYear, PlanYearAggregate.Level.valueOf(resolved.name())).stream()
+                    .map(PlanRollupDTO::fromAggregate)
+                    .toList();
+        }
+
+        List<Object[]> rows = closed ? closedYearRows(resolved, domainId, rubricId, budgetTypeId, budgetYear) : switch (resolved) {
+            case DOMAIN -> planRollupRepository.rollupByDomain(domainId, rubricId, budgetTypeId, budgetYear);
+            case RUBRIC -> planRollupRepository.rollupByRubric(domainId, rubricId, budgetTypeId, budgetYear);
+            case ITEM -> planRollupRepository.rollupByItem(domainId, rubricId, budgetTypeId, budgetYear);
+            case FINANCIAL_OPERATION -> planRollupRepository.rollupByFinancialOperation(domainId, rubricId, budgetTypeId, budgetYear);
+            case BUDGET_TYPE -> planRollupRepository.rollupByBudgetType(domainId, rubricId, budgetTypeId, budgetYear);
+            case BUDGET_YEAR -> budgetYear != null ? planRollupRepository.rollupByBudgetYear(domainId, rubricId, budgetTypeId, budgetYear)
+                    : allBudgetYearRows(domainId, rubricId, budgetTypeId);
+            case TOTAL -> planRollupRepository.rollupTotal(domainId, rubricId, budgetTypeId, budgetYear);
+        };
+        return rows.stream()
+                .filter(row -> row[resolved.keyColumns] != null) // Total over no cell
+                .map(row -> toDTO(resolved, row))
+                .toList();
+    }
+
+    /**
+     * Rollups of a closed budget year restricted by other filters, grouped from its planned item snapshots
+     */
+    private List<Object[]> closedYearRows(Level level, Long domainId, Long rubricId, Long budgetTypeId, String budgetYear) {
+        return switch (level) {
+            case DOMAIN -> plannedItemSnapshotRepository.rollupByDomain(domainId, rubricId, budgetTypeId, budgetYear);
+            case RUBRIC -> plannedItemSnapshotRepository.rollupByRubric(domainId, rubricId, budgetTypeId, budgetYear);
+            case ITEM -> plannedItemSnapshotRepository.rollupByItem(domainId, rubricId, budgetTypeId, budgetYear);
+            case FINANCIAL_OPERATION -> plannedItemSnapshotRepository.rollupByFinancialOperation(domainId, rubricId, budgetTypeId, budgetYear);
+            case BUDGET_TYPE -> plannedItemSnapshotRepository.rollupByBudgetType(domainId, rubricId, budgetTypeId, budgetYear);
+            case BUDGET_YEAR -> plannedItemSnapshotRepository.rollupByBudgetYear(domainId, rubricId, budgetTypeId, budgetYear);
+            case TOTAL -> plannedItemSnapshotRepository.rollupTotal(domainId, rubricId, budgetTypeId, budgetYear);
+        };
+    }
+
+    /**
+     * Open years from the cells and closed years from the snapshots, in year order
+     */
+    private List<Object[]> allBudgetYearRows(Long domainId, Long rubricId, Long budgetTypeId) {
+        List<Object[]> rows = new ArrayList<>(planRollupRepository.rollupByBudgetYear(domainId, rubricId, budgetTypeId, null));
+        rows.addAll(plannedItemSnapshotRepository.rollupByBudgetYear(domainId, rubricId, budgetTypeId, null));
+        rows.sort(Comparator.comparing(row -> (String) row[0]));
+        return rows;
+    }
+
+    private PlanRollupDTO toDTO(Level level, Object[] row) {
+        int sums = level.keyColumns;
+        return PlanRollupDTO.builder()
+                .level(level.name())
+                .id(sums == 2 ? (Long) row[0] : null)
+                .designation(sums == 2 ? (String) row[1] : sums == 1 ? (String) row[0] : null)
+                .plannedItemCount(((Number) row[sums]).longValue())
+                .plannedQuantity(((Number) row[sums + 1]).doubleValue())
+                .allocatedAmount(((Number) row[sums + 2]).doubleValue())
+                .totalPlannedCost(((Number) row[sums + 3]).doubleValue())
+                .distributedQuantity(((Number) row[sums + 4]).doubleValue())
+                .distributionCount(((Number) row[sums + 5]).longValue())
+                .build();
+    }
+
+    private void addToCell(Contribution contribution, int count, double distributedQuantity, long distributionCount) {
+        planRollupRepository.addToCell(contribution.itemId(), contribution.financialOperationId(), count,
+                count * contribution.plannedQuantity(), count * contribution.allocatedAmount(),
+                count * contribution.totalPlannedCost(), distributedQuantity, distributionCount);
+    }
+
+    // ========== TYPES ==========
+
+    /**
+     * Share of a planned item in the totals of its cell, captured before and after a write
+     */
+    public record Contribution(Long itemId, Long financialOperationId, double plannedQuantity, double allocatedAmount, double totalPlannedCost) {
+
+        public static Contribution of(PlannedItem plannedItem) {
+            return new Contribution(plannedItem.getItem().getId(), plannedItem.getFinancialOperation().getId(),
+                    plannedItem.getPlanedQuantity(), plannedItem.getAllocatedAmount(),
+                    plannedItem.getUnitairCost() * plannedItem.getPlanedQuantity());
+        }
+
+        private boolean sameCell(Contribution other) {
+            return itemId.equals(other.itemId) && financialOperationId.equals(other.financialOperationId);
+        }
+    }
+
+    /**
+     * Deltas of a bulk write, summed per cell (planned items) and per planned item (distributions).
+     * apply() must run in the transaction of the write, after its inserts are flushed.
+     */
+    public final class Batch {
+
+        private final Map<Cell, double[]> cells = new HashMap<>();
+        private final Map<Long, double[]> distributions = new HashMap<>();
+
+        private Batch() {
+        }
+
+        public void plannedItemAdded(Contribution contribution) {
+            double[] delta = cells.computeIfAbsent(new Cell(contribution.itemId(), contribution.financialOperationId()), cell -> new double[4]);
+            delta[0] += 1;
+            delta[1] += contribution.plannedQuantity();
+            delta[2] += contribution.allocatedAmount();
+            delta[3] += contribution.totalPlannedCost();
+        }
+
+        public void distributionAdded(Long plannedItemId, double quantity) {
+            double[] delta = distributions.computeIfAbsent(plannedItemId, id -> new double[2]);
+            delta[0] += quantity;
+            delta[1] += 1;
+        }
+
+        public void apply() {
+            cells.forEach((cell, delta) -> planRollupRepository.addToCell(cell.itemId(), cell.financialOperationId(),
+                    (long) delta[0], delta[1], delta[2], delta[3], 0, 0));
+            distributions.forEach((plannedItemId, delta) ->
+                    planRollupRepository.addDistributionsToCell(plannedItemId, delta[0], (long) delta[1]));
+            cells.clear();
+            distributions.clear();
+        }
+    }
+
+    private record Cell(Long itemId, Long financialOperationId) {
+    }
+
+    private enum Level {
+        DOMAIN(2), RUBRIC(2), ITEM(2), FINANCIAL_OPERATION(2), BUDGET_TYPE(2), BUDGET_YEAR(1), TOTAL(0);
+
+        private final int keyColumns;
+
+        Level(int keyColumns) {
+            this.keyColumns = keyColumns;
+        }
+
+        private static Level of(String value) {
+            String normalized = value.replaceAll("([a-z])([A-Z])", "$1_$2").replace('-', '_').toUpperCase(Locale.ROOT);
+            try {
+                return Level.valueOf(normalized);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessValidationException("Unknown rollup level", "level", value);
+            }
+        }
+    }
+}
@@ -14,19 +14,24 @@
 package dz.mdn.raas.business.plan.service;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import dz.mdn.raas.business.plan.dto.PlannedItemDTO;
+import dz.mdn.raas.business.plan.dto.PlannedItemListDTO;
+import dz.mdn.raas.business.plan.model.ClassificationRule;
 import dz.mdn.raas.business.plan.model.PlannedItem;
 import dz.mdn.raas.business.plan.repository.BudgetModificationRepository;
 import dz.mdn.raas.business.plan.repository.FinancialOperationRepository;
 import dz.mdn.raas.business.plan.repository.ItemRepository;
 import dz.mdn.raas.business.plan.repository.ItemStatusRepository;
 import dz.mdn.raas.business.plan.repository.PlannedItemRepository;
+import dz.mdn.raas.business.plan.service.PlanRollupService.Contribution;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,6 +54,10 @@ public class PlannedItemService {
     private final FinancialOperationRepository financialOperationRepository;
     private final BudgetModificationRepository budgetModificationRepository;
 
+    private final PlanRollupService planRollupService;
+    private final ClassificationService classificationService;
+    private final BudgetYearService budgetYearService;
+
     // ========== CREATE OPERATIONS ==========
 
     /**
@@ -61,6 +70,7 @@ public class PlannedItemService {
         // Validate required fields and business rules
         validateRequiredFields(plannedItemDTO, "create");
         validateBusinessRules(plannedItemDTO, "create");
+        budgetYearService.requireOpenFinancialOperation(plannedItemDTO.getFinancialOperationId());
 
         // Create entity with exact field mapping
         PlannedItem plannedItem = new PlannedItem();
@@ -69,7 +79,9 @@ public class PlannedItemService {
         // Handle foreign key relationships
         setEntityRelationships(plannedItemDTO, plannedItem);
 
+        classificationService.classify(plannedItem);
         PlannedItem savedPlannedItem = plannedItemRepository.save(plannedItem);
+        planRollupService.plannedItemAdded(Contribution.of(savedPlannedItem));
         log.info("Successfully created planned item with ID: {}", savedPlannedItem.getId());
 
         return PlannedItemDTO.fromEntityWithRelations(savedPlannedItem);
@@ -110,6 +122,27 @@ public class PlannedItemService {
         return plannedItems.map(PlannedItemDTO::fromEntity);
     }
 
+    /**
+     * Get planned items list view (projection, no entity loading or dirty checking)
+     */
+    @Transactional(readOnly = true)
+    public Page<PlannedItemListDTO> getPlannedItemListView(Pageable pageable) {
+        log.debug("Getting planned item list view with pagination");
+
+        return plannedItemRepository.findListView(pageable);
+    }
+
+    /**
+     * Stream planned items list view rows for exports
+     * Joins the transaction opened by the exporter, the stream must be closed by the caller
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<PlannedItemListDTO> streamPlannedItemListView() {
+        log.debug("Streaming planned items list view for export");
+
+        return plannedItemRepository.streamListView();
+    }
+
     /**
      * Find one planned item by ID
      */
@@ -299,7 +332,7 @@ public class PlannedItemService {
     public Page<PlannedItemDTO> getItemsRequiringImmediateAttention(Pageable pageable) {
         log.debug("Getting planned items requiring immediate attention");
 
-        Page<PlannedItem> plannedItems = plannedItemRepository.findRequiringImmediateAttention(pageable);
+        Page<PlannedItem> plannedItems = plannedItemRepository.findRequiringImmediateAttention(ClassificationRule.Priority.URGENT.ordinal(), pageable);
         return plannedItems.map(PlannedItemDTO::fromEntity);
     }
 
@@ -307,7 +340,15 @@ public class PlannedItemService {
     public Page<PlannedItemDTO> getCriticalPlannedItems(Pageable pageable) {
         log.debug("Getting critical planned items");
 
-        Page<PlannedItem> plannedItems = plannedItemRepository.findCriticalPlannedItems(pageable);
+        Page<PlannedItem> plannedItems = plannedItemRepository.findCriticalPlannedItems(ClassificationRule.Priority.CRITICAL.ordinal(), pageable);
+        return plannedItems.map(PlannedItemDTO::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PlannedItemDTO> getPlannedItemsByClassificationCategory(String category, Pageable pageable) {
+        log.debug("Getting planned items of classification category: {}", category);
+
+        Page<PlannedItem> plannedItems = plannedItemRepository.findByClassificationCategory(category, pageable);
         return plannedItems.map(PlannedItemDTO::fromEntity);
     }
 
@@ -338,11 +379,23 @@ public class PlannedItemService {
     public PlannedItemDTO updatePlannedItem(Long id, PlannedItemDTO plannedItemDTO) {
         log.info("Updating planned item with ID: {}", id);
 
-        PlannedItem existingPlannedItem = getPlannedItemEntityById(id);
+        // Locked: a concurrent distribution cannot raise the distributed quantity checked below before this update commits
+        PlannedItem existingPlannedItem = plannedItemRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Planned item not found with ID: " + id));
 
         // Validate required fields and business rules
         validateRequiredFields(plannedItemDTO, "update");
         validateBusinessRules(plannedItemDTO, "update");
+        budgetYearService.requireOpenPlannedItem(id);
+        budgetYearService.requireOpenFinancialOperation(plannedItemDTO.getFinancialOperationId());
+
+        if (plannedItemDTO.getPlanedQuantity() != null && plannedItemDTO.getPlanedQuantity() != 0
+                && plannedItemDTO.getPlanedQuantity() < existingPlannedItem.getDistributedQuantity()) {
+            throw new RuntimeException("Planned quantity (" + plannedItemDTO.getPlanedQuantity()
+                + ") cannot be lower than the already distributed quantity (" + existingPlannedItem.getDistributedQuantity() + ")");
+        }
+
+        Contribution before = Contribution.of(existingPlannedItem);
 
         // Update fields with exact field mapping
         mapDtoToEntity(plannedItemDTO, existingPlannedItem);
@@ -350,7 +403,10 @@ public class PlannedItemService {
         // Handle foreign key relationships
         setEntityRelationships(plannedItemDTO, existingPlannedItem);
 
+        classificationService.classify(existingPlannedItem);
         PlannedItem updatedPlannedItem = plannedItemRepository.save(existingPlannedItem);
+        planRollupService.plannedItemChanged(id, before, Contribution.of(updatedPlannedItem));
+        classificationService.plannedItemChanged(id);
         log.info("Successfully updated planned item with ID: {}", id);
 
         return PlannedItemDTO.fromEntityWithRelations(updatedPlannedItem);
@@ -365,6 +421,7 @@ public class PlannedItemService {
         log.info("Deleting planned item with ID: {}", id);
 
         PlannedItem plannedItem = getPlannedItemEntityById(id);
+        budgetYearService.requireOpenPlannedItem(id);
         
         // Check if planned item has distributions before deletion
         if (plannedItem.getItemDistribution() != null && !plannedItem.getItemDistribution().isEmpty()) {
@@ -373,6 +430,7 @@ public class PlannedItemService {
         }
         
         plannedItemRepository.delete(plannedItem);
+        planRollupService.plannedItemRemoved(Contribution.of(plannedItem));
 
         log.info("Successfully deleted planned item with ID: {}", id);
     }
@@ -389,12 +447,14 @@ public class PlannedItemService {
 
         // Check for associated distributions
         PlannedItem plannedItem = getPlannedItemEntityById(id);
+        budgetYearService.requireOpenPlannedItem(id);
         if (plannedItem.getItemDistribution() != null && !plannedItem.getItemDistribution().isEmpty()) {
             throw new RuntimeException("Cannot delete planned item with ID " + id + 
                 " because it has " + plannedItem.getItemDistribution().size() + " associated item distributions");
         }
 
-        plannedItemRepository.deleteById(id);
+        plannedItemRepository.delete(plannedItem);
+        planRollupService.plannedItemRemoved(Contribution.of(plannedItem));
         log.info("Successfully deleted planned item with ID: {}", id);
     }
 
@@ -24,6 +24,7 @@ import dz.mdn.raas.business.plan.dto.RubricDTO;
 import dz.mdn.raas.business.plan.model.Rubric;
 import dz.mdn.raas.business.plan.repository.DomainRepository;
 import dz.mdn.raas.business.plan.repository.RubricRepository;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,6 +43,8 @@ public class RubricService {
     
     // Repository bean for related entity (injected as needed)
     private final DomainRepository domainRepository;
+    private final CatalogService catalogService;
+    private final AutocompleteService autocompleteService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -67,6 +70,9 @@ public class RubricService {
         setEntityRelationships(rubricDTO, rubric);
 
         Rubric savedRubric = rubricRepository.save(rubric);
+        autocompleteService.indexed(AutocompleteService.Type.RUBRIC, savedRubric.getId(), savedRubric.getDesignationFr(),
+                savedRubric.getDesignationEn(), savedRubric.getDesignationAr(), null);
+        catalogService.catalogChanged();
         log.info("Successfully created rubric with ID: {}", savedRubric.getId());
 
         return RubricDTO.fromEntityWithRelations(savedRubric);
@@ -358,6 +364,9 @@ public class RubricService {
         setEntityRelationships(rubricDTO, existingRubric);
 
         Rubric updatedRubric = rubricRepository.save(existingRubric);
+        autocompleteService.indexed(AutocompleteService.Type.RUBRIC, updatedRubric.getId(), updatedRubric.getDesignationFr(),
+                updatedRubric.getDesignationEn(), updatedRubric.getDesignationAr(), null);
+        catalogService.catalogChanged();
         log.info("Successfully updated rubric with ID: {}", id);
 
         return RubricDTO.fromEntityWithRelations(updatedRubric);
@@ -380,6 +389,8 @@ public class RubricService {
         }
         
         rubricRepository.delete(rubric);
+        autocompleteService.removed(AutocompleteService.Type.RUBRIC, id);
+        catalogService.catalogChanged();
 
         log.info("Successfully deleted rubric with ID: {}", id);
     }
@@ -402,6 +413,8 @@ public class RubricService {
         }
 
         rubricRepository.deleteById(id);
+        autocompleteService.removed(AutocompleteService.Type.RUBRIC, id);
+        catalogService.catalogChanged();
         log.info("Successfully deleted rubric with ID: {}", id);
     }
 
@@ -13,19 +13,32 @@
 
 package dz.mdn.raas.business.provider.controller;
 
+import dz.mdn.raas.business.provider.dto.ProviderEligibilityDTO;
+import dz.mdn.raas.business.provider.dto.ProviderFilterDTO;
+import dz.mdn.raas.business.provider.dto.ProviderListDTO;
+import dz.mdn.raas.business.provider.service.ProviderEligibilityService;
+import dz.mdn.raas.business.provider.service.ProviderFilterService;
 import dz.mdn.raas.business.provider.service.ProviderService;
 import dz.mdn.raas.business.provider.dto.ProviderDTO;
+import dz.mdn.raas.configuration.annotation.QueryLimit;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -41,6 +54,8 @@ import org.springframework.web.bind.annotation.*;
 public class ProviderController {
 
     private final ProviderService providerService;
+    private final ProviderEligibilityService providerEligibilityService;
+    private final ProviderFilterService providerFilterService;
 
     // ========== POST ONE PROVIDER ==========
 
@@ -151,6 +166,24 @@ public class ProviderController {
         return ResponseEntity.ok(providers);
     }
 
+    /**
+     * Get all providers as lightweight list rows
+     * Same paging and sorting as the full listing, selecting only the columns of the list view
+     */
+    @GetMapping("/list")
+    @QueryLimit(maxStatements = 2, repeatThreshold = 2)
+    public ResponseEntity<Page<ProviderListDTO>> getProviderListView(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "designationLt") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        return ResponseEntity.ok(providerService.getProviderListView(pageable));
+    }
+
     // ========== SEARCH ENDPOINTS ==========
 
     /**
@@ -263,6 +296,78 @@ public class ProviderController {
         return ResponseEntity.ok(providers);
     }
 
+    // ========== FILTER ENDPOINTS ==========
+
+    /**
+     * Filter providers on economic domains (all / any / none of), economic natures, states and countries
+     * Evaluated on the provider bitmap index, results in ID order
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<Page<ProviderListDTO>> filterProviders(
+            @ModelAttribute ProviderFilterDTO filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("Filtering providers: {}", filter);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ProviderListDTO> providers = providerFilterService.filter(filter, pageable);
+
+        return ResponseEntity.ok(providers);
+    }
+
+    /**
+     * Rebuild the provider bitmap index in the background
+     */
+    @PostMapping("/filter/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildFilterIndex() {
+        log.info("Rebuilding provider bitmap index");
+
+        providerFilterService.rebuildInBackground();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    // ========== ELIGIBILITY ENDPOINTS ==========
+
+    /**
+     * Get provider eligibility on a date (today by default): not excluded and cleared
+     */
+    @GetMapping("/{id}/eligibility")
+    public ResponseEntity<ProviderEligibilityDTO> getProviderEligibility(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date date) {
+
+        log.debug("Getting eligibility of provider ID: {} on {}", id, date);
+
+        return ResponseEntity.ok(providerEligibilityService.check(id, date));
+    }
+
+    /**
+     * Get the eligibility of several providers on a date (today by default)
+     */
+    @GetMapping("/eligibility")
+    public ResponseEntity<Collection<ProviderEligibilityDTO>> getProvidersEligibility(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") Date date) {
+
+        log.debug("Getting eligibility of {} providers on {}", ids.size(), date);
+
+        return ResponseEntity.ok(providerEligibilityService.check(ids, date).values());
+    }
+
+    /**
+     * Rebuild the eligibility indexes from the database
+     */
+    @PostMapping("/eligibility/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildEligibilityIndexes() {
+        log.info("Rebuilding provider eligibility indexes");
+
+        return ResponseEntity.ok(providerEligibilityService.rebuild());
+    }
+
     // ========== BUSINESS SIZE CLASSIFICATION ENDPOINTS ==========
 
     /**
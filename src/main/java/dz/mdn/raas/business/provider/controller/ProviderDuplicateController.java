@@ -0,0 +1,107 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderDuplicateController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.controller;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import dz.mdn.raas.business.provider.dto.DuplicateScanDTO;
+import dz.mdn.raas.business.provider.dto.ProviderDuplicateDTO;
+import dz.mdn.raas.business.provider.model.ProviderDuplicate;
+import dz.mdn.raas.business.provider.service.DuplicateProviderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ProviderDuplicate REST Controller
+ * Review queue of candidate duplicate providers, and the full-registry scan that fills it
+ */
+@RestController
+@RequestMapping("/providerDuplicate")
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderDuplicateController {
+
+    private final DuplicateProviderService duplicateProviderService;
+
+    // ========== REVIEW QUEUE ==========
+
+    /**
+     * Get the candidate pairs with a status (pending by default), best scores first
+     */
+    @GetMapping
+    public ResponseEntity<Page<ProviderDuplicateDTO>> getQueue(
+            @RequestParam(defaultValue = "PENDING") ProviderDuplicate.Status status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.debug("Getting {} provider duplicates - page: {}, size: {}", status, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<ProviderDuplicateDTO> duplicates = duplicateProviderService.getQueue(status, pageable);
+
+        return ResponseEntity.ok(duplicates);
+    }
+
+    /**
+     * Get the candidate pairs involving a provider
+     */
+    @GetMapping("/provider/{providerId}")
+    public ResponseEntity<List<ProviderDuplicateDTO>> getByProvider(@PathVariable Long providerId) {
+        log.debug("Getting duplicates of provider ID: {}", providerId);
+
+        return ResponseEntity.ok(duplicateProviderService.getByProvider(providerId));
+    }
+
+    /**
+     * Confirm or dismiss a candidate pair (CONFIRMED, DISMISSED), or put it back in the queue (PENDING)
+     */
+    @PutMapping("/{id}/review")
+    public ResponseEntity<ProviderDuplicateDTO> review(
+            @PathVariable Long id,
+            @RequestParam ProviderDuplicate.Status status) {
+
+        log.info("Reviewing provider duplicate ID: {} as {}", id, status);
+
+        return ResponseEntity.ok(duplicateProviderService.review(id, status));
+    }
+
+    // ========== SCAN ==========
+
+    /**
+     * Start a background scan of the whole provider registry
+     */
+    @PostMapping("/scan")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<DuplicateScanDTO> startScan() {
+        log.info("Starting duplicate provider scan");
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(duplicateProviderService.startScan());
+    }
+
+    /**
+     * Get the progress of the last scan
+     */
+    @GetMapping("/scan")
+    public ResponseEntity<DuplicateScanDTO> getScan() {
+        return ResponseEntity.ok(duplicateProviderService.getScan());
+    }
+}
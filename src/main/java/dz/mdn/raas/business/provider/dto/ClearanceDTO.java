@@ -14,6 +14,7 @@
 package dz.mdn.raas.business.provider.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import dz.mdn.raas.configuration.annotation.FieldView;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,6 +34,8 @@ import java.util.concurrent.TimeUnit;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@FieldView(name = "summary", fields = { "id", "startDate", "endDate", "providerId", "providerRepresentatorId", "referenceId", "clearanceStatus", "displayText" })
+@FieldView(name = "reference", fields = { "id", "displayText" })
 public class ClearanceDTO {
 
     private Long id; // F_00
@@ -0,0 +1,50 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: DuplicateScanDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Duplicate Scan Data Transfer Object
+ * Progress snapshot of a background full-registry duplicate provider scan
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DuplicateScanDTO {
+
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private String message;
+
+    private Date startedAt;
+    private Date finishedAt;
+
+    private Long providers;
+    private Long blocks; // Blocks of two providers or more
+    private Long skippedBlocks; // Blocks over the maximum size, not compared
+    private Long comparisons; // Distinct pairs scored
+    private Long candidates; // Pairs at or above the threshold
+    private Long inserted; // New pairs queued for review
+    private Long updated; // Pending pairs rescored
+    private Long removed; // Pending pairs no longer detected
+}
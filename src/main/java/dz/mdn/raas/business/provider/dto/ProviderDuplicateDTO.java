@@ -0,0 +1,91 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderDuplicateDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.business.provider.model.Provider;
+import dz.mdn.raas.business.provider.model.ProviderDuplicate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ProviderDuplicate Data Transfer Object
+ * Maps exactly to ProviderDuplicate model fields: F_00=id, F_01=provider, F_02=duplicate, F_03=score,
+ * F_04=reasons, F_05=status, F_06=detectedAt, F_07=reviewedAt, with the designations and identifiers of both providers
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProviderDuplicateDTO {
+
+    private Long id; // F_00
+    private Party provider; // F_01
+    private Party duplicate; // F_02
+    private Double score; // F_03
+    private List<String> reasons; // F_04
+    private ProviderDuplicate.Status status; // F_05
+    private Date detectedAt; // F_06
+    private Date reviewedAt; // F_07
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Party {
+        private Long id;
+        private String designationLt;
+        private String designationAr;
+        private String comercialRegistryNumber;
+        private String taxeIdentityNumber;
+        private String statIdentityNumber;
+        private String bankAccount;
+
+        public static Party fromEntity(Provider provider) {
+            return Party.builder()
+                    .id(provider.getId())
+                    .designationLt(provider.getDesignationLt())
+                    .designationAr(provider.getDesignationAr())
+                    .comercialRegistryNumber(provider.getComercialRegistryNumber())
+                    .taxeIdentityNumber(provider.getTaxeIdentityNumber())
+                    .statIdentityNumber(provider.getStatIdentityNumber())
+                    .bankAccount(provider.getBankAccount())
+                    .build();
+        }
+    }
+
+    public static ProviderDuplicateDTO fromEntity(ProviderDuplicate providerDuplicate) {
+        if (providerDuplicate == null) return null;
+
+        return ProviderDuplicateDTO.builder()
+                .id(providerDuplicate.getId())
+                .provider(Party.fromEntity(providerDuplicate.getProvider()))
+                .duplicate(Party.fromEntity(providerDuplicate.getDuplicate()))
+                .score(providerDuplicate.getScore())
+                .reasons(providerDuplicate.getReasons() == null || providerDuplicate.getReasons().isEmpty()
+                        ? List.of() : List.of(providerDuplicate.getReasons().split(", ")))
+                .status(providerDuplicate.getStatus())
+                .detectedAt(providerDuplicate.getDetectedAt())
+                .reviewedAt(providerDuplicate.getReviewedAt())
+                .build();
+    }
+}
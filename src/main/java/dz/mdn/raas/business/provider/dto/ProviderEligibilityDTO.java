@@ -0,0 +1,39 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderEligibilityDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Provider Eligibility Data Transfer Object
+ * Eligibility of a provider on a date: not excluded (no exclusion started and not yet ended) and cleared
+ * (at least one clearance valid on the date).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderEligibilityDTO {
+
+    private Long providerId;
+    private Date date;
+    private Boolean excluded;
+    private Boolean cleared;
+    private Boolean eligible;
+}
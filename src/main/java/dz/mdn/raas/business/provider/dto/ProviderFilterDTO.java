@@ -0,0 +1,47 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderFilterDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Provider Filter Data Transfer Object
+ * Boolean combination of provider filter keys, bound from query parameters. Each non-empty criterion narrows
+ * the result (criteria are combined with AND); an empty filter matches every provider.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProviderFilterDTO {
+
+    @Builder.Default
+    private List<Long> allEconomicDomainIds = new ArrayList<>(); // Active in every domain
+    @Builder.Default
+    private List<Long> anyEconomicDomainIds = new ArrayList<>(); // Active in at least one domain
+    @Builder.Default
+    private List<Long> excludedEconomicDomainIds = new ArrayList<>(); // Active in none of the domains
+    @Builder.Default
+    private List<Long> economicNatureIds = new ArrayList<>(); // One of the natures
+    @Builder.Default
+    private List<Long> stateIds = new ArrayList<>(); // In one of the states
+    @Builder.Default
+    private List<Long> countryIds = new ArrayList<>(); // In one of the countries
+}
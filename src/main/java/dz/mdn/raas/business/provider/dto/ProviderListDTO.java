@@ -0,0 +1,43 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderListDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Provider list view projection
+ * Built by a JPQL constructor expression in ProviderRepository.findListView: only the columns shown
+ * in list pages are selected and no Provider entity is loaded. Field order is the constructor order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProviderListDTO {
+
+    private Long id; // F_00
+    private String designationLt; // F_01
+    private String designationAr; // F_02
+    private String acronymLt; // F_03
+    private String comercialRegistryNumber; // F_07
+    private String phoneNumbers; // F_14
+    private String mail; // F_16
+    private String economicNatureDesignation; // EconomicNature designationFr
+    private String countryDesignation; // Country designationFr
+    private String stateDesignation; // State designationLt
+}
@@ -0,0 +1,75 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderDuplicate
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.model;
+
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Candidate duplicate pair of providers found by DuplicateProviderService, queued for review.
+ * The pair is stored once, the provider with the lower ID first; a reviewed pair keeps its status
+ * when later scans find it again.
+ */
+@Setter
+@Getter
+@Entity(name="ProviderDuplicate")
+@Table(name="T_02_03_08", uniqueConstraints = { @UniqueConstraint(name = "T_02_03_08_UK_01", columnNames = { "F_01", "F_02" })})
+public class ProviderDuplicate {
+
+	public enum Status { PENDING, CONFIRMED, DISMISSED }
+
+	@Id
+	@Column(name="F_00")
+  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne
+    @JoinColumn(name="F_01", foreignKey=@ForeignKey(name="T_02_03_08_FK_01"), nullable=false)
+    private Provider provider;
+
+	@ManyToOne
+    @JoinColumn(name="F_02", foreignKey=@ForeignKey(name="T_02_03_08_FK_02"), nullable=false)
+    private Provider duplicate;
+
+	@Column(name="F_03", nullable=false)
+	private double score;
+
+	@Column(name="F_04", length=500)
+	private String reasons;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name="F_05", length=20, nullable=false)
+	private Status status;
+
+	@Column(name="F_06", nullable=false)
+	private Date detectedAt;
+
+	@Column(name="F_07")
+	private Date reviewedAt;
+
+}
@@ -364,4 +364,11 @@ public interface ClearanceRepository extends JpaRepository<Clearance, Long> {
            "LOWER(c.providerRepresentator.jobTitle) LIKE '%ingénieur%' OR " +
            "LOWER(c.providerRepresentator.jobTitle) LIKE '%chef de projet%'")
     Page<Clearance> findTechnicalRepresentativeClearances(Pageable pageable);
+
+    /**
+     * Get the validity interval of every clearance (provider eligibility index)
+     * Each row: [id, providerId, startDate, endDate]
+     */
+    @Query("SELECT c.id, c.provider.id, c.startDate, c.endDate FROM Clearance c")
+    List<Object[]> findIntervals();
 }
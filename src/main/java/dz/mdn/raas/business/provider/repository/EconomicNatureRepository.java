@@ -21,6 +21,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -318,4 +319,12 @@ public interface EconomicNatureRepository extends JpaRepository<EconomicNature,
            "LOWER(en.designationFr) LIKE '%société par actions%' OR " +
            "LOWER(en.designationFr) LIKE '%établissement public%'")
     Page<EconomicNature> findLimitedLiabilityEconomicNatures(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Get every economic nature for the autocomplete index, with its usage count (providers)
+     * Each row: [id, designationFr, designationEn, designationAr, usageCount, acronymFr]
+     */
+    @Query("SELECT en.id, en.designationFr, en.designationEn, en.designationAr, COUNT(p), en.acronymFr FROM EconomicNature en LEFT JOIN Provider p ON p.economicNature = en " +
+           "GROUP BY en.id, en.designationFr, en.designationEn, en.designationAr, en.acronymFr")
+    List<Object[]> findAutocompleteRows();
+}
@@ -0,0 +1,62 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderDuplicateRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Repository
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import dz.mdn.raas.business.provider.model.ProviderDuplicate;
+
+/**
+ * ProviderDuplicate Repository
+ * Based on exact field names: F_00=id, F_01=provider, F_02=duplicate, F_03=score, F_04=reasons,
+ * F_05=status, F_06=detectedAt, F_07=reviewedAt
+ */
+@Repository
+public interface ProviderDuplicateRepository extends JpaRepository<ProviderDuplicate, Long> {
+
+    /**
+     * Review queue: pairs with a status, best scores first, with both providers
+     */
+    @Query(value = "SELECT d FROM ProviderDuplicate d JOIN FETCH d.provider JOIN FETCH d.duplicate WHERE d.status = :status ORDER BY d.score DESC, d.id",
+           countQuery = "SELECT COUNT(d) FROM ProviderDuplicate d WHERE d.status = :status")
+    Page<ProviderDuplicate> findByStatus(@Param("status") ProviderDuplicate.Status status, Pageable pageable);
+
+    /**
+     * Pairs involving a provider, best scores first
+     */
+    @Query("SELECT d FROM ProviderDuplicate d JOIN FETCH d.provider JOIN FETCH d.duplicate " +
+           "WHERE d.provider.id = :providerId OR d.duplicate.id = :providerId ORDER BY d.score DESC, d.id")
+    List<ProviderDuplicate> findByProviderId(@Param("providerId") Long providerId);
+
+    /**
+     * Every stored pair as [id, providerId, duplicateId, status] (upsert of a full scan)
+     */
+    @Query("SELECT d.id, d.provider.id, d.duplicate.id, d.status FROM ProviderDuplicate d")
+    List<Object[]> findPairRows();
+
+    /**
+     * Delete the pairs involving a provider, before the provider is deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ProviderDuplicate d WHERE d.provider.id = :providerId OR d.duplicate.id = :providerId")
+    int deleteByProviderId(@Param("providerId") Long providerId);
+}
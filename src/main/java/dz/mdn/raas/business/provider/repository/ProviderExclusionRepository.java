@@ -332,4 +332,11 @@ public interface ProviderExclusionRepository extends JpaRepository<ProviderExclu
            "pe1.startDate <= COALESCE(pe2.endDate, pe1.startDate) AND " +
            "COALESCE(pe1.endDate, pe2.startDate) >= pe2.startDate")
     List<ProviderExclusion> findDuplicateExclusions();
-}
\ No newline at end of file
+
+    /**
+     * Get the validity interval of every exclusion (provider eligibility index)
+     * Each row: [id, providerId, startDate, endDate]
+     */
+    @Query("SELECT pe.id, pe.provider.id, pe.startDate, pe.endDate FROM ProviderExclusion pe")
+    List<Object[]> findIntervals();
+}
@@ -13,16 +13,24 @@
 
 package dz.mdn.raas.business.provider.repository;
 
+import dz.mdn.raas.business.provider.dto.ProviderListDTO;
 import dz.mdn.raas.business.provider.model.Provider;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Provider Repository with essential CRUD operations
@@ -360,4 +368,56 @@ public interface ProviderRepository extends JpaRepository<Provider, Long> {
            "LOWER(p.economicNature.designationFr) LIKE '%international%' OR " +
            "p.country.id != :algerianCountryId")
     Page<Provider> findForeignProviders(@Param("algerianCountryId") Long algerianCountryId, Pageable pageable);
+
+    /**
+     * List view projection: only the list columns through explicit joins, no entity loading
+     */
+    @Query(value = "SELECT new dz.mdn.raas.business.provider.dto.ProviderListDTO(p.id, p.designationLt, p.designationAr, p.acronymLt, p.comercialRegistryNumber, p.phoneNumbers, p.mail, en.designationFr, co.designationFr, st.designationLt) " +
+                   "FROM Provider p LEFT JOIN p.economicNature en LEFT JOIN p.country co LEFT JOIN p.state st",
+           countQuery = "SELECT COUNT(p) FROM Provider p")
+    Page<ProviderListDTO> findListView(Pageable pageable);
+
+    /**
+     * List view projection of the given providers (filter result pages)
+     */
+    @Query("SELECT new dz.mdn.raas.business.provider.dto.ProviderListDTO(p.id, p.designationLt, p.designationAr, p.acronymLt, p.comercialRegistryNumber, p.phoneNumbers, p.mail, en.designationFr, co.designationFr, st.designationLt) " +
+           "FROM Provider p LEFT JOIN p.economicNature en LEFT JOIN p.country co LEFT JOIN p.state st WHERE p.id IN :ids")
+    List<ProviderListDTO> findListViewByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Get the single-valued filter keys of every provider (provider bitmap index)
+     * Each row: [id, economicNatureId, countryId, stateId]
+     */
+    @Query("SELECT p.id, en.id, co.id, st.id FROM Provider p LEFT JOIN p.economicNature en LEFT JOIN p.country co LEFT JOIN p.state st")
+    List<Object[]> findBitmapRows();
+
+    /**
+     * Get the economic domains of every provider (provider bitmap index)
+     * Each row: [providerId, economicDomainId]
+     */
+    @Query("SELECT p.id, d.id FROM Provider p JOIN p.economicDomains d")
+    List<Object[]> findEconomicDomainRows();
+
+    /**
+     * Get the matching fields of every provider (duplicate provider detection)
+     * Each row: [id, designationLt, designationAr, comercialRegistryNumber, taxeIdentityNumber, statIdentityNumber, bankAccount]
+     */
+    @Query("SELECT p.id, p.designationLt, p.designationAr, p.comercialRegistryNumber, p.taxeIdentityNumber, p.statIdentityNumber, p.bankAccount FROM Provider p")
+    List<Object[]> findDuplicateProfileRows();
+
+    /**
+     * Searchable fields of every provider (full-text search index), read through a forward-only streaming cursor
+     * Each row: [id, designationLt, designationAr, acronymLt, acronymAr, comercialRegistryNumber, taxeIdentityNumber, statIdentityNumber, mail, address]; must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT p.id, p.designationLt, p.designationAr, p.acronymLt, p.acronymAr, p.comercialRegistryNumber, p.taxeIdentityNumber, p.statIdentityNumber, p.mail, p.address FROM Provider p")
+    Stream<Object[]> streamSearchRows();
+
+    /**
+     * Searchable fields of the given providers (full-text search index)
+     * Each row: [id, designationLt, designationAr, acronymLt, acronymAr, comercialRegistryNumber, taxeIdentityNumber, statIdentityNumber, mail, address]
+     */
+    @Query("SELECT p.id, p.designationLt, p.designationAr, p.acronymLt, p.acronymAr, p.comercialRegistryNumber, p.taxeIdentityNumber, p.statIdentityNumber, p.mail, p.address FROM Provider p WHERE p.id IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
 }
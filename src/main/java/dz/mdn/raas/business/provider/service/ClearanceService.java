@@ -47,6 +47,7 @@ public class ClearanceService {
     private final ProviderRepository providerRepository;
     private final ProviderRepresentatorRepository providerRepresentatorRepository;
     private final dz.mdn.raas.common.communication.repository.MailRepository mailRepository;
+    private final ProviderEligibilityService providerEligibilityService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -72,6 +73,7 @@ public class ClearanceService {
         setEntityRelationships(clearanceDTO, clearance);
 
         Clearance savedClearance = clearanceRepository.save(clearance);
+        providerEligibilityService.clearanceSaved(savedClearance);
         log.info("Successfully created clearance with ID: {}", savedClearance.getId());
 
         return ClearanceDTO.fromEntityWithRelations(savedClearance);
@@ -325,6 +327,7 @@ public class ClearanceService {
         setEntityRelationships(clearanceDTO, existingClearance);
 
         Clearance updatedClearance = clearanceRepository.save(existingClearance);
+        providerEligibilityService.clearanceSaved(updatedClearance);
         log.info("Successfully updated clearance with ID: {}", id);
 
         return ClearanceDTO.fromEntityWithRelations(updatedClearance);
@@ -340,6 +343,7 @@ public class ClearanceService {
 
         Clearance clearance = getClearanceEntityById(id);
         clearanceRepository.delete(clearance);
+        providerEligibilityService.clearanceDeleted(id);
 
         log.info("Successfully deleted clearance with ID: {}", id);
     }
@@ -355,6 +359,7 @@ public class ClearanceService {
         }
 
         clearanceRepository.deleteById(id);
+        providerEligibilityService.clearanceDeleted(id);
         log.info("Successfully deleted clearance with ID: {}", id);
     }
 
@@ -0,0 +1,493 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: DuplicateProviderService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dz.mdn.raas.business.provider.dto.DuplicateScanDTO;
+import dz.mdn.raas.business.provider.dto.ProviderDuplicateDTO;
+import dz.mdn.raas.business.provider.model.Provider;
+import dz.mdn.raas.business.provider.model.ProviderDuplicate;
+import dz.mdn.raas.business.provider.repository.ProviderDuplicateRepository;
+import dz.mdn.raas.business.provider.repository.ProviderRepository;
+import dz.mdn.raas.business.provider.service.ProviderMatcher.Match;
+import dz.mdn.raas.business.provider.service.ProviderMatcher.Profile;
+import dz.mdn.raas.configuration.index.ReplayableIndex;
+import dz.mdn.raas.configuration.transaction.AfterCommit;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Duplicate Provider Service
+ * Detects near-duplicate providers (variant designation spellings, shared identifiers or bank account) and queues
+ * the candidate pairs for review, without comparing every pair of the registry:
+ * - providers are grouped by blocking keys (ProviderMatcher) and only compared within their blocks; blocks larger
+ *   than the maximum size are too common to discriminate and are skipped
+ * - a full scan runs in the background, its blocks compared by parallel workers, and reconciles the review queue:
+ *   new pairs are queued, pending pairs rescored or removed when no longer detected, reviewed pairs kept as reviewed
+ * - the block index of the last scan stays in memory: ProviderService writes are checked against the blocks of the
+ *   written provider once their transaction commits, in the background; the index is held by a ReplayableIndex,
+ *   so reloading it for a scan keeps the writes committed meanwhile
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateProviderService {
+
+    private static final int WRITE_CHUNK_SIZE = 500;
+    private static final int REASONS_MAX_LENGTH = 500;
+
+    private final ProviderRepository providerRepository;
+    private final ProviderDuplicateRepository providerDuplicateRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final TaskExecutor backgroundTaskExecutor;
+
+    @Value("${raas.duplicates.threshold:0.8}")
+    private double threshold;
+
+    @Value("${raas.duplicates.max-block-size:200}")
+    private int maxBlockSize;
+
+    private final Object writeLock = new Object(); // Serializes review queue reconciliations
+    private final ReplayableIndex<BlockIndex> index = new ReplayableIndex<>(); // BlockIndex is read through read()
+    private volatile ScanJob scan;
+
+    private record PairKey(long providerId, long duplicateId) {
+
+        static PairKey of(long left, long right) {
+            return left < right ? new PairKey(left, right) : new PairKey(right, left);
+        }
+    }
+
+    private record Candidate(PairKey key, Match match) {
+    }
+
+    // ========== REVIEW QUEUE ==========
+
+    /**
+     * Get the pairs with a status, best scores first
+     */
+    @Transactional(readOnly = true)
+    public Page<ProviderDuplicateDTO> getQueue(ProviderDuplicate.Status status, Pageable pageable) {
+        log.debug("Getting {} provider duplicates", status);
+
+        return providerDuplicateRepository.findByStatus(status, pageable).map(ProviderDuplicateDTO::fromEntity);
+    }
+
+    /**
+     * Get the pairs involving a provider, best scores first
+     */
+    @Transactional(readOnly = true)
+    public List<ProviderDuplicateDTO> getByProvider(Long providerId) {
+        log.debug("Getting duplicates of provider ID: {}", providerId);
+
+        return providerDuplicateRepository.findByProviderId(providerId).stream()
+                .map(ProviderDuplicateDTO::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Confirm or dismiss a pair, or put it back in the queue (PENDING)
+     */
+    @Transactional
+    public ProviderDuplicateDTO review(Long id, ProviderDuplicate.Status status) {
+        log.info("Reviewing provider duplicate ID: {} as {}", id, status);
+
+        if (status == null) {
+            throw new BusinessValidationException("Review status is required");
+        }
+        ProviderDuplicate providerDuplicate = providerDuplicateRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Provider duplicate not found with ID: " + id));
+        providerDuplicate.setStatus(status);
+        providerDuplicate.setReviewedAt(status == ProviderDuplicate.Status.PENDING ? null : new Date());
+
+        return ProviderDuplicateDTO.fromEntity(providerDuplicateRepository.save(providerDuplicate));
+    }
+
+    // ========== FULL SCAN ==========
+
+    /**
+     * Start a background scan of the whole registry
+     */
+    public synchronized DuplicateScanDTO startScan() {
+        if (scan != null && !scan.isFinished()) {
+            throw new BusinessValidationException("A duplicate provider scan is already running");
+        }
+        ScanJob job = new ScanJob();
+        try {
+            backgroundTaskExecutor.execute(() -> runScan(job));
+        } catch (TaskRejectedException e) {
+            throw new BusinessValidationException("Too many background jobs are running, retry later");
+        }
+        scan = job;
+        log.info("Queued duplicate provider scan");
+        return job.toDTO();
+    }
+
+    /**
+     * Get the progress of the last scan
+     */
+    public DuplicateScanDTO getScan() {
+        ScanJob job = scan;
+        if (job == null) {
+            throw new ResourceNotFoundException("No duplicate provider scan has been started");
+        }
+        return job.toDTO();
+    }
+
+    // ========== INCREMENTAL CHECKS ==========
+
+    /**
+     * Check a created or updated provider against its blocks once the current transaction commits
+     */
+    public void providerSaved(Provider provider) {
+        Profile profile = ProviderMatcher.profile(provider.getId(), provider.getDesignationLt(), provider.getDesignationAr(),
+                provider.getComercialRegistryNumber(), provider.getTaxeIdentityNumber(), provider.getStatIdentityNumber(),
+                provider.getBankAccount());
+        AfterCommit.run(() -> {
+            index.apply(current -> current.put(profile));
+            try {
+                backgroundTaskExecutor.execute(() -> check(profile));
+            } catch (TaskRejectedException e) {
+                log.warn("Duplicate check of provider ID: {} skipped, background executor is saturated", profile.id());
+            }
+        });
+    }
+
+    /**
+     * Remove the pairs of a provider about to be deleted, in the current transaction
+     */
+    public void providerDeleted(Long id) {
+        providerDuplicateRepository.deleteByProviderId(id);
+        index.applyAfterCommit(current -> current.remove(id));
+    }
+
+    // ========== INDEX LOADING ==========
+
+    /**
+     * Load the block index in the background when the application starts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        backgroundTaskExecutor.execute(() -> {
+            try {
+                rebuildIndex();
+            } catch (RuntimeException e) {
+                log.error("Duplicate provider block index load failed", e);
+            }
+        });
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void runScan(ScanJob job) {
+        job.status = "RUNNING";
+        job.startedAt = new Date();
+        try {
+            List<List<Profile>> blocks = rebuildIndex();
+            job.providers.set(index.read(BlockIndex::size));
+
+            Set<PairKey> compared = ConcurrentHashMap.newKeySet();
+            Queue<Candidate> candidates = new ConcurrentLinkedQueue<>();
+            blocks.parallelStream().forEach(block -> {
+                if (block.size() > maxBlockSize) {
+                    job.skippedBlocks.incrementAndGet();
+                    return;
+                }
+                job.blocks.incrementAndGet();
+                for (int i = 0; i < block.size(); i++) {
+                    for (int j = i + 1; j < block.size(); j++) {
+                        PairKey key = PairKey.of(block.get(i).id(), block.get(j).id());
+                        if (!compared.add(key)) {
+                            continue;
+                        }
+                        job.comparisons.incrementAndGet();
+                        Match match = ProviderMatcher.compare(block.get(i), block.get(j));
+                        if (match.score() >= threshold) {
+                            candidates.add(new Candidate(key, match));
+                        }
+                    }
+                }
+            });
+            job.candidates.set(candidates.size());
+
+            synchronized (writeLock) {
+                reconcile(new ArrayList<>(candidates), job);
+            }
+            job.status = "COMPLETED";
+            log.info("Duplicate provider scan completed: {} providers, {} comparisons, {} candidates ({} new, {} removed)",
+                    job.providers.get(), job.comparisons.get(), job.candidates.get(), job.inserted.get(), job.removed.get());
+        } catch (Exception e) {
+            job.status = "FAILED";
+            job.message = e.getMessage();
+            log.error("Duplicate provider scan failed: {}", e.getMessage(), e);
+        } finally {
+            job.finishedAt = new Date();
+        }
+    }
+
+    /**
+     * Reconcile the review queue with the candidates of a full scan
+     */
+    private void reconcile(List<Candidate> candidates, ScanJob job) {
+        Map<PairKey, Long> pendingIds = new HashMap<>();
+        Set<PairKey> stored = new HashSet<>();
+        for (Object[] row : providerDuplicateRepository.findPairRows()) {
+            PairKey key = new PairKey((Long) row[1], (Long) row[2]);
+            stored.add(key);
+            if (row[3] == ProviderDuplicate.Status.PENDING) {
+                pendingIds.put(key, (Long) row[0]);
+            }
+        }
+
+        List<Candidate> inserts = new ArrayList<>();
+        Map<Long, Match> updates = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            Long pendingId = pendingIds.remove(candidate.key());
+            if (pendingId != null) {
+                updates.put(pendingId, candidate.match());
+            } else if (!stored.contains(candidate.key())) {
+                inserts.add(candidate);
+            }
+        }
+        List<Long> removals = new ArrayList<>(pendingIds.values()); // Pending pairs not detected anymore
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Date detectedAt = new Date();
+        for (int from = 0; from < inserts.size(); from += WRITE_CHUNK_SIZE) {
+            List<Candidate> chunk = inserts.subList(from, Math.min(from + WRITE_CHUNK_SIZE, inserts.size()));
+            transaction.executeWithoutResult(status -> chunk.forEach(candidate -> insert(candidate, detectedAt)));
+            job.inserted.addAndGet(chunk.size());
+        }
+        List<Long> updateIds = new ArrayList<>(updates.keySet());
+        for (int from = 0; from < updateIds.size(); from += WRITE_CHUNK_SIZE) {
+            List<Long> chunk = updateIds.subList(from, Math.min(from + WRITE_CHUNK_SIZE, updateIds.size()));
+            transaction.executeWithoutResult(status -> providerDuplicateRepository.findAllById(chunk)
+                    .forEach(providerDuplicate -> rescore(providerDuplicate, updates.get(providerDuplicate.getId()))));
+            job.updated.addAndGet(chunk.size());
+        }
+        for (int from = 0; from < removals.size(); from += WRITE_CHUNK_SIZE) {
+            List<Long> chunk = removals.subList(from, Math.min(from + WRITE_CHUNK_SIZE, removals.size()));
+            transaction.executeWithoutResult(status -> providerDuplicateRepository.deleteAllByIdInBatch(chunk));
+            job.removed.addAndGet(chunk.size());
+        }
+    }
+
+    /**
+     * Check one provider against the providers sharing one of its blocks, and reconcile its pending pairs
+     */
+    private void check(Profile profile) {
+        List<Profile> others = index.read(current -> current.candidates(profile, maxBlockSize));
+        if (others == null) {
+            return; // Checked by the next scan
+        }
+
+        Map<PairKey, Match> detected = new HashMap<>();
+        for (Profile other : others) {
+            Match match = ProviderMatcher.compare(profile, other);
+            if (match.score() >= threshold) {
+                detected.put(PairKey.of(profile.id(), other.id()), match);
+            }
+        }
+
+        try {
+            synchronized (writeLock) {
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    Date detectedAt = new Date();
+                    for (ProviderDuplicate providerDuplicate : providerDuplicateRepository.findByProviderId(profile.id())) {
+                        PairKey key = new PairKey(providerDuplicate.getProvider().getId(), providerDuplicate.getDuplicate().getId());
+                        Match match = detected.remove(key);
+                        if (providerDuplicate.getStatus() != ProviderDuplicate.Status.PENDING) {
+                            continue;
+                        }
+                        if (match != null) {
+                            rescore(providerDuplicate, match);
+                        } else {
+                            providerDuplicateRepository.delete(providerDuplicate);
+                        }
+                    }
+                    detected.forEach((key, match) -> insert(new Candidate(key, match), detectedAt));
+                });
+            }
+            log.debug("Duplicate check of provider ID: {} compared {} providers", profile.id(), others.size());
+        } catch (RuntimeException e) {
+            log.warn("Duplicate check of provider ID: {} failed: {}", profile.id(), e.getMessage());
+        }
+    }
+
+    private void insert(Candidate candidate, Date detectedAt) {
+        ProviderDuplicate providerDuplicate = new ProviderDuplicate();
+        providerDuplicate.setProvider(providerRepository.getReferenceById(candidate.key().providerId()));
+        providerDuplicate.setDuplicate(providerRepository.getReferenceById(candidate.key().duplicateId()));
+        providerDuplicate.setScore(candidate.match().score());
+        providerDuplicate.setReasons(reasons(candidate.match()));
+        providerDuplicate.setStatus(ProviderDuplicate.Status.PENDING);
+        providerDuplicate.setDetectedAt(detectedAt);
+        providerDuplicateRepository.save(providerDuplicate);
+    }
+
+    private void rescore(ProviderDuplicate providerDuplicate, Match match) {
+        providerDuplicate.setScore(match.score());
+        providerDuplicate.setReasons(reasons(match));
+    }
+
+    private static String reasons(Match match) {
+        String reasons = String.join(", ", match.reasons());
+        return reasons.length() > REASONS_MAX_LENGTH ? reasons.substring(0, REASONS_MAX_LENGTH) : reasons;
+    }
+
+    /**
+     * Rebuild the block index from the database
+     *
+     * @return the blocks of two providers or more, as of the swap
+     */
+    private List<List<Profile>> rebuildIndex() {
+        long started = System.currentTimeMillis();
+        index.rebuild(() -> {
+            BlockIndex loaded = new BlockIndex();
+            for (Object[] row : providerRepository.findDuplicateProfileRows()) {
+                loaded.put(ProviderMatcher.profile((Long) row[0], (String) row[1], (String) row[2],
+                        (String) row[3], (String) row[4], (String) row[5], (String) row[6]));
+            }
+            return loaded;
+        });
+        List<List<Profile>> blocks = index.read(BlockIndex::blocks);
+        log.info("Built duplicate provider block index of {} blocks in {} ms", blocks.size(), System.currentTimeMillis() - started);
+        return blocks;
+    }
+
+    /**
+     * Profiles and blocking keys of every provider
+     */
+    private static final class BlockIndex {
+
+        private final Map<Long, Profile> profiles = new HashMap<>();
+        private final Map<Long, Set<String>> keysByProvider = new HashMap<>();
+        private final Map<String, Set<Long>> blocks = new HashMap<>();
+
+        void put(Profile profile) {
+            remove(profile.id());
+            Set<String> keys = ProviderMatcher.blockingKeys(profile);
+            for (String key : keys) {
+                blocks.computeIfAbsent(key, k -> new HashSet<>()).add(profile.id());
+            }
+            profiles.put(profile.id(), profile);
+            keysByProvider.put(profile.id(), keys);
+        }
+
+        void remove(long id) {
+            Set<String> keys = keysByProvider.remove(id);
+            if (keys == null) {
+                return;
+            }
+            for (String key : keys) {
+                Set<Long> block = blocks.get(key);
+                block.remove(id);
+                if (block.isEmpty()) {
+                    blocks.remove(key);
+                }
+            }
+            profiles.remove(id);
+        }
+
+        /**
+         * Other providers sharing a block of at most the maximum size with the profile
+         */
+        List<Profile> candidates(Profile profile, int maxBlockSize) {
+            Set<Long> ids = new HashSet<>();
+            for (String key : ProviderMatcher.blockingKeys(profile)) {
+                Set<Long> block = blocks.get(key);
+                if (block != null && block.size() <= maxBlockSize) {
+                    ids.addAll(block);
+                }
+            }
+            ids.remove(profile.id());
+            return ids.stream().map(profiles::get).toList();
+        }
+
+        List<List<Profile>> blocks() {
+            List<List<Profile>> result = new ArrayList<>();
+            for (Set<Long> block : blocks.values()) {
+                if (block.size() > 1) {
+                    result.add(block.stream().map(profiles::get).toList());
+                }
+            }
+            return result;
+        }
+
+        int size() {
+            return profiles.size();
+        }
+    }
+
+    private static class ScanJob {
+        private final AtomicLong providers = new AtomicLong();
+        private final AtomicLong blocks = new AtomicLong();
+        private final AtomicLong skippedBlocks = new AtomicLong();
+        private final AtomicLong comparisons = new AtomicLong();
+        private final AtomicLong candidates = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong removed = new AtomicLong();
+        private volatile String status = "QUEUED";
+        private volatile String message;
+        private volatile Date startedAt;
+        private volatile Date finishedAt;
+
+        private boolean isFinished() {
+            return "COMPLETED".equals(status) || "FAILED".equals(status);
+        }
+
+        private DuplicateScanDTO toDTO() {
+            return DuplicateScanDTO.builder()
+                    .status(status)
+                    .message(message)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .providers(providers.get())
+                    .blocks(blocks.get())
+                    .skippedBlocks(skippedBlocks.get())
+                    .comparisons(comparisons.get())
+                    .candidates(candidates.get())
+                    .inserted(inserted.get())
+                    .updated(updated.get())
+                    .removed(removed.get())
+                    .build();
+        }
+    }
+}
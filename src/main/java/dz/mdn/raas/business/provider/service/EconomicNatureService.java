@@ -16,6 +16,7 @@ package dz.mdn.raas.business.provider.service;
 import dz.mdn.raas.business.provider.model.EconomicNature;
 import dz.mdn.raas.business.provider.repository.EconomicNatureRepository;
 import dz.mdn.raas.business.provider.dto.EconomicNatureDTO;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +42,7 @@ import java.util.Optional;
 public class EconomicNatureService {
 
     private final EconomicNatureRepository economicNatureRepository;
+    private final AutocompleteService autocompleteService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -69,6 +71,8 @@ public class EconomicNatureService {
         economicNature.setAcronymFr(economicNatureDTO.getAcronymFr()); // F_06
 
         EconomicNature savedEconomicNature = economicNatureRepository.save(economicNature);
+        autocompleteService.indexed(AutocompleteService.Type.ECONOMIC_NATURE, savedEconomicNature.getId(), savedEconomicNature.getDesignationFr(),
+                savedEconomicNature.getDesignationEn(), savedEconomicNature.getDesignationAr(), savedEconomicNature.getAcronymFr());
         log.info("Successfully created economic nature with ID: {}", savedEconomicNature.getId());
 
         return EconomicNatureDTO.fromEntity(savedEconomicNature);
@@ -391,6 +395,8 @@ public class EconomicNatureService {
         existingEconomicNature.setAcronymFr(economicNatureDTO.getAcronymFr()); // F_06
 
         EconomicNature updatedEconomicNature = economicNatureRepository.save(existingEconomicNature);
+        autocompleteService.indexed(AutocompleteService.Type.ECONOMIC_NATURE, updatedEconomicNature.getId(), updatedEconomicNature.getDesignationFr(),
+                updatedEconomicNature.getDesignationEn(), updatedEconomicNature.getDesignationAr(), updatedEconomicNature.getAcronymFr());
         log.info("Successfully updated economic nature with ID: {}", id);
 
         return EconomicNatureDTO.fromEntity(updatedEconomicNature);
@@ -406,6 +412,7 @@ public class EconomicNatureService {
 
         EconomicNature economicNature = getEconomicNatureEntityById(id);
         economicNatureRepository.delete(economicNature);
+        autocompleteService.removed(AutocompleteService.Type.ECONOMIC_NATURE, id);
 
         log.info("Successfully deleted economic nature with ID: {}", id);
     }
@@ -421,6 +428,7 @@ public class EconomicNatureService {
         }
 
         economicNatureRepository.deleteById(id);
+        autocompleteService.removed(AutocompleteService.Type.ECONOMIC_NATURE, id);
         log.info("Successfully deleted economic nature with ID: {}", id);
     }
 
@@ -0,0 +1,157 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderBitmapIndex
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ProviderBitmapIndex
+ *
+ * One bitmap of provider IDs per value of each filter dimension (economic domain, economic nature, state, country),
+ * plus the bitmap of all providers. Provider IDs are sequential, so the bitmaps are dense and a BitSet is as compact
+ * as a run-length encoded bitmap while AND / OR / ANDNOT stay word-wide loops. The keys of each provider are kept to
+ * clear its bits when it is updated or removed. Reads return copies, so results are combined without holding the lock.
+ */
+final class ProviderBitmapIndex {
+
+    enum Dimension {
+        ECONOMIC_DOMAIN, ECONOMIC_NATURE, STATE, COUNTRY
+    }
+
+    /**
+     * Filter keys of one provider; a null key is not indexed
+     */
+    record Keys(Long economicNatureId, Long countryId, Long stateId, Collection<Long> economicDomainIds) {
+    }
+
+    private final Map<Dimension, Map<Long, BitSet>> bitmaps = new EnumMap<>(Dimension.class);
+    private final Map<Long, Keys> keysByProvider = new HashMap<>();
+    private final BitSet providers = new BitSet();
+
+    ProviderBitmapIndex() {
+        for (Dimension dimension : Dimension.values()) {
+            bitmaps.put(dimension, new HashMap<>());
+        }
+    }
+
+    // ========== WRITE ==========
+
+    /**
+     * Add or replace the keys of a provider
+     */
+    synchronized void put(long providerId, Keys keys) {
+        remove(providerId);
+        int bit = bit(providerId);
+        set(Dimension.ECONOMIC_NATURE, keys.economicNatureId(), bit);
+        set(Dimension.COUNTRY, keys.countryId(), bit);
+        set(Dimension.STATE, keys.stateId(), bit);
+        for (Long economicDomainId : keys.economicDomainIds()) {
+            set(Dimension.ECONOMIC_DOMAIN, economicDomainId, bit);
+        }
+        providers.set(bit);
+        keysByProvider.put(providerId, keys);
+    }
+
+    /**
+     * Remove a provider, if present
+     */
+    synchronized void remove(long providerId) {
+        Keys previous = keysByProvider.remove(providerId);
+        if (previous == null) {
+            return;
+        }
+        int bit = bit(providerId);
+        clear(Dimension.ECONOMIC_NATURE, previous.economicNatureId(), bit);
+        clear(Dimension.COUNTRY, previous.countryId(), bit);
+        clear(Dimension.STATE, previous.stateId(), bit);
+        for (Long economicDomainId : previous.economicDomainIds()) {
+            clear(Dimension.ECONOMIC_DOMAIN, economicDomainId, bit);
+        }
+        providers.clear(bit);
+    }
+
+    // ========== READ ==========
+
+    /**
+     * All indexed providers
+     */
+    synchronized BitSet all() {
+        return (BitSet) providers.clone();
+    }
+
+    /**
+     * Providers having at least one of the keys
+     */
+    synchronized BitSet union(Dimension dimension, Collection<Long> keys) {
+        BitSet result = new BitSet();
+        for (Long key : keys) {
+            BitSet bitmap = bitmaps.get(dimension).get(key);
+            if (bitmap != null) {
+                result.or(bitmap);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Providers having every key
+     */
+    synchronized BitSet intersection(Dimension dimension, Collection<Long> keys) {
+        BitSet result = (BitSet) providers.clone();
+        for (Long key : keys) {
+            BitSet bitmap = bitmaps.get(dimension).get(key);
+            if (bitmap == null) {
+                return new BitSet();
+            }
+            result.and(bitmap);
+        }
+        return result;
+    }
+
+    synchronized int size() {
+        return keysByProvider.size();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void set(Dimension dimension, Long key, int bit) {
+        if (key != null) {
+            bitmaps.get(dimension).computeIfAbsent(key, k -> new BitSet()).set(bit);
+        }
+    }
+
+    private void clear(Dimension dimension, Long key, int bit) {
+        if (key == null) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(dimension).get(key);
+        if (bitmap != null) {
+            bitmap.clear(bit);
+            if (bitmap.isEmpty()) {
+                bitmaps.get(dimension).remove(key);
+            }
+        }
+    }
+
+    private static int bit(long providerId) {
+        if (providerId < 0 || providerId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Provider ID out of bitmap range: " + providerId);
+        }
+        return (int) providerId;
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderEligibilityService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.service;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import dz.mdn.raas.business.provider.dto.ProviderEligibilityDTO;
+import dz.mdn.raas.business.provider.model.Clearance;
+import dz.mdn.raas.business.provider.model.ProviderExclusion;
+import dz.mdn.raas.business.provider.repository.ClearanceRepository;
+import dz.mdn.raas.business.provider.repository.ProviderExclusionRepository;
+import dz.mdn.raas.configuration.index.ReplayableIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Provider Eligibility Service
+ * Answers "is the provider eligible on date D" (no active exclusion and a valid clearance) for one provider or
+ * a batch, from in-memory interval indexes of exclusions and clearances (ProviderIntervalIndex) instead of two
+ * date-range queries per provider:
+ * - the indexes are loaded at startup with one query each; until then, checks fall back to the repository queries
+ * - ProviderExclusionService and ClearanceService report their writes, applied once their transaction commits
+ * - both indexes are swapped together through one ReplayableIndex, so a rebuild keeps concurrent writes
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderEligibilityService {
+
+    private final ProviderExclusionRepository providerExclusionRepository;
+    private final ClearanceRepository clearanceRepository;
+
+    private final ReplayableIndex<Indexes> indexes = new ReplayableIndex<>();
+
+    private record Indexes(ProviderIntervalIndex exclusions, ProviderIntervalIndex clearances) {
+    }
+
+    // ========== CHECKS ==========
+
+    /**
+     * Eligibility of one provider on a date (now when null)
+     */
+    public ProviderEligibilityDTO check(Long providerId, Date date) {
+        Date on = date != null ? date : new Date();
+        return check(indexes.get(), providerId, on);
+    }
+
+    /**
+     * Eligibility of several providers on the same date (now when null), by provider ID in request order
+     */
+    public Map<Long, ProviderEligibilityDTO> check(Collection<Long> providerIds, Date date) {
+        Date on = date != null ? date : new Date();
+        Indexes current = indexes.get();
+        Map<Long, ProviderEligibilityDTO> eligibilities = new LinkedHashMap<>();
+        for (Long providerId : providerIds) {
+            eligibilities.computeIfAbsent(providerId, id -> check(current, id, on));
+        }
+        return eligibilities;
+    }
+
+    // ========== INCREMENTAL UPDATES ==========
+
+    /**
+     * Index a created or updated exclusion once the current transaction commits
+     */
+    public void exclusionSaved(ProviderExclusion exclusion) {
+        long id = exclusion.getId();
+        long providerId = exclusion.getProvider().getId();
+        Date start = exclusion.getStartDate();
+        Date end = exclusion.getEndDate();
+        indexes.applyAfterCommit(current -> current.exclusions().put(id, providerId, start, end));
+    }
+
+    /**
+     * Remove a deleted exclusion once the current transaction commits
+     */
+    public void exclusionDeleted(Long id) {
+        indexes.applyAfterCommit(current -> current.exclusions().remove(id));
+    }
+
+    /**
+     * Index a created or updated clearance once the current transaction commits
+     */
+    public void clearanceSaved(Clearance clearance) {
+        long id = clearance.getId();
+        long providerId = clearance.getProvider().getId();
+        Date start = clearance.getStartDate();
+        Date end = clearance.getEndDate();
+        indexes.applyAfterCommit(current -> current.clearances().put(id, providerId, start, end));
+    }
+
+    /**
+     * Remove a deleted clearance once the current transaction commits
+     */
+    public void clearanceDeleted(Long id) {
+        indexes.applyAfterCommit(current -> current.clearances().remove(id));
+    }
+
+    // ========== REBUILD ==========
+
+    /**
+     * Load the indexes when the application starts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild both indexes from the database
+     *
+     * @return number of indexed exclusions and clearances
+     */
+    public Map<String, Integer> rebuild() {
+        long started = System.currentTimeMillis();
+        Indexes rebuilt = indexes.rebuild(() -> {
+            Indexes loaded = new Indexes(new ProviderIntervalIndex(), new ProviderIntervalIndex());
+            for (Object[] row : providerExclusionRepository.findIntervals()) {
+                loaded.exclusions().put((Long) row[0], (Long) row[1], (Date) row[2], (Date) row[3]);
+            }
+            for (Object[] row : clearanceRepository.findIntervals()) {
+                loaded.clearances().put((Long) row[0], (Long) row[1], (Date) row[2], (Date) row[3]);
+            }
+            return loaded;
+        });
+        log.info("Built provider eligibility indexes of {} exclusions and {} clearances in {} ms",
+                rebuilt.exclusions().size(), rebuilt.clearances().size(), System.currentTimeMillis() - started);
+
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("exclusions", rebuilt.exclusions().size());
+        sizes.put("clearances", rebuilt.clearances().size());
+        return sizes;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private ProviderEligibilityDTO check(Indexes current, Long providerId, Date date) {
+        boolean excluded;
+        boolean cleared;
+        if (current != null) {
+            excluded = current.exclusions().covers(providerId, date.getTime());
+            cleared = current.clearances().covers(providerId, date.getTime());
+        } else {
+            excluded = providerExclusionRepository.hasActiveExclusions(providerId, date);
+            cleared = clearanceRepository.hasActiveClearances(providerId, date);
+        }
+        return ProviderEligibilityDTO.builder()
+                .providerId(providerId)
+                .date(date)
+                .excluded(excluded)
+                .cleared(cleared)
+                .eligible(!excluded && cleared)
+                .build();
+    }
+}
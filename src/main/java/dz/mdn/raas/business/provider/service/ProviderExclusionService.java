@@ -47,6 +47,7 @@ public class ProviderExclusionService {
     private final ExclusionTypeRepository exclusionTypeRepository;
     private final ProviderRepository providerRepository;
     private final dz.mdn.raas.common.communication.repository.MailRepository mailRepository;
+    private final ProviderEligibilityService providerEligibilityService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -72,6 +73,7 @@ public class ProviderExclusionService {
         setEntityRelationships(providerExclusionDTO, providerExclusion);
 
         ProviderExclusion savedProviderExclusion = providerExclusionRepository.save(providerExclusion);
+        providerEligibilityService.exclusionSaved(savedProviderExclusion);
         log.info("Successfully created provider exclusion with ID: {}", savedProviderExclusion.getId());
 
         return ProviderExclusionDTO.fromEntityWithRelations(savedProviderExclusion);
@@ -289,6 +291,7 @@ public class ProviderExclusionService {
         setEntityRelationships(providerExclusionDTO, existingProviderExclusion);
 
         ProviderExclusion updatedProviderExclusion = providerExclusionRepository.save(existingProviderExclusion);
+        providerEligibilityService.exclusionSaved(updatedProviderExclusion);
         log.info("Successfully updated provider exclusion with ID: {}", id);
 
         return ProviderExclusionDTO.fromEntityWithRelations(updatedProviderExclusion);
@@ -304,6 +307,7 @@ public class ProviderExclusionService {
 
         ProviderExclusion providerExclusion = getProviderExclusionEntityById(id);
         providerExclusionRepository.delete(providerExclusion);
+        providerEligibilityService.exclusionDeleted(id);
 
         log.info("Successfully deleted provider exclusion with ID: {}", id);
     }
@@ -319,6 +323,7 @@ public class ProviderExclusionService {
         }
 
         providerExclusionRepository.deleteById(id);
+        providerEligibilityService.exclusionDeleted(id);
         log.info("Successfully deleted provider exclusion with ID: {}", id);
     }
 
@@ -0,0 +1,194 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderFilterService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import dz.mdn.raas.business.provider.dto.ProviderFilterDTO;
+import dz.mdn.raas.business.provider.dto.ProviderListDTO;
+import dz.mdn.raas.business.provider.model.EconomicDomain;
+import dz.mdn.raas.business.provider.model.Provider;
+import dz.mdn.raas.business.provider.repository.ProviderRepository;
+import dz.mdn.raas.business.provider.service.ProviderBitmapIndex.Dimension;
+import dz.mdn.raas.configuration.index.ReplayableIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Provider Filter Service
+ * Filters providers on combinations of economic domains, economic nature, state and country from an in-memory
+ * bitmap index (ProviderBitmapIndex) instead of nested join queries over the eagerly loaded domain lists:
+ * - criteria are evaluated with bitmap AND / OR / ANDNOT, then only the requested page is read from the database,
+ *   as list view rows
+ * - the index is loaded in the background at startup; a filter issued before it is ready waits for the load
+ * - ProviderService reports its writes, applied once their transaction commits
+ * - the index is held by a ReplayableIndex, so a rebuild keeps the writes committed while it loads
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProviderFilterService {
+
+    private final ProviderRepository providerRepository;
+    private final TaskExecutor backgroundTaskExecutor;
+
+    private final ReplayableIndex<ProviderBitmapIndex> index = new ReplayableIndex<>();
+
+    // ========== FILTER ==========
+
+    /**
+     * Page of the providers matching the filter, in ID order
+     */
+    public Page<ProviderListDTO> filter(ProviderFilterDTO filter, Pageable pageable) {
+        ProviderBitmapIndex current = index.getOrLoad(this::load);
+
+        BitSet matches = current.all();
+        if (!isEmpty(filter.getAllEconomicDomainIds())) {
+            matches.and(current.intersection(Dimension.ECONOMIC_DOMAIN, filter.getAllEconomicDomainIds()));
+        }
+        if (!isEmpty(filter.getAnyEconomicDomainIds())) {
+            matches.and(current.union(Dimension.ECONOMIC_DOMAIN, filter.getAnyEconomicDomainIds()));
+        }
+        if (!isEmpty(filter.getExcludedEconomicDomainIds())) {
+            matches.andNot(current.union(Dimension.ECONOMIC_DOMAIN, filter.getExcludedEconomicDomainIds()));
+        }
+        if (!isEmpty(filter.getEconomicNatureIds())) {
+            matches.and(current.union(Dimension.ECONOMIC_NATURE, filter.getEconomicNatureIds()));
+        }
+        if (!isEmpty(filter.getStateIds())) {
+            matches.and(current.union(Dimension.STATE, filter.getStateIds()));
+        }
+        if (!isEmpty(filter.getCountryIds())) {
+            matches.and(current.union(Dimension.COUNTRY, filter.getCountryIds()));
+        }
+
+        List<Long> pageIds = pageIds(matches, pageable);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matches.cardinality());
+        }
+        Map<Long, ProviderListDTO> rows = providerRepository.findListViewByIds(pageIds).stream()
+                .collect(Collectors.toMap(ProviderListDTO::getId, Function.identity()));
+        List<ProviderListDTO> content = pageIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, matches.cardinality());
+    }
+
+    // ========== INCREMENTAL UPDATES ==========
+
+    /**
+     * Index a created or updated provider once the current transaction commits
+     */
+    public void providerSaved(Provider provider) {
+        long providerId = provider.getId();
+        ProviderBitmapIndex.Keys keys = new ProviderBitmapIndex.Keys(
+                provider.getEconomicNature() != null ? provider.getEconomicNature().getId() : null,
+                provider.getCountry() != null ? provider.getCountry().getId() : null,
+                provider.getState() != null ? provider.getState().getId() : null,
+                provider.getEconomicDomains() != null
+                        ? provider.getEconomicDomains().stream().map(EconomicDomain::getId).toList()
+                        : List.of());
+        index.applyAfterCommit(current -> current.put(providerId, keys));
+    }
+
+    /**
+     * Remove a deleted provider once the current transaction commits
+     */
+    public void providerDeleted(Long id) {
+        index.applyAfterCommit(current -> current.remove(id));
+    }
+
+    // ========== REBUILD ==========
+
+    /**
+     * Load the index in the background when the application starts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuildInBackground();
+    }
+
+    /**
+     * Rebuild the index on the background executor
+     */
+    public void rebuildInBackground() {
+        backgroundTaskExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Provider bitmap index rebuild failed", e);
+            }
+        });
+    }
+
+    /**
+     * Rebuild the index from the database
+     *
+     * @return number of indexed providers
+     */
+    public int rebuild() {
+        return index.rebuild(this::load).size();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private ProviderBitmapIndex load() {
+        long started = System.currentTimeMillis();
+        Map<Long, List<Long>> economicDomainIds = new HashMap<>();
+        for (Object[] row : providerRepository.findEconomicDomainRows()) {
+            economicDomainIds.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+        }
+        ProviderBitmapIndex loaded = new ProviderBitmapIndex();
+        for (Object[] row : providerRepository.findBitmapRows()) {
+            loaded.put((Long) row[0], new ProviderBitmapIndex.Keys((Long) row[1], (Long) row[2], (Long) row[3],
+                    economicDomainIds.getOrDefault((Long) row[0], List.of())));
+        }
+        log.info("Built provider bitmap index of {} providers in {} ms", loaded.size(), System.currentTimeMillis() - started);
+        return loaded;
+    }
+
+    private static boolean isEmpty(Collection<Long> keys) {
+        return keys == null || keys.isEmpty();
+    }
+
+    private static List<Long> pageIds(BitSet matches, Pageable pageable) {
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        long skip = pageable.getOffset();
+        for (int bit = matches.nextSetBit(0); bit >= 0 && ids.size() < pageable.getPageSize(); bit = matches.nextSetBit(bit + 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                ids.add((long) bit);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderIntervalIndex
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.service;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ProviderIntervalIndex
+ *
+ * Validity intervals [start, end) of one kind of provider record (exclusions or clearances), grouped by provider.
+ * A missing start or end is unbounded. Each provider's intervals are kept as an immutable snapshot sorted by start,
+ * with the running maximum of the ends: some interval covers an instant when the greatest end among the intervals
+ * started at that instant lies after it, found with one binary search. Writes replace the snapshot of the providers
+ * they touch; lookups read snapshots without locking.
+ */
+final class ProviderIntervalIndex {
+
+    private final Map<Long, Interval> intervals = new HashMap<>(); // Guarded by this
+    private final Map<Long, Map<Long, Interval>> intervalsByProvider = new HashMap<>(); // Guarded by this
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private record Interval(long id, long providerId, long start, long end) {
+    }
+
+    private record Snapshot(long[] starts, long[] maxEnds) {
+
+        boolean covers(long instant) {
+            int index = Arrays.binarySearch(starts, instant);
+            // Last interval started at or before the instant (binarySearch finds any of equal starts)
+            int last = index >= 0 ? lastEqual(index) : -index - 2;
+            return last >= 0 && maxEnds[last] > instant;
+        }
+
+        private int lastEqual(int index) {
+            while (index + 1 < starts.length && starts[index + 1] == starts[index]) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    // ========== WRITE ==========
+
+    /**
+     * Add or replace an interval, moving it when its provider changed
+     */
+    synchronized void put(long id, long providerId, Date start, Date end) {
+        Interval interval = new Interval(id, providerId, start != null ? start.getTime() : Long.MIN_VALUE,
+                end != null ? end.getTime() : Long.MAX_VALUE);
+        Interval previous = intervals.put(id, interval);
+        if (previous != null && previous.providerId() != providerId) {
+            intervalsByProvider.get(previous.providerId()).remove(id);
+            refresh(previous.providerId());
+        }
+        intervalsByProvider.computeIfAbsent(providerId, key -> new HashMap<>()).put(id, interval);
+        refresh(providerId);
+    }
+
+    /**
+     * Remove an interval, if present
+     */
+    synchronized void remove(long id) {
+        Interval previous = intervals.remove(id);
+        if (previous != null) {
+            intervalsByProvider.get(previous.providerId()).remove(id);
+            refresh(previous.providerId());
+        }
+    }
+
+    // ========== READ ==========
+
+    /**
+     * Whether one of the provider's intervals covers the instant
+     */
+    boolean covers(long providerId, long instant) {
+        Snapshot snapshot = snapshots.get(providerId);
+        return snapshot != null && snapshot.covers(instant);
+    }
+
+    synchronized int size() {
+        return intervals.size();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void refresh(long providerId) {
+        Map<Long, Interval> providerIntervals = intervalsByProvider.get(providerId);
+        if (providerIntervals == null || providerIntervals.isEmpty()) {
+            intervalsByProvider.remove(providerId);
+            snapshots.remove(providerId);
+            return;
+        }
+        Interval[] sorted = providerIntervals.values().stream()
+                .sorted((left, right) -> Long.compare(left.start(), right.start()))
+                .toArray(Interval[]::new);
+        long[] starts = new long[sorted.length];
+        long[] maxEnds = new long[sorted.length];
+        long maxEnd = Long.MIN_VALUE;
+        for (int i = 0; i < sorted.length; i++) {
+            starts[i] = sorted[i].start();
+            maxEnd = Math.max(maxEnd, sorted[i].end());
+            maxEnds[i] = maxEnd;
+        }
+        snapshots.put(providerId, new Snapshot(starts, maxEnds));
+    }
+}
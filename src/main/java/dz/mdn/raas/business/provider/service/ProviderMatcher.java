@@ -0,0 +1,310 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ProviderMatcher
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Provider
+ *
+ **/
+
+package dz.mdn.raas.business.provider.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import dz.mdn.raas.system.utility.text.TextNormalizer;
+
+/**
+ * ProviderMatcher
+ *
+ * Blocking keys and pair scoring of the duplicate provider detection. Two providers are only compared when they
+ * share a blocking key:
+ * - normalized identifiers: commercial registry, tax identity, statistical identity and bank account numbers
+ * - phonetic keys of the Latin designation (whole name and token prefixes), legal-form words removed
+ * - consonant skeletons of the Arabic designation (whole name and tokens), article and legal-form words removed
+ * A compared pair is scored from every signal of 0.5 or more (shared identifier, trigram similarity of each
+ * designation), combined as independent evidence: 1 - (1 - s1)(1 - s2)...
+ */
+final class ProviderMatcher {
+
+    static final String IDENTIFIER_KEY_PREFIX = "ID:";
+
+    private static final double SIGNAL_FLOOR = 0.5;
+    private static final double PHONETIC_MATCH = 0.9;
+    private static final double BANK_ACCOUNT_MATCH = 0.9;
+    private static final int TOKEN_PREFIX_LENGTH = 4;
+
+    private static final Set<String> LEGAL_FORM_WORDS = normalizedSet(
+            "sarl", "eurl", "spa", "snc", "scs", "sa", "ste", "societe", "ets", "etablissement", "etablissements",
+            "entreprise", "groupe", "cie", "compagnie", "company", "co", "ltd", "inc", "llc", "gmbh", "et", "and",
+            "de", "des", "du", "la", "le", "les", "d", "l", "of", "the",
+            "شركة", "مؤسسة", "مجمع", "ذات", "المسؤولية", "المحدودة", "الشخص", "الوحيد", "ش", "م", "ذ", "و");
+
+    /**
+     * Comparison profile of one provider, built once per scan
+     */
+    record Profile(long id, String comercialRegistryNumber, String taxeIdentityNumber, String statIdentityNumber,
+            String bankAccount, String phoneticLt, List<String> tokensLt, Set<String> gramsLt, String skeletonAr,
+            List<String> tokensAr, Set<String> gramsAr) {
+    }
+
+    /**
+     * Score of a compared pair and the signals behind it
+     */
+    record Match(double score, List<String> reasons) {
+    }
+
+    private ProviderMatcher() {
+    }
+
+    // ========== PROFILE AND KEYS ==========
+
+    static Profile profile(long id, String designationLt, String designationAr, String comercialRegistryNumber,
+            String taxeIdentityNumber, String statIdentityNumber, String bankAccount) {
+
+        List<String> tokensLt = significantTokens(designationLt).stream()
+                .map(ProviderMatcher::phonetic)
+                .filter(token -> !token.isEmpty())
+                .toList();
+        List<String> tokensAr = significantTokens(designationAr).stream()
+                .filter(ProviderMatcher::isArabic)
+                .map(ProviderMatcher::skeleton)
+                .filter(token -> !token.isEmpty())
+                .toList();
+        return new Profile(id, identifier(comercialRegistryNumber), identifier(taxeIdentityNumber),
+                identifier(statIdentityNumber), identifier(bankAccount), sortedJoin(tokensLt), tokensLt,
+                trigrams(String.join("", significantTokens(designationLt))), sortedJoin(tokensAr), tokensAr,
+                trigrams(String.join("", significantTokens(designationAr))));
+    }
+
+    /**
+     * Blocking keys of a profile; identifier keys start with IDENTIFIER_KEY_PREFIX
+     */
+    static Set<String> blockingKeys(Profile profile) {
+        Set<String> keys = new HashSet<>();
+        addKey(keys, IDENTIFIER_KEY_PREFIX + "RC:", profile.comercialRegistryNumber());
+        addKey(keys, IDENTIFIER_KEY_PREFIX + "NIF:", profile.taxeIdentityNumber());
+        addKey(keys, IDENTIFIER_KEY_PREFIX + "NIS:", profile.statIdentityNumber());
+        addKey(keys, IDENTIFIER_KEY_PREFIX + "RIB:", profile.bankAccount());
+        addKey(keys, "PH:", profile.phoneticLt());
+        for (String token : profile.tokensLt()) {
+            if (token.length() >= 3) {
+                keys.add("TK:" + token.substring(0, Math.min(TOKEN_PREFIX_LENGTH, token.length())));
+            }
+        }
+        addKey(keys, "AR:", profile.skeletonAr());
+        for (String token : profile.tokensAr()) {
+            if (token.length() >= 3) {
+                keys.add("AT:" + token);
+            }
+        }
+        return keys;
+    }
+
+    // ========== SCORING ==========
+
+    static Match compare(Profile left, Profile right) {
+        List<String> reasons = new ArrayList<>();
+        double missing = 1.0; // Product of (1 - signal)
+
+        missing *= 1 - signal(reasons, "COMERCIAL_REGISTRY_NUMBER",
+                same(left.comercialRegistryNumber(), right.comercialRegistryNumber()) ? 1.0 : 0.0);
+        missing *= 1 - signal(reasons, "TAXE_IDENTITY_NUMBER",
+                same(left.taxeIdentityNumber(), right.taxeIdentityNumber()) ? 1.0 : 0.0);
+        missing *= 1 - signal(reasons, "STAT_IDENTITY_NUMBER",
+                same(left.statIdentityNumber(), right.statIdentityNumber()) ? 1.0 : 0.0);
+        missing *= 1 - signal(reasons, "BANK_ACCOUNT",
+                same(left.bankAccount(), right.bankAccount()) ? BANK_ACCOUNT_MATCH : 0.0);
+
+        double latin = dice(left.gramsLt(), right.gramsLt());
+        if (same(left.phoneticLt(), right.phoneticLt())) {
+            latin = Math.max(latin, PHONETIC_MATCH);
+        }
+        missing *= 1 - signal(reasons, "DESIGNATION_LT", latin);
+
+        double arabic = dice(left.gramsAr(), right.gramsAr());
+        if (same(left.skeletonAr(), right.skeletonAr())) {
+            arabic = Math.max(arabic, PHONETIC_MATCH);
+        }
+        missing *= 1 - signal(reasons, "DESIGNATION_AR", arabic);
+
+        return new Match(Math.round((1 - missing) * 1000) / 1000.0, reasons);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static double signal(List<String> reasons, String reason, double value) {
+        if (value < SIGNAL_FLOOR) {
+            return 0.0;
+        }
+        reasons.add(value >= 1.0 ? reason : String.format(Locale.ROOT, "%s %.2f", reason, value));
+        return Math.min(value, 1.0);
+    }
+
+    private static boolean same(String left, String right) {
+        return left != null && !left.isEmpty() && left.equals(right);
+    }
+
+    private static void addKey(Set<String> keys, String prefix, String value) {
+        if (value != null && !value.isEmpty()) {
+            keys.add(prefix + value);
+        }
+    }
+
+    /**
+     * Identifier reduced to its upper-case letters and digits; null when too short or a placeholder (one repeated character)
+     */
+    private static String identifier(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toUpperCase(c));
+            }
+        }
+        if (normalized.length() < 4 || normalized.chars().distinct().count() == 1) {
+            return null;
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Normalized words of a designation without legal-form and linking words: runs of single letters are
+     * joined (S.A.R.L), and the Arabic article with its attached prepositions is removed
+     */
+    private static List<String> significantTokens(String designation) {
+        String normalized = TextNormalizer.normalize(designation);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        StringBuilder letters = new StringBuilder();
+        for (String token : normalized.split(" ")) {
+            if (token.length() == 1 && Character.isLetter(token.charAt(0))) {
+                letters.append(token);
+                continue;
+            }
+            addSignificant(tokens, letters.toString());
+            letters.setLength(0);
+            addSignificant(tokens, withoutArticle(token));
+        }
+        addSignificant(tokens, letters.toString());
+        return tokens;
+    }
+
+    private static void addSignificant(List<String> tokens, String token) {
+        if (!token.isEmpty() && !LEGAL_FORM_WORDS.contains(token)) {
+            tokens.add(token);
+        }
+    }
+
+    private static String withoutArticle(String token) {
+        return LEGAL_FORM_WORDS.contains(token) ? token : TextNormalizer.withoutArabicArticle(token);
+    }
+
+    /**
+     * French-oriented phonetic key of a normalized Latin word: equivalent spellings are merged, vowels after
+     * the first letter, silent h and repeated letters are dropped, and so is a silent final s, t or x
+     */
+    private static String phonetic(String token) {
+        String s = token
+                .replace("sch", "X").replace("ch", "X").replace("sh", "X")
+                .replace("ph", "f").replace("th", "t").replace("ck", "k").replace("qu", "k").replace("ou", "u");
+        StringBuilder key = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            char next = i + 1 < s.length() ? s.charAt(i + 1) : 0;
+            char mapped = switch (c) {
+                case 'c' -> next == 'e' || next == 'i' || next == 'y' ? 's' : 'k';
+                case 'q' -> 'k';
+                case 'z' -> 's';
+                case 'y' -> 'i';
+                case 'w' -> 'v';
+                default -> c;
+            };
+            boolean vowel = "aeiouh".indexOf(mapped) >= 0;
+            if (i > 0 && vowel) {
+                continue;
+            }
+            if (key.length() > 0 && key.charAt(key.length() - 1) == mapped) {
+                continue;
+            }
+            key.append(mapped);
+        }
+        int length = key.length();
+        if (length > 2 && "stx".indexOf(key.charAt(length - 1)) >= 0) {
+            key.setLength(length - 1);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Consonant skeleton of a normalized Arabic word: long vowel letters after the first letter are dropped,
+     * since they are written or omitted depending on the transcription
+     */
+    private static String skeleton(String token) {
+        StringBuilder key = new StringBuilder(token.length());
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (i > 0 && (c == 'ا' || c == 'و' || c == 'ي')) {
+                continue;
+            }
+            key.append(c);
+        }
+        return key.toString();
+    }
+
+    private static boolean isArabic(String token) {
+        return Character.UnicodeScript.of(token.codePointAt(0)) == Character.UnicodeScript.ARABIC;
+    }
+
+    private static String sortedJoin(List<String> tokens) {
+        return tokens.stream().sorted().collect(Collectors.joining(" "));
+    }
+
+    private static Set<String> trigrams(String compact) {
+        if (compact.isEmpty()) {
+            return Set.of();
+        }
+        String padded = "#" + compact + "#";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Dice coefficient of two trigram sets
+     */
+    private static double dice(Set<String> left, Set<String> right) {
+        if (left.isEmpty() || right.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> smaller = left.size() <= right.size() ? left : right;
+        Set<String> larger = smaller == left ? right : left;
+        int common = 0;
+        for (String gram : smaller) {
+            if (larger.contains(gram)) {
+                common++;
+            }
+        }
+        return 2.0 * common / (left.size() + right.size());
+    }
+
+    private static Set<String> normalizedSet(String... words) {
+        return Stream.of(words).map(TextNormalizer::normalize).collect(Collectors.toUnmodifiableSet());
+    }
+}
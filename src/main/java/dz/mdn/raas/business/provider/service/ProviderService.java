@@ -22,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dz.mdn.raas.business.provider.dto.ProviderDTO;
+import dz.mdn.raas.business.provider.dto.ProviderListDTO;
 import dz.mdn.raas.business.provider.model.Provider;
 import dz.mdn.raas.business.provider.repository.EconomicDomainRepository;
 import dz.mdn.raas.business.provider.repository.EconomicNatureRepository;
@@ -48,6 +49,8 @@ public class ProviderService {
     private final dz.mdn.raas.common.administration.repository.CountryRepository countryRepository;
     private final dz.mdn.raas.common.administration.repository.StateRepository stateRepository;
     private final EconomicDomainRepository economicDomainRepository;
+    private final ProviderFilterService providerFilterService;
+    private final DuplicateProviderService duplicateProviderService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -75,6 +78,8 @@ public class ProviderService {
 
         // Handle many-to-many relationships
         handleEconomicDomainsRelationship(providerDTO, savedProvider);
+        providerFilterService.providerSaved(savedProvider);
+        duplicateProviderService.providerSaved(savedProvider);
 
         log.info("Successfully created provider with ID: {}", savedProvider.getId());
 
@@ -149,6 +154,16 @@ public class ProviderService {
         return providers.map(ProviderDTO::fromEntity);
     }
 
+    /**
+     * Get providers list view (projection, no entity loading or dirty checking)
+     */
+    @Transactional(readOnly = true)
+    public Page<ProviderListDTO> getProviderListView(Pageable pageable) {
+        log.debug("Getting provider list view with pagination");
+
+        return providerRepository.findListView(pageable);
+    }
+
     /**
      * Find one provider by ID
      */
@@ -364,6 +379,8 @@ public class ProviderService {
 
         // Handle many-to-many relationships
         handleEconomicDomainsRelationship(providerDTO, updatedProvider);
+        providerFilterService.providerSaved(updatedProvider);
+        duplicateProviderService.providerSaved(updatedProvider);
 
         log.info("Successfully updated provider with ID: {}", id);
 
@@ -379,7 +396,9 @@ public class ProviderService {
         log.info("Deleting provider with ID: {}", id);
 
         Provider provider = getProviderEntityById(id);
+        duplicateProviderService.providerDeleted(id);
         providerRepository.delete(provider);
+        providerFilterService.providerDeleted(id);
 
         log.info("Successfully deleted provider with ID: {}", id);
     }
@@ -394,7 +413,9 @@ public class ProviderService {
             throw new RuntimeException("Provider not found with ID: " + id);
         }
 
+        duplicateProviderService.providerDeleted(id);
         providerRepository.deleteById(id);
+        providerFilterService.providerDeleted(id);
         log.info("Successfully deleted provider with ID: {}", id);
     }
 
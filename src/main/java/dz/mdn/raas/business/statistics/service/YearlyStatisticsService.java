@@ -0,0 +1,325 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: YearlyStatisticsService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Business / Statistics
+ *
+ **/
+
+package dz.mdn.raas.business.statistics.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dz.mdn.raas.business.amendment.controller.AmendmentController.AmendmentStatistics;
+import dz.mdn.raas.business.amendment.repository.AmendmentRepository;
+import dz.mdn.raas.business.consultation.controller.ConsultationController.ConsultationStatistics;
+import dz.mdn.raas.business.consultation.repository.ConsultationRepository;
+import dz.mdn.raas.business.contract.controller.ContractController.ContractStatistics;
+import dz.mdn.raas.business.contract.repository.ContractRepository;
+import dz.mdn.raas.configuration.routing.ReadWriteRoutingDataSource;
+import dz.mdn.raas.configuration.transaction.AfterCommit;
+import dz.mdn.raas.exception.BusinessValidationException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Yearly Statistics Service
+ * Computes consultation, contract and amendment statistics for any set of years with one grouped
+ * query per kind, and caches them per year. Writers evict the years they touch once their transaction
+ * commits; entries also expire after raas.statistics.cache-ttl so that date-dependent figures
+ * (active / expired consultations) follow the calendar.
+ */
+@Service
+@Slf4j
+public class YearlyStatisticsService {
+
+    /**
+     * Allocated amount above which a consultation or contract is high-value
+     */
+    public static final double HIGH_VALUE_THRESHOLD = 1000000.0;
+
+    private static final int MAX_YEARS = 50;
+
+    private final ConsultationRepository consultationRepository;
+    private final ContractRepository contractRepository;
+    private final AmendmentRepository amendmentRepository;
+
+    private final YearCache<ConsultationStatistics> consultationCache = new YearCache<>();
+    private final YearCache<ContractStatistics> contractCache = new YearCache<>();
+    private final YearCache<AmendmentStatistics> amendmentCache = new YearCache<>();
+
+    @Value("${raas.statistics.cache-ttl:300000}")
+    private long cacheTtl;
+
+    public YearlyStatisticsService(ConsultationRepository consultationRepository, ContractRepository contractRepository,
+            AmendmentRepository amendmentRepository) {
+        this.consultationRepository = consultationRepository;
+        this.contractRepository = contractRepository;
+        this.amendmentRepository = amendmentRepository;
+    }
+
+    // ========== CONSULTATIONS ==========
+
+    /**
+     * Consultation statistics of the given years, in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<String, ConsultationStatistics> getConsultationStatistics(Collection<String> years) {
+        return consultationCache.get(normalize(years), missing -> {
+            Date currentDate = new Date();
+            Map<String, ConsultationStatistics> loaded = new HashMap<>();
+            for (Object[] row : consultationRepository.getYearlyStatistics(missing, currentDate, HIGH_VALUE_THRESHOLD)) {
+                long total = asLong(row[1]);
+                double allocated = asDouble(row[2]);
+                long withSubmissions = asLong(row[6]);
+                loaded.put((String) row[0], ConsultationStatistics.builder()
+                        .year((String) row[0])
+                        .totalConsultations(total)
+                        .totalAllocatedAmount(allocated)
+                        .totalFinancialEstimation(asDouble(row[3]))
+                        .averageConsultationValue(total > 0 ? allocated / total : 0.0)
+                        .averageCompetitiveRatio(total > 0 ? (double) withSubmissions / total : 0.0)
+                        .activeConsultations(asLong(row[4]))
+                        .expiredConsultations(asLong(row[5]))
+                        .consultationsWithSubmissions(withSubmissions)
+                        .highValueConsultations(asLong(row[7]))
+                        .generatedAt(currentDate)
+                        .build());
+            }
+            for (String year : missing) {
+                loaded.computeIfAbsent(year, y -> ConsultationStatistics.builder()
+                        .year(y).totalConsultations(0L).totalAllocatedAmount(0.0).totalFinancialEstimation(0.0)
+                        .averageConsultationValue(0.0).averageCompetitiveRatio(0.0).activeConsultations(0L)
+                        .expiredConsultations(0L).consultationsWithSubmissions(0L).highValueConsultations(0L)
+                        .generatedAt(currentDate).build());
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Evict consultation statistics of the given years (consultation or submission change)
+     */
+    public void evictConsultationYears(String... years) {
+        consultationCache.evictAfterCommit(years);
+    }
+
+    /**
+     * Evict every cached consultation year, when the affected year is unknown
+     */
+    public void evictAllConsultationYears() {
+        consultationCache.evictAfterCommit();
+    }
+
+    // ========== CONTRACTS ==========
+
+    /**
+     * Contract statistics of the given years, in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<String, ContractStatistics> getContractStatistics(Collection<String> years) {
+        return contractCache.get(normalize(years), missing -> {
+            Date currentDate = new Date();
+            Map<String, ContractStatistics> loaded = new HashMap<>();
+            for (Object[] row : contractRepository.getYearlyStatistics(missing, HIGH_VALUE_THRESHOLD)) {
+                long total = asLong(row[1]);
+                double amount = asDouble(row[2]);
+                loaded.put((String) row[0], ContractStatistics.builder()
+                        .year((String) row[0])
+                        .totalContracts(total)
+                        .totalAmount(amount)
+                        .totalTransferableAmount(asDouble(row[3]))
+                        .averageContractValue(total > 0 ? amount / total : 0.0)
+                        .approvedContracts(asLong(row[4]))
+                        .notifiedContracts(asLong(row[5]))
+                        .highValueContracts(asLong(row[6]))
+                        .contractsWithAmendments(asLong(row[7]))
+                        .generatedAt(currentDate)
+                        .build());
+            }
+            for (String year : missing) {
+                loaded.computeIfAbsent(year, y -> ContractStatistics.builder()
+                        .year(y).totalContracts(0L).totalAmount(0.0).totalTransferableAmount(0.0)
+                        .averageContractValue(0.0).approvedContracts(0L).notifiedContracts(0L)
+                        .highValueContracts(0L).contractsWithAmendments(0L)
+                        .generatedAt(currentDate).build());
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Evict contract statistics of the given years
+     */
+    public void evictContractYears(String... years) {
+        contractCache.evictAfterCommit(years);
+    }
+
+    /**
+     * Evict every cached contract year
+     */
+    public void evictAllContractYears() {
+        contractCache.evictAfterCommit();
+    }
+
+    // ========== AMENDMENTS ==========
+
+    /**
+     * Amendment statistics of the given contract years, in request order
+     */
+    @Transactional(readOnly = true)
+    public Map<String, AmendmentStatistics> getAmendmentStatistics(Collection<String> years) {
+        return amendmentCache.get(normalize(years), missing -> {
+            Date currentDate = new Date();
+            Map<String, AmendmentStatistics> loaded = new HashMap<>();
+            for (Object[] row : amendmentRepository.getYearlyStatistics(missing)) {
+                long total = asLong(row[1]);
+                double amount = asDouble(row[2]);
+                loaded.put((String) row[0], AmendmentStatistics.builder()
+                        .year((String) row[0])
+                        .totalAmendments(total)
+                        .totalAmount(amount)
+                        .totalTransferableAmount(asDouble(row[3]))
+                        .averageAmendmentValue(total > 0 ? amount / total : 0.0)
+                        .approvedAmendments(asLong(row[4]))
+                        .amendedContracts(asLong(row[5]))
+                        .generatedAt(currentDate)
+                        .build());
+            }
+            for (String year : missing) {
+                loaded.computeIfAbsent(year, y -> AmendmentStatistics.builder()
+                        .year(y).totalAmendments(0L).totalAmount(0.0).totalTransferableAmount(0.0)
+                        .averageAmendmentValue(0.0).approvedAmendments(0L).amendedContracts(0L)
+                        .generatedAt(currentDate).build());
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Evict amendment statistics of the given contract years
+     */
+    public void evictAmendmentYears(String... years) {
+        amendmentCache.evictAfterCommit(years);
+    }
+
+    /**
+     * Evict every cached amendment year
+     */
+    public void evictAllAmendmentYears() {
+        amendmentCache.evictAfterCommit();
+    }
+
+    // ========== HELPERS ==========
+
+    private static List<String> normalize(Collection<String> years) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String year : years) {
+            if (year != null && !year.isBlank()) {
+                distinct.add(year.trim());
+            }
+        }
+        if (distinct.isEmpty()) {
+            throw new BusinessValidationException("At least one year is required", "years", years);
+        }
+        if (distinct.size() > MAX_YEARS) {
+            throw new BusinessValidationException("Too many years requested, maximum is " + MAX_YEARS, "years", distinct.size());
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    private static long asLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static double asDouble(Object value) {
+        return value == null ? 0.0 : ((Number) value).doubleValue();
+    }
+
+    /**
+     * Per-year cache. A load started before an eviction is not stored, so a reader racing
+     * with a writer never caches figures older than the write. Loads read the primary: a lagging
+     * replica would otherwise cache pre-commit figures for the whole TTL.
+     */
+    private final class YearCache<T> {
+
+        private final Map<String, Cached<T>> entries = new ConcurrentHashMap<>();
+        private final AtomicLong generation = new AtomicLong();
+
+        Map<String, T> get(List<String> years, Function<List<String>, Map<String, T>> loader) {
+            long now = System.currentTimeMillis();
+            Map<String, T> result = new LinkedHashMap<>();
+            List<String> missing = new ArrayList<>();
+            for (String year : years) {
+                Cached<T> cached = entries.get(year);
+                if (cached != null && cached.expiresAt() > now) {
+                    result.put(year, cached.value());
+                } else {
+                    result.put(year, null);
+                    missing.add(year);
+                }
+            }
+            if (missing.isEmpty()) {
+                return result;
+            }
+
+            long loadGeneration = generation.get();
+            log.debug("Computing statistics for years: {}", missing);
+            Map<String, T> loaded = ReadWriteRoutingDataSource.onPrimary(() -> loader.apply(missing));
+            for (String year : missing) {
+                T value = loaded.get(year);
+                result.put(year, value);
+                if (generation.get() == loadGeneration) {
+                    Cached<T> cached = new Cached<>(value, now + cacheTtl);
+                    entries.put(year, cached);
+                    if (generation.get() != loadGeneration) {
+                        entries.remove(year, cached);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Evict the years (every year when none is given) once the current transaction commits
+         */
+        void evictAfterCommit(String... years) {
+            AfterCommit.run(() -> evict(years));
+        }
+
+        private void evict(String... years) {
+            generation.incrementAndGet();
+            if (years.length == 0) {
+                entries.clear();
+                return;
+            }
+            for (String year : years) {
+                if (year != null) {
+                    entries.remove(year);
+                }
+            }
+        }
+    }
+
+    private record Cached<T>(T value, long expiresAt) {
+    }
+}
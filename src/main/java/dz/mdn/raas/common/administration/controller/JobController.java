@@ -119,12 +119,15 @@ public class JobController {
     public ResponseEntity<Page<JobDTO>> getJobsByStructure(
             @PathVariable Long structureId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeSubStructures) {
         
-        log.debug("Getting jobs for structure ID: {}", structureId);
+        log.debug("Getting jobs for structure ID: {} (sub-structures: {})", structureId, includeSubStructures);
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "designationFr"));
-        Page<JobDTO> jobs = jobService.findByStructureId(structureId, pageable);
+        Page<JobDTO> jobs = includeSubStructures
+                ? jobService.findByStructureSubtree(structureId, pageable)
+                : jobService.findByStructureId(structureId, pageable);
         
         return ResponseEntity.ok(jobs);
     }
@@ -13,8 +13,13 @@
 
 package dz.mdn.raas.common.administration.controller;
 
+import dz.mdn.raas.common.administration.dto.PersonListDTO;
 import dz.mdn.raas.common.administration.service.PersonService;
 import dz.mdn.raas.common.administration.dto.PersonDTO;
+import dz.mdn.raas.configuration.pagination.CursorSlice;
+import dz.mdn.raas.configuration.export.ExportFormat;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import dz.mdn.raas.configuration.annotation.QueryLimit;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +33,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Date;
 
@@ -45,6 +51,7 @@ import java.util.Date;
 public class PersonController {
 
     private final PersonService personService;
+    private final StreamingExporter streamingExporter;
 
     // ========== POST ONE PERSON ==========
 
@@ -293,6 +300,65 @@ public class PersonController {
         return ResponseEntity.ok(persons);
     }
 
+    /**
+     * Get all persons as lightweight list rows
+     * Same paging and sorting as the full listing, selecting only the columns of the list view
+     */
+    @GetMapping("/list")
+    @QueryLimit(maxStatements = 2, repeatThreshold = 2)
+    public ResponseEntity<Page<PersonListDTO>> getPersonListView(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "firstnameLt,lastnameLt") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy.split(",")));
+
+        return ResponseEntity.ok(personService.getPersonListView(pageable));
+    }
+
+    /**
+     * Export all persons as NDJSON (one JSON object per line) or CSV
+     * Rows are streamed from the database as they are written, in constant memory
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPersons(@RequestParam(defaultValue = "ndjson") String format) {
+        log.debug("Exporting persons as {}", format);
+
+        return streamingExporter.export("persons", ExportFormat.of(format), PersonListDTO.class, personService::streamPersonListView);
+    }
+
+    // ========== GET ALL (CURSOR) ==========
+
+    /**
+     * Get all persons with keyset pagination
+     * Pass the returned nextCursor to read the following page; no total count is computed,
+     * withCount adds an approximate count header from the table statistics
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorSlice<PersonDTO>> scrollPersons(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "firstnameLt,lastnameLt") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean withCount) {
+        
+        log.debug("Scrolling persons - cursor: {}, size: {}, sortBy: {}, sortDir: {}", 
+                  cursor, size, sortBy, sortDir);
+        
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+        
+        CursorSlice<PersonDTO> slice = personService.getPersonSlice(cursor, size, Sort.by(direction, sortBy.split(",")));
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withCount) {
+            response.header(CursorSlice.APPROXIMATE_COUNT_HEADER, String.valueOf(personService.estimatePersonCount()));
+        }
+        return response.body(slice);
+    }
+
     // ========== SEARCH ENDPOINTS ==========
 
     /**
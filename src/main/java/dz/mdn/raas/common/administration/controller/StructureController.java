@@ -13,6 +13,7 @@
 
 package dz.mdn.raas.common.administration.controller;
 
+import dz.mdn.raas.common.administration.service.StructureHierarchyService;
 import dz.mdn.raas.common.administration.service.StructureService;
 import dz.mdn.raas.common.administration.dto.StructureDTO;
 
@@ -26,9 +27,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Structure REST Controller
@@ -47,6 +50,7 @@ import java.util.List;
 public class StructureController {
 
     private final StructureService structureService;
+    private final StructureHierarchyService structureHierarchyService;
 
     // ========== POST ONE STRUCTURE ==========
 
@@ -309,6 +313,36 @@ public class StructureController {
         return ResponseEntity.ok(structures);
     }
 
+    /**
+     * Get all descendants of a structure (children, grandchildren, ...)
+     */
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<Page<StructureDTO>> getDescendants(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        log.debug("Getting descendants of structure ID: {}", id);
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "designationFr"));
+        Page<StructureDTO> structures = structureService.findDescendants(id, pageable);
+        
+        return ResponseEntity.ok(structures);
+    }
+
+    /**
+     * Recompute the structure closure table from the parent links (drift repair)
+     */
+    @PostMapping("/hierarchy/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildHierarchy() {
+        log.info("Rebuilding structure hierarchy");
+        
+        int links = structureHierarchyService.rebuild();
+        
+        return ResponseEntity.ok(Map.of("links", links));
+    }
+
     // ========== HIERARCHY LEVEL ENDPOINTS ==========
 
     /**
@@ -14,6 +14,7 @@
 package dz.mdn.raas.common.administration.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import dz.mdn.raas.configuration.annotation.FieldView;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,6 +34,8 @@ import java.util.concurrent.TimeUnit;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
+@FieldView(name = "summary", fields = { "id", "serial", "hiringDate", "personId", "militaryRankId", "jobId", "displayName" })
+@FieldView(name = "reference", fields = { "id", "displayName" })
 public class EmployeeDTO {
 
     private Long id; // F_00
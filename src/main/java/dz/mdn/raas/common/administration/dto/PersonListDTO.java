@@ -0,0 +1,42 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PersonListDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Common / Administration
+ *
+ **/
+
+package dz.mdn.raas.common.administration.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Person list view projection
+ * Built by a JPQL constructor expression in PersonRepository.findListView: only the columns shown
+ * in list pages are selected and no Person entity is loaded. Field order is the constructor order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PersonListDTO {
+
+    private Long id; // F_00
+    private String firstnameAr; // F_01
+    private String lastnameAr; // F_02
+    private String firstnameLt; // F_03
+    private String lastnameLt; // F_04
+    private Date birthDate; // F_05
+    private String birthPlace; // F_06
+}
@@ -0,0 +1,52 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: StructureClosure
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Model
+ *	@Package	: Common / Administration
+ *
+ **/
+
+package dz.mdn.raas.common.administration.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Closure of the structure hierarchy: one row per (ancestor, descendant) pair, including every structure
+ * with itself at depth 0, maintained by StructureHierarchyService on structure writes.
+ * A whole subtree is read with one indexed join on ancestor, the ancestors of a structure with one on descendant.
+ */
+@Setter
+@Getter
+@Entity(name="StructureClosure")
+@Table(name="T_01_04_11", uniqueConstraints = { @UniqueConstraint(name = "T_01_04_11_UK_01", columnNames = { "F_01", "F_02" }) },
+						  indexes = { @Index(name = "T_01_04_11_IX_01", columnList = "F_02, F_03") })
+public class StructureClosure {
+	
+	@Id
+	@Column(name="F_00")
+  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	private Long id;
+	
+	@Column(name="F_01", nullable=false)
+	private Long ancestorId;
+	
+	@Column(name="F_02", nullable=false)
+	private Long descendantId;
+	
+	@Column(name="F_03", nullable=false)
+	private int depth;
+}
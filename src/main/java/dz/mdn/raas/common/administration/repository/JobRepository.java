@@ -21,6 +21,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -69,6 +70,13 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j WHERE j.structure.id = :structureId ORDER BY j.designationFr ASC")
     Page<Job> findByStructureId(@Param("structureId") Long structureId, Pageable pageable);
 
+    /**
+     * Find jobs of a structure and all its descendants (structure closure table)
+     */
+    @Query(value = "SELECT j FROM Job j JOIN StructureClosure c ON c.descendantId = j.structure.id WHERE c.ancestorId = :structureId ORDER BY j.designationFr ASC",
+           countQuery = "SELECT COUNT(j) FROM Job j JOIN StructureClosure c ON c.descendantId = j.structure.id WHERE c.ancestorId = :structureId")
+    Page<Job> findByStructureSubtree(@Param("structureId") Long structureId, Pageable pageable);
+
     /**
      * Find all jobs with pagination ordered by French designation
      */
@@ -370,4 +378,12 @@ public interface JobRepository extends JpaRepository<Job, Long> {
      */
     @Query("SELECT j FROM Job j WHERE LOWER(j.designationFr) LIKE %:levelPattern%")
     Page<Job> findByJobLevel(@Param("levelPattern") String levelPattern, Pageable pageable);
+
+    /**
+     * Get every job for the autocomplete index, with its usage count (employees)
+     * Each row: [id, designationFr, designationEn, designationAr, usageCount]
+     */
+    @Query("SELECT j.id, j.designationFr, j.designationEn, j.designationAr, COUNT(e) FROM Job j LEFT JOIN Employee e ON e.job = j " +
+           "GROUP BY j.id, j.designationFr, j.designationEn, j.designationAr")
+    List<Object[]> findAutocompleteRows();
 }
@@ -339,4 +339,12 @@ public interface MilitaryRankRepository extends JpaRepository<MilitaryRank, Long
            "mr.militaryCategory.id = :categoryId AND " +
            "mr.designationFr IS NOT NULL AND mr.abbreviationFr IS NOT NULL")
     List<MilitaryRank> findValidRanksForCategory(@Param("categoryId") Long categoryId);
-}
\ No newline at end of file
+
+    /**
+     * Get every military rank for the autocomplete index, with its usage count (employees)
+     * Each row: [id, designationFr, designationEn, designationAr, usageCount, abbreviationFr]
+     */
+    @Query("SELECT mr.id, mr.designationFr, mr.designationEn, mr.designationAr, COUNT(e), mr.abbreviationFr FROM MilitaryRank mr LEFT JOIN Employee e ON e.militaryRank = mr " +
+           "GROUP BY mr.id, mr.designationFr, mr.designationEn, mr.designationAr, mr.abbreviationFr")
+    List<Object[]> findAutocompleteRows();
+}
@@ -13,16 +13,25 @@
 
 package dz.mdn.raas.common.administration.repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dz.mdn.raas.common.administration.dto.PersonListDTO;
 import dz.mdn.raas.common.administration.model.Person;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import dz.mdn.raas.configuration.pagination.KeysetRepository;
+import jakarta.persistence.QueryHint;
 
 /**
  * Person Repository with essential CRUD operations
@@ -31,7 +40,7 @@ import dz.mdn.raas.common.administration.model.Person;
  * F_08 (birthState), F_09 (addressState), F_10 (picture) are optional foreign keys
  */
 @Repository
-public interface PersonRepository extends JpaRepository<Person, Long> {
+public interface PersonRepository extends JpaRepository<Person, Long>, KeysetRepository<Person> {
 
     /**
      * Find persons by Arabic firstname (F_01)
@@ -342,4 +351,38 @@ public interface PersonRepository extends JpaRepository<Person, Long> {
            "LOWER(as_state.designationLt) LIKE LOWER(CONCAT('%', :search, '%'))) " +
            "ORDER BY p.firstnameLt ASC, p.lastnameLt ASC")
     Page<Person> comprehensiveSearch(@Param("search") String search, Pageable pageable);
+
+    /**
+     * List view projection: only the list columns through explicit joins, no entity loading
+     */
+    @Query(value = "SELECT new dz.mdn.raas.common.administration.dto.PersonListDTO(p.id, p.firstnameAr, p.lastnameAr, p.firstnameLt, p.lastnameLt, p.birthDate, p.birthPlace) " +
+                   "FROM Person p",
+           countQuery = "SELECT COUNT(p) FROM Person p")
+    Page<PersonListDTO> findListView(Pageable pageable);
+
+    /**
+     * List view projection of every row for exports, read through a forward-only streaming cursor
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new dz.mdn.raas.common.administration.dto.PersonListDTO(p.id, p.firstnameAr, p.lastnameAr, p.firstnameLt, p.lastnameLt, p.birthDate, p.birthPlace) " +
+           "FROM Person p ORDER BY p.id")
+    Stream<PersonListDTO> streamListView();
+
+    /**
+     * Searchable fields of every person (full-text search index), read through a forward-only streaming cursor
+     * Each row: [id, lastnameLt, firstnameLt, lastnameAr, firstnameAr, birthPlace, address, birthState, addressState]; must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT p.id, p.lastnameLt, p.firstnameLt, p.lastnameAr, p.firstnameAr, p.birthPlace, p.address, bs.designationLt, ads.designationLt FROM Person p LEFT JOIN p.birthState bs LEFT JOIN p.addressState ads")
+    Stream<Object[]> streamSearchRows();
+
+    /**
+     * Searchable fields of the given persons (full-text search index)
+     * Each row: [id, lastnameLt, firstnameLt, lastnameAr, firstnameAr, birthPlace, address, birthState, addressState]
+     */
+    @Query("SELECT p.id, p.lastnameLt, p.firstnameLt, p.lastnameAr, p.firstnameAr, p.birthPlace, p.address, bs.designationLt, ads.designationLt FROM Person p LEFT JOIN p.birthState bs LEFT JOIN p.addressState ads WHERE p.id IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
 }
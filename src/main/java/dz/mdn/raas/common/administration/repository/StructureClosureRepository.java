@@ -0,0 +1,111 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: StructureClosureRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: Repository
+ *	@Package	: Common / Administration
+ *
+ **/
+
+package dz.mdn.raas.common.administration.repository;
+
+import dz.mdn.raas.common.administration.model.StructureClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * StructureClosure Repository
+ * Based on exact field names: F_00=id, F_01=ancestorId, F_02=descendantId, F_03=depth
+ * Maintenance statements are native MySQL, they must run in the transaction of the structure write
+ */
+@Repository
+public interface StructureClosureRepository extends JpaRepository<StructureClosure, Long> {
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Link a new structure to itself and to every ancestor of its parent (parentId may be null for a root)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_01_04_11 (F_01, F_02, F_03) " +
+                   "SELECT c.F_01, :structureId, c.F_03 + 1 FROM T_01_04_11 c WHERE c.F_02 = :parentId " +
+                   "UNION ALL SELECT :structureId, :structureId, 0",
+           nativeQuery = true)
+    int insertStructure(@Param("structureId") Long structureId, @Param("parentId") Long parentId);
+
+    /**
+     * Detach the subtree of a structure from its current ancestors (links inside the subtree are kept)
+     */
+    @Modifying
+    @Query(value = "DELETE c FROM T_01_04_11 c " +
+                   "JOIN T_01_04_11 subtree ON subtree.F_02 = c.F_02 AND subtree.F_01 = :structureId " +
+                   "LEFT JOIN T_01_04_11 inner_link ON inner_link.F_01 = :structureId AND inner_link.F_02 = c.F_01 " +
+                   "WHERE inner_link.F_00 IS NULL",
+           nativeQuery = true)
+    int detachSubtree(@Param("structureId") Long structureId);
+
+    /**
+     * Attach the subtree of a structure under a new parent: every ancestor of the parent gains every subtree node
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_01_04_11 (F_01, F_02, F_03) " +
+                   "SELECT a.F_01, d.F_02, a.F_03 + d.F_03 + 1 FROM T_01_04_11 a JOIN T_01_04_11 d ON d.F_01 = :structureId " +
+                   "WHERE a.F_02 = :parentId",
+           nativeQuery = true)
+    int attachSubtree(@Param("structureId") Long structureId, @Param("parentId") Long parentId);
+
+    /**
+     * Remove the links of a deleted structure (structures with children cannot be deleted)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM T_01_04_11 WHERE F_02 = :structureId OR F_01 = :structureId", nativeQuery = true)
+    int deleteStructure(@Param("structureId") Long structureId);
+
+    // ========== REBUILD ==========
+
+    @Modifying
+    @Query(value = "DELETE FROM T_01_04_11", nativeQuery = true)
+    int deleteAllLinks();
+
+    /**
+     * Recompute every link from Structure.structureUp with a recursive walk from each structure
+     */
+    @Modifying
+    @Query(value = "INSERT INTO T_01_04_11 (F_01, F_02, F_03) " +
+                   "WITH RECURSIVE tree (ancestor, descendant, depth) AS (" +
+                   "SELECT F_00, F_00, 0 FROM T_01_04_07 " +
+                   "UNION ALL SELECT t.ancestor, s.F_00, t.depth + 1 FROM tree t JOIN T_01_04_07 s ON s.F_08 = t.descendant) " +
+                   "SELECT ancestor, descendant, depth FROM tree",
+           nativeQuery = true)
+    int insertAllLinks();
+
+    // ========== QUERIES ==========
+
+    /**
+     * Check if a structure is a strict ancestor of another, at any depth
+     */
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM StructureClosure c " +
+           "WHERE c.ancestorId = :ancestorId AND c.descendantId = :descendantId AND c.depth > 0")
+    boolean isAncestorOf(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    /**
+     * Get the ids of a structure and all its descendants
+     */
+    @Query("SELECT c.descendantId FROM StructureClosure c WHERE c.ancestorId = :structureId")
+    List<Long> findSubtreeIds(@Param("structureId") Long structureId);
+
+    /**
+     * Get the depth of a structure (0 for a root)
+     */
+    @Query("SELECT MAX(c.depth) FROM StructureClosure c WHERE c.descendantId = :structureId")
+    Integer findDepth(@Param("structureId") Long structureId);
+}
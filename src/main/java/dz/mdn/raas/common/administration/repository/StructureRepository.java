@@ -14,15 +14,22 @@
 package dz.mdn.raas.common.administration.repository;
 
 import dz.mdn.raas.common.administration.model.Structure;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Structure Repository with essential CRUD operations
@@ -216,22 +223,18 @@ public interface StructureRepository extends JpaRepository<Structure, Long> {
     Page<Structure> findMultilingualStructures(Pageable pageable);
 
     /**
-     * Find structures by hierarchy level (depth from root)
+     * Find all descendants of a structure at any depth through the closure table (one indexed join)
      */
-    @Query("SELECT s FROM Structure s WHERE " +
-           "(s.structureUp IS NULL) " + // Level 0 (root)
-           "ORDER BY s.designationFr ASC")
-    Page<Structure> findStructuresByLevel0(Pageable pageable);
+    @Query(value = "SELECT s FROM Structure s JOIN StructureClosure c ON c.descendantId = s.id WHERE c.ancestorId = :structureId AND c.depth > 0",
+           countQuery = "SELECT COUNT(c) FROM StructureClosure c WHERE c.ancestorId = :structureId AND c.depth > 0")
+    Page<Structure> findSubtree(@Param("structureId") Long structureId, Pageable pageable);
 
-    @Query("SELECT s FROM Structure s WHERE " +
-           "(s.structureUp IS NOT NULL AND s.structureUp.structureUp IS NULL) " + // Level 1
-           "ORDER BY s.designationFr ASC")
-    Page<Structure> findStructuresByLevel1(Pageable pageable);
-
-    @Query("SELECT s FROM Structure s WHERE " +
-           "(s.structureUp IS NOT NULL AND s.structureUp.structureUp IS NOT NULL AND s.structureUp.structureUp.structureUp IS NULL) " + // Level 2
+    /**
+     * Find structures at a given depth from their root through the closure table
+     */
+    @Query("SELECT s FROM Structure s WHERE s.id IN (SELECT c.descendantId FROM StructureClosure c GROUP BY c.descendantId HAVING MAX(c.depth) = :depth) " +
            "ORDER BY s.designationFr ASC")
-    Page<Structure> findStructuresByLevel2(Pageable pageable);
+    Page<Structure> findStructuresByDepth(@Param("depth") int depth, Pageable pageable);
 
     /**
      * Find all descendants of a structure (recursive - children, grandchildren, etc.)
@@ -261,22 +264,6 @@ public interface StructureRepository extends JpaRepository<Structure, Long> {
            nativeQuery = true)
     List<Object[]> findAllAncestors(@Param("structureId") Long structureId);
 
-    /**
-     * Check if structure is ancestor of another structure
-     */
-    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Structure s " +
-           "WHERE s.id = :descendantId AND " +
-           "(s.structureUp.id = :ancestorId OR " +
-           "s.structureUp.structureUp.id = :ancestorId OR " +
-           "s.structureUp.structureUp.structureUp.id = :ancestorId)")
-    boolean isAncestorOf(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
-
-    /**
-     * Find structures that would create circular reference if set as parent
-     */
-    @Query("SELECT s FROM Structure s WHERE s.id = :structureId OR s.structureUp.id = :structureId OR s.structureUp.structureUp.id = :structureId")
-    List<Structure> findPotentialCircularReferences(@Param("structureId") Long structureId);
-
     /**
      * Find structures ordered by designation in specific language
      */
@@ -354,4 +341,34 @@ public interface StructureRepository extends JpaRepository<Structure, Long> {
      */
     @Query("SELECT s FROM Structure s WHERE s.structureUp IS NOT NULL AND s.structureUp.id NOT IN (SELECT id FROM Structure)")
     List<Structure> findOrphanedStructures();
+
+    /**
+     * Get the IDs of all structures (foreign key lookup for bulk imports)
+     */
+    @Query("SELECT s.id FROM Structure s")
+    Set<Long> findAllIds();
+
+    /**
+     * Get every structure for the autocomplete index, with its usage count (item distributions)
+     * Each row: [id, designationFr, designationEn, designationAr, usageCount, acronymFr]
+     */
+    @Query("SELECT s.id, s.designationFr, s.designationEn, s.designationAr, COUNT(d), s.acronymFr FROM Structure s LEFT JOIN ItemDistribution d ON d.structure = s " +
+           "GROUP BY s.id, s.designationFr, s.designationEn, s.designationAr, s.acronymFr")
+    List<Object[]> findAutocompleteRows();
+
+    /**
+     * Searchable fields of every structure (full-text search index), read through a forward-only streaming cursor
+     * Each row: [id, designationFr, designationEn, designationAr, acronymFr, acronymEn, acronymAr]; must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT s.id, s.designationFr, s.designationEn, s.designationAr, s.acronymFr, s.acronymEn, s.acronymAr FROM Structure s")
+    Stream<Object[]> streamSearchRows();
+
+    /**
+     * Searchable fields of the given structures (full-text search index)
+     * Each row: [id, designationFr, designationEn, designationAr, acronymFr, acronymEn, acronymAr]
+     */
+    @Query("SELECT s.id, s.designationFr, s.designationEn, s.designationAr, s.acronymFr, s.acronymEn, s.acronymAr FROM Structure s WHERE s.id IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
 }
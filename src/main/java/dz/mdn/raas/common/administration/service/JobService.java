@@ -18,6 +18,7 @@ import dz.mdn.raas.common.administration.model.Structure;
 import dz.mdn.raas.common.administration.repository.JobRepository;
 import dz.mdn.raas.common.administration.repository.StructureRepository;
 import dz.mdn.raas.common.administration.dto.JobDTO;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,6 +45,7 @@ public class JobService {
 
     private final JobRepository jobRepository;
     private final StructureRepository structureRepository;
+    private final AutocompleteService autocompleteService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -72,6 +74,8 @@ public class JobService {
         job.setStructure(structure); // F_04
 
         Job savedJob = jobRepository.save(job);
+        autocompleteService.indexed(AutocompleteService.Type.JOB, savedJob.getId(), savedJob.getDesignationFr(),
+                savedJob.getDesignationEn(), savedJob.getDesignationAr(), null);
         log.info("Successfully created job with ID: {}", savedJob.getId());
 
         return JobDTO.fromEntity(savedJob);
@@ -145,6 +149,17 @@ public class JobService {
         return jobs.map(JobDTO::fromEntity);
     }
 
+    /**
+     * Find jobs of a structure and all its sub-structures
+     */
+    @Transactional(readOnly = true)
+    public Page<JobDTO> findByStructureSubtree(Long structureId, Pageable pageable) {
+        log.debug("Finding jobs for structure subtree ID: {}", structureId);
+
+        Page<Job> jobs = jobRepository.findByStructureSubtree(structureId, pageable);
+        return jobs.map(JobDTO::fromEntity);
+    }
+
     /**
      * Get all jobs with pagination
      */
@@ -492,6 +507,8 @@ public class JobService {
         }
 
         Job updatedJob = jobRepository.save(existingJob);
+        autocompleteService.indexed(AutocompleteService.Type.JOB, updatedJob.getId(), updatedJob.getDesignationFr(),
+                updatedJob.getDesignationEn(), updatedJob.getDesignationAr(), null);
         log.info("Successfully updated job with ID: {}", id);
 
         return JobDTO.fromEntity(updatedJob);
@@ -507,6 +524,7 @@ public class JobService {
 
         Job job = getJobEntityById(id);
         jobRepository.delete(job);
+        autocompleteService.removed(AutocompleteService.Type.JOB, id);
 
         log.info("Successfully deleted job with ID: {}", id);
     }
@@ -522,6 +540,7 @@ public class JobService {
         }
 
         jobRepository.deleteById(id);
+        autocompleteService.removed(AutocompleteService.Type.JOB, id);
         log.info("Successfully deleted job with ID: {}", id);
     }
 
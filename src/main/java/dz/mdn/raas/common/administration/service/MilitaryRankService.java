@@ -25,6 +25,7 @@ import dz.mdn.raas.common.administration.dto.MilitaryRankDTO;
 import dz.mdn.raas.common.administration.model.MilitaryRank;
 import dz.mdn.raas.common.administration.repository.MilitaryCategoryRepository;
 import dz.mdn.raas.common.administration.repository.MilitaryRankRepository;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +44,7 @@ public class MilitaryRankService {
     
     // Repository bean for related entity (injected as needed)
     private final MilitaryCategoryRepository militaryCategoryRepository;
+    private final AutocompleteService autocompleteService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -68,6 +70,8 @@ public class MilitaryRankService {
         setEntityRelationships(militaryRankDTO, militaryRank);
 
         MilitaryRank savedMilitaryRank = militaryRankRepository.save(militaryRank);
+        autocompleteService.indexed(AutocompleteService.Type.MILITARY_RANK, savedMilitaryRank.getId(), savedMilitaryRank.getDesignationFr(),
+                savedMilitaryRank.getDesignationEn(), savedMilitaryRank.getDesignationAr(), savedMilitaryRank.getAbbreviationFr());
         log.info("Successfully created military rank with ID: {}", savedMilitaryRank.getId());
 
         return MilitaryRankDTO.fromEntityWithRelations(savedMilitaryRank);
@@ -332,6 +336,8 @@ public class MilitaryRankService {
         setEntityRelationships(militaryRankDTO, existingMilitaryRank);
 
         MilitaryRank updatedMilitaryRank = militaryRankRepository.save(existingMilitaryRank);
+        autocompleteService.indexed(AutocompleteService.Type.MILITARY_RANK, updatedMilitaryRank.getId(), updatedMilitaryRank.getDesignationFr(),
+                updatedMilitaryRank.getDesignationEn(), updatedMilitaryRank.getDesignationAr(), updatedMilitaryRank.getAbbreviationFr());
         log.info("Successfully updated military rank with ID: {}", id);
 
         return MilitaryRankDTO.fromEntityWithRelations(updatedMilitaryRank);
@@ -347,6 +353,7 @@ public class MilitaryRankService {
 
         MilitaryRank militaryRank = getMilitaryRankEntityById(id);
         militaryRankRepository.delete(militaryRank);
+        autocompleteService.removed(AutocompleteService.Type.MILITARY_RANK, id);
 
         log.info("Successfully deleted military rank with ID: {}", id);
     }
@@ -362,6 +369,7 @@ public class MilitaryRankService {
         }
 
         militaryRankRepository.deleteById(id);
+        autocompleteService.removed(AutocompleteService.Type.MILITARY_RANK, id);
         log.info("Successfully deleted military rank with ID: {}", id);
     }
 
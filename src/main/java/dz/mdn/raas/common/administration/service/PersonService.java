@@ -13,19 +13,24 @@
 
 package dz.mdn.raas.common.administration.service;
 
+import dz.mdn.raas.common.administration.dto.PersonListDTO;
 import dz.mdn.raas.common.administration.model.Person;
 import dz.mdn.raas.common.administration.repository.PersonRepository;
 import dz.mdn.raas.common.administration.dto.PersonDTO;
+import dz.mdn.raas.configuration.pagination.CursorSlice;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Person Service with CRUD operations
@@ -219,6 +224,45 @@ public class PersonService {
         return persons.map(PersonDTO::fromEntity);
     }
 
+    /**
+     * Get persons list view (projection, no entity loading or dirty checking)
+     */
+    @Transactional(readOnly = true)
+    public Page<PersonListDTO> getPersonListView(Pageable pageable) {
+        log.debug("Getting person list view with pagination");
+
+        return personRepository.findListView(pageable);
+    }
+
+    /**
+     * Stream persons list view rows for exports
+     * Joins the transaction opened by the exporter, the stream must be closed by the caller
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<PersonListDTO> streamPersonListView() {
+        log.debug("Streaming persons list view for export");
+
+        return personRepository.streamListView();
+    }
+
+    /**
+     * Get persons with keyset pagination (no count query, constant cost per page)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<PersonDTO> getPersonSlice(String cursor, int size, Sort sort) {
+        log.debug("Getting person slice after cursor: {}", cursor);
+
+        return personRepository.findSlice(null, sort, cursor, size).map(PersonDTO::fromEntity);
+    }
+
+    /**
+     * Get estimated number of persons
+     */
+    @Transactional(readOnly = true)
+    public long estimatePersonCount() {
+        return personRepository.estimateCount();
+    }
+
     /**
      * Find one person by ID
      */
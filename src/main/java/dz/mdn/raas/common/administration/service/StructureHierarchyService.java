@@ -0,0 +1,109 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: StructureHierarchyService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: Common / Administration
+ *
+ **/
+
+package dz.mdn.raas.common.administration.service;
+
+import dz.mdn.raas.common.administration.repository.StructureClosureRepository;
+import dz.mdn.raas.common.administration.repository.StructureRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Structure Hierarchy Service
+ * Maintains the structure closure table (T_01_04_11) alongside Structure.structureUp:
+ * - creating a structure links it to every ancestor of its parent
+ * - moving a structure detaches its whole subtree from the old ancestors and attaches it under the new parent
+ * - deleting a structure (always a leaf) drops its links
+ * Maintenance runs in the transaction of the structure write (MANDATORY). rebuild() recomputes the table
+ * from structureUp to repair drift, and runs at startup when the table is still empty.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(propagation = Propagation.MANDATORY)
+public class StructureHierarchyService {
+
+    private final StructureClosureRepository structureClosureRepository;
+    private final StructureRepository structureRepository;
+
+    // ========== MAINTENANCE ==========
+
+    public void structureCreated(Long structureId, Long parentId) {
+        structureClosureRepository.insertStructure(structureId, parentId);
+    }
+
+    public void structureMoved(Long structureId, Long previousParentId, Long parentId) {
+        if (Objects.equals(previousParentId, parentId)) {
+            return;
+        }
+        int detached = structureClosureRepository.detachSubtree(structureId);
+        int attached = parentId != null ? structureClosureRepository.attachSubtree(structureId, parentId) : 0;
+        log.debug("Moved structure {} from parent {} to {}: {} links removed, {} added", structureId, previousParentId, parentId, detached, attached);
+    }
+
+    public void structureDeleted(Long structureId) {
+        structureClosureRepository.deleteStructure(structureId);
+    }
+
+    // ========== REBUILD ==========
+
+    /**
+     * Recompute every link from Structure.structureUp
+     */
+    @Transactional(propagation = Propagation.REQUIRED)
+    public int rebuild() {
+        log.info("Rebuilding structure hierarchy closure");
+        structureClosureRepository.deleteAllLinks();
+        int links = structureClosureRepository.insertAllLinks();
+        log.info("Rebuilt structure hierarchy closure: {} links", links);
+        return links;
+    }
+
+    /**
+     * Build the closure on first start after the table was introduced
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.REQUIRED)
+    public void rebuildIfEmpty() {
+        if (structureClosureRepository.count() == 0 && structureRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Check if a structure is an ancestor of another, at any depth
+     */
+    @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+    public boolean isAncestorOf(Long ancestorId, Long descendantId) {
+        return structureClosureRepository.isAncestorOf(ancestorId, descendantId);
+    }
+
+    /**
+     * Get the ids of a structure and all its descendants
+     */
+    @Transactional(propagation = Propagation.REQUIRED, readOnly = true)
+    public List<Long> getSubtreeIds(Long structureId) {
+        return structureClosureRepository.findSubtreeIds(structureId);
+    }
+}
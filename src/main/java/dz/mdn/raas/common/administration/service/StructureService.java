@@ -18,6 +18,7 @@ import dz.mdn.raas.common.administration.model.StructureType;
 import dz.mdn.raas.common.administration.repository.StructureRepository;
 import dz.mdn.raas.common.administration.repository.StructureTypeRepository;
 import dz.mdn.raas.common.administration.dto.StructureDTO;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +39,7 @@ import java.util.List;
  * F_07 (structureType) is required foreign key
  * F_08 (structureUp) is optional foreign key (self-reference for hierarchy)
  * F_01 (designationAr), F_02 (designationEn), F_04 (acronymAr), F_05 (acronymEn) are optional
+ * Hierarchy changes are mirrored in the structure closure table by StructureHierarchyService
  */
 @Service
 @RequiredArgsConstructor
@@ -47,6 +49,8 @@ public class StructureService {
 
     private final StructureRepository structureRepository;
     private final StructureTypeRepository structureTypeRepository;
+    private final StructureHierarchyService structureHierarchyService;
+    private final AutocompleteService autocompleteService;
 
     // ========== CREATE OPERATIONS ==========
 
@@ -85,6 +89,9 @@ public class StructureService {
         structure.setStructureUp(parentStructure); // F_08
 
         Structure savedStructure = structureRepository.save(structure);
+        autocompleteService.indexed(AutocompleteService.Type.STRUCTURE, savedStructure.getId(), savedStructure.getDesignationFr(),
+                savedStructure.getDesignationEn(), savedStructure.getDesignationAr(), savedStructure.getAcronymFr());
+        structureHierarchyService.structureCreated(savedStructure.getId(), parentStructure != null ? parentStructure.getId() : null);
         log.info("Successfully created structure with ID: {}", savedStructure.getId());
 
         return StructureDTO.fromEntity(savedStructure);
@@ -272,13 +279,23 @@ public class StructureService {
     public Page<StructureDTO> findStructuresByLevel(int level, Pageable pageable) {
         log.debug("Finding structures at level: {}", level);
 
-        Page<Structure> structures = switch (level) {
-            case 0 -> structureRepository.findStructuresByLevel0(pageable);
-            case 1 -> structureRepository.findStructuresByLevel1(pageable);
-            case 2 -> structureRepository.findStructuresByLevel2(pageable);
-            default -> throw new IllegalArgumentException("Unsupported hierarchy level: " + level);
-        };
-        
+        if (level < 0) {
+            throw new IllegalArgumentException("Unsupported hierarchy level: " + level);
+        }
+        Page<Structure> structures = structureRepository.findStructuresByDepth(level, pageable);
+
+        return structures.map(StructureDTO::fromEntity);
+    }
+
+    /**
+     * Find all descendants of a structure, at any depth
+     */
+    @Transactional(readOnly = true)
+    public Page<StructureDTO> findDescendants(Long structureId, Pageable pageable) {
+        log.debug("Finding descendants of structure ID: {}", structureId);
+
+        getStructureEntityById(structureId);
+        Page<Structure> structures = structureRepository.findSubtree(structureId, pageable);
         return structures.map(StructureDTO::fromEntity);
     }
 
@@ -354,6 +371,8 @@ public class StructureService {
             parentStructure = validateAndGetParentStructure(structureDTO.getStructureUpId(), id);
         }
 
+        Long previousParentId = existingStructure.getStructureUp() != null ? existingStructure.getStructureUp().getId() : null;
+
         // Update fields with exact field mapping
         existingStructure.setDesignationAr(structureDTO.getDesignationAr()); // F_01
         existingStructure.setDesignationEn(structureDTO.getDesignationEn()); // F_02
@@ -367,6 +386,9 @@ public class StructureService {
         existingStructure.setStructureUp(parentStructure); // F_08 (can be null)
 
         Structure updatedStructure = structureRepository.save(existingStructure);
+        autocompleteService.indexed(AutocompleteService.Type.STRUCTURE, updatedStructure.getId(), updatedStructure.getDesignationFr(),
+                updatedStructure.getDesignationEn(), updatedStructure.getDesignationAr(), updatedStructure.getAcronymFr());
+        structureHierarchyService.structureMoved(id, previousParentId, parentStructure != null ? parentStructure.getId() : null);
         log.info("Successfully updated structure with ID: {}", id);
 
         return StructureDTO.fromEntity(updatedStructure);
@@ -389,6 +411,8 @@ public class StructureService {
         }
 
         structureRepository.delete(structure);
+        autocompleteService.removed(AutocompleteService.Type.STRUCTURE, id);
+        structureHierarchyService.structureDeleted(id);
 
         log.info("Successfully deleted structure with ID: {}", id);
     }
@@ -410,6 +434,8 @@ public class StructureService {
         }
 
         structureRepository.deleteById(id);
+        autocompleteService.removed(AutocompleteService.Type.STRUCTURE, id);
+        structureHierarchyService.structureDeleted(id);
         log.info("Successfully deleted structure with ID: {}", id);
     }
 
@@ -472,11 +498,11 @@ public class StructureService {
     }
 
     /**
-     * Check if structure is ancestor of another
+     * Check if structure is ancestor of another, at any depth
      */
     @Transactional(readOnly = true)
     public boolean isAncestorOf(Long ancestorId, Long descendantId) {
-        return structureRepository.isAncestorOf(ancestorId, descendantId);
+        return structureHierarchyService.isAncestorOf(ancestorId, descendantId);
     }
 
     // ========== VALIDATION METHODS ==========
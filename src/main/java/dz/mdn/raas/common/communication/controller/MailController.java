@@ -13,8 +13,13 @@
 
 package dz.mdn.raas.common.communication.controller;
 
+import dz.mdn.raas.common.communication.dto.MailListDTO;
 import dz.mdn.raas.common.communication.service.MailService;
 import dz.mdn.raas.common.communication.dto.MailDTO;
+import dz.mdn.raas.configuration.pagination.CursorSlice;
+import dz.mdn.raas.configuration.export.ExportFormat;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import dz.mdn.raas.configuration.annotation.QueryLimit;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +33,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Date;
 
@@ -38,6 +44,7 @@ import java.util.Date;
 public class MailController {
 
     private final MailService mailService;
+    private final StreamingExporter streamingExporter;
 
     // ========== POST ONE MAIL ==========
 
@@ -122,6 +129,65 @@ public class MailController {
         return ResponseEntity.ok(mails);
     }
 
+    /**
+     * Get all mails as lightweight list rows
+     * Same paging and sorting as the full listing, selecting only the columns of the list view
+     */
+    @GetMapping("/list")
+    @QueryLimit(maxStatements = 2, repeatThreshold = 2)
+    public ResponseEntity<Page<MailListDTO>> getMailListView(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "mailDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+
+        return ResponseEntity.ok(mailService.getMailListView(pageable));
+    }
+
+    /**
+     * Export all mails as NDJSON (one JSON object per line) or CSV
+     * Rows are streamed from the database as they are written, in constant memory
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMails(@RequestParam(defaultValue = "ndjson") String format) {
+        log.debug("Exporting mails as {}", format);
+
+        return streamingExporter.export("mails", ExportFormat.of(format), MailListDTO.class, mailService::streamMailListView);
+    }
+
+    // ========== GET ALL (CURSOR) ==========
+
+    /**
+     * Get all mails with keyset pagination
+     * Pass the returned nextCursor to read the following page; no total count is computed,
+     * withCount adds an approximate count header from the table statistics
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorSlice<MailDTO>> scrollMails(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "mailDate") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean withCount) {
+        
+        log.debug("Scrolling mails - cursor: {}, size: {}, sortBy: {}, sortDir: {}", 
+                  cursor, size, sortBy, sortDir);
+        
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+        
+        CursorSlice<MailDTO> slice = mailService.getMailSlice(cursor, size, Sort.by(direction, sortBy.split(",")));
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withCount) {
+            response.header(CursorSlice.APPROXIMATE_COUNT_HEADER, String.valueOf(mailService.estimateMailCount()));
+        }
+        return response.body(slice);
+    }
+
     // ========== RELATIONSHIP-BASED ENDPOINTS ==========
 
     @GetMapping("/by-mail-nature/{mailNatureId}")
@@ -170,16 +236,19 @@ public class MailController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "mailDate") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeSubStructures) {
         
-        log.debug("Getting mails for structure ID: {} - page: {}, size: {}", structureId, page, size);
+        log.debug("Getting mails for structure ID: {} (sub-structures: {}) - page: {}, size: {}", structureId, includeSubStructures, page, size);
         
         Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
                 Sort.Direction.DESC : Sort.Direction.ASC;
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         
-        Page<MailDTO> mails = mailService.getMailsByStructureId(structureId, pageable);
+        Page<MailDTO> mails = includeSubStructures
+                ? mailService.getMailsByStructureSubtree(structureId, pageable)
+                : mailService.getMailsByStructureId(structureId, pageable);
         
         return ResponseEntity.ok(mails);
     }
@@ -0,0 +1,45 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: MailListDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: Common / Communication
+ *
+ **/
+
+package dz.mdn.raas.common.communication.dto;
+
+import java.util.Date;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Mail list view projection
+ * Built by a JPQL constructor expression in MailRepository.findListView: only the columns shown
+ * in list pages are selected and no Mail entity is loaded. Field order is the constructor order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MailListDTO {
+
+    private Long id; // F_00
+    private String reference; // F_01
+    private String recordNumber; // F_02
+    private String subject; // F_03
+    private Date mailDate; // F_04
+    private Date recordDate; // F_05
+    private String mailNatureDesignation; // MailNature designationFr
+    private String mailTypeDesignation; // MailType designationFr
+    private Long structureId; // F_08
+    private String structureDesignation; // Structure designationFr
+}
@@ -30,6 +30,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -50,7 +51,8 @@ public class Mail {
 	
 	@Id
 	@Column(name="F_00")
-  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+  	@GeneratedValue(strategy=GenerationType.TABLE, generator="T_01_02_03_ID")
+	@TableGenerator(name="T_01_02_03_ID", table="T_00_00_00", pkColumnName="F_01", valueColumnName="F_02", pkColumnValue="T_01_02_03", allocationSize=50)
 	private Long id;
 	
 	@Column(name="F_01", length=50)
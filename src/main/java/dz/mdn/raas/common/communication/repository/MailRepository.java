@@ -13,24 +13,33 @@
 
 package dz.mdn.raas.common.communication.repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dz.mdn.raas.common.administration.model.Structure;
+import dz.mdn.raas.common.communication.dto.MailListDTO;
 import dz.mdn.raas.common.communication.model.Mail;
 import dz.mdn.raas.common.communication.model.MailNature;
 import dz.mdn.raas.common.communication.model.MailType;
+import dz.mdn.raas.configuration.export.StreamingExporter;
+import dz.mdn.raas.configuration.pagination.KeysetRepository;
 import dz.mdn.raas.system.utility.model.File;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface MailRepository extends JpaRepository<Mail, Long> {
+public interface MailRepository extends JpaRepository<Mail, Long>, KeysetRepository<Mail> {
 
     @Query("SELECT m FROM Mail m WHERE m.reference = :reference")
     Optional<Mail> findByReference(@Param("reference") String reference);
@@ -65,6 +74,13 @@ public interface MailRepository extends JpaRepository<Mail, Long> {
     @Query("SELECT m FROM Mail m WHERE m.structure.id = :structureId")
     Page<Mail> findByStructureId(@Param("structureId") Long structureId, Pageable pageable);
 
+    /**
+     * Find mails of a structure and all its descendants (structure closure table)
+     */
+    @Query(value = "SELECT m FROM Mail m JOIN StructureClosure c ON c.descendantId = m.structure.id WHERE c.ancestorId = :structureId",
+           countQuery = "SELECT COUNT(m) FROM Mail m JOIN StructureClosure c ON c.descendantId = m.structure.id WHERE c.ancestorId = :structureId")
+    Page<Mail> findByStructureSubtree(@Param("structureId") Long structureId, Pageable pageable);
+
     @Query("SELECT m FROM Mail m WHERE m.file = :file")
     Optional<Mail> findByFile(@Param("file") File file);
 
@@ -150,4 +166,38 @@ public interface MailRepository extends JpaRepository<Mail, Long> {
 
     @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END FROM Mail m WHERE m.structure.id = :structureId")
     boolean hasMailsForStructure(@Param("structureId") Long structureId);
+
+    /**
+     * List view projection: only the list columns through explicit joins, no entity loading
+     */
+    @Query(value = "SELECT new dz.mdn.raas.common.communication.dto.MailListDTO(m.id, m.reference, m.recordNumber, m.subject, m.mailDate, m.recordDate, mn.designationFr, mt.designationFr, s.id, s.designationFr) " +
+                   "FROM Mail m LEFT JOIN m.mailNature mn LEFT JOIN m.mailType mt LEFT JOIN m.structure s",
+           countQuery = "SELECT COUNT(m) FROM Mail m")
+    Page<MailListDTO> findListView(Pageable pageable);
+
+    /**
+     * List view projection of every row for exports, read through a forward-only streaming cursor
+     * Must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new dz.mdn.raas.common.communication.dto.MailListDTO(m.id, m.reference, m.recordNumber, m.subject, m.mailDate, m.recordDate, mn.designationFr, mt.designationFr, s.id, s.designationFr) " +
+           "FROM Mail m LEFT JOIN m.mailNature mn LEFT JOIN m.mailType mt LEFT JOIN m.structure s ORDER BY m.id")
+    Stream<MailListDTO> streamListView();
+
+    /**
+     * Searchable fields of every mail (full-text search index), read through a forward-only streaming cursor
+     * Each row: [id, reference, subject, recordNumber]; must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT m.id, m.reference, m.subject, m.recordNumber FROM Mail m")
+    Stream<Object[]> streamSearchRows();
+
+    /**
+     * Searchable fields of the given mails (full-text search index)
+     * Each row: [id, reference, subject, recordNumber]
+     */
+    @Query("SELECT m.id, m.reference, m.subject, m.recordNumber FROM Mail m WHERE m.id IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
 }
@@ -13,10 +13,12 @@
 
 package dz.mdn.raas.common.communication.service;
 
+import dz.mdn.raas.common.communication.dto.MailListDTO;
 import dz.mdn.raas.common.communication.model.Mail;
 import dz.mdn.raas.common.communication.model.MailNature;
 import dz.mdn.raas.common.communication.model.MailType;
 import dz.mdn.raas.common.administration.model.Structure;
+import dz.mdn.raas.configuration.pagination.CursorSlice;
 import dz.mdn.raas.system.utility.model.File;
 import dz.mdn.raas.common.communication.repository.MailRepository;
 import dz.mdn.raas.common.communication.repository.MailNatureRepository;
@@ -29,12 +31,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -141,6 +146,45 @@ public class MailService {
         return mails.map(MailDTO::fromEntity);
     }
 
+    /**
+     * Get mails list view (projection, no entity loading or dirty checking)
+     */
+    @Transactional(readOnly = true)
+    public Page<MailListDTO> getMailListView(Pageable pageable) {
+        log.debug("Getting mail list view with pagination");
+
+        return mailRepository.findListView(pageable);
+    }
+
+    /**
+     * Stream mails list view rows for exports
+     * Joins the transaction opened by the exporter, the stream must be closed by the caller
+     */
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<MailListDTO> streamMailListView() {
+        log.debug("Streaming mails list view for export");
+
+        return mailRepository.streamListView();
+    }
+
+    /**
+     * Get mails with keyset pagination (no count query, constant cost per page)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<MailDTO> getMailSlice(String cursor, int size, Sort sort) {
+        log.debug("Getting mail slice after cursor: {}", cursor);
+
+        return mailRepository.findSlice(null, sort, cursor, size).map(MailDTO::fromEntity);
+    }
+
+    /**
+     * Get estimated number of mails
+     */
+    @Transactional(readOnly = true)
+    public long estimateMailCount() {
+        return mailRepository.estimateCount();
+    }
+
     @Transactional(readOnly = true)
     public Optional<MailDTO> findOne(Long id) {
         log.debug("Finding mail by ID: {}", id);
@@ -176,6 +220,18 @@ public class MailService {
         return mails.map(MailDTO::fromEntity);
     }
 
+    /**
+     * Get mails of a structure and all its sub-structures
+     */
+    @Transactional(readOnly = true)
+    public Page<MailDTO> getMailsByStructureSubtree(Long structureId, Pageable pageable) {
+        log.debug("Getting mails for structure subtree ID: {}", structureId);
+
+        validateStructureExists(structureId);
+        Page<Mail> mails = mailRepository.findByStructureSubtree(structureId, pageable);
+        return mails.map(MailDTO::fromEntity);
+    }
+
     @Transactional(readOnly = true)
     public Page<MailDTO> searchMails(String searchTerm, Pageable pageable) {
         log.debug("Searching mails with term: {}", searchTerm);
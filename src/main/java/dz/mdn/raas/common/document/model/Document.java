@@ -25,6 +25,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -44,7 +45,8 @@ public class Document {
 	
 	@Id
 	@Column(name="F_00")
-  	@GeneratedValue(strategy=GenerationType.IDENTITY)
+  	@GeneratedValue(strategy=GenerationType.TABLE, generator="T_01_03_02_ID")
+	@TableGenerator(name="T_01_03_02_ID", table="T_00_00_00", pkColumnName="F_01", valueColumnName="F_02", pkColumnValue="T_01_03_02", allocationSize=50)
 	private Long id;
 	
 	@Column(name="F_01", length=500)
@@ -15,17 +15,23 @@ package dz.mdn.raas.common.document.repository;
 
 import dz.mdn.raas.common.document.model.Document;
 import dz.mdn.raas.common.document.model.DocumentType;
+import dz.mdn.raas.configuration.export.StreamingExporter;
 import dz.mdn.raas.system.utility.model.File;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
@@ -131,4 +137,20 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
                                 @Param("endDate") Date endDate,
                                 @Param("hasFile") Boolean hasFile,
                                 Pageable pageable);
+
+    /**
+     * Searchable fields of every document (full-text search index), read through a forward-only streaming cursor
+     * Each row: [id, reference, documentTypeFr, documentTypeEn, documentTypeAr]; must be consumed inside a transaction and closed
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingExporter.STREAMING_FETCH_SIZE),
+                  @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT d.id, d.reference, dt.designationFr, dt.designationEn, dt.designationAr FROM Document d LEFT JOIN d.documentType dt")
+    Stream<Object[]> streamSearchRows();
+
+    /**
+     * Searchable fields of the given documents (full-text search index)
+     * Each row: [id, reference, documentTypeFr, documentTypeEn, documentTypeAr]
+     */
+    @Query("SELECT d.id, d.reference, dt.designationFr, dt.designationEn, dt.designationAr FROM Document d LEFT JOIN d.documentType dt WHERE d.id IN :ids")
+    List<Object[]> findSearchRowsByIds(@Param("ids") Collection<Long> ids);
 }
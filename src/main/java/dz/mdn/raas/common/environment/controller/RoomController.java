@@ -149,16 +149,19 @@ public class RoomController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "code") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeSubStructures) {
         
-        log.debug("Getting rooms for structure ID: {} - page: {}, size: {}", structureId, page, size);
+        log.debug("Getting rooms for structure ID: {} (sub-structures: {}) - page: {}, size: {}", structureId, includeSubStructures, page, size);
         
         Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? 
                 Sort.Direction.DESC : Sort.Direction.ASC;
         
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         
-        Page<RoomDTO> rooms = roomService.getRoomsByStructureId(structureId, pageable);
+        Page<RoomDTO> rooms = includeSubStructures
+                ? roomService.getRoomsByStructureSubtree(structureId, pageable)
+                : roomService.getRoomsByStructureId(structureId, pageable);
         
         return ResponseEntity.ok(rooms);
     }
@@ -59,6 +59,13 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     @Query("SELECT r FROM Room r WHERE r.structure.id = :structureId")
     Page<Room> findByStructureId(@Param("structureId") Long structureId, Pageable pageable);
 
+    /**
+     * Find rooms of a structure and all its descendants (structure closure table)
+     */
+    @Query(value = "SELECT r FROM Room r JOIN StructureClosure c ON c.descendantId = r.structure.id WHERE c.ancestorId = :structureId",
+           countQuery = "SELECT COUNT(r) FROM Room r JOIN StructureClosure c ON c.descendantId = r.structure.id WHERE c.ancestorId = :structureId")
+    Page<Room> findByStructureSubtree(@Param("structureId") Long structureId, Pageable pageable);
+
     @Query("SELECT r FROM Room r WHERE r.structure IS NULL")
     Page<Room> findRoomsWithoutStructure(Pageable pageable);
 
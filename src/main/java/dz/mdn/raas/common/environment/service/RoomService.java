@@ -144,6 +144,18 @@ public class RoomService {
         return rooms.map(RoomDTO::fromEntity);
     }
 
+    /**
+     * Get rooms of a structure and all its sub-structures
+     */
+    @Transactional(readOnly = true)
+    public Page<RoomDTO> getRoomsByStructureSubtree(Long structureId, Pageable pageable) {
+        log.debug("Getting rooms for structure subtree ID: {}", structureId);
+
+        validateStructureExists(structureId);
+        Page<Room> rooms = roomRepository.findByStructureSubtree(structureId, pageable);
+        return rooms.map(RoomDTO::fromEntity);
+    }
+
     @Transactional(readOnly = true)
     public Page<RoomDTO> getRoomsWithoutStructure(Pageable pageable) {
         log.debug("Getting rooms without structure assigned");
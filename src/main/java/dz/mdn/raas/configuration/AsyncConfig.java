@@ -0,0 +1,85 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: AsyncConfig
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Configuration
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration for background processing
+ * Long running jobs (bulk imports, index rebuilds) run on a bounded executor
+ * so that they never hold request threads
+ * Streaming responses (exports) are written from their own executor with a long timeout
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig implements WebMvcConfigurer {
+
+    @Value("${raas.background.core-pool-size:2}")
+    private int corePoolSize;
+
+    @Value("${raas.background.max-pool-size:4}")
+    private int maxPoolSize;
+
+    @Value("${raas.background.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${raas.export.max-concurrent:4}")
+    private int maxConcurrentExports;
+
+    @Value("${raas.export.timeout:1800000}")
+    private long exportTimeout;
+
+    /**
+     * Executor shared by background jobs
+     */
+    @Bean
+    ThreadPoolTaskExecutor backgroundTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("raas-background-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Executor writing StreamingResponseBody exports, one thread per running export
+     */
+    @Bean
+    ThreadPoolTaskExecutor streamingTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentExports);
+        executor.setMaxPoolSize(maxConcurrentExports);
+        executor.setQueueCapacity(maxConcurrentExports * 2);
+        executor.setThreadNamePrefix("raas-streaming-");
+        return executor;
+    }
+
+    /**
+     * Async request processing used by streaming responses
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingTaskExecutor());
+        configurer.setDefaultTimeout(exportTimeout);
+    }
+}
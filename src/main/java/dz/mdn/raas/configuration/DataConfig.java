@@ -15,6 +15,11 @@ package dz.mdn.raas.configuration;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import dz.mdn.raas.configuration.monitoring.QueryInstrumentingDataSource;
+import dz.mdn.raas.configuration.pagination.KeysetRepositoryImpl;
+import dz.mdn.raas.configuration.routing.ReadWriteRoutingDataSource;
+import dz.mdn.raas.configuration.routing.ReplicaSelectionStrategy;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,10 +32,12 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 @Configuration
-@EnableJpaRepositories(basePackages = "dz.mdn.raas.*")
+@EnableJpaRepositories(basePackages = "dz.mdn.raas.*", repositoryBaseClass = KeysetRepositoryImpl.class)
 @EnableTransactionManagement
 public class DataConfig {
 
@@ -64,22 +71,84 @@ public class DataConfig {
     @Value("${spring.datasource.hikari.leak-detection-threshold:60000}")
     private long leakDetectionThreshold;
 
+    @Value("${raas.datasource.replica.urls:}")
+    private String[] replicaUrls;
+
+    @Value("${raas.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${raas.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${raas.datasource.replica.maximum-pool-size:20}")
+    private int replicaMaximumPoolSize;
+
+    @Value("${raas.datasource.replica.strategy:ROUND_ROBIN}")
+    private ReplicaSelectionStrategy replicaStrategy;
+
+    @Value("${raas.datasource.replica.health-check-interval:10000}")
+    private long replicaHealthCheckInterval;
+
+    @Value("${raas.datasource.replica.health-check-timeout:2}")
+    private int replicaHealthCheckTimeout;
+
+    @Value("${raas.datasource.replica.sticky-window:5000}")
+    private long replicaStickyWindow;
+
+    @Value("${raas.monitoring.query.enabled:true}")
+    private boolean queryMonitoringEnabled;
+
     /**
      * Primary DataSource configuration with HikariCP
      * Optimized for high-performance database connections
+     * When replicas are configured, read-only transactions are routed to them
+     * When query monitoring is enabled, JDBC activity is attributed to the current request
      */
     @Bean
     @Primary
     DataSource dataSource() {
+        DataSource dataSource = routedDataSource();
+        return queryMonitoringEnabled ? new QueryInstrumentingDataSource(dataSource) : dataSource;
+    }
+
+    /**
+     * Primary pool, or a read/write router over the primary and replica pools
+     */
+    private DataSource routedDataSource() {
+        HikariDataSource primary = createPool("raas-primary", jdbcUrl, username, password, maximumPoolSize, false);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            if (replicaUrl != null && !replicaUrl.isBlank()) {
+                replicas.add(createPool("raas-replica-" + replicas.size(), replicaUrl.trim(),
+                        replicaUsername, replicaPassword, replicaMaximumPoolSize, true));
+            }
+        }
+
+        if (replicas.isEmpty()) {
+            return primary;
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replicas, replicaStrategy,
+                replicaStickyWindow, replicaHealthCheckInterval, replicaHealthCheckTimeout).lazyProxy();
+    }
+
+    /**
+     * HikariCP pool creation shared by the primary and replica pools
+     */
+    private HikariDataSource createPool(String poolName, String url, String user, String pass,
+                                        int maxPoolSize, boolean readOnly) {
         HikariConfig config = new HikariConfig();
-        config.setJdbcUrl(jdbcUrl);
-        config.setUsername(username);
-        config.setPassword(password);
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(pass);
         config.setDriverClassName(driverClassName);
+        config.setReadOnly(readOnly);
 
         // Connection Pool Settings
-        config.setMinimumIdle(minimumIdle);
-        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(Math.min(minimumIdle, maxPoolSize));
+        config.setMaximumPoolSize(maxPoolSize);
         config.setConnectionTimeout(connectionTimeout);
         config.setIdleTimeout(idleTimeout);
         config.setMaxLifetime(maxLifetime);
@@ -137,6 +206,13 @@ public class DataConfig {
         properties.put("hibernate.order_updates", "true");
         properties.put("hibernate.jdbc.batch_versioned_data", "true");
 
+        // Id Generation (table generators hand out blocks of ids so inserts can be batched,
+        // pooled-lo stores the next free id, which PooledIdInitializer relies on)
+        properties.put("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+
+        // Fetch Configuration (lazy associations and collections are initialized in batches)
+        properties.put("hibernate.default_batch_fetch_size", "50");
+
         // Performance Optimizations
         properties.put("hibernate.connection.provider_disables_autocommit", "true");
         properties.put("hibernate.query.plan_cache_max_size", "2048");
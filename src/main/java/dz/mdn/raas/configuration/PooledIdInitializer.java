@@ -0,0 +1,95 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PooledIdInitializer
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Configuration
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration;
+
+import java.lang.reflect.Field;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aligns the pooled id generator table with the ids already present in each entity table.
+ *
+ * Entities moved from IDENTITY to a @TableGenerator keep their existing rows, while the generator
+ * would start again from its initial value. Before the application serves any request, each
+ * generator segment is raised to MAX(id) + 1 of its table so that allocated blocks never overlap
+ * existing ids. Segments already ahead of the table are left untouched. Missing segment rows are seeded
+ * with INSERT ... ON DUPLICATE KEY UPDATE, which relies on the primary key of the generator table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PooledIdInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> javaType = entityType.getJavaType();
+            Table table = javaType.getAnnotation(Table.class);
+            if (table == null) {
+                continue;
+            }
+            for (Field field : javaType.getDeclaredFields()) {
+                TableGenerator generator = field.getAnnotation(TableGenerator.class);
+                if (generator != null && field.isAnnotationPresent(Id.class)) {
+                    String idColumn = field.isAnnotationPresent(Column.class) ? field.getAnnotation(Column.class).name() : field.getName();
+                    transactionTemplate.executeWithoutResult(status -> alignSegment(generator, table.name(), idColumn));
+                }
+            }
+        }
+    }
+
+    private void alignSegment(TableGenerator generator, String entityTable, String idColumn) {
+        Long next = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + idColumn + "), 0) + 1 FROM " + entityTable, Long.class);
+
+        // Seed the segment row and lock it in one statement: two instances starting together would both miss
+        // the row with a plain SELECT ... FOR UPDATE (no row, no lock) and race on the insert
+        jdbcTemplate.update(
+                "INSERT INTO " + generator.table() + " (" + generator.pkColumnName() + ", " + generator.valueColumnName() + ") VALUES (?, ?)"
+                        + " ON DUPLICATE KEY UPDATE " + generator.valueColumnName() + " = " + generator.valueColumnName(),
+                generator.pkColumnValue(), next);
+
+        Long current = jdbcTemplate.queryForObject(
+                "SELECT " + generator.valueColumnName() + " FROM " + generator.table()
+                        + " WHERE " + generator.pkColumnName() + " = ? FOR UPDATE",
+                Long.class, generator.pkColumnValue());
+
+        if (current < next) {
+            jdbcTemplate.update(
+                    "UPDATE " + generator.table() + " SET " + generator.valueColumnName() + " = ? WHERE " + generator.pkColumnName() + " = ?",
+                    next, generator.pkColumnValue());
+            log.warn("Id generator segment {} was behind table {} ({} < {}), raised to {}",
+                    generator.pkColumnValue(), entityTable, current, next, next);
+        }
+    }
+}
@@ -18,11 +18,13 @@ import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.ResourceHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -30,6 +32,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import dz.mdn.raas.configuration.fieldset.SparseFieldsetFilters;
+import dz.mdn.raas.configuration.fieldset.SparseFieldsetIntrospector;
+import dz.mdn.raas.configuration.monitoring.QueryMetricsInterceptor;
+import lombok.RequiredArgsConstructor;
+
 /**
  * Web Configuration Class
  * 
@@ -41,11 +48,25 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
  * - JSON message converter with proper date handling
  * - Static resource handling
  * - Custom error handling integration
+ * - Per-request query metrics
+ * - Sparse fieldsets (?fields= / ?view=) on DTO responses
  */
 @Configuration
 @EnableWebMvc
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final QueryMetricsInterceptor queryMetricsInterceptor;
+
+    /**
+     * Register request interceptors
+     * Query metrics attribute JDBC activity to the handler method
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryMetricsInterceptor);
+    }
+
     /**
      * Configure CORS settings for API endpoints
      * Allows cross-origin requests from frontend applications
@@ -75,10 +96,11 @@ public class WebConfig implements WebMvcConfigurer {
 
     /**
      * Configure HTTP message converters
-     * Customizes JSON serialization/deserialization
+     * Customizes JSON serialization/deserialization; byte[] bodies (pre-encoded responses) are written as is
      */
     @Override
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new ByteArrayHttpMessageConverter());
         converters.add(mappingJackson2HttpMessageConverter());
         converters.add(new ResourceHttpMessageConverter() {
             @Override
@@ -114,6 +136,10 @@ public class WebConfig implements WebMvcConfigurer {
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         mapper.enable(SerializationFeature.INDENT_OUTPUT);
 
+        // DTOs carry the sparse fieldset filter id, written in full unless a request selects fields
+        mapper.setAnnotationIntrospector(new SparseFieldsetIntrospector());
+        mapper.setFilterProvider(SparseFieldsetFilters.serializeAll());
+
         return mapper;
     }
 }
\ No newline at end of file
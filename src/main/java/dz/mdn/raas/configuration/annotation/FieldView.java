@@ -0,0 +1,40 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: FieldView
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Annotation
+ *	@Layer		: annotation
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a named set of JSON properties of a DTO, selected with the {@code view=} request parameter.
+ * A DTO that does not declare the requested view is serialized in full.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(FieldViews.class)
+public @interface FieldView {
+
+    /**
+     * View name (e.g., "summary")
+     */
+    String name();
+
+    /**
+     * JSON property names serialized in this view
+     */
+    String[] fields();
+}
@@ -0,0 +1,29 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: FieldViews
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Annotation
+ *	@Layer		: annotation
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Container of repeated {@link FieldView} declarations
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldViews {
+
+    FieldView[] value();
+}
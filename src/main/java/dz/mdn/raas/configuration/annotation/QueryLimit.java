@@ -0,0 +1,42 @@
+/**
+ *	
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: QueryLimit
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Annotation
+ *	@Layer		: Annotation
+ *	@Package	: Configuration / Annotation
+ *
+ **/
+
+package dz.mdn.raas.configuration.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Query budget of a handler method, checked by QueryMetricsInterceptor after each request
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryLimit {
+
+    /**
+     * Maximum JDBC statements per request
+     */
+    long maxStatements() default Long.MAX_VALUE;
+
+    /**
+     * Maximum result set rows read per request
+     */
+    long maxRows() default Long.MAX_VALUE;
+
+    /**
+     * Executions of the same statement from which the request counts as N+1
+     */
+    int repeatThreshold() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,63 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ExportFormat
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Enum
+ *	@Layer		: export
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.export;
+
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+
+import dz.mdn.raas.exception.BusinessValidationException;
+
+/**
+ * Output formats of streaming exports
+ */
+public enum ExportFormat {
+
+    /**
+     * One compact JSON object per line
+     */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /**
+     * Header line followed by one record per row
+     */
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse the {@code format} request parameter (case-insensitive)
+     */
+    public static ExportFormat of(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Unsupported export format", "format", format);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: StreamingExporter
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: export
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.export;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import dz.mdn.raas.system.utility.csv.CsvWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * StreamingExporter
+ *
+ * Writes full result sets as NDJSON or CSV through a StreamingResponseBody, in constant memory:
+ * - rows come from a repository Stream query run with {@link #STREAMING_FETCH_SIZE}, so the driver
+ *   reads them one by one from a forward-only cursor instead of buffering the result set
+ * - the query runs in a read-only transaction (routed to a replica when configured)
+ * - output is flushed and the persistence context cleared after each chunk
+ * - JSON is written compact, whatever the indentation of API responses
+ *
+ * CSV columns are the JSON properties of the row type, in declaration order.
+ */
+@Component
+@Slf4j
+public class StreamingExporter {
+
+    /**
+     * Fetch size hint for export queries: MySQL Connector/J streams rows on Integer.MIN_VALUE
+     */
+    public static final String STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${raas.export.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${raas.export.csv-separator:,}")
+    private char csvSeparator;
+
+    public StreamingExporter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Build the streaming response; {@code rows} is opened inside the export transaction
+     *
+     * @param name file name of the attachment, without extension
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format, Class<T> type, Supplier<Stream<T>> rows) {
+        StreamingResponseBody body = output -> transactionTemplate.executeWithoutResult(status -> {
+            long started = System.currentTimeMillis();
+            try (Stream<T> stream = rows.get()) {
+                long count = format == ExportFormat.CSV
+                        ? writeCsv(stream.iterator(), type, output)
+                        : writeNdjson(stream.iterator(), type, output);
+                log.info("Exported {} {} row(s) as {} in {} ms", count, name, format, System.currentTimeMillis() - started);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "-" + LocalDate.now() + "." + format.getExtension())
+                        .build().toString())
+                .body(body);
+    }
+
+    // ========== WRITERS ==========
+
+    private <T> long writeNdjson(Iterator<T> rows, Class<T> type, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(type)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (rows.hasNext()) {
+                writer.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                if (++count % chunkSize == 0) {
+                    endChunk(generator);
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
+    private <T> long writeCsv(Iterator<T> rows, Class<T> type, OutputStream output) throws IOException {
+        List<BeanPropertyDefinition> properties = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties().stream()
+                .filter(BeanPropertyDefinition::couldSerialize)
+                .toList();
+
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        CsvWriter csv = new CsvWriter(out, csvSeparator);
+        csv.writeRecord(properties.stream().map(BeanPropertyDefinition::getName).toList());
+
+        long count = 0;
+        List<Object> values = new ArrayList<>(properties.size());
+        while (rows.hasNext()) {
+            T row = rows.next();
+            values.clear();
+            for (BeanPropertyDefinition property : properties) {
+                values.add(format(property.getAccessor().getValue(row)));
+            }
+            csv.writeRecord(values);
+            if (++count % chunkSize == 0) {
+                endChunk(csv);
+            }
+        }
+        csv.flush();
+        return count;
+    }
+
+    private void endChunk(Flushable output) throws IOException {
+        output.flush();
+        entityManager.clear();
+    }
+
+    private static Object format(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof Date date) {
+            return date.toInstant();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SparseFieldsetFilters
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: fieldset
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.fieldset;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import dz.mdn.raas.configuration.annotation.FieldView;
+import dz.mdn.raas.exception.BusinessValidationException;
+
+/**
+ * SparseFieldsetFilters
+ *
+ * Compiles {@code fields=} and {@code view=} selections into Jackson filter providers, cached by
+ * normalized field set and by view name. Filtering happens before a property is written, so the
+ * getters of unselected properties (most DTO computed getters) are never invoked.
+ *
+ * Field sets list JSON property names, dotted paths select inside nested DTOs:
+ *   fields=id,designationFr,rubric.id  -> rubric is written with its id only
+ *   fields=id,rubric                  -> rubric is written in full
+ * Paths are relative to the outermost DTO, wrappers such as Page or CursorSlice are transparent.
+ */
+@Component
+public class SparseFieldsetFilters {
+
+    /**
+     * Filter id assigned to every application DTO by {@link SparseFieldsetIntrospector}
+     */
+    public static final String FILTER_ID = "sparseFieldset";
+
+    private static final int MAX_CACHED_FIELDSETS = 512;
+    private static final int MAX_FIELDSET_LENGTH = 2000;
+
+    private static final ClassValue<Boolean> FILTERED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.getName().startsWith("dz.mdn.raas.") && type.getSimpleName().endsWith("DTO");
+        }
+    };
+
+    private final Map<String, FilterProvider> fieldsetProviders = new ConcurrentHashMap<>();
+    private final Map<String, FilterProvider> viewProviders = new ConcurrentHashMap<>();
+
+    /**
+     * Whether instances of the class are subject to sparse fieldsets
+     */
+    public static boolean isFiltered(Class<?> type) {
+        return FILTERED.get(type);
+    }
+
+    /**
+     * Filter provider writing every property, registered on the ObjectMapper
+     */
+    public static FilterProvider serializeAll() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /**
+     * Filter provider for a comma separated list of property paths, or null when the list is blank
+     */
+    public FilterProvider forFields(String fields) {
+        if (fields.length() > MAX_FIELDSET_LENGTH) {
+            throw new BusinessValidationException("Field selection is too long", "fields", fields.substring(0, 50) + "...");
+        }
+        Set<String> selected = new TreeSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                selected.add(field.trim());
+            }
+        }
+        if (selected.isEmpty()) {
+            return null;
+        }
+
+        String key = String.join(",", selected);
+        FilterProvider provider = fieldsetProviders.get(key);
+        if (provider == null) {
+            provider = provider(new FieldsetFilter(selected));
+            if (fieldsetProviders.size() < MAX_CACHED_FIELDSETS) {
+                fieldsetProviders.putIfAbsent(key, provider);
+            }
+        }
+        return provider;
+    }
+
+    /**
+     * Filter provider for a named view declared with {@link FieldView}
+     */
+    public FilterProvider forView(String view) {
+        String name = view.trim();
+        FilterProvider provider = viewProviders.get(name);
+        if (provider == null) {
+            provider = provider(new ViewFilter(name));
+            if (viewProviders.size() < MAX_CACHED_FIELDSETS) {
+                provider = viewProviders.computeIfAbsent(name, key -> provider(new ViewFilter(key)));
+            }
+        }
+        return provider;
+    }
+
+    private static FilterProvider provider(SimpleBeanPropertyFilter filter) {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, filter).setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    // ========== FILTERS ==========
+
+    /**
+     * Base filter deciding before the property writer runs, so excluded getters are not called
+     */
+    private abstract static class SelectionFilter extends SimpleBeanPropertyFilter {
+
+        protected abstract boolean includes(Object bean, JsonGenerator gen, String property);
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider provider, PropertyWriter writer) throws Exception {
+            if (includes(bean, gen, writer.getName())) {
+                writer.serializeAsField(bean, gen, provider);
+            } else if (!gen.canOmitFields()) {
+                writer.serializeAsOmittedField(bean, gen, provider);
+            }
+        }
+    }
+
+    /**
+     * Explicit field set; decisions are memoized per property path
+     */
+    private static final class FieldsetFilter extends SelectionFilter {
+
+        private final Set<String> selected;
+        private final Set<String> intermediates = new HashSet<>();
+        private final boolean nested;
+        private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+        FieldsetFilter(Set<String> selected) {
+            this.selected = Set.copyOf(selected);
+            for (String path : selected) {
+                for (int dot = path.indexOf('.'); dot > 0; dot = path.indexOf('.', dot + 1)) {
+                    intermediates.add(path.substring(0, dot));
+                }
+            }
+            this.nested = !intermediates.isEmpty();
+        }
+
+        @Override
+        protected boolean includes(Object bean, JsonGenerator gen, String property) {
+            String parent = parentPath(gen);
+            if (parent.isEmpty()) {
+                return selected.contains(property) || intermediates.contains(property);
+            }
+            if (!nested) {
+                // Nested DTO of a selected top-level property
+                return true;
+            }
+            return decisions.computeIfAbsent(parent + "." + property, this::decide);
+        }
+
+        private boolean decide(String path) {
+            if (selected.contains(path) || intermediates.contains(path)) {
+                return true;
+            }
+            for (int dot = path.indexOf('.'); dot > 0; dot = path.indexOf('.', dot + 1)) {
+                if (selected.contains(path.substring(0, dot))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Property names leading from the outermost DTO to the one being written
+         */
+        private static String parentPath(JsonGenerator gen) {
+            String path = "";
+            for (JsonStreamContext context = gen.getOutputContext().getParent(); context != null; context = context.getParent()) {
+                Object value = context.getCurrentValue();
+                if (context.inObject() && value != null && isFiltered(value.getClass())) {
+                    path = path.isEmpty() ? context.getCurrentName() : context.getCurrentName() + "." + path;
+                }
+            }
+            return path;
+        }
+    }
+
+    /**
+     * Named view, resolved once per DTO class; classes without the view are written in full
+     */
+    private static final class ViewFilter extends SelectionFilter {
+
+        private final String name;
+        private final Map<Class<?>, Optional<Set<String>>> fieldsByClass = new ConcurrentHashMap<>();
+
+        ViewFilter(String name) {
+            this.name = name;
+        }
+
+        @Override
+        protected boolean includes(Object bean, JsonGenerator gen, String property) {
+            Optional<Set<String>> fields = fieldsByClass.computeIfAbsent(bean.getClass(), this::resolve);
+            return fields.isEmpty() || fields.get().contains(property);
+        }
+
+        private Optional<Set<String>> resolve(Class<?> type) {
+            for (FieldView view : type.getAnnotationsByType(FieldView.class)) {
+                if (view.name().equals(name)) {
+                    return Optional.of(Set.copyOf(Arrays.asList(view.fields())));
+                }
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SparseFieldsetIntrospector
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: fieldset
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.fieldset;
+
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+
+/**
+ * SparseFieldsetIntrospector
+ *
+ * Attaches the sparse fieldset filter id to every application DTO, so that no DTO needs a
+ * {@code @JsonFilter} annotation. The ObjectMapper registers a serialize-all default for that id,
+ * responses without {@code fields=} or {@code view=} are unchanged.
+ */
+public class SparseFieldsetIntrospector extends JacksonAnnotationIntrospector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object findFilterId(Annotated annotated) {
+        Object filterId = super.findFilterId(annotated);
+        if (filterId == null && annotated instanceof AnnotatedClass annotatedClass
+                && SparseFieldsetFilters.isFiltered(annotatedClass.getRawType())) {
+            return SparseFieldsetFilters.FILTER_ID;
+        }
+        return filterId;
+    }
+}
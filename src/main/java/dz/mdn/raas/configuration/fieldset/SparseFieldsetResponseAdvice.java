@@ -0,0 +1,68 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SparseFieldsetResponseAdvice
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: fieldset
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.fieldset;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SparseFieldsetResponseAdvice
+ *
+ * Applies the {@code fields=} or {@code view=} query parameter to any JSON response body.
+ * When both are given, {@code fields} wins. Without either, the ObjectMapper default writes every property.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SparseFieldsetResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAMETER = "fields";
+    public static final String VIEW_PARAMETER = "view";
+
+    private final SparseFieldsetFilters sparseFieldsetFilters;
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+
+        FilterProvider filters = null;
+        String fields = httpRequest.getParameter(FIELDS_PARAMETER);
+        if (fields != null) {
+            filters = sparseFieldsetFilters.forFields(fields);
+        } else {
+            String view = httpRequest.getParameter(VIEW_PARAMETER);
+            if (view != null && !view.isBlank()) {
+                filters = sparseFieldsetFilters.forView(view);
+            }
+        }
+
+        if (filters != null) {
+            bodyContainer.setFilters(filters);
+        }
+    }
+}
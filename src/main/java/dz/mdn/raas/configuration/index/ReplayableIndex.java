@@ -0,0 +1,120 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ReplayableIndex
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: index
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import dz.mdn.raas.configuration.transaction.AfterCommit;
+
+/**
+ * ReplayableIndex
+ *
+ * Holder of an in-memory index kept in step with the database: committed changes are applied to the current
+ * index, and a rebuild loads a fresh one without losing the changes committed while it was loading. Those
+ * changes are applied to the current index and recorded, then replayed on the loaded index before it replaces
+ * the current one. Rebuilds are serialized.
+ *
+ * Changes are applied under the lock of this holder; readers of an index type that is not thread-safe go
+ * through {@link #read(Function)}.
+ *
+ * @param <T> index type
+ */
+public final class ReplayableIndex<T> {
+
+    private final Object rebuildLock = new Object();
+    private volatile T current;
+    private List<Consumer<T>> pending; // Guarded by this, set while rebuilding
+
+    /**
+     * Current index, null until the first load completes
+     */
+    public T get() {
+        return current;
+    }
+
+    /**
+     * Current index, waiting for the load in progress when there is none yet; loads it only when no load
+     * completed while waiting
+     */
+    public T getOrLoad(Supplier<T> loader) {
+        T index = current;
+        if (index != null) {
+            return index;
+        }
+        synchronized (rebuildLock) {
+            index = current;
+            return index != null ? index : rebuild(loader);
+        }
+    }
+
+    /**
+     * Read the current index under the lock changes are applied with, null when none is loaded
+     */
+    public synchronized <R> R read(Function<T, R> reader) {
+        return current != null ? reader.apply(current) : null;
+    }
+
+    /**
+     * Apply a change to the current index, and to the index being loaded if a rebuild is in progress
+     */
+    public synchronized void apply(Consumer<T> change) {
+        if (current != null) {
+            change.accept(current);
+        }
+        if (pending != null) {
+            pending.add(change);
+        }
+    }
+
+    /**
+     * Apply a change once the current transaction commits
+     */
+    public void applyAfterCommit(Consumer<T> change) {
+        AfterCommit.run(() -> apply(change));
+    }
+
+    /**
+     * Load a fresh index and swap it in, replaying the changes applied while it was loading
+     *
+     * @return the new index
+     */
+    public T rebuild(Supplier<T> loader) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+
+            T rebuilt;
+            try {
+                rebuilt = loader.get();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pending = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                pending.forEach(change -> change.accept(rebuilt));
+                pending = null;
+                current = rebuilt;
+            }
+            return rebuilt;
+        }
+    }
+}
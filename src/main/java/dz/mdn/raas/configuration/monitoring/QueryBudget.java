@@ -0,0 +1,123 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: QueryBudget
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: monitoring
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.monitoring;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import dz.mdn.raas.configuration.annotation.QueryLimit;
+
+/**
+ * QueryBudget
+ *
+ * Query count limits of a unit of work. QueryMetricsInterceptor checks the {@link QueryLimit} of each handler
+ * method after the request; tests lock in the counts of a service or endpoint call with:
+ *
+ *   QueryBudget.of("getAllConsultations")
+ *           .maxStatements(3)
+ *           .noRepeatedStatements(2)
+ *           .verify(() -> consultationService.getAllConsultations(pageable));
+ *
+ * Requires the application DataSource to be a {@link QueryInstrumentingDataSource}.
+ */
+public final class QueryBudget {
+
+    private final String label;
+    private long maxStatements = Long.MAX_VALUE;
+    private long maxRows = Long.MAX_VALUE;
+    private int repeatThreshold = Integer.MAX_VALUE;
+
+    private QueryBudget(String label) {
+        this.label = label;
+    }
+
+    public static QueryBudget of(String label) {
+        return new QueryBudget(label);
+    }
+
+    /**
+     * Budget declared on a handler method
+     */
+    public static QueryBudget of(String label, QueryLimit limit) {
+        return of(label)
+                .maxStatements(limit.maxStatements())
+                .maxRows(limit.maxRows())
+                .noRepeatedStatements(limit.repeatThreshold());
+    }
+
+    public QueryBudget maxStatements(long maxStatements) {
+        this.maxStatements = maxStatements;
+        return this;
+    }
+
+    public QueryBudget maxRows(long maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * Fail when any statement is executed {@code threshold} times or more
+     */
+    public QueryBudget noRepeatedStatements(int threshold) {
+        this.repeatThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Run the action, then fail with an AssertionError if the budget was exceeded
+     */
+    public <T> T verify(Supplier<T> action) {
+        QueryStatistics previous = QueryMetricsContext.end();
+        QueryMetricsContext.begin(label);
+        T result;
+        QueryStatistics statistics;
+        try {
+            result = action.get();
+        } finally {
+            statistics = QueryMetricsContext.end();
+            QueryMetricsContext.restore(previous);
+        }
+
+        String breach = breach(statistics);
+        if (breach != null) {
+            throw new AssertionError(breach);
+        }
+        return result;
+    }
+
+    public void verify(Runnable action) {
+        verify(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Description of the first exceeded limit, or null when the statistics fit the budget
+     */
+    public String breach(QueryStatistics statistics) {
+        if (statistics.getStatementCount() > maxStatements) {
+            return "Query budget exceeded for " + statistics + ", allowed " + maxStatements
+                    + " statement(s): " + statistics.getExecutionsBySql().keySet();
+        }
+        if (statistics.getRowCount() > maxRows) {
+            return "Row budget exceeded for " + statistics + ", allowed " + maxRows + " row(s)";
+        }
+        Map<String, Integer> repeated = statistics.getRepeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            return "N+1 pattern detected for " + label + ": " + repeated;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: QueryInstrumentingDataSource
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: monitoring
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import dz.mdn.raas.configuration.routing.ReadWriteRoutingDataSource;
+
+/**
+ * QueryInstrumentingDataSource
+ *
+ * Wraps every JDBC connection so that statement executions, their elapsed time and the rows
+ * read from their result sets are attributed to the {@link QueryMetricsContext} of the calling thread.
+ */
+public class QueryInstrumentingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public QueryInstrumentingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    /**
+     * Close the wrapped pool, or the routing DataSource and its pools
+     */
+    @Override
+    public void close() {
+        DataSource target = getTargetDataSource();
+        if (target instanceof HikariDataSource pool) {
+            pool.close();
+        } else if (target instanceof ReadWriteRoutingDataSource.LazyRoutingProxy routing) {
+            routing.close();
+        }
+    }
+
+    // ========== JDBC PROXIES ==========
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryInstrumentingDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    String name = method.getName();
+
+                    if (result instanceof CallableStatement statement && "prepareCall".equals(name)) {
+                        return wrapStatement(statement, CallableStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof PreparedStatement statement && "prepareStatement".equals(name)) {
+                        return wrapStatement(statement, PreparedStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof Statement statement && "createStatement".equals(name)) {
+                        return wrapStatement(statement, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object wrapStatement(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+
+            if (!name.startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return "getResultSet".equals(name) && result != null ? wrapResultSet((ResultSet) result) : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+            } finally {
+                QueryStatistics statistics = QueryMetricsContext.current();
+                if (statistics != null) {
+                    statistics.recordStatement(sql, System.nanoTime() - start);
+                }
+            }
+        };
+        return Proxy.newProxyInstance(QueryInstrumentingDataSource.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return (ResultSet) Proxy.newProxyInstance(QueryInstrumentingDataSource.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+                    Object result = invoke(resultSet, method, args);
+                    if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                        QueryStatistics statistics = QueryMetricsContext.current();
+                        if (statistics != null) {
+                            statistics.recordRow();
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: QueryMetricsContext
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: monitoring
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.monitoring;
+
+/**
+ * QueryMetricsContext
+ *
+ * Thread-bound holder of the {@link QueryStatistics} being collected.
+ * JDBC activity on a thread without an open context is not recorded.
+ */
+public final class QueryMetricsContext {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryMetricsContext() {
+    }
+
+    /**
+     * Open a context for the current thread, replacing any previous one
+     */
+    public static QueryStatistics begin(String label) {
+        QueryStatistics statistics = new QueryStatistics(label);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Close the context of the current thread and return what it collected
+     */
+    public static QueryStatistics end() {
+        QueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    /**
+     * Reinstate a context previously returned by {@link #end()}, used by nested measurements
+     */
+    static void restore(QueryStatistics statistics) {
+        if (statistics != null) {
+            CURRENT.set(statistics);
+        }
+    }
+
+    /**
+     * Statistics of the current thread, or null when nothing is being measured
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: QueryMetricsInterceptor
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: monitoring
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.monitoring;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import dz.mdn.raas.configuration.annotation.QueryLimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * QueryMetricsInterceptor
+ *
+ * Attributes the JDBC activity of each request to its handler method and publishes it
+ * through Micrometer (visible under /actuator/metrics):
+ * - raas.request.statements: statements per request
+ * - raas.request.rows: rows read per request
+ * - raas.request.jdbc.time: cumulative JDBC time per request
+ * - raas.request.n_plus_one: requests that repeated the same statement past the threshold
+ * - raas.request.query_budget_exceeded: requests of a handler that exceeded its {@link QueryLimit}
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${raas.monitoring.query.enabled:true}")
+    private boolean enabled;
+
+    @Value("${raas.monitoring.query.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${raas.monitoring.query.warn-statement-count:50}")
+    private int warnStatementCount;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled && handler instanceof HandlerMethod handlerMethod) {
+            QueryMetricsContext.begin(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryStatistics statistics = QueryMetricsContext.end();
+        if (statistics == null) {
+            return;
+        }
+
+        String endpoint = statistics.getLabel();
+
+        DistributionSummary.builder("raas.request.statements")
+                .description("JDBC statements executed per request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+
+        DistributionSummary.builder("raas.request.rows")
+                .description("Result set rows read per request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getRowCount());
+
+        Timer.builder("raas.request.jdbc.time")
+                .description("Cumulative JDBC execution time per request")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        Map<String, Integer> repeated = statistics.getRepeatedStatements(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("raas.request.n_plus_one")
+                    .description("Requests repeating an identical statement with different parameters")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+
+            repeated.forEach((sql, count) ->
+                    log.warn("Possible N+1 in {}: statement executed {} times: {}", endpoint, count, sql));
+        }
+
+        QueryLimit limit = handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethodAnnotation(QueryLimit.class) : null;
+        String breach = limit != null ? QueryBudget.of(endpoint, limit).breach(statistics) : null;
+        if (breach != null) {
+            Counter.builder("raas.request.query_budget_exceeded")
+                    .description("Requests exceeding the query budget of their handler")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+
+            log.error(breach);
+        }
+
+        if (statistics.getStatementCount() >= warnStatementCount) {
+            log.warn("High statement count for {}", statistics);
+        } else {
+            log.debug("Query statistics for {}", statistics);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: QueryStatistics
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: monitoring
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.monitoring;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+
+/**
+ * QueryStatistics
+ *
+ * JDBC activity collected for one unit of work (an HTTP request or a measured block):
+ * statement count, fetched rows, cumulative JDBC time and executions per SQL string.
+ */
+@Getter
+public class QueryStatistics {
+
+    private final String label;
+    private long statementCount;
+    private long rowCount;
+    private long jdbcNanos;
+    private final Map<String, Integer> executionsBySql = new LinkedHashMap<>();
+
+    public QueryStatistics(String label) {
+        this.label = label;
+    }
+
+    void recordStatement(String sql, long elapsedNanos) {
+        statementCount++;
+        jdbcNanos += elapsedNanos;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRow() {
+        rowCount++;
+    }
+
+    public long getJdbcMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(jdbcNanos);
+    }
+
+    /**
+     * Statements executed at least {@code threshold} times with the same SQL text.
+     * The same prepared SQL repeated with different parameters is the N+1 signature.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    @Override
+    public String toString() {
+        return label + ": " + statementCount + " statement(s), " + rowCount + " row(s), " + getJdbcMillis() + " ms";
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: CursorSlice
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: pagination
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * CursorSlice
+ *
+ * One page of a keyset scroll: the content, whether more rows follow and the opaque cursor
+ * to pass back to read them. Unlike Page, no total count is computed; clients that need one
+ * can ask for the approximate count header.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorSlice<T> {
+
+    /**
+     * Response header carrying the estimated row count of the underlying table
+     */
+    public static final String APPROXIMATE_COUNT_HEADER = "X-Approximate-Count";
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorSlice<>(converted, size, hasNext, nextCursor);
+    }
+}
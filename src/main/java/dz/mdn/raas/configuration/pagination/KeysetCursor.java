@@ -0,0 +1,101 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: KeysetCursor
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: pagination
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.pagination;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import dz.mdn.raas.exception.BusinessValidationException;
+
+/**
+ * KeysetCursor
+ *
+ * Position of the last row of a keyset page: the values of its sort keys followed by its id.
+ * Encoded as URL-safe Base64 JSON so that clients treat it as opaque. The sort it was produced
+ * for is embedded, a cursor cannot be replayed against another sort order.
+ */
+final class KeysetCursor {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private final String sortSignature;
+    private final JsonNode values;
+
+    private KeysetCursor(String sortSignature, JsonNode values) {
+        this.sortSignature = sortSignature;
+        this.values = values;
+    }
+
+    /**
+     * Encode the position of a row, {@code keyValues} ends with the id
+     */
+    static String encode(Sort sort, List<Object> keyValues) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("s", signature(sort));
+        ArrayNode array = node.putArray("v");
+        keyValues.forEach(value -> array.add(MAPPER.valueToTree(value)));
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(node));
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to encode cursor", e);
+        }
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode}, rejecting cursors of another sort order
+     */
+    static KeysetCursor decode(String cursor, Sort sort, int keyCount) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+        } catch (Exception e) {
+            throw new BusinessValidationException("Malformed cursor", "cursor", cursor);
+        }
+        if (node == null || !node.path("v").isArray() || node.path("v").size() != keyCount) {
+            throw new BusinessValidationException("Malformed cursor", "cursor", cursor);
+        }
+        KeysetCursor decoded = new KeysetCursor(node.path("s").asText(), node.get("v"));
+        if (!decoded.sortSignature.equals(signature(sort))) {
+            throw new BusinessValidationException("Cursor was issued for another sort order", "cursor", cursor);
+        }
+        return decoded;
+    }
+
+    /**
+     * Value of the key at {@code index}, converted to the type of the sorted attribute
+     */
+    Object value(int index, Class<?> type) {
+        JsonNode value = values.get(index);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return MAPPER.convertValue(value, ClassUtils.resolvePrimitiveIfNecessary(type));
+    }
+
+    private static String signature(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        sort.forEach(order -> orders.add(order.getProperty() + ":" + order.getDirection()));
+        return String.join(",", orders);
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: KeysetRepository
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Interface
+ *	@Layer		: pagination
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.pagination;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * KeysetRepository
+ *
+ * Keyset (seek) pagination for repositories of large tables. Each page is read with a
+ * predicate positioned after the last row of the previous page instead of an OFFSET,
+ * and no COUNT query is issued, so the cost of a page does not depend on its depth.
+ * Implemented for every repository by {@link KeysetRepositoryImpl}.
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T> {
+
+    /**
+     * Read the page following {@code cursor} (the first page when null).
+     * Sort properties may be nested ("structure.designationFr"), the id is appended as tie-breaker.
+     *
+     * @param filter optional restriction, may be null
+     */
+    CursorSlice<T> findSlice(Specification<T> filter, Sort sort, String cursor, int size);
+
+    /**
+     * Estimated row count of the entity table from the database statistics, without scanning it
+     */
+    long estimateCount();
+}
@@ -0,0 +1,203 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: KeysetRepositoryImpl
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: pagination
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.pagination;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import dz.mdn.raas.exception.BusinessValidationException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * KeysetRepositoryImpl
+ *
+ * Repository base class (registered in DataConfig) adding {@link KeysetRepository} to every repository.
+ *
+ * For sort keys k1..kn and the id, the page after position (v1..vn, id) is read with
+ *   (k1 after v1) OR (k1 = v1 AND k2 after v2) OR ... OR (k1 = v1 AND ... AND kn = vn AND id after id)
+ * where "after" follows the sort direction and MySQL null ordering (nulls first ascending,
+ * last descending), so nullable sort keys page correctly.
+ * The id keeps its direction when it is part of the sort (keys after it are ignored, the id being
+ * unique), otherwise it follows the direction of the last sort key.
+ */
+public class KeysetRepositoryImpl<T, ID extends Serializable> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T> {
+
+    private static final int MAX_SIZE = 500;
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+
+    public KeysetRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public CursorSlice<T> findSlice(Specification<T> filter, Sort sort, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        String idName = entityInformation.getIdAttribute().getName();
+
+        // Orders after the id are dropped (the id is unique); without an id order, it follows the last sort key
+        List<Sort.Order> orders = new ArrayList<>();
+        Sort.Direction idDirection = null;
+        for (Sort.Order order : sort) {
+            if (order.getProperty().equals(idName)) {
+                idDirection = order.getDirection();
+                break;
+            }
+            orders.add(order);
+        }
+        if (idDirection == null) {
+            idDirection = orders.isEmpty() ? Sort.Direction.ASC : orders.get(orders.size() - 1).getDirection();
+        }
+        Sort keySort = Sort.by(orders).and(Sort.by(idDirection, idName));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+        Map<String, From<?, ?>> joins = new HashMap<>();
+
+        // Sort keys followed by the id
+        List<Expression<?>> keys = new ArrayList<>();
+        List<Sort.Direction> directions = new ArrayList<>();
+        for (Sort.Order order : orders) {
+            keys.add(resolve(root, joins, order.getProperty()));
+            directions.add(order.getDirection());
+        }
+        keys.add(root.get(idName));
+        directions.add(idDirection);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root);
+        selections.addAll(keys);
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate restriction = filter.toPredicate(root, query, cb);
+            if (restriction != null) {
+                predicates.add(restriction);
+            }
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor position = KeysetCursor.decode(cursor, keySort, keys.size());
+            predicates.add(seek(cb, keys, directions, position));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        List<Order> ordering = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            ordering.add(directions.get(i).isAscending() ? cb.asc(keys.get(i)) : cb.desc(keys.get(i)));
+        }
+        query.orderBy(ordering);
+
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = page.get(page.size() - 1);
+            List<Object> values = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                values.add(last.get(i + 1));
+            }
+            nextCursor = KeysetCursor.encode(keySort, values);
+        }
+
+        List<T> content = new ArrayList<>(page.size());
+        for (Tuple row : page) {
+            content.add(getDomainClass().cast(row.get(0)));
+        }
+        return new CursorSlice<>(content, limit, hasNext, nextCursor);
+    }
+
+    @Override
+    public long estimateCount() {
+        Table table = getDomainClass().getAnnotation(Table.class);
+        String tableName = table != null && !table.name().isEmpty() ? table.name() : entityInformation.getEntityName();
+        List<?> result = entityManager.createNativeQuery(
+                "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :table")
+                .setParameter("table", tableName)
+                .getResultList();
+        return result.isEmpty() || result.get(0) == null ? 0L : ((Number) result.get(0)).longValue();
+    }
+
+    // ========== SEEK PREDICATE ==========
+
+    private Predicate seek(CriteriaBuilder cb, List<Expression<?>> keys, List<Sort.Direction> directions, KeysetCursor position) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalPrefix = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Expression<?> key = keys.get(i);
+            Object value = position.value(i, key.getJavaType());
+
+            List<Predicate> alternative = new ArrayList<>(equalPrefix);
+            alternative.add(after(cb, key, value, directions.get(i).isAscending()));
+            alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+
+            equalPrefix.add(value == null ? cb.isNull(key) : cb.equal(key, value));
+        }
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate after(CriteriaBuilder cb, Expression<?> key, Object value, boolean ascending) {
+        Expression<Comparable> comparable = (Expression<Comparable>) key;
+        if (value == null) {
+            // Nulls come first ascending: every non-null value follows; descending they come last: nothing follows
+            return ascending ? cb.isNotNull(key) : cb.disjunction();
+        }
+        return ascending
+                ? cb.greaterThan(comparable, (Comparable) value)
+                : cb.or(cb.lessThan(comparable, (Comparable) value), cb.isNull(key));
+    }
+
+    private Expression<?> resolve(Root<T> root, Map<String, From<?, ?>> joins, String property) {
+        try {
+            String[] segments = property.split("\\.");
+            From<?, ?> from = root;
+            String joinPath = "";
+            for (int i = 0; i < segments.length - 1; i++) {
+                joinPath = joinPath.isEmpty() ? segments[i] : joinPath + "." + segments[i];
+                From<?, ?> parent = from;
+                String segment = segments[i];
+                from = joins.computeIfAbsent(joinPath, path -> parent.join(segment, JoinType.LEFT));
+            }
+            return from.get(segments[segments.length - 1]);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Unknown sort property", "sortBy", property);
+        }
+    }
+}
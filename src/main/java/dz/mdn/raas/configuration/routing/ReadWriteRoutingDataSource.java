@@ -0,0 +1,298 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ReadWriteRoutingDataSource
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: routing
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read/Write Routing DataSource
+ *
+ * Sends read-only transactions to a healthy replica pool and everything else to the primary.
+ *
+ * Routing rules:
+ * - No active transaction or read-write transaction: primary
+ * - Read-only transaction after a read-write transaction in the same HTTP request: primary
+ * - Read-only transaction by a user who wrote within the sticky window: primary
+ * - Read-only transaction opened inside {@link #onPrimary(Supplier)}: primary
+ * - Any other read-only transaction: replica chosen by the selection strategy, primary if none is healthy
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy (see {@link #lazyProxy()}) so that the physical
+ * connection is only fetched once the transaction read-only flag has been published.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY_KEY = "primary";
+
+    private static final String REPLICA_KEY_PREFIX = "replica-";
+    private static final String WRITTEN_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".WRITTEN";
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaSelectionStrategy strategy;
+    private final long stickyWindowMillis;
+    private final int healthCheckTimeoutSeconds;
+
+    private final Set<Integer> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger roundRobinCounter = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary,
+                                      List<HikariDataSource> replicas,
+                                      ReplicaSelectionStrategy strategy,
+                                      long stickyWindowMillis,
+                                      long healthCheckIntervalMillis,
+                                      int healthCheckTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.strategy = strategy;
+        this.stickyWindowMillis = stickyWindowMillis;
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(replicaKey(i), this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "raas-replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(this::checkReplicaHealth,
+                healthCheckIntervalMillis, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+
+        log.info("Read/write routing enabled with {} replica(s), strategy: {}, sticky window: {} ms",
+                this.replicas.size(), strategy, stickyWindowMillis);
+    }
+
+    /**
+     * Run reads on the primary even in read-only transactions, without marking the request or user as a writer.
+     * For reads that refill a cache after a commit: a lagging replica would keep the stale values cached.
+     * Connections are resolved on the first statement of a transaction, so the scope must be entered before it.
+     * Without replicas this is a plain call.
+     */
+    public static <T> T onPrimary(Supplier<T> reads) {
+        if (PRIMARY_READS.get() != null) {
+            return reads.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    /**
+     * Wrap this routing DataSource so connections are resolved on first statement
+     */
+    public LazyRoutingProxy lazyProxy() {
+        return new LazyRoutingProxy(this);
+    }
+
+    // ========== ROUTING ==========
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY_KEY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWritten();
+            return PRIMARY_KEY;
+        }
+
+        if (PRIMARY_READS.get() != null || hasWrittenRecently()) {
+            return PRIMARY_KEY;
+        }
+
+        return selectReplica();
+    }
+
+    /**
+     * Select a healthy replica key, falling back to the primary
+     */
+    private Object selectReplica() {
+        List<Integer> healthy = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            if (!unhealthyReplicas.contains(i)) {
+                healthy.add(i);
+            }
+        }
+
+        if (healthy.isEmpty()) {
+            return PRIMARY_KEY;
+        }
+
+        int selected;
+        switch (strategy) {
+            case LEAST_LOADED:
+                selected = healthy.stream()
+                        .min(Comparator.comparingInt(this::activeConnections))
+                        .orElse(healthy.get(0));
+                break;
+            case ROUND_ROBIN:
+            default:
+                selected = healthy.get(Math.floorMod(roundRobinCounter.getAndIncrement(), healthy.size()));
+                break;
+        }
+
+        return replicaKey(selected);
+    }
+
+    private int activeConnections(int replicaIndex) {
+        HikariPoolMXBean pool = replicas.get(replicaIndex).getHikariPoolMXBean();
+        return pool != null ? pool.getActiveConnections() : 0;
+    }
+
+    private static String replicaKey(int index) {
+        return REPLICA_KEY_PREFIX + index;
+    }
+
+    // ========== READ-YOUR-WRITES ==========
+
+    /**
+     * Record that the current request (and user, when a sticky window is configured) has written
+     */
+    private void markWritten() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        if (stickyWindowMillis > 0) {
+            String username = getCurrentUsername();
+            if (username != null) {
+                lastWriteByUser.put(username, System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * Check whether reads must stay on the primary to observe a previous write
+     */
+    private boolean hasWrittenRecently() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && attributes.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            return true;
+        }
+
+        if (stickyWindowMillis > 0) {
+            String username = getCurrentUsername();
+            if (username != null) {
+                Long lastWrite = lastWriteByUser.get(username);
+                return lastWrite != null && System.currentTimeMillis() - lastWrite < stickyWindowMillis;
+            }
+        }
+
+        return false;
+    }
+
+    private String getCurrentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    // ========== HEALTH CHECKS ==========
+
+    /**
+     * Validate one connection per replica and update the healthy set
+     */
+    void checkReplicaHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean healthy;
+            try (Connection connection = replicas.get(i).getConnection()) {
+                healthy = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+
+            if (healthy && unhealthyReplicas.remove(i)) {
+                log.info("Replica {} is healthy again, resuming read routing", replicaKey(i));
+            } else if (!healthy && unhealthyReplicas.add(i)) {
+                log.warn("Replica {} failed health check, routing its reads elsewhere", replicaKey(i));
+            }
+        }
+
+        if (stickyWindowMillis > 0) {
+            long threshold = System.currentTimeMillis() - stickyWindowMillis;
+            lastWriteByUser.values().removeIf(lastWrite -> lastWrite < threshold);
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+
+    /**
+     * Lazy connection proxy over the routing DataSource
+     * Closing it shuts down the health checker and every underlying pool
+     */
+    public static class LazyRoutingProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final ReadWriteRoutingDataSource routingDataSource;
+
+        private LazyRoutingProxy(ReadWriteRoutingDataSource routingDataSource) {
+            super(routingDataSource);
+            this.routingDataSource = routingDataSource;
+        }
+
+        @Override
+        public void close() {
+            routingDataSource.close();
+        }
+    }
+}
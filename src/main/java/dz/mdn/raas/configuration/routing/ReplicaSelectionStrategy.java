@@ -0,0 +1,30 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: ReplicaSelectionStrategy
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Enum
+ *	@Layer		: routing
+ *	@Package	: Configuration
+ *
+ **/
+
+package dz.mdn.raas.configuration.routing;
+
+/**
+ * Strategy used to pick a healthy replica pool for a read-only transaction
+ */
+public enum ReplicaSelectionStrategy {
+
+    /**
+     * Cycle through healthy replicas in order
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Pick the healthy replica with the fewest active connections
+     */
+    LEAST_LOADED
+}
@@ -18,6 +18,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import dz.mdn.raas.configuration.pagination.CursorSlice;
 import dz.mdn.raas.system.audit.dto.AuditLogDTO;
 import dz.mdn.raas.system.audit.service.AuditService;
 import dz.mdn.raas.system.audit.service.AuditService.UserActivitySummary;
@@ -97,6 +99,31 @@ public class AuditController {
         return ResponseEntity.ok(failedOperations);
     }
 
+    /**
+     * Get audit logs with keyset pagination, optionally for one user
+     * Pass the returned nextCursor to read the following page; withCount adds an approximate count header
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorSlice<AuditLogDTO>> scrollAuditLogs(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "timestamp") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean withCount) {
+        
+        log.debug("Scrolling audit logs - username: {}, cursor: {}", username, cursor);
+        
+        Sort.Direction direction = "desc".equalsIgnoreCase(sortDir) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        CursorSlice<AuditLogDTO> auditLogs = auditService.getAuditLogSlice(username, cursor, size, Sort.by(direction, sortBy.split(",")));
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (withCount) {
+            response.header(CursorSlice.APPROXIMATE_COUNT_HEADER, String.valueOf(auditService.estimateAuditLogCount()));
+        }
+        return response.body(auditLogs);
+    }
+
     /**
      * Get user activity summary
      */
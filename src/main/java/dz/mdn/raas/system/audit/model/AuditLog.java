@@ -23,6 +23,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
 import lombok.AllArgsConstructor;
@@ -49,7 +50,8 @@ import lombok.ToString;
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "T_00_03_01_ID")
+    @TableGenerator(name = "T_00_03_01_ID", table = "T_00_00_00", pkColumnName = "F_01", valueColumnName = "F_02", pkColumnValue = "T_00_03_01", allocationSize = 100)
     @Column(name = "F_00")
     private Long id;
 
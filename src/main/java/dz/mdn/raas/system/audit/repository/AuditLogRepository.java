@@ -23,12 +23,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dz.mdn.raas.configuration.pagination.KeysetRepository;
 import dz.mdn.raas.system.audit.model.AuditLog;
 import dz.mdn.raas.system.audit.model.AuditLog.AuditAction;
 import dz.mdn.raas.system.audit.model.AuditLog.AuditStatus;
 
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, KeysetRepository<AuditLog> {
 
     /**
      * Find audit logs by entity name and ID
@@ -18,12 +18,15 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import dz.mdn.raas.configuration.pagination.CursorSlice;
 import dz.mdn.raas.system.audit.dto.AuditLogDTO;
 import dz.mdn.raas.system.audit.model.AuditLog;
 import dz.mdn.raas.system.audit.model.AuditLog.AuditAction;
@@ -101,6 +104,25 @@ public class AuditService {
                 .map(this::convertToDTO);
     }
 
+    /**
+     * Get audit logs with keyset pagination (no count query, constant cost per page)
+     * Optionally restricted to one user
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<AuditLogDTO> getAuditLogSlice(String username, String cursor, int size, Sort sort) {
+        Specification<AuditLog> filter = username == null ? null
+                : (root, query, cb) -> cb.equal(root.get("username"), username);
+        return auditLogRepository.findSlice(filter, sort, cursor, size).map(this::convertToDTO);
+    }
+
+    /**
+     * Get estimated number of audit logs
+     */
+    @Transactional(readOnly = true)
+    public long estimateAuditLogCount() {
+        return auditLogRepository.estimateCount();
+    }
+
     /**
      * Get user activity summary
      */
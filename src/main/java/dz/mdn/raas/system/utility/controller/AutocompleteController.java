@@ -0,0 +1,67 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: AutocompleteController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import dz.mdn.raas.system.utility.dto.SuggestionDTO;
+import dz.mdn.raas.system.utility.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Autocomplete REST Controller
+ * Type-ahead suggestions for item, rubric, domain, structure, job, military-rank and economic-nature designations,
+ * in French, English or Arabic, served from memory.
+ */
+@RestController
+@RequestMapping("/autocomplete")
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    // ========== GET SUGGESTIONS ==========
+
+    /**
+     * Get the most used entities of a type having a designation word that starts with the term
+     */
+    @GetMapping("/{type}")
+    public ResponseEntity<List<SuggestionDTO>> suggest(
+            @PathVariable String type,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(autocompleteService.suggest(AutocompleteService.Type.of(type), q, limit));
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Rebuild every autocomplete index from the database (refreshes usage counts)
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<AutocompleteService.Type, Integer>> rebuild() {
+        log.info("Rebuilding autocomplete indexes");
+
+        return ResponseEntity.ok(autocompleteService.rebuildAll());
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SearchController
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Controller
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.controller;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import dz.mdn.raas.system.utility.dto.SearchResultDTO;
+import dz.mdn.raas.system.utility.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Search REST Controller
+ * Unified full-text search over persons, providers, structures, mails, documents and consultations, in French,
+ * English or Arabic, ranked by relevance and served from memory.
+ */
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // ========== SEARCH ==========
+
+    /**
+     * Search every entity type, or only the given ones (types=person,provider,...), best matches first
+     */
+    @GetMapping
+    public ResponseEntity<SearchResultDTO> search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Set<SearchService.Type> selected = EnumSet.noneOf(SearchService.Type.class);
+        if (types != null) {
+            types.forEach(type -> selected.add(SearchService.Type.of(type)));
+        }
+        int limit = Math.max(1, Math.min(size, SearchService.MAX_LIMIT));
+
+        return ResponseEntity.ok(searchService.search(q, selected, Math.max(0, page) * limit, limit));
+    }
+
+    // ========== MAINTENANCE ==========
+
+    /**
+     * Rebuild the search index from the database, in the background
+     */
+    @PostMapping("/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> reindex() {
+        log.info("Rebuilding search index");
+
+        searchService.reindexInBackground();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+}
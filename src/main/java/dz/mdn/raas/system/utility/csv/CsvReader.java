@@ -0,0 +1,156 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: CsvReader
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Utility
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streaming CSV reader (RFC 4180)
+ * Reads one record at a time so that files of any size are processed in constant memory.
+ * Supports quoted fields, escaped quotes ("") and line breaks inside quoted fields.
+ */
+public class CsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final char separator;
+    private long lineNumber = 0;
+    private long recordLineNumber = 0;
+    private Map<String, Integer> header;
+
+    public CsvReader(Reader reader, char separator) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.separator = separator;
+    }
+
+    /**
+     * Read the first record as header, column names are matched case-insensitively
+     */
+    public Map<String, Integer> readHeader() throws IOException {
+        List<String> columns = readRecord();
+        if (columns == null) {
+            throw new IOException("CSV file is empty");
+        }
+        header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).trim();
+            if (i == 0 && !column.isEmpty() && column.charAt(0) == '\uFEFF') {
+                column = column.substring(1);
+            }
+            header.put(column.toLowerCase(Locale.ROOT), i);
+        }
+        return header;
+    }
+
+    /**
+     * Read the next record as column name to value, blank values are returned as null.
+     * Returns null at end of input.
+     */
+    public Map<String, String> readRow() throws IOException {
+        if (header == null) {
+            throw new IllegalStateException("readHeader() must be called first");
+        }
+        List<String> values = readRecord();
+        if (values == null) {
+            return null;
+        }
+        Map<String, String> row = new HashMap<>();
+        header.forEach((column, index) -> {
+            String value = index < values.size() ? values.get(index).trim() : null;
+            row.put(column, value == null || value.isEmpty() ? null : value);
+        });
+        return row;
+    }
+
+    /**
+     * Read the next record, skipping blank lines. Returns null at end of input.
+     */
+    public List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        int c;
+
+        recordLineNumber = lineNumber + 1;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+                empty = false;
+            } else if (ch == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+                empty = false;
+            } else if (ch == '\r') {
+                continue;
+            } else if (ch == '\n') {
+                lineNumber++;
+                if (empty && field.length() == 0) {
+                    recordLineNumber = lineNumber + 1;
+                    continue;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append(ch);
+                empty = false;
+            }
+        }
+
+        if (empty && field.length() == 0) {
+            return null;
+        }
+        lineNumber++;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Line number (1-based) where the last returned record started
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
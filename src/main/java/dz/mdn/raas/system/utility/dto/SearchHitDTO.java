@@ -0,0 +1,38 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SearchHitDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full-text search hit: the matching entity, its display fields and its relevance score
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchHitDTO {
+
+    private String type; // PERSON, PROVIDER, STRUCTURE, MAIL, DOCUMENT or CONSULTATION
+    private Long id;
+    private String title;
+    private String subtitle;
+    private Double score;
+}
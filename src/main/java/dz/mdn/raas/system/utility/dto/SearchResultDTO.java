@@ -0,0 +1,43 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SearchResultDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full-text search result page
+ * Facets count the matches of every entity type, whatever the types requested
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SearchResultDTO {
+
+    private String query;
+    private Long total; // Matches of the requested types
+    private Map<String, Long> facets; // Matches per entity type
+    private List<SearchHitDTO> hits;
+    private Boolean indexing; // True while the index is first loaded, results are then empty
+    private Long tookMillis;
+}
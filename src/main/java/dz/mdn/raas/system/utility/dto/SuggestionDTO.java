@@ -0,0 +1,51 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SuggestionDTO
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: DTO
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dz.mdn.raas.system.utility.text.PrefixIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Autocomplete suggestion: the designations of a matching entity and its usage count (ranking)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SuggestionDTO {
+
+    private Long id;
+    private String designationFr;
+    private String designationEn;
+    private String designationAr;
+    private String acronym;
+    private Long usage;
+
+    public static SuggestionDTO fromEntry(PrefixIndex.Entry entry) {
+        return SuggestionDTO.builder()
+                .id(entry.id())
+                .designationFr(entry.designationFr())
+                .designationEn(entry.designationEn())
+                .designationAr(entry.designationAr())
+                .acronym(entry.acronym())
+                .usage(entry.usage())
+                .build();
+    }
+}
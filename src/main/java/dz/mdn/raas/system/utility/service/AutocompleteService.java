@@ -0,0 +1,174 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: AutocompleteService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import dz.mdn.raas.configuration.index.ReplayableIndex;
+import dz.mdn.raas.business.plan.repository.DomainRepository;
+import dz.mdn.raas.business.plan.repository.ItemRepository;
+import dz.mdn.raas.business.plan.repository.RubricRepository;
+import dz.mdn.raas.business.provider.repository.EconomicNatureRepository;
+import dz.mdn.raas.common.administration.repository.JobRepository;
+import dz.mdn.raas.common.administration.repository.MilitaryRankRepository;
+import dz.mdn.raas.common.administration.repository.StructureRepository;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.system.utility.dto.SuggestionDTO;
+import dz.mdn.raas.system.utility.text.PrefixIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Autocomplete Service
+ * Type-ahead suggestions on the trilingual designations of catalog and reference entities, served from one
+ * in-memory PrefixIndex per entity type instead of LIKE '%term%' scans:
+ * - the indexes are loaded at startup with one query per type, which also counts each entity's usage
+ *   (the rows referencing it) used to rank suggestions
+ * - entity services report their creations, updates and deletions, applied to the index once their transaction
+ *   commits; usage counts are refreshed by a rebuild
+ * - each type's index is held by a ReplayableIndex, so a rebuild keeps the changes committed while it loads
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteService {
+
+    public static final int MAX_LIMIT = 50;
+
+    public enum Type {
+        ITEM, RUBRIC, DOMAIN, STRUCTURE, JOB, MILITARY_RANK, ECONOMIC_NATURE;
+
+        /**
+         * Parse the type path variable (case-insensitive, words separated by '-' or '_')
+         */
+        public static Type of(String type) {
+            try {
+                return valueOf(type.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessValidationException("Unsupported autocomplete type", "type", type);
+            }
+        }
+    }
+
+    private final ItemRepository itemRepository;
+    private final RubricRepository rubricRepository;
+    private final DomainRepository domainRepository;
+    private final StructureRepository structureRepository;
+    private final JobRepository jobRepository;
+    private final MilitaryRankRepository militaryRankRepository;
+    private final EconomicNatureRepository economicNatureRepository;
+
+    private final Map<Type, ReplayableIndex<PrefixIndex>> indexes = new EnumMap<>(Type.class);
+
+    {
+        for (Type type : Type.values()) {
+            indexes.put(type, new ReplayableIndex<>());
+        }
+    }
+
+    @Value("${raas.autocomplete.max-scan:20000}")
+    private int maxScan;
+
+    // ========== SUGGESTIONS ==========
+
+    /**
+     * Best ranked entities of the type with a designation word starting with the term
+     */
+    public List<SuggestionDTO> suggest(Type type, String term, int limit) {
+        PrefixIndex index = indexes.get(type).get();
+        if (index == null) {
+            return List.of();
+        }
+        return index.search(term, Math.max(1, Math.min(limit, MAX_LIMIT))).stream()
+                .map(SuggestionDTO::fromEntry)
+                .toList();
+    }
+
+    // ========== INCREMENTAL UPDATES ==========
+
+    /**
+     * Index a created or updated entity once the current transaction commits, keeping its usage count
+     *
+     * @param acronym acronym or abbreviation, null when the type has none
+     */
+    public void indexed(Type type, Long id, String designationFr, String designationEn, String designationAr, String acronym) {
+        indexes.get(type).applyAfterCommit(index -> index.put(new PrefixIndex.Entry(id, designationFr, designationEn, designationAr, acronym, index.usage(id))));
+    }
+
+    /**
+     * Remove a deleted entity once the current transaction commits
+     */
+    public void removed(Type type, Long id) {
+        indexes.get(type).applyAfterCommit(index -> index.remove(id));
+    }
+
+    // ========== REBUILD ==========
+
+    /**
+     * Load every index when the application starts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuildAll();
+    }
+
+    /**
+     * Rebuild every index from the database (usage counts included)
+     *
+     * @return number of indexed entities per type
+     */
+    public synchronized Map<Type, Integer> rebuildAll() {
+        Map<Type, Integer> sizes = new EnumMap<>(Type.class);
+        for (Type type : Type.values()) {
+            sizes.put(type, rebuild(type));
+        }
+        return sizes;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private int rebuild(Type type) {
+        long started = System.currentTimeMillis();
+        PrefixIndex index = indexes.get(type).rebuild(() -> {
+            PrefixIndex loaded = new PrefixIndex(maxScan);
+            for (Object[] row : load(type)) {
+                loaded.put(new PrefixIndex.Entry((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                        row.length > 5 ? (String) row[5] : null, ((Number) row[4]).longValue()));
+            }
+            return loaded;
+        });
+        log.info("Built {} autocomplete index of {} entries in {} ms", type, index.size(), System.currentTimeMillis() - started);
+        return index.size();
+    }
+
+    private List<Object[]> load(Type type) {
+        return switch (type) {
+            case ITEM -> itemRepository.findAutocompleteRows();
+            case RUBRIC -> rubricRepository.findAutocompleteRows();
+            case DOMAIN -> domainRepository.findAutocompleteRows();
+            case STRUCTURE -> structureRepository.findAutocompleteRows();
+            case JOB -> jobRepository.findAutocompleteRows();
+            case MILITARY_RANK -> militaryRankRepository.findAutocompleteRows();
+            case ECONOMIC_NATURE -> economicNatureRepository.findAutocompleteRows();
+        };
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SearchIndexListener
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.service;
+
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import dz.mdn.raas.business.consultation.model.Consultation;
+import dz.mdn.raas.business.provider.model.Provider;
+import dz.mdn.raas.common.administration.model.Person;
+import dz.mdn.raas.common.administration.model.Structure;
+import dz.mdn.raas.common.communication.model.Mail;
+import dz.mdn.raas.common.document.model.Document;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reports the committed inserts, updates and deletes of searchable entities to SearchService.
+ *
+ * Registered as a Hibernate post-commit listener, so every write path (services, imports, cascades) keeps the
+ * search index current and rolled back writes are never indexed. Only the entity type and ID are reported: the
+ * indexed columns are re-read by SearchService, in the background.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener implements SmartInitializingSingleton,
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Map<Class<?>, SearchService.Type> TYPES = Map.of(
+            Person.class, SearchService.Type.PERSON,
+            Provider.class, SearchService.Type.PROVIDER,
+            Structure.class, SearchService.Type.STRUCTURE,
+            Mail.class, SearchService.Type.MAIL,
+            Document.class, SearchService.Type.DOCUMENT,
+            Consultation.class, SearchService.Type.CONSULTATION);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SearchService searchService;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TYPES.containsKey(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event.getEntity(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event.getEntity(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event.getEntity(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was committed, nothing to index
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Nothing was committed, nothing to index
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Nothing was committed, nothing to index
+    }
+
+    private void changed(Object entity, Object id) {
+        SearchService.Type type = TYPES.get(entity.getClass());
+        if (type != null && id instanceof Long entityId) {
+            searchService.changed(type, entityId);
+        }
+    }
+}
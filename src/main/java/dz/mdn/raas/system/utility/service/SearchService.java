@@ -0,0 +1,345 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: SearchService
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Service
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dz.mdn.raas.business.consultation.repository.ConsultationRepository;
+import dz.mdn.raas.business.provider.repository.ProviderRepository;
+import dz.mdn.raas.common.administration.repository.PersonRepository;
+import dz.mdn.raas.common.administration.repository.StructureRepository;
+import dz.mdn.raas.common.communication.repository.MailRepository;
+import dz.mdn.raas.common.document.repository.DocumentRepository;
+import dz.mdn.raas.configuration.index.ReplayableIndex;
+import dz.mdn.raas.configuration.routing.ReadWriteRoutingDataSource;
+import dz.mdn.raas.exception.BusinessValidationException;
+import dz.mdn.raas.system.utility.dto.SearchHitDTO;
+import dz.mdn.raas.system.utility.dto.SearchResultDTO;
+import dz.mdn.raas.system.utility.text.InvertedIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Search Service
+ * Unified full-text search over persons, providers, structures, mails, documents and consultations, served from
+ * one in-memory InvertedIndex ranked with BM25 instead of LIKE '%term%' scans on each table:
+ * - the index is loaded in the background at startup, streaming the searchable columns of each entity type
+ * - SearchIndexListener reports every committed insert, update and delete of these entities; the reported IDs are
+ *   queued and re-read from the primary by a single background task (a lagging replica would miss them), which
+ *   indexes the rows found and removes the missing ones
+ * - the index is held by a ReplayableIndex, so a reindex keeps the changes applied while it loads
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final int READ_CHUNK_SIZE = 500;
+    private static final long ID_MASK = (1L << 48) - 1;
+
+    /**
+     * Searchable entity types, with the weight of each searchable column (the row columns after the ID)
+     */
+    public enum Type {
+        PERSON(3, 3, 3, 3, 1, 1, 1, 1), // Latin and Arabic names, birth place, address, blood and address states
+        PROVIDER(3, 3, 3, 3, 2, 2, 2, 1, 1), // Designations, acronyms, RC / NIF / NIS, mail, address
+        STRUCTURE(3, 3, 3, 3, 3, 3), // Designations, acronyms
+        MAIL(2, 3, 2), // Reference, subject, record number
+        DOCUMENT(3, 1, 1, 1), // Reference, document type designations
+        CONSULTATION(3, 3, 3, 2, 2, 2, 1); // Designations, references, internal ID, observation
+
+        private final float[] weights;
+
+        Type(float... weights) {
+            this.weights = weights;
+        }
+
+        /**
+         * Parse a type parameter (case-insensitive)
+         */
+        public static Type of(String type) {
+            try {
+                return valueOf(type.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessValidationException("Unsupported search type", "type", type);
+            }
+        }
+    }
+
+    /**
+     * Display fields returned with a hit
+     */
+    private record Display(String title, String subtitle) {
+    }
+
+    private record Change(Type type, Long id) {
+    }
+
+    private final PersonRepository personRepository;
+    private final ProviderRepository providerRepository;
+    private final StructureRepository structureRepository;
+    private final MailRepository mailRepository;
+    private final DocumentRepository documentRepository;
+    private final ConsultationRepository consultationRepository;
+    private final TaskExecutor backgroundTaskExecutor;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ConcurrentLinkedQueue<Change> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ReplayableIndex<InvertedIndex<Display>> index = new ReplayableIndex<>();
+
+    // ========== SEARCH ==========
+
+    /**
+     * Entities matching every word of the query (the last one as a prefix), best first
+     *
+     * @param types types to return, null or empty for all; facets always count every type
+     */
+    public SearchResultDTO search(String query, Set<Type> types, int offset, int limit) {
+        long started = System.currentTimeMillis();
+        InvertedIndex<Display> current = index.get();
+        if (current == null) {
+            return SearchResultDTO.builder()
+                    .query(query).total(0L).facets(facets(Map.of())).hits(List.of()).indexing(true)
+                    .tookMillis(System.currentTimeMillis() - started)
+                    .build();
+        }
+
+        Set<Integer> groups = types == null || types.isEmpty() ? null
+                : types.stream().map(Type::ordinal).collect(Collectors.toSet());
+        InvertedIndex.Result<Display> result = current.search(query, groups, Math.max(0, offset),
+                Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+        return SearchResultDTO.builder()
+                .query(query)
+                .total(result.total())
+                .facets(facets(result.groupCounts()))
+                .hits(result.hits().stream().map(SearchService::toHit).toList())
+                .indexing(false)
+                .tookMillis(System.currentTimeMillis() - started)
+                .build();
+    }
+
+    // ========== INCREMENTAL UPDATES ==========
+
+    /**
+     * Re-read a committed entity in the background: index it if it still exists, remove it otherwise
+     */
+    public void changed(Type type, Long id) {
+        changes.add(new Change(type, id));
+        if (draining.compareAndSet(false, true)) {
+            try {
+                backgroundTaskExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                log.warn("Search index update deferred, background executor is saturated");
+            }
+        }
+    }
+
+    // ========== REINDEX ==========
+
+    /**
+     * Load the index in the background when the application starts
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reindexInBackground();
+    }
+
+    /**
+     * Reindex every entity type on the background executor
+     */
+    public void reindexInBackground() {
+        try {
+            backgroundTaskExecutor.execute(() -> {
+                try {
+                    reindex();
+                } catch (RuntimeException e) {
+                    log.error("Search index rebuild failed", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            throw new BusinessValidationException("Too many background jobs are running, retry later");
+        }
+    }
+
+    /**
+     * Rebuild the index from the database
+     *
+     * @return number of indexed entities per type
+     */
+    public Map<Type, Integer> reindex() {
+        long started = System.currentTimeMillis();
+        Map<Type, Integer> sizes = new EnumMap<>(Type.class);
+        InvertedIndex<Display> rebuilt = index.rebuild(() -> {
+            InvertedIndex<Display> loaded = new InvertedIndex<>();
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            for (Type type : Type.values()) {
+                int[] count = new int[1];
+                transaction.executeWithoutResult(status -> {
+                    try (Stream<Object[]> rows = stream(type)) {
+                        rows.forEach(row -> {
+                            put(loaded, type, row);
+                            count[0]++;
+                        });
+                    }
+                });
+                sizes.put(type, count[0]);
+            }
+            return loaded;
+        });
+        log.info("Built search index of {} entities in {} ms", rebuilt.size(), System.currentTimeMillis() - started);
+        return sizes;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Apply the queued changes until the queue is empty; one drain runs at a time so changes apply in order
+     */
+    private void drain() {
+        try {
+            do {
+                Map<Type, Set<Long>> batch = new EnumMap<>(Type.class);
+                for (Change change; (change = changes.poll()) != null; ) {
+                    batch.computeIfAbsent(change.type(), type -> new HashSet<>()).add(change.id());
+                }
+                batch.forEach(this::refresh);
+                draining.set(false);
+            } while (!changes.isEmpty() && draining.compareAndSet(false, true));
+        } catch (RuntimeException e) {
+            draining.set(false);
+            log.error("Search index update failed", e);
+        }
+    }
+
+    private void refresh(Type type, Set<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        for (int from = 0; from < all.size(); from += READ_CHUNK_SIZE) {
+            List<Long> chunk = all.subList(from, Math.min(from + READ_CHUNK_SIZE, all.size()));
+            List<Object[]> rows = ReadWriteRoutingDataSource.onPrimary(() -> find(type, chunk));
+            Set<Long> missing = new HashSet<>(chunk);
+            rows.forEach(row -> missing.remove((Long) row[0]));
+            index.apply(current -> {
+                rows.forEach(row -> put(current, type, row));
+                missing.forEach(id -> current.remove(key(type, id)));
+            });
+        }
+    }
+
+    private static void put(InvertedIndex<Display> target, Type type, Object[] row) {
+        List<InvertedIndex.Field> fields = new ArrayList<>(type.weights.length);
+        for (int i = 0; i < type.weights.length; i++) {
+            if (row[i + 1] != null) {
+                fields.add(new InvertedIndex.Field(row[i + 1].toString(), type.weights[i]));
+            }
+        }
+        target.put(key(type, (Long) row[0]), type.ordinal(), display(type, row), fields);
+    }
+
+    private static Display display(Type type, Object[] row) {
+        return switch (type) {
+            case PERSON -> designation(join(row[1], row[2]), join(row[3], row[4]));
+            case PROVIDER -> designation(text(row[1]), text(row[2]));
+            case STRUCTURE -> designation(text(row[1]), text(row[3]));
+            case MAIL -> new Display(text(row[1]), text(row[2]));
+            case DOCUMENT -> new Display(text(row[1]), text(row[2]) != null ? text(row[2]) : text(row[4]));
+            case CONSULTATION -> new Display(text(row[1]) != null ? text(row[1]) : text(row[3]), text(row[4]));
+        };
+    }
+
+    /**
+     * Latin designation as title and Arabic one as subtitle, or the Arabic one alone
+     */
+    private static Display designation(String latin, String arabic) {
+        return latin != null ? new Display(latin, arabic) : new Display(arabic, null);
+    }
+
+    private static String join(Object first, Object second) {
+        String joined = Stream.of(text(first), text(second)).filter(part -> part != null).collect(Collectors.joining(" "));
+        return joined.isEmpty() ? null : joined;
+    }
+
+    private static String text(Object value) {
+        return value == null || value.toString().isBlank() ? null : value.toString().trim();
+    }
+
+    private static long key(Type type, Long id) {
+        return ((long) type.ordinal() << 48) | id;
+    }
+
+    private static SearchHitDTO toHit(InvertedIndex.Hit<Display> hit) {
+        return SearchHitDTO.builder()
+                .type(Type.values()[hit.group()].name())
+                .id(hit.key() & ID_MASK)
+                .title(hit.payload().title())
+                .subtitle(hit.payload().subtitle())
+                .score(Math.round(hit.score() * 1000) / 1000.0)
+                .build();
+    }
+
+    private static Map<String, Long> facets(Map<Integer, Long> groupCounts) {
+        Map<String, Long> facets = new LinkedHashMap<>();
+        for (Type type : Type.values()) {
+            facets.put(type.name(), groupCounts.getOrDefault(type.ordinal(), 0L));
+        }
+        return facets;
+    }
+
+    private Stream<Object[]> stream(Type type) {
+        return switch (type) {
+            case PERSON -> personRepository.streamSearchRows();
+            case PROVIDER -> providerRepository.streamSearchRows();
+            case STRUCTURE -> structureRepository.streamSearchRows();
+            case MAIL -> mailRepository.streamSearchRows();
+            case DOCUMENT -> documentRepository.streamSearchRows();
+            case CONSULTATION -> consultationRepository.streamSearchRows();
+        };
+    }
+
+    private List<Object[]> find(Type type, Collection<Long> ids) {
+        return switch (type) {
+            case PERSON -> personRepository.findSearchRowsByIds(ids);
+            case PROVIDER -> providerRepository.findSearchRowsByIds(ids);
+            case STRUCTURE -> structureRepository.findSearchRowsByIds(ids);
+            case MAIL -> mailRepository.findSearchRowsByIds(ids);
+            case DOCUMENT -> documentRepository.findSearchRowsByIds(ids);
+            case CONSULTATION -> consultationRepository.findSearchRowsByIds(ids);
+        };
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: InvertedIndex
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Utility
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.text;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * InvertedIndex
+ *
+ * In-memory full-text index of documents made of weighted text fields, ranked with BM25:
+ * - text is normalized with TextNormalizer and split into words; single letters are not indexed and the Arabic
+ *   article is removed
+ * - a word found in a field of weight w counts as w occurrences, so matches in designations outrank matches
+ *   in addresses or observations
+ * - a query matches the documents containing all its words, the last one as a prefix (type-ahead), and is ranked
+ *   by the sum of its words' BM25 scores
+ * - each document belongs to a group (its entity type), counted per group in the results (facets)
+ * Writes take an exclusive lock, searches a shared one.
+ *
+ * @param <P> payload returned with the hits (display fields)
+ */
+public final class InvertedIndex<P> {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    /**
+     * Text field of a document and the weight of its words
+     */
+    public record Field(String text, float weight) {
+    }
+
+    /**
+     * Ranked document
+     */
+    public record Hit<P>(long key, int group, P payload, double score) {
+    }
+
+    /**
+     * Page of ranked documents, the total number of matches and the number of matches per group
+     */
+    public record Result<P>(List<Hit<P>> hits, long total, Map<Integer, Long> groupCounts) {
+    }
+
+    private record Document<P>(int group, P payload, float length, String[] terms) {
+    }
+
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<Long, Document<P>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    // ========== WRITE ==========
+
+    /**
+     * Add or replace a document
+     */
+    public void put(long key, int group, P payload, List<Field> fields) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        for (Field field : fields) {
+            for (String term : terms(field.text())) {
+                frequencies.merge(term, field.weight(), Float::sum);
+                length += field.weight();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(key);
+            for (Map.Entry<String, Float> frequency : frequencies.entrySet()) {
+                postings.computeIfAbsent(frequency.getKey(), term -> new HashMap<>()).put(key, frequency.getValue());
+            }
+            documents.put(key, new Document<>(group, payload, length, frequencies.keySet().toArray(String[]::new)));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document, if present
+     */
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== READ ==========
+
+    /**
+     * Documents matching every word of the query, best first
+     *
+     * @param groups groups to return, null for all (groupCounts always cover every group)
+     */
+    public Result<P> search(String query, Set<Integer> groups, int offset, int limit) {
+        List<String> words = terms(query);
+        if (words.isEmpty()) {
+            return new Result<>(List.of(), 0, Map.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            int count = documents.size();
+            double averageLength = count == 0 ? 1 : Math.max(totalLength / count, 1);
+
+            // Score of each document for each word, the last word expanded to the terms it prefixes
+            List<Map<Long, Double>> wordScores = new ArrayList<>(words.size());
+            for (int i = 0; i < words.size(); i++) {
+                String word = words.get(i);
+                Map<String, Map<Long, Float>> matching = i < words.size() - 1
+                        ? exact(word)
+                        : postings.subMap(word, true, word + Character.MAX_VALUE, false);
+                Map<Long, Double> scores = new HashMap<>();
+                int expansions = 0;
+                for (Map.Entry<String, Map<Long, Float>> term : matching.entrySet()) {
+                    if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                        break; // The word itself sorts first among its expansions
+                    }
+                    double idf = Math.log(1 + (count - term.getValue().size() + 0.5) / (term.getValue().size() + 0.5));
+                    for (Map.Entry<Long, Float> posting : term.getValue().entrySet()) {
+                        double tf = posting.getValue();
+                        double norm = K1 * (1 - B + B * documents.get(posting.getKey()).length() / averageLength);
+                        scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Math::max);
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return new Result<>(List.of(), 0, Map.of());
+                }
+                wordScores.add(scores);
+            }
+            wordScores.sort(Comparator.comparingInt(Map::size));
+
+            Map<Integer, Long> groupCounts = new TreeMap<>();
+            long total = 0;
+            int wanted = Math.max(0, offset) + Math.max(0, limit);
+            // Worst first: lowest score, then highest key
+            Comparator<Hit<P>> worstFirst = Comparator.comparingDouble((Hit<P> hit) -> hit.score())
+                    .thenComparing(Comparator.comparingLong((Hit<P> hit) -> hit.key()).reversed());
+            PriorityQueue<Hit<P>> best = new PriorityQueue<>(worstFirst);
+            candidates:
+            for (Map.Entry<Long, Double> candidate : wordScores.get(0).entrySet()) {
+                double score = candidate.getValue();
+                for (int i = 1; i < wordScores.size(); i++) {
+                    Double wordScore = wordScores.get(i).get(candidate.getKey());
+                    if (wordScore == null) {
+                        continue candidates;
+                    }
+                    score += wordScore;
+                }
+                Document<P> document = documents.get(candidate.getKey());
+                groupCounts.merge(document.group(), 1L, Long::sum);
+                if (groups != null && !groups.contains(document.group())) {
+                    continue;
+                }
+                total++;
+                if (wanted > 0) {
+                    best.add(new Hit<>(candidate.getKey(), document.group(), document.payload(), score));
+                    if (best.size() > wanted) {
+                        best.poll();
+                    }
+                }
+            }
+
+            List<Hit<P>> hits = new ArrayList<>(best);
+            hits.sort(worstFirst.reversed());
+            return new Result<>(hits.subList(Math.min(Math.max(0, offset), hits.size()), hits.size()), total, groupCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed words of a text, in order
+     */
+    public static List<String> terms(String text) {
+        String normalized = TextNormalizer.normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String word : normalized.split(" ")) {
+            if (word.length() > 1 || Character.isDigit(word.charAt(0))) {
+                terms.add(TextNormalizer.withoutArabicArticle(word));
+            }
+        }
+        return terms;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private Map<String, Map<Long, Float>> exact(String word) {
+        Map<Long, Float> posting = postings.get(word);
+        return posting != null ? Map.of(word, posting) : Map.of();
+    }
+
+    private void removeDocument(long key) {
+        Document<P> previous = documents.remove(key);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Map<Long, Float> posting = postings.get(term);
+            posting.remove(key);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= previous.length();
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: PrefixIndex
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Utility
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.text;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory word prefix index of designations, for autocompletion
+ *
+ * Each entry is indexed under every word of its normalized (TextNormalizer) French, English and Arabic designations
+ * and acronym: the key of a word is the rest of the text from that word, cut to {@link #MAX_KEY_LENGTH} characters.
+ * A term therefore matches the entries having a word, or a sequence of words, starting with it.
+ * Keys live in a sorted concurrent map, so a lookup is a range scan from the term, and entries can be added, updated
+ * and removed one by one while being searched. Writers are serialized, readers never block.
+ */
+public final class PrefixIndex {
+
+    public static final int MAX_KEY_LENGTH = 32;
+
+    /**
+     * Best usage first, then designation and id
+     */
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::usage).reversed()
+            .thenComparing(Entry::designationFr, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(Entry::id);
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, Indexed> keys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Indexed> entries = new ConcurrentHashMap<>();
+    private final int maxScan;
+
+    /**
+     * @param maxScan maximum number of keys read by one search; very short terms stop there and rank what they read
+     */
+    public PrefixIndex(int maxScan) {
+        this.maxScan = maxScan;
+    }
+
+    public record Entry(long id, String designationFr, String designationEn, String designationAr, String acronym, long usage) {
+    }
+
+    private record Indexed(Entry entry, String[] texts, Set<String> keys) {
+
+        boolean matches(String term) {
+            for (String text : texts) {
+                if (text.startsWith(term) || text.contains(" " + term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // ========== WRITE ==========
+
+    /**
+     * Add or replace an entry
+     */
+    public synchronized void put(Entry entry) {
+        remove(entry.id());
+
+        List<String> texts = new ArrayList<>(4);
+        Set<String> entryKeys = new LinkedHashSet<>();
+        for (String designation : new String[] { entry.designationFr(), entry.designationEn(), entry.designationAr(), entry.acronym() }) {
+            String text = TextNormalizer.normalize(designation);
+            if (text.isEmpty()) {
+                continue;
+            }
+            texts.add(text);
+            int start = 0;
+            while (true) {
+                entryKeys.add(key(text, start, entry.id()));
+                int space = text.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+        }
+
+        Indexed indexed = new Indexed(entry, texts.toArray(String[]::new), entryKeys);
+        entries.put(entry.id(), indexed);
+        for (String key : entryKeys) {
+            keys.put(key, indexed);
+        }
+    }
+
+    /**
+     * Remove an entry, if present
+     */
+    public synchronized void remove(long id) {
+        Indexed indexed = entries.remove(id);
+        if (indexed != null) {
+            indexed.keys().forEach(keys::remove);
+        }
+    }
+
+    // ========== READ ==========
+
+    /**
+     * Usage count of an entry, 0 when absent
+     */
+    public long usage(long id) {
+        Indexed indexed = entries.get(id);
+        return indexed != null ? indexed.entry().usage() : 0;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Best ranked entries matching the term, at most {@code limit}
+     */
+    public List<Entry> search(String term, int limit) {
+        String normalized = TextNormalizer.normalize(term);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String prefix = normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+        boolean verify = prefix.length() < normalized.length();
+
+        // Worst ranked match on top, so that it is the one dropped when a better one comes
+        PriorityQueue<Entry> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Set<Long> seen = new HashSet<>();
+        int scanned = 0;
+        for (Indexed indexed : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            if (++scanned > maxScan) {
+                break;
+            }
+            if (!seen.add(indexed.entry().id()) || (verify && !indexed.matches(normalized))) {
+                continue;
+            }
+            best.offer(indexed.entry());
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(best);
+        result.sort(RANKING);
+        return result;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static String key(String text, int start, long id) {
+        int end = Math.min(text.length(), start + MAX_KEY_LENGTH);
+        return text.substring(start, end) + KEY_SEPARATOR + id;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ *
+ *	@author		: CHOUABBIA Amine
+ *
+ *	@Name		: TextNormalizer
+ *	@CreatedOn	: 10-18-2026
+ *
+ *	@Type		: Class
+ *	@Layer		: Utility
+ *	@Package	: System / Utility
+ *
+ **/
+
+package dz.mdn.raas.system.utility.text;
+
+import java.text.Normalizer;
+
+/**
+ * Search normalization of French, English and Arabic text, so that designations match whatever the
+ * spelling variant typed:
+ * - case is folded and Latin accents are stripped (é → e, œ → oe)
+ * - Arabic diacritics (harakat, shadda, sukun, superscript alef) and tatweel are removed
+ * - Arabic alef and hamza variants are folded: أ إ آ ٱ → ا, ؤ → و, ئ ى → ي, ء dropped, ة → ه
+ * - every other character than letters and digits separates words, and words are separated by one space
+ */
+public final class TextNormalizer {
+
+    // Longest first: article with an attached preposition or conjunction, then the article alone (normalized forms)
+    private static final String[] ARABIC_ARTICLES = { "وال", "بال", "كال", "فال", "لل", "ال" };
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Normalized form of the text, empty when the text is null or has no letter or digit
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        // Canonical decomposition splits accents and Arabic hamza/madda marks from their base letter
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean space = true;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || c == 'ـ' || c == 'ء') {
+                continue; // Accents, harakat, tatweel, standalone hamza
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                if (!space) {
+                    normalized.append(' ');
+                    space = true;
+                }
+                continue;
+            }
+            fold(c, normalized);
+            space = false;
+        }
+        int length = normalized.length();
+        if (length > 0 && normalized.charAt(length - 1) == ' ') {
+            normalized.setLength(length - 1);
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Normalized Arabic word without its article (and a preposition or conjunction attached to it), when at least
+     * three letters remain; other words are returned unchanged
+     */
+    public static String withoutArabicArticle(String word) {
+        for (String article : ARABIC_ARTICLES) {
+            if (word.startsWith(article) && word.length() - article.length() >= 3) {
+                return word.substring(article.length());
+            }
+        }
+        return word;
+    }
+
+    /**
+     * Append the folded form of one letter or digit
+     */
+    private static void fold(char c, StringBuilder normalized) {
+        switch (c) {
+            case 'ٱ' -> normalized.append('ا'); // Alef wasla
+            case 'ى' -> normalized.append('ي'); // Alef maksura
+            case 'ة' -> normalized.append('ه'); // Teh marbuta
+            case 'œ', 'Œ' -> normalized.append("oe");
+            case 'æ', 'Æ' -> normalized.append("ae");
+            case 'ß' -> normalized.append("ss");
+            default -> normalized.append(Character.toLowerCase(c));
+        }
+    }
+}